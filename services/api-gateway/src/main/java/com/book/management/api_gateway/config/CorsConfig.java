@@ -59,6 +59,7 @@ public class CorsConfig {
                 "Content-Type",
                 "Accept",
                 "X-Request-ID",
+                "Idempotency-Key",
                 "X-User-Id",
                 "X-User-Email",
                 "X-User-Roles",
@@ -10,6 +10,7 @@ import com.book.management.book.dto.requestdto.BookPriceRequestDTO;
 import com.book.management.book.dto.requestdto.UpdateBookRequestDTO;
 import com.book.management.book.dto.responsedto.BookPriceResponseDTO;
 import com.book.management.book.dto.responsedto.BookResponseDTO;
+import com.book.management.book.dto.responsedto.CatalogueVersionResponseDTO;
 import com.book.management.book.service.BookService;
 
 import java.util.List;
@@ -63,6 +64,15 @@ public class BookController {
         return ResponseEntity.ok(dto);
     }
 
+    /**
+     * Endpoint to fetch the catalogue version, bumped on every price change
+     * or deletion. Lets callers revalidate cached prices with one cheap read.
+     */
+    @GetMapping("/catalogue/version")
+    public ResponseEntity<CatalogueVersionResponseDTO> getCatalogueVersion() {
+        return ResponseEntity.ok(bookService.getCatalogueVersion());
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<BookResponseDTO>> searchBooksByTitle(@RequestParam String title) {
         return ResponseEntity.ok(bookService.searchBooksByTitle(title));
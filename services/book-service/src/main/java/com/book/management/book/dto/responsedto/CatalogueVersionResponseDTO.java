@@ -0,0 +1,15 @@
+package com.book.management.book.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO: current catalogue version.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogueVersionResponseDTO {
+    private long version;
+}
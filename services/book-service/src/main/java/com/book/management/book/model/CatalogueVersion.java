@@ -0,0 +1,29 @@
+package com.book.management.book.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Single-row counter bumped whenever a book's price changes or a book is
+ * deleted. Consumers that cache prices compare it with the version they
+ * cached against instead of re-reading every price.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "catalogue_version")
+public class CatalogueVersion {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,30 @@
+package com.book.management.book.repository;
+
+import com.book.management.book.model.CatalogueVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JPA Repository for the catalogue version counter.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface CatalogueVersionRepository extends JpaRepository<CatalogueVersion, Integer> {
+
+    /**
+     * Increments the counter in place, so concurrent writers never lose a bump.
+     *
+     * @return number of rows updated; 0 if the counter row does not exist yet
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CatalogueVersion c SET c.version = c.version + 1 WHERE c.id = :id")
+    int increment(@Param("id") Integer id);
+}
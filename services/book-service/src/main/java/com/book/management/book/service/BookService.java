@@ -7,6 +7,7 @@ import com.book.management.book.dto.requestdto.AddBookRequestDTO;
 import com.book.management.book.dto.requestdto.UpdateBookRequestDTO;
 import com.book.management.book.dto.responsedto.BookPriceResponseDTO;
 import com.book.management.book.dto.responsedto.BookResponseDTO;
+import com.book.management.book.dto.responsedto.CatalogueVersionResponseDTO;
 
 public interface BookService {
 
@@ -26,6 +27,8 @@ public interface BookService {
 
     BookPriceResponseDTO getBookPricesMap(List<Long> bookIds);
 
+    CatalogueVersionResponseDTO getCatalogueVersion();
+
     // Update
     BookResponseDTO updateBook(long bookId, UpdateBookRequestDTO request);
 
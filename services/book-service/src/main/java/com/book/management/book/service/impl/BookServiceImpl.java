@@ -6,16 +6,20 @@ import com.book.management.book.dto.requestdto.InventoryCreateDTO;
 import com.book.management.book.dto.requestdto.UpdateBookRequestDTO;
 import com.book.management.book.dto.responsedto.BookPriceResponseDTO;
 import com.book.management.book.dto.responsedto.BookResponseDTO;
+import com.book.management.book.dto.responsedto.CatalogueVersionResponseDTO;
 import com.book.management.book.dto.responsedto.InventoryResponseDTO;
 import com.book.management.book.enums.CategoryEnum;
 import com.book.management.book.exception.BookNotFoundException;
 import com.book.management.book.exception.DuplicateBookException;
 import com.book.management.book.exception.InvalidBookDataException;
 import com.book.management.book.model.Book;
+import com.book.management.book.model.CatalogueVersion;
 import com.book.management.book.repository.BookRepository;
+import com.book.management.book.repository.CatalogueVersionRepository;
 import com.book.management.book.service.BookService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,11 +35,14 @@ public class BookServiceImpl implements BookService {
 
     private final BookRepository bookRepository;
     private final InventoryClient inventoryClient;
+    private final CatalogueVersionRepository catalogueVersionRepository;
 
     @Autowired
-    public BookServiceImpl(BookRepository bookRepository, InventoryClient inventoryClient) {
+    public BookServiceImpl(BookRepository bookRepository, InventoryClient inventoryClient,
+                           CatalogueVersionRepository catalogueVersionRepository) {
         this.bookRepository = bookRepository;
         this.inventoryClient = inventoryClient;
+        this.catalogueVersionRepository = catalogueVersionRepository;
     }
 
     @Override
@@ -240,6 +247,7 @@ public class BookServiceImpl implements BookService {
         }
         
         // Update price if provided
+        boolean isPriceChanged = false;
         if (request.getBookPrice() != null) {
             if (request.getBookPrice() < 0) {
                 throw new InvalidBookDataException("Book price cannot be negative");
@@ -247,6 +255,7 @@ public class BookServiceImpl implements BookService {
             if (request.getBookPrice() > 10000) {
                 throw new InvalidBookDataException("Book price cannot exceed 10000");
             }
+            isPriceChanged = existing.getBookPrice() != request.getBookPrice();
             existing.setBookPrice(request.getBookPrice());
             isUpdated = true;
         }
@@ -255,6 +264,9 @@ public class BookServiceImpl implements BookService {
             existing = bookRepository.save(existing);
             log.info("Book {} updated successfully", bookId);
         }
+        if (isPriceChanged) {
+            bumpCatalogueVersion();
+        }
 
         return toResponseDTOWithInventoryLookup(existing);
     }
@@ -272,6 +284,14 @@ public class BookServiceImpl implements BookService {
         return new BookPriceResponseDTO(prices);
     }
 
+    @Override
+    public CatalogueVersionResponseDTO getCatalogueVersion() {
+        long version = catalogueVersionRepository.findById(CatalogueVersion.SINGLETON_ID)
+                .map(CatalogueVersion::getVersion)
+                .orElse(0L);
+        return new CatalogueVersionResponseDTO(version);
+    }
+
     @Override
     public void deleteBook(long bookId) {
         log.info("Attempting to delete book with ID: {}", bookId);
@@ -284,6 +304,7 @@ public class BookServiceImpl implements BookService {
         // 2. Delete the book from the local database
         bookRepository.deleteById(bookId);
         log.info("Book {} deleted from Book Repository", bookId);
+        bumpCatalogueVersion();
 
         // 3. Sync with Inventory Service (External Call)
         try {
@@ -297,6 +318,22 @@ public class BookServiceImpl implements BookService {
     }
 
     // Helper Methods
+
+    /**
+     * Signals price caches in other services that cached prices may be stale.
+     * The counter row is created by the first bump; if two first bumps race,
+     * the loser's insert fails and it increments the winner's row instead.
+     */
+    private void bumpCatalogueVersion() {
+        if (catalogueVersionRepository.increment(CatalogueVersion.SINGLETON_ID) > 0) {
+            return;
+        }
+        try {
+            catalogueVersionRepository.saveAndFlush(new CatalogueVersion(CatalogueVersion.SINGLETON_ID, 1L));
+        } catch (DataIntegrityViolationException e) {
+            catalogueVersionRepository.increment(CatalogueVersion.SINGLETON_ID);
+        }
+    }
     private BookResponseDTO toResponseDTOWithInventoryLookup(Book book) {
         long stock = 0L;
         try {
@@ -6,12 +6,15 @@ import com.book.management.book.dto.requestdto.InventoryCreateDTO;
 import com.book.management.book.dto.requestdto.UpdateBookRequestDTO;
 import com.book.management.book.dto.responsedto.BookPriceResponseDTO;
 import com.book.management.book.dto.responsedto.BookResponseDTO;
+import com.book.management.book.dto.responsedto.CatalogueVersionResponseDTO;
 import com.book.management.book.dto.responsedto.InventoryResponseDTO;
 import com.book.management.book.exception.BookNotFoundException;
 import com.book.management.book.exception.DuplicateBookException;
 import com.book.management.book.exception.InvalidBookDataException;
 import com.book.management.book.model.Book;
+import com.book.management.book.model.CatalogueVersion;
 import com.book.management.book.repository.BookRepository;
+import com.book.management.book.repository.CatalogueVersionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,6 +45,9 @@ public class BookServiceImplTest {
     @Mock
     private InventoryClient inventoryClient;
 
+    @Mock
+    private CatalogueVersionRepository catalogueVersionRepository;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -819,6 +825,26 @@ public class BookServiceImplTest {
             // Then
             assertEquals("Test Book", result.getBookTitle()); // Original title unchanged
             assertEquals(49.99, result.getBookPrice());
+            verify(catalogueVersionRepository).increment(CatalogueVersion.SINGLETON_ID);
+        }
+
+        @Test
+        @DisplayName("Should not bump catalogue version when price is unchanged")
+        void updateBook_SamePrice_DoesNotBumpCatalogueVersion() {
+            // Given
+            UpdateBookRequestDTO request = mock(UpdateBookRequestDTO.class);
+            when(request.getBookTitle()).thenReturn("Renamed Book");
+            when(request.getBookPrice()).thenReturn(29.99);
+
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(sampleBook));
+            when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(inventoryClient.getInventoryByBookId(1L)).thenReturn(sampleInventoryResponse);
+
+            // When
+            bookService.updateBook(1L, request);
+
+            // Then
+            verify(catalogueVersionRepository, never()).increment(anyInt());
         }
 
         @Test
@@ -1107,6 +1133,38 @@ public class BookServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getCatalogueVersion() Tests")
+    class GetCatalogueVersionTests {
+
+        @Test
+        @DisplayName("Should return stored catalogue version")
+        void getCatalogueVersion_Stored() {
+            // Given
+            when(catalogueVersionRepository.findById(CatalogueVersion.SINGLETON_ID))
+                    .thenReturn(Optional.of(new CatalogueVersion(CatalogueVersion.SINGLETON_ID, 7L)));
+
+            // When
+            CatalogueVersionResponseDTO result = bookService.getCatalogueVersion();
+
+            // Then
+            assertEquals(7L, result.getVersion());
+        }
+
+        @Test
+        @DisplayName("Should return zero before any price change")
+        void getCatalogueVersion_NoRow() {
+            // Given
+            when(catalogueVersionRepository.findById(CatalogueVersion.SINGLETON_ID)).thenReturn(Optional.empty());
+
+            // When
+            CatalogueVersionResponseDTO result = bookService.getCatalogueVersion();
+
+            // Then
+            assertEquals(0L, result.getVersion());
+        }
+    }
+
     @Nested
     @DisplayName("deleteBook() Tests")
     class DeleteBookTests {
@@ -1128,6 +1186,22 @@ public class BookServiceImplTest {
             verify(inventoryClient, times(1)).deleteInventoryByBookId(1L);
         }
 
+        @Test
+        @DisplayName("Should create catalogue version row on first deletion")
+        void deleteBook_FirstBump_CreatesCatalogueVersion() {
+            // Given
+            when(bookRepository.existsById(1L)).thenReturn(true);
+            when(catalogueVersionRepository.increment(CatalogueVersion.SINGLETON_ID)).thenReturn(0);
+
+            // When
+            bookService.deleteBook(1L);
+
+            // Then
+            ArgumentCaptor<CatalogueVersion> captor = ArgumentCaptor.forClass(CatalogueVersion.class);
+            verify(catalogueVersionRepository).saveAndFlush(captor.capture());
+            assertEquals(1L, captor.getValue().getVersion());
+        }
+
         @Test
         @DisplayName("Should throw BookNotFoundException when book doesn't exist")
         void deleteBook_NotFound() {
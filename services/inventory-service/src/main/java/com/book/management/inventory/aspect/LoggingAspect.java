@@ -1,38 +1,66 @@
 package com.book.management.inventory.aspect;
 
+import com.book.management.inventory.config.InstrumentationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
- * AOP Aspect for centralized logging across the Inventory service.
- * 
- * Microservices Architecture Benefits:
- * - Centralized logging logic
- * - Reduced code duplication
- * - Easy to modify logging behavior
- * - Consistent logging format across all layers
- * - Performance monitoring capabilities
- * 
- * Logging Strategy:
- * - Controller layer: Request/Response logging
- * - Service layer: Business logic execution logging
- * - Repository layer: Database operation logging
- * - Exception logging: Automatic error tracking
- * 
+ * AOP Aspect timing controller and service calls of the Inventory service.
+ *
+ * Every call is recorded in a Micrometer {@link Timer} named
+ * {@value #TIMER_NAME}, tagged with layer, class, method and the exception
+ * thrown, if any; with {@code inventory.instrumentation.percentile-histogram}
+ * each timer also publishes a percentile histogram. Timers of successful
+ * calls are cached per method, so the hot path is two clock reads and one
+ * map lookup.
+ *
+ * Arguments are no longer logged on every call. They are logged at WARN for
+ * calls slower than {@code inventory.instrumentation.slow-call-threshold-millis},
+ * and at DEBUG for a sampled fraction of calls set by
+ * {@code inventory.instrumentation.argument-sample-rate}. Exceptions are
+ * counted by the timer tag and logged by the exception handler.
+ *
  * @author Aditya Srivastava
  * @version 1.0
  * @since 2024-12-16
  */
 @Aspect
 @Component
+@ConditionalOnProperty(name = "inventory.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
 @Slf4j
 public class LoggingAspect {
 
+    static final String TIMER_NAME = "inventory.method.execution";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final InstrumentationProperties properties;
+
+    /** Timers of successful calls, keyed by method. */
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry, InstrumentationProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
     /**
      * Pointcut for all controller methods.
      */
@@ -48,91 +76,62 @@ public class LoggingAspect {
     }
 
     /**
-     * Pointcut for all repository methods.
-     */
-    @Pointcut("within(com.book.management.inventory.repository..*)")
-    public void repositoryLayer() {
-    }
-
-    /**
-     * Logs method entry with parameters for all public methods.
+     * Times a controller call.
      */
-    @Before("controllerLayer() || serviceLayer()")
-    public void logMethodEntry(JoinPoint joinPoint) {
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
-
-        log.info("→ Entering: {}.{}() with arguments: {}",
-                className, methodName, Arrays.toString(args));
+    @Around("controllerLayer()")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
     }
 
     /**
-     * Logs method exit with return value.
+     * Times a service call.
      */
-    @AfterReturning(pointcut = "controllerLayer() || serviceLayer()", returning = "result")
-    public void logMethodExit(JoinPoint joinPoint, Object result) {
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
-
-        log.info("← Exiting: {}.{}() with result: {}",
-                className, methodName, result != null ? result.getClass().getSimpleName() : "void");
+    @Around("serviceLayer()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
     }
 
-    /**
-     * Logs method execution time and handles exceptions.
-     */
-    @Around("controllerLayer() || serviceLayer()")
-    public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
-
-        long startTime = System.currentTimeMillis();
-
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-
-            log.info("⏱ {}.{}() executed in {} ms",
-                    className, methodName, executionTime);
-
+            long elapsed = System.nanoTime() - start;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timers.computeIfAbsent(method, key -> timer(joinPoint, layer, NO_EXCEPTION))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            logArguments(joinPoint, elapsed);
             return result;
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("⚠ {}.{}() failed after {} ms with exception: {}",
-                    className, methodName, executionTime, e.getMessage());
-            throw e;
+        } catch (Throwable ex) {
+            long elapsed = System.nanoTime() - start;
+            timer(joinPoint, layer, ex.getClass().getSimpleName()).record(elapsed, TimeUnit.NANOSECONDS);
+            logArguments(joinPoint, elapsed);
+            throw ex;
         }
     }
 
-    /**
-     * Logs all exceptions thrown from service layer.
-     */
-    @AfterThrowing(pointcut = "serviceLayer()", throwing = "exception")
-    public void logException(JoinPoint joinPoint, Throwable exception) {
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
-
-        log.error("✗ Exception in {}.{}(): {} - {}",
-                className, methodName, exception.getClass().getSimpleName(), exception.getMessage());
+    private Timer timer(JoinPoint joinPoint, String layer, String exception) {
+        return Timer.builder(TIMER_NAME)
+                .description("Execution time of inventory controller and service methods")
+                .tag("layer", layer)
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(meterRegistry);
     }
 
-    /**
-     * Logs database operations.
-     */
-    @Around("repositoryLayer()")
-    public Object logDatabaseOperation(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-
-        log.debug("🗄 Database operation: {} with args: {}",
-                methodName, Arrays.toString(joinPoint.getArgs()));
-
-        long startTime = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
-        long executionTime = System.currentTimeMillis() - startTime;
-
-        log.debug("🗄 Database operation {} completed in {} ms", methodName, executionTime);
-
-        return result;
+    private void logArguments(JoinPoint joinPoint, long elapsedNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMillis >= properties.getSlowCallThresholdMillis()) {
+            log.warn("Slow call {}.{}() took {} ms with arguments: {}",
+                    joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(),
+                    elapsedMillis, Arrays.toString(joinPoint.getArgs()));
+        } else if (properties.getArgumentSampleRate() > 0
+                && ThreadLocalRandom.current().nextDouble() < properties.getArgumentSampleRate()
+                && log.isDebugEnabled()) {
+            log.debug("Sampled call {}.{}() took {} µs with arguments: {}",
+                    joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(),
+                    TimeUnit.NANOSECONDS.toMicros(elapsedNanos), Arrays.toString(joinPoint.getArgs()));
+        }
     }
 }
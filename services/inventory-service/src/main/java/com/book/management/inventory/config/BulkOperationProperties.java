@@ -0,0 +1,28 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk inventory operations.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.bulk-operations")
+public class BulkOperationProperties {
+
+    /**
+     * Number of books handled per query, JDBC batch and transaction.
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * Maximum number of books accepted in a single bulk request.
+     */
+    private int maxRequestSize = 10_000;
+}
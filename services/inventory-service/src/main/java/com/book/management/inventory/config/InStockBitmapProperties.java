@@ -0,0 +1,41 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the in-stock book bitmap feed.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.in-stock-bitmap")
+public class InStockBitmapProperties {
+
+    /**
+     * Number of recent changes kept for delta requests. Consumers further
+     * behind must fetch the full bitmap again.
+     */
+    private int maxDeltaEntries = 100_000;
+
+    /**
+     * Delay between reconciliations of the bitmap against the database, in milliseconds.
+     */
+    private long reconcileIntervalMillis = 600_000;
+
+    /**
+     * Delay between polls of the shared change log, in milliseconds.
+     */
+    private long pollIntervalMillis = 500;
+
+    /**
+     * Minimum age of a logged change before it is applied, in milliseconds.
+     * Must exceed the commit time of a stock write, so that an earlier
+     * change still committing is not overtaken by a later one.
+     */
+    private long settleMillis = 1_000;
+}
@@ -0,0 +1,39 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the controller and service timing aspect.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.instrumentation")
+public class InstrumentationProperties {
+
+    /**
+     * Whether controller and service calls are timed. Read once at startup.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether each method timer publishes a percentile histogram, so that
+     * percentiles can be aggregated across instances by the metrics backend.
+     */
+    private boolean percentileHistogram = true;
+
+    /**
+     * Calls slower than this are logged at WARN with their arguments, in milliseconds.
+     */
+    private long slowCallThresholdMillis = 500;
+
+    /**
+     * Fraction of calls, between 0 and 1, whose arguments are logged at DEBUG.
+     */
+    private double argumentSampleRate = 0.0;
+}
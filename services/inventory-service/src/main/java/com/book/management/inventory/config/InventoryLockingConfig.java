@@ -0,0 +1,64 @@
+package com.book.management.inventory.config;
+
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.service.locking.AtomicSqlLockingStrategy;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import com.book.management.inventory.service.locking.OptimisticLockingStrategy;
+import com.book.management.inventory.service.locking.PessimisticLockingStrategy;
+import com.book.management.inventory.service.sharding.ShardedLockingStrategy;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wires the inventory locking strategy selected by {@code inventory.locking.mode}.
+ * The strategy is always wrapped so that books whose inventory row is in
+ * sharded-stock mode are routed to their slot counters, even after the
+ * feature has been switched off for new books.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+@Slf4j
+public class InventoryLockingConfig {
+
+    /**
+     * Creates the locking strategy used for inventory quantity writes.
+     *
+     * @param properties          the locking configuration
+     * @param shardingProperties  the sharded stock configuration
+     * @param shardedStockManager the sharded stock manager
+     * @param inventoryRepository the inventory repository
+     * @param transactionManager  the JPA transaction manager
+     * @param eventPublisher      publisher for inventory change events
+     * @return the configured strategy
+     */
+    @Bean
+    public InventoryLockingStrategy inventoryLockingStrategy(InventoryLockingProperties properties,
+                                                             ShardingProperties shardingProperties,
+                                                             ShardedStockManager shardedStockManager,
+                                                             InventoryRepository inventoryRepository,
+                                                             PlatformTransactionManager transactionManager,
+                                                             ApplicationEventPublisher eventPublisher) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        log.info("Inventory writes use {} locking (sharded stock {})", properties.getMode(),
+                shardingProperties.isEnabled() ? "enabled" : "disabled");
+
+        InventoryLockingStrategy strategy = switch (properties.getMode()) {
+            case PESSIMISTIC -> new PessimisticLockingStrategy(inventoryRepository, transactionTemplate, eventPublisher);
+            case ATOMIC -> new AtomicSqlLockingStrategy(inventoryRepository, transactionTemplate, eventPublisher);
+            case OPTIMISTIC -> new OptimisticLockingStrategy(inventoryRepository, transactionTemplate, eventPublisher,
+                    properties.getMaxAttempts(), properties.getRetryBackoffMillis());
+        };
+
+        // Always wrapped: books sharded before the feature was switched off keep their stock in slots
+        return new ShardedLockingStrategy(strategy, shardedStockManager, inventoryRepository,
+                transactionTemplate, eventPublisher);
+    }
+}
@@ -0,0 +1,38 @@
+package com.book.management.inventory.config;
+
+import com.book.management.inventory.service.locking.LockingMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for inventory write concurrency control.
+ *
+ * Decides which {@link com.book.management.inventory.service.locking.InventoryLockingStrategy}
+ * backs the quantity mutations of the Inventory service.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.locking")
+public class InventoryLockingProperties {
+
+    /**
+     * Locking mode used for reduce, restock and adjust operations.
+     */
+    private LockingMode mode = LockingMode.OPTIMISTIC;
+
+    /**
+     * Maximum number of attempts for the optimistic mode before giving up.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Base back-off between optimistic retries in milliseconds.
+     * The actual delay is randomised up to twice this value.
+     */
+    private long retryBackoffMillis = 5;
+}
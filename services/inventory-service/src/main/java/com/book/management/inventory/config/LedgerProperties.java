@@ -0,0 +1,33 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the inventory movement ledger.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.ledger")
+public class LedgerProperties {
+
+    /**
+     * Whether stock changes are recorded in the movement ledger.
+     */
+    private boolean enabled = true;
+
+    /**
+     * JDBC batch size used when inserting movements.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Delay between snapshot runs, in milliseconds.
+     */
+    private long snapshotIntervalMillis = 3_600_000;
+}
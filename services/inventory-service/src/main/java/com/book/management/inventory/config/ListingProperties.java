@@ -0,0 +1,28 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for paginated inventory listings.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.listing")
+public class ListingProperties {
+
+    /**
+     * Page size used when the client does not ask for one.
+     */
+    private int defaultPageSize = 100;
+
+    /**
+     * Largest page size a client may ask for.
+     */
+    private int maxPageSize = 1000;
+}
@@ -0,0 +1,34 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the local cache of inventory lookups by book ID.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.lookup-cache")
+public class LookupCacheProperties {
+
+    /**
+     * Whether lookups by book ID are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a cached lookup may be served, in milliseconds. Bounds the
+     * staleness of changes made through other service instances.
+     */
+    private long ttlMillis = 500;
+
+    /**
+     * Maximum number of cached books.
+     */
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,29 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for event-driven low-stock alerts.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.low-stock")
+public class LowStockAlertProperties {
+
+    /**
+     * Whether threshold crossings are tracked and pushed to subscribers.
+     */
+    private boolean alertEnabled = true;
+
+    /**
+     * Lifetime of a Server-Sent Events subscription in milliseconds.
+     * Clients are expected to reconnect when it expires.
+     */
+    private long sseTimeoutMillis = 1_800_000;
+}
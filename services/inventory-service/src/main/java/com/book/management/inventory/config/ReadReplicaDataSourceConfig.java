@@ -0,0 +1,99 @@
+package com.book.management.inventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to a read replica with its own connection pool.
+ *
+ * The application {@link DataSource} is a {@link LazyConnectionDataSourceProxy}
+ * that only fetches a physical connection at the first statement, by which
+ * time a {@code @Transactional(readOnly = true)} transaction has marked the
+ * connection read-only. Read-only connections come from the replica while
+ * {@link ReplicaLagMonitor} reports it usable and from the primary otherwise,
+ * so writes never reach the replica and reads degrade to the primary when
+ * the replica falls behind. Only listing and reporting reads should be
+ * read-only; reads that gate a write, such as the availability checks made
+ * before an order is placed, use a plain {@code @Transactional} to stay on
+ * the primary.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+@ConditionalOnProperty(name = "read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("read-replica.hikari")
+    public HikariDataSource replicaDataSource(ReadReplicaProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReadReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaDataSource, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return routingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    /**
+     * Builds the lazy proxy that sends read-only connections to the replica
+     * while it is usable.
+     *
+     * @param primary the primary data source
+     * @param replica the replica data source
+     * @param monitor the replica lag monitor
+     * @return the routing data source
+     */
+    static DataSource routingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor) {
+        AbstractRoutingDataSource readOnly = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return monitor.isReplicaUsable() ? REPLICA : PRIMARY;
+            }
+        };
+        readOnly.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        readOnly.setDefaultTargetDataSource(primary);
+        readOnly.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(readOnly);
+        return dataSource;
+    }
+}
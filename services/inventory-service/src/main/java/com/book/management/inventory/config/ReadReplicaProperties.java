@@ -0,0 +1,67 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for routing read-only transactions to a read replica.
+ *
+ * Pool sizing for the replica is bound separately from
+ * {@code read-replica.hikari.*}, so it can differ from the primary pool.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica. Off by default.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica.
+     */
+    private String url;
+
+    /**
+     * Login username of the replica.
+     */
+    private String username;
+
+    /**
+     * Login password of the replica.
+     */
+    private String password;
+
+    /**
+     * JDBC driver class name of the replica.
+     */
+    private String driverClassName;
+
+    /**
+     * Replication lag above which reads fall back to the primary, in seconds.
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * Delay between replication lag checks, in milliseconds.
+     */
+    private long lagCheckIntervalMillis = 5_000;
+
+    /**
+     * Query run on the replica to read its replication lag.
+     */
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    /**
+     * Column of the lag query holding the lag in seconds. A missing row or a
+     * null value means the replica is not replicating.
+     */
+    private String lagColumn = "Seconds_Behind_Source";
+}
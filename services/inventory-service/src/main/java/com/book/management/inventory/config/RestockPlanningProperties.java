@@ -0,0 +1,59 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the scheduled restock planning job.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.restock-planning")
+public class RestockPlanningProperties {
+
+    /**
+     * Whether reductions are recorded as demand and the planning job runs.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between planning runs, in milliseconds.
+     */
+    private long planIntervalMillis = 3_600_000;
+
+    /**
+     * Delay between flushes of the in-memory demand counters, in milliseconds.
+     */
+    private long demandFlushIntervalMillis = 10_000;
+
+    /**
+     * Number of trailing days of demand used to compute daily velocity.
+     * Older demand rows are pruned by the planning job.
+     */
+    private int velocityWindowDays = 28;
+
+    /**
+     * Days between placing a reorder and the stock arriving.
+     */
+    private int leadTimeDays = 7;
+
+    /**
+     * Days of demand a reorder should cover beyond the lead time.
+     */
+    private int reviewPeriodDays = 14;
+
+    /**
+     * Inventory rows read, planned and written per chunk.
+     */
+    private int chunkSize = 10_000;
+
+    /**
+     * Worker threads of the planning fork-join pool; 0 uses one per processor.
+     */
+    private int parallelism = 0;
+}
@@ -0,0 +1,19 @@
+package com.book.management.inventory.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the background jobs under the {@code scheduled} package.
+ *
+ * Kept separate from the main application class so that slice tests do not
+ * start schedulers.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,47 @@
+package com.book.management.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for sharded stock counters.
+ *
+ * When enabled, individual hot books can be switched into sharded-stock mode,
+ * where their quantity is split across several slot rows.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "inventory.sharding")
+public class ShardingProperties {
+
+    /**
+     * Master switch for sharding new books. Off by default. Books already in
+     * sharded-stock mode stay sharded until they are collapsed.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of slots used when sharding a book without an explicit count.
+     */
+    private int defaultSlots = 8;
+
+    /**
+     * Upper bound for the slot count of a single book.
+     */
+    private int maxSlots = 64;
+
+    /**
+     * How long a summed total quantity may be served from cache, in milliseconds.
+     */
+    private long totalCacheTtlMillis = 500;
+
+    /**
+     * Delay between background rebalancing runs, in milliseconds.
+     */
+    private long rebalanceIntervalMillis = 5000;
+}
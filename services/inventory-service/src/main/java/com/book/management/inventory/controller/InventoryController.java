@@ -3,12 +3,24 @@ package com.book.management.inventory.controller;
 import com.book.management.inventory.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 import com.book.management.inventory.service.InventoryService;
+import com.book.management.inventory.service.alert.LowStockAlertService;
+import com.book.management.inventory.service.bitmap.InStockBitmapService;
+import com.book.management.inventory.service.bulk.BulkAvailability;
+import com.book.management.inventory.service.ledger.InventoryLedgerService;
+import com.book.management.inventory.service.planning.RestockPlanningService;
+import com.book.management.inventory.service.summary.InventorySummaryService;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +39,12 @@ import java.util.Map;
 public class InventoryController {
 
         private final InventoryService inventoryService;
+        private final LowStockAlertService lowStockAlertService;
+        private final InventoryLedgerService ledgerService;
+        private final InventorySummaryService summaryService;
+        private final InStockBitmapService inStockBitmapService;
+        private final RestockPlanningService restockPlanningService;
+        private final ObjectMapper objectMapper;
 
         /**
          * Creates a new inventory record.
@@ -65,7 +83,8 @@ public class InventoryController {
         }
 
         /**
-         * Retrieves all inventory records.
+         * Retrieves all inventory records. Large catalogues should use
+         * {@code /page} or {@code /stream} instead.
          *
          * @return ResponseEntity with list of all inventory records and HTTP 200 status
          */
@@ -74,6 +93,44 @@ public class InventoryController {
                 return ResponseEntity.ok(inventoryService.getAllInventory());
         }
 
+        /**
+         * Retrieves one page of inventory records ordered by inventory ID.
+         * Pass the returned {@code nextCursor} as {@code afterId} for the next page.
+         *
+         * @param filter  stock filter (ALL, IN_STOCK or OUT_OF_STOCK)
+         * @param afterId exclusive inventory ID cursor, omitted for the first page
+         * @param size    page size, omitted for the configured default
+         * @return ResponseEntity with the page and HTTP 200 status
+         */
+        @GetMapping("/page")
+        public ResponseEntity<InventoryPageDTO> getInventoryPage(
+                        @RequestParam(defaultValue = "ALL") InventoryStockFilter filter,
+                        @RequestParam(required = false) Long afterId,
+                        @RequestParam(required = false) Integer size) {
+                return ResponseEntity.ok(inventoryService.getInventoryPage(filter, afterId, size));
+        }
+
+        /**
+         * Streams all matching inventory records as newline-delimited JSON,
+         * one record per line, in inventory ID order.
+         *
+         * @param filter stock filter (ALL, IN_STOCK or OUT_OF_STOCK)
+         * @return ResponseEntity with the NDJSON body and HTTP 200 status
+         */
+        @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> streamInventory(
+                        @RequestParam(defaultValue = "ALL") InventoryStockFilter filter) {
+                StreamingResponseBody body = out -> inventoryService.streamInventory(filter, inventory -> {
+                        try {
+                                out.write(objectMapper.writeValueAsBytes(inventory));
+                                out.write('\n');
+                        } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                        }
+                });
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        }
+
         /**
          * Reduces inventory for a book purchase.
          *
@@ -116,6 +173,17 @@ public class InventoryController {
                 return ResponseEntity.ok(inventoryService.checkAvailability(bookId, quantity));
         }
 
+        /**
+         * Retrieves inventory totals for the dashboard. Served from in-memory
+         * counters, so it does not query the database.
+         *
+         * @return ResponseEntity with the inventory summary and HTTP 200 status
+         */
+        @GetMapping("/summary")
+        public ResponseEntity<InventorySummaryDTO> getInventorySummary() {
+                return ResponseEntity.ok(summaryService.getSummary());
+        }
+
         /**
          * Retrieves all low stock items.
          *
@@ -126,6 +194,28 @@ public class InventoryController {
                 return ResponseEntity.ok(inventoryService.getLowStockItems());
         }
 
+        /**
+         * Retrieves the low-stock alerts tracked from inventory change events,
+         * without scanning the inventory table.
+         *
+         * @return ResponseEntity with list of active alerts and HTTP 200 status
+         */
+        @GetMapping("/alerts/active")
+        public ResponseEntity<List<LowStockAlertDTO>> getActiveAlerts() {
+                return ResponseEntity.ok(lowStockAlertService.getActiveAlerts());
+        }
+
+        /**
+         * Subscribes to low-stock threshold crossings as Server-Sent Events.
+         * The stream starts with a snapshot of the active alerts.
+         *
+         * @return the event stream emitter
+         */
+        @GetMapping(value = "/alerts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter streamAlerts() {
+                return lowStockAlertService.subscribe();
+        }
+
         /**
          * Retrieves all out-of-stock items.
          *
@@ -146,6 +236,34 @@ public class InventoryController {
                 return ResponseEntity.ok(inventoryService.getInStockItems());
         }
 
+        /**
+         * Retrieves the compressed bitmap of in-stock book IDs with its epoch
+         * and version, for consumers that keep a local copy.
+         *
+         * @return ResponseEntity with the encoded bitmap and HTTP 200 status
+         */
+        @GetMapping(value = "/status/in-stock/bitmap", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+        public ResponseEntity<byte[]> getInStockBitmap() {
+                return ResponseEntity.ok(inStockBitmapService.encodeSnapshot());
+        }
+
+        /**
+         * Retrieves the in-stock changes since a bitmap version.
+         *
+         * @param epoch        epoch of the consumer's copy
+         * @param sinceVersion version of the consumer's copy
+         * @return ResponseEntity with the encoded delta and HTTP 200 status, or
+         *         HTTP 410 status if the consumer must fetch the full bitmap again
+         */
+        @GetMapping(value = "/status/in-stock/bitmap/delta", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+        public ResponseEntity<byte[]> getInStockBitmapDelta(
+                        @RequestParam long epoch,
+                        @RequestParam long sinceVersion) {
+                return inStockBitmapService.encodeDelta(epoch, sinceVersion)
+                                .map(ResponseEntity::ok)
+                                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE).build());
+        }
+
         /**
          * Updates the low stock threshold for an inventory record.
          *
@@ -184,6 +302,82 @@ public class InventoryController {
                 return ResponseEntity.noContent().build();
         }
 
+        /**
+         * Rebuilds quantities from the movement ledger (latest snapshot plus
+         * unfolded movements) and compares them with the live inventory.
+         *
+         * @param bookId optional book ID to restrict the replay to
+         * @return ResponseEntity with replay results and HTTP 200 status
+         */
+        @GetMapping("/ledger/replay")
+        public ResponseEntity<List<LedgerReplayDTO>> replayLedger(
+                        @RequestParam(required = false) Long bookId) {
+                return ResponseEntity.ok(ledgerService.replay(bookId));
+        }
+
+        /**
+         * Takes a compacted ledger snapshot immediately.
+         *
+         * @return ResponseEntity with the number of books snapshotted and HTTP 200 status
+         */
+        @PostMapping("/ledger/snapshot")
+        public ResponseEntity<Integer> snapshotLedger() {
+                return ResponseEntity.ok(ledgerService.takeSnapshot());
+        }
+
+        /**
+         * Retrieves one page of the latest restock plan ordered by book ID.
+         * Pass the returned {@code nextCursor} as {@code afterBookId} for the next page.
+         *
+         * @param afterBookId exclusive book ID cursor, omitted for the first page
+         * @param size        page size, omitted for the configured default
+         * @param reorderOnly whether to return only books with a reorder suggestion
+         * @return ResponseEntity with the page and HTTP 200 status
+         */
+        @GetMapping("/restock-plan")
+        public ResponseEntity<RestockPlanPageDTO> getRestockPlan(
+                        @RequestParam(required = false) Long afterBookId,
+                        @RequestParam(required = false) Integer size,
+                        @RequestParam(defaultValue = "false") boolean reorderOnly) {
+                return ResponseEntity.ok(restockPlanningService.getPlanPage(afterBookId, size, reorderOnly));
+        }
+
+        /**
+         * Flushes recorded demand and recomputes the restock plan immediately.
+         *
+         * @return ResponseEntity with the number of books planned and HTTP 200 status
+         */
+        @PostMapping("/restock-plan/run")
+        public ResponseEntity<Integer> runRestockPlan() {
+                restockPlanningService.flushDemand();
+                return ResponseEntity.ok(restockPlanningService.plan());
+        }
+
+        /**
+         * Switches a hot book to sharded-stock mode.
+         *
+         * @param bookId the book ID
+         * @param slots  number of stock slots (optional, defaults to configuration)
+         * @return ResponseEntity with inventory data and HTTP 200 status
+         */
+        @PostMapping("/book/{bookId}/shard")
+        public ResponseEntity<InventoryResponseDTO> enableShardedStock(
+                        @PathVariable Long bookId,
+                        @RequestParam(required = false) Integer slots) {
+                return ResponseEntity.ok(inventoryService.enableShardedStock(bookId, slots));
+        }
+
+        /**
+         * Collapses a sharded book back into a single stock row.
+         *
+         * @param bookId the book ID
+         * @return ResponseEntity with inventory data and HTTP 200 status
+         */
+        @DeleteMapping("/book/{bookId}/shard")
+        public ResponseEntity<InventoryResponseDTO> disableShardedStock(@PathVariable Long bookId) {
+                return ResponseEntity.ok(inventoryService.disableShardedStock(bookId));
+        }
+
         /**
          * Checks stock availability for multiple books.
          *
@@ -193,33 +387,67 @@ public class InventoryController {
         @PostMapping("/bulk/check-availability")
         public ResponseEntity<BulkStockCheckResponseDTO> checkBulkAvailability(
                         @Valid @RequestBody BulkStockCheckDTO checkDTO) {
-                Map<Long, Boolean> availabilityMap = inventoryService.checkBulkAvailability(
+                BulkAvailability availability = inventoryService.checkBulkAvailability(
                                 checkDTO.getBookQuantities());
 
-                boolean allAvailable = availabilityMap.values().stream()
-                                .allMatch(Boolean::booleanValue);
+                boolean allAvailable = availability.isAllAvailable();
 
                 String message = allAvailable ? "All books are available in required quantities"
                                 : "Some books are not available in required quantities";
 
                 return ResponseEntity.ok(BulkStockCheckResponseDTO.builder()
-                                .availabilityMap(availabilityMap)
+                                .availabilityMap(availability)
                                 .allAvailable(allAvailable)
                                 .message(message)
                                 .build());
         }
 
+        /**
+         * Retrieves the inventory of many books in one call.
+         *
+         * @param lookupDTO the book IDs to look up
+         * @return ResponseEntity with map of book ID to inventory and HTTP 200 status
+         */
+        @PostMapping("/bulk/get")
+        public ResponseEntity<Map<Long, InventoryResponseDTO>> getBulkInventory(
+                        @Valid @RequestBody BulkInventoryLookupDTO lookupDTO) {
+                return ResponseEntity.ok(inventoryService.getBulkInventory(lookupDTO.getBookIds()));
+        }
+
+        /**
+         * Restocks many books in one call. Books are committed in chunks, so the
+         * result reports the outcome of every book individually. Restocks
+         * given per order saga are applied at most once per saga and book.
+         *
+         * @param restockDTO map of book ID to quantity to add, optionally per saga
+         * @return ResponseEntity with map of book ID to restock outcome and HTTP 200 status
+         */
+        @PatchMapping("/bulk/restock")
+        public ResponseEntity<Map<Long, BulkRestockResultDTO>> restockBulkInventory(
+                        @Valid @RequestBody BulkStockRestockDTO restockDTO) {
+                if (restockDTO.getSagaQuantities() == null || restockDTO.getSagaQuantities().isEmpty()) {
+                        return ResponseEntity.ok(inventoryService.restockBulkInventory(restockDTO.getBookQuantities()));
+                }
+                return ResponseEntity.ok(inventoryService.restockBulkInventory(restockDTO.getBookQuantities(),
+                                restockDTO.getSagaQuantities(), restockDTO.getKeyedSagaIds()));
+        }
+
     /**
      * Reduces inventory for multiple books (bulk deduction).
      * Handles all validation and throws exceptions if any book has insufficient stock.
+     * Reductions given per order saga are applied at most once per saga.
      *
      * @param request DTO containing map of bookId to quantity to reduce
      */
     @PatchMapping("/bulk/reduce")
     public ResponseEntity<Void> reduceBulkInventory(
-            @RequestBody BulkStockReduceDTO request) {
+            @Valid @RequestBody BulkStockReduceDTO request) {
         // Pass the internal map from the DTO to the service
-        inventoryService.reduceBulkInventory(request.getBookQuantities());
+        if (request.getSagaQuantities() == null || request.getSagaQuantities().isEmpty()) {
+            inventoryService.reduceBulkInventory(request.getBookQuantities());
+        } else {
+            inventoryService.reduceBulkInventory(request.getBookQuantities(), request.getSagaQuantities());
+        }
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,31 @@
+package com.book.management.inventory.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for looking up the inventory of many books at once.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkInventoryLookupDTO {
+
+    @NotEmpty(message = "bookIds must not be empty")
+    private List<
+            @NotNull(message = "bookId must not be null")
+            @Positive(message = "bookId must be positive")
+                    Long> bookIds;
+}
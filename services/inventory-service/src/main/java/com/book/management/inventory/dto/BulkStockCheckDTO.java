@@ -4,8 +4,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import com.book.management.inventory.service.bulk.LongIntHashMap;
 import jakarta.validation.constraints.NotNull;
-import java.util.Map;
 
 /**
  * Data Transfer Object for bulk stock check and deduction.
@@ -21,6 +21,6 @@ import java.util.Map;
 public class BulkStockCheckDTO {
 
     @NotNull(message = "Book quantities map is required")
-    private Map<Long, Integer> bookQuantities; // bookId -> quantity
+    private LongIntHashMap bookQuantities; // bookId -> quantity
 }
 
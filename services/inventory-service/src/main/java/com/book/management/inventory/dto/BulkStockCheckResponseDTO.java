@@ -1,11 +1,12 @@
 package com.book.management.inventory.dto;
 
+import com.book.management.inventory.service.bulk.BulkAvailability;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.Map; /**
+/**
  * Data Transfer Object for bulk stock check response.
  *
  * @author Shelfie
@@ -18,7 +19,7 @@ import java.util.Map; /**
 @Builder
 public class BulkStockCheckResponseDTO {
 
-    private Map<Long, Boolean> availabilityMap; // bookId -> available (true/false)
+    private BulkAvailability availabilityMap; // bookId -> available (true/false)
     private boolean allAvailable;
     private String message;
 }
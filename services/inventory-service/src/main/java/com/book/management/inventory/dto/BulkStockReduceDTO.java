@@ -1,24 +1,26 @@
 package com.book.management.inventory.dto;
 
-import jakarta.validation.constraints.NotEmpty;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import com.book.management.inventory.validation.ValidBookQuantities;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+
 import java.util.Map;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class BulkStockReduceDTO {
-    @NotEmpty(message = "bookQuantities must not be empty")
-    private Map<
-            @NotNull(message = "bookId must not be null")
-            @Positive(message = "bookId must be positive")
-                    Long,
-            @NotNull(message = "quantity must not be null")
-            @Positive(message = "quantity must be positive")
-                    Integer
-            > bookQuantities;
-}
\ No newline at end of file
+    @NotNull(message = "bookQuantities must not be null")
+    @ValidBookQuantities
+    private LongIntHashMap bookQuantities;
+
+    /**
+     * Optional saga ID to the quantities reduced for that saga. When given,
+     * each saga is reduced at most once and {@code bookQuantities} must be
+     * their per-book sum.
+     */
+    private Map<Long, Map<Long, Integer>> sagaQuantities;
+}
@@ -0,0 +1,49 @@
+package com.book.management.inventory.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Data Transfer Object for restocking many books at once.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStockRestockDTO {
+
+    @NotEmpty(message = "bookQuantities must not be empty")
+    private Map<
+            @NotNull(message = "bookId must not be null")
+            @Positive(message = "bookId must be positive")
+                    Long,
+            @NotNull(message = "quantity must not be null")
+            @Positive(message = "quantity must be positive")
+                    Integer
+            > bookQuantities;
+
+    /**
+     * Optional saga ID to the quantities to restock for that saga. When
+     * given, each saga restocks each book at most once and
+     * {@code bookQuantities} must be their per-book sum.
+     */
+    private Map<Long, Map<Long, Integer>> sagaQuantities;
+
+    /**
+     * Sagas whose stock was reduced under their saga ID. Only the recorded
+     * reduction is restocked; a saga with none is voided instead.
+     */
+    private Set<Long> keyedSagaIds;
+}
@@ -0,0 +1,26 @@
+package com.book.management.inventory.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a keyset-paginated inventory listing.
+ * Pass {@code nextCursor} as {@code afterId} to fetch the following page.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryPageDTO {
+
+    private List<InventoryResponseDTO> items;
+    private Long nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,37 @@
+package com.book.management.inventory.dto;
+
+/**
+ * Stock filter applied by the paginated and streaming inventory listings.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum InventoryStockFilter {
+
+    ALL(null, null),
+    IN_STOCK(1, null),
+    OUT_OF_STOCK(null, 0);
+
+    private final Integer minQuantity;
+    private final Integer maxQuantity;
+
+    InventoryStockFilter(Integer minQuantity, Integer maxQuantity) {
+        this.minQuantity = minQuantity;
+        this.maxQuantity = maxQuantity;
+    }
+
+    /**
+     * @return inclusive lower quantity bound, or null for none
+     */
+    public Integer getMinQuantity() {
+        return minQuantity;
+    }
+
+    /**
+     * @return inclusive upper quantity bound, or null for none
+     */
+    public Integer getMaxQuantity() {
+        return maxQuantity;
+    }
+}
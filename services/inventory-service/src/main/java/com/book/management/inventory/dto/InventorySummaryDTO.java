@@ -0,0 +1,32 @@
+package com.book.management.inventory.dto;
+import com.book.management.inventory.event.StockLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the inventory summary dashboard.
+ * Low-stock counts include out-of-stock records, as in the low-stock alerts.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventorySummaryDTO {
+
+    private long totalSkus;
+    private long totalUnits;
+    private long lowStockCount;
+    private long outOfStockCount;
+    private Map<StockLevel, Long> skusByBand;
+    private Map<StockLevel, Long> unitsByBand;
+    private LocalDateTime baselinedAt;
+}
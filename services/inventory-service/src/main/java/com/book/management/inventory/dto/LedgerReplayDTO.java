@@ -0,0 +1,30 @@
+package com.book.management.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the quantity of a book rebuilt from the movement
+ * ledger, compared with the live inventory.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerReplayDTO {
+
+    private Long bookId;
+    private Long snapshotId;
+    private Integer snapshotQuantity;
+    private Long snapshotMovementId;
+    private Long movementsReplayed;
+    private Integer replayedQuantity;
+    private Integer currentQuantity;
+    private boolean consistent;
+}
@@ -0,0 +1,29 @@
+package com.book.management.inventory.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the restock suggestion of one book.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RestockPlanDTO {
+
+    private Long bookId;
+    private Integer quantity;
+    private Integer lowStockThreshold;
+    private Double dailyVelocity;
+    private Double daysOfCover;
+    private Integer suggestedQuantity;
+    private LocalDateTime plannedAt;
+}
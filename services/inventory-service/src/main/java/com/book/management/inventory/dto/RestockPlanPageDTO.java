@@ -0,0 +1,28 @@
+package com.book.management.inventory.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of the latest restock plan, ordered by
+ * book ID. Pass {@code nextCursor} as {@code afterBookId} to fetch the
+ * following page.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RestockPlanPageDTO {
+
+    private Long runId;
+    private List<RestockPlanDTO> items;
+    private Long nextCursor;
+    private boolean hasMore;
+}
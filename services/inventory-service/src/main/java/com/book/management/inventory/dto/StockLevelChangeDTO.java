@@ -0,0 +1,34 @@
+package com.book.management.inventory.dto;
+
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.event.StockLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object pushed to alert subscribers when an inventory record
+ * crosses its low-stock or out-of-stock threshold.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockLevelChangeDTO {
+
+    private Long inventoryId;
+    private Long bookId;
+    private ChangeType changeType;
+    private StockLevel previousLevel;
+    private StockLevel level;
+    private Integer quantity;
+    private Integer lowStockThreshold;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,84 @@
+package com.book.management.inventory.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published by the inventory service for every committed
+ * change to an inventory record's quantity or threshold.
+ *
+ * Listeners that react to committed state should use
+ * {@code @TransactionalEventListener} with {@code fallbackExecution = true},
+ * since events are published both inside and after service transactions.
+ *
+ * @param inventoryId       the inventory ID
+ * @param bookId            the book ID
+ * @param changeType        what kind of mutation produced the event
+ * @param previousQuantity  quantity before the change (0 for created records)
+ * @param quantity          quantity after the change (0 for deleted records)
+ * @param previousThreshold low-stock threshold before the change
+ * @param lowStockThreshold low-stock threshold after the change
+ * @param occurredAt        when the change was made
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record InventoryChangeEvent(
+        Long inventoryId,
+        Long bookId,
+        ChangeType changeType,
+        int previousQuantity,
+        int quantity,
+        int previousThreshold,
+        int lowStockThreshold,
+        LocalDateTime occurredAt) {
+
+    /**
+     * Kind of inventory mutation.
+     */
+    public enum ChangeType {
+        CREATED,
+        REDUCED,
+        RESTOCKED,
+        ADJUSTED,
+        QUANTITY_SET,
+        THRESHOLD_CHANGED,
+        DELETED
+    }
+
+    /**
+     * Returns the signed quantity change.
+     *
+     * @return quantity minus previous quantity
+     */
+    public int delta() {
+        return quantity - previousQuantity;
+    }
+
+    /**
+     * Returns the stock level before the change.
+     *
+     * @return the previous level, or null for a newly created record
+     */
+    public StockLevel previousLevel() {
+        return changeType == ChangeType.CREATED ? null : StockLevel.of(previousQuantity, previousThreshold);
+    }
+
+    /**
+     * Returns the stock level after the change.
+     *
+     * @return the new level, or null for a deleted record
+     */
+    public StockLevel level() {
+        return changeType == ChangeType.DELETED ? null : StockLevel.of(quantity, lowStockThreshold);
+    }
+
+    /**
+     * Checks whether the change moved the record to a different stock level.
+     *
+     * @return true if the stock level changed
+     */
+    public boolean isLevelChange() {
+        return previousLevel() != level();
+    }
+}
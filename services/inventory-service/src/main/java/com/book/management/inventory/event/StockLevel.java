@@ -0,0 +1,30 @@
+package com.book.management.inventory.event;
+
+/**
+ * Coarse stock level of an inventory record relative to its low-stock threshold.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum StockLevel {
+
+    IN_STOCK,
+    LOW_STOCK,
+    OUT_OF_STOCK;
+
+    /**
+     * Classifies a quantity the same way as {@link com.book.management.inventory.model.Inventory#isLowStock()}
+     * and {@link com.book.management.inventory.model.Inventory#isOutOfStock()}.
+     *
+     * @param quantity          the stock quantity
+     * @param lowStockThreshold the low-stock threshold
+     * @return the stock level
+     */
+    public static StockLevel of(int quantity, int lowStockThreshold) {
+        if (quantity == 0) {
+            return OUT_OF_STOCK;
+        }
+        return quantity <= lowStockThreshold ? LOW_STOCK : IN_STOCK;
+    }
+}
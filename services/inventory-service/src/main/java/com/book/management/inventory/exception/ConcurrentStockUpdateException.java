@@ -0,0 +1,23 @@
+package com.book.management.inventory.exception;
+
+import java.util.Collection;
+
+/**
+ * Exception thrown when a stock update keeps conflicting with concurrent
+ * writers and the configured retry budget is exhausted.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ConcurrentStockUpdateException extends RuntimeException {
+
+    public ConcurrentStockUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentStockUpdateException(Collection<Long> bookIds, int attempts) {
+        super(String.format("Stock update for books %s conflicted with concurrent updates after %d attempts",
+                bookIds, attempts));
+    }
+}
@@ -153,6 +153,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Handles ConcurrentStockUpdateException.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return ResponseEntity with error details and HTTP 409 status
+     */
+    @ExceptionHandler(ConcurrentStockUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentStockUpdateException(
+            ConcurrentStockUpdateException ex, WebRequest request) {
+        log.error("ConcurrentStockUpdateException: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                request.getDescription(false),
+                LocalDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handles validation errors from @Valid annotations.
      *
@@ -0,0 +1,33 @@
+package com.book.management.inventory.exception;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Exception thrown when a stock write was routed by a stale view of which
+ * books are in sharded-stock mode: a regular write found a sharded row, or a
+ * slot write found the slots gone. The write is rolled back and can be
+ * retried once the routing is refreshed.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ShardModeChangedException extends ConcurrentStockUpdateException {
+
+    private final List<Long> bookIds;
+
+    public ShardModeChangedException(Collection<Long> bookIds) {
+        super("Sharded stock mode changed concurrently for books: " + bookIds);
+        this.bookIds = List.copyOf(bookIds);
+    }
+
+    /**
+     * Returns the books whose mode differed from the routing.
+     *
+     * @return the affected book IDs
+     */
+    public List<Long> getBookIds() {
+        return bookIds;
+    }
+}
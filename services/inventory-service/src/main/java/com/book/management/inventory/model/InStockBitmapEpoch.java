@@ -0,0 +1,41 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA Entity holding the epoch of the shared in-stock change log.
+ *
+ * The table has a single row, created by the first instance to start. All
+ * instances report the same epoch, so a consumer may fetch deltas from any
+ * of them. A new epoch is only drawn when the log starts over, for example
+ * after the table was recreated.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "in_stock_bitmap_epoch")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InStockBitmapEpoch {
+
+    /**
+     * Fixed key of the single row.
+     */
+    @Id
+    @Column(name = "epoch_key")
+    private Integer epochKey;
+
+    /**
+     * Epoch the change IDs belong to.
+     */
+    @Column(name = "epoch", nullable = false)
+    private Long epoch;
+}
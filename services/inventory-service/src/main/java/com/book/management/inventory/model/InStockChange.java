@@ -0,0 +1,58 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing one entry of the shared in-stock change log.
+ *
+ * A row is written in the same transaction as every stock change that
+ * crosses zero, and by reconciliations that correct drift. The change ID is
+ * the bitmap version, so every service instance folding the log reaches
+ * the same bitmap at the same version. Old rows are trimmed once they fall
+ * out of the delta window.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "in_stock_changes",
+       indexes = @Index(name = "idx_in_stock_change_book_id", columnList = "book_id, change_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InStockChange {
+
+    /**
+     * Unique, increasing identifier of the change; the bitmap version.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    /**
+     * Book whose in-stock state changed.
+     */
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    /**
+     * Whether the book is in stock after the change.
+     */
+    @Column(name = "in_stock", nullable = false)
+    private Boolean inStock;
+
+    /**
+     * Timestamp of the change.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
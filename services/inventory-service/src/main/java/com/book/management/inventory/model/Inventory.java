@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -69,6 +70,16 @@ public class Inventory {
     @Builder.Default
     private Integer lowStockThreshold = 10;
 
+    /**
+     * Whether the stock of this book lives in {@link InventorySlot} rows.
+     * While set, quantity only mirrors the slot total: the rebalance job is
+     * its sole writer and every other stock write refuses the row.
+     */
+    @Column(name = "sharded", nullable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private boolean sharded = false;
+
     /**
      * Timestamp when the inventory record was created.
      * Automatically populated by JPA auditing.
@@ -0,0 +1,57 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * JPA Entity representing units reduced for a book on one day, as recorded
+ * by the restock planner.
+ *
+ * Reductions are counted in memory and flushed periodically, so a book has
+ * one row per flush in which it sold rather than one per reduction. The
+ * planner sums the rows inside its velocity window and prunes older ones.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "inventory_demand",
+       indexes = @Index(name = "idx_demand_date_book_id", columnList = "demand_date, book_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryDemand {
+
+    /**
+     * Unique identifier for the demand row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "demand_id")
+    private Long demandId;
+
+    /**
+     * Book the units were reduced for.
+     */
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    /**
+     * Day the reductions were committed.
+     */
+    @Column(name = "demand_date", nullable = false)
+    private LocalDate demandDate;
+
+    /**
+     * Units reduced since the previous flush.
+     */
+    @Column(name = "units", nullable = false)
+    private Integer units;
+}
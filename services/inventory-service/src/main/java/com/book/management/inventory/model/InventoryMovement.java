@@ -0,0 +1,89 @@
+package com.book.management.inventory.model;
+
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing one entry of the append-only inventory movement ledger.
+ *
+ * Every stock change writes a movement in the same transaction, so the
+ * quantity of a book can be rebuilt from its latest {@link InventorySnapshot}
+ * plus the movements no snapshot has folded yet. Rows are inserted in JDBC
+ * batches by the ledger service; the only later change is setting
+ * {@code snapshotId} when a snapshot folds them.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "inventory_movements",
+       indexes = {
+           @Index(name = "idx_movement_book_id", columnList = "book_id, movement_id"),
+           @Index(name = "idx_movement_snapshot", columnList = "snapshot_id, book_id")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryMovement {
+
+    /**
+     * Unique, increasing identifier of the movement.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "movement_id")
+    private Long movementId;
+
+    /**
+     * Book whose stock changed.
+     */
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    /**
+     * Inventory record that was changed.
+     */
+    @Column(name = "inventory_id")
+    private Long inventoryId;
+
+    /**
+     * Kind of mutation that produced the movement.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20)
+    private ChangeType movementType;
+
+    /**
+     * Signed quantity change.
+     */
+    @Column(name = "quantity_delta", nullable = false)
+    private Integer quantityDelta;
+
+    /**
+     * Quantity of the book right after the change.
+     */
+    @Column(name = "quantity_after", nullable = false)
+    private Integer quantityAfter;
+
+    /**
+     * Timestamp of the change.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Snapshot that folded this movement, null while it is not folded yet.
+     * Movement IDs are assigned at insert but committed in any order, so
+     * folding is tracked per movement rather than by an ID high-water mark.
+     */
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+}
@@ -0,0 +1,56 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA Entity representing one slot of a sharded stock counter.
+ *
+ * For books in sharded-stock mode the quantity is spread across several
+ * slot rows so that concurrent orders update different rows instead of
+ * queueing on the single {@link Inventory} row. The authoritative quantity
+ * of such a book is the sum of its slots.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "inventory_slots",
+       uniqueConstraints = @UniqueConstraint(name = "uk_slot_book_index", columnNames = {"book_id", "slot_index"}),
+       indexes = @Index(name = "idx_slot_book_id", columnList = "book_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventorySlot {
+
+    /**
+     * Unique identifier for the slot record.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "slot_id")
+    private Long slotId;
+
+    /**
+     * Book whose stock this slot holds a share of.
+     */
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    /**
+     * Position of the slot within the book, from 0 to slot count - 1.
+     */
+    @Column(name = "slot_index", nullable = false)
+    private Integer slotIndex;
+
+    /**
+     * Units held by this slot. Must be non-negative.
+     */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+}
@@ -0,0 +1,64 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing a compacted snapshot of a book's quantity in the
+ * inventory movement ledger.
+ *
+ * A snapshot folds the previous snapshot and every {@link InventoryMovement}
+ * of the book not folded before into a single quantity, and marks those
+ * movements with its ID. Only the latest snapshot per book is kept.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "inventory_snapshots",
+       indexes = @Index(name = "idx_snapshot_book_id", columnList = "book_id, snapshot_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventorySnapshot {
+
+    /**
+     * Unique identifier for the snapshot.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    /**
+     * Book the snapshot belongs to.
+     */
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    /**
+     * Quantity of the book including every movement folded so far.
+     */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    /**
+     * Highest movement ID folded so far, 0 for an opening balance. Movements
+     * commit out of ID order, so lower IDs may still be folded later.
+     */
+    @Column(name = "last_movement_id", nullable = false)
+    private Long lastMovementId;
+
+    /**
+     * Timestamp when the snapshot was taken.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,88 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing the restock suggestion for one book in a planning run.
+ *
+ * Each run inserts a full set of rows under a new {@code runId}, one
+ * transaction per chunk, then switches {@link RestockPlanLatestRun} to it and
+ * deletes the previous runs, so readers always see one complete plan. Rows
+ * are written with JDBC batches by the planning service.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "restock_plans",
+       indexes = @Index(name = "idx_restock_plan_run_book", columnList = "run_id, book_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RestockPlan {
+
+    /**
+     * Unique identifier for the plan row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "plan_id")
+    private Long planId;
+
+    /**
+     * Planning run that produced the row.
+     */
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    /**
+     * Book the suggestion is for.
+     */
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    /**
+     * Quantity on hand when the run read the book.
+     */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    /**
+     * Low-stock threshold, used as safety stock.
+     */
+    @Column(name = "low_stock_threshold", nullable = false)
+    private Integer lowStockThreshold;
+
+    /**
+     * Average units reduced per day over the velocity window.
+     */
+    @Column(name = "daily_velocity", nullable = false)
+    private Double dailyVelocity;
+
+    /**
+     * Days the quantity on hand lasts at the current velocity; null when
+     * the book had no demand in the window.
+     */
+    @Column(name = "days_of_cover")
+    private Double daysOfCover;
+
+    /**
+     * Units to reorder, 0 when stock covers lead time, review period and safety stock.
+     */
+    @Column(name = "suggested_quantity", nullable = false)
+    private Integer suggestedQuantity;
+
+    /**
+     * Timestamp of the planning run.
+     */
+    @Column(name = "planned_at", nullable = false)
+    private LocalDateTime plannedAt;
+}
@@ -0,0 +1,49 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity pointing at the restock planning run that readers are served.
+ *
+ * The table has a single row. A planning run writes its {@link RestockPlan}
+ * rows in chunk transactions under a new run ID, and only moves this
+ * pointer once every chunk is written, so readers keep using the previous
+ * complete run until then.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "restock_plan_latest_run")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RestockPlanLatestRun {
+
+    /**
+     * Fixed key of the single row.
+     */
+    @Id
+    @Column(name = "run_key")
+    private Integer runKey;
+
+    /**
+     * Run whose rows are served.
+     */
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    /**
+     * Timestamp when the run was switched in.
+     */
+    @Column(name = "switched_at", nullable = false)
+    private LocalDateTime switchedAt;
+}
@@ -0,0 +1,74 @@
+package com.book.management.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity recording what an order saga did to the stock of one book.
+ *
+ * Stock reduced for a saga is recorded under the saga's ID in the same
+ * transaction as the reduction, and its compensation moves the record to
+ * RELEASED in the same transaction as the restock. The unique key on saga
+ * and book makes both at most once per saga, however often the order
+ * service retries them.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "inventory_saga_stock",
+       uniqueConstraints = @UniqueConstraint(name = "uk_saga_stock_saga_book", columnNames = {"saga_id", "book_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SagaStockRecord {
+
+    /**
+     * What has happened to a saga's stock of one book.
+     */
+    public enum State {
+        /** Stock was reduced for the saga and not yet restocked. */
+        RESERVED,
+        /** Stock was restocked for the saga. */
+        RELEASED,
+        /** The saga was compensated before any reduction; a late reduction is refused. */
+        VOIDED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "record_id")
+    private Long recordId;
+
+    /**
+     * Order saga that reduced or restocked the book.
+     */
+    @Column(name = "saga_id", nullable = false)
+    private Long sagaId;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private State state;
+
+    /**
+     * Units reduced, or restocked when no reduction was recorded.
+     */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
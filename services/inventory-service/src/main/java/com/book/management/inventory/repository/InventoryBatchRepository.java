@@ -0,0 +1,37 @@
+package com.book.management.inventory.repository;
+
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Repository fragment for set-based inventory access issued over plain JDBC.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public interface InventoryBatchRepository {
+
+    /**
+     * Adds quantities to many inventory rows using one JDBC batch.
+     * Bypasses the persistence context, so the version and audit timestamp
+     * are maintained explicitly.
+     *
+     * @param bookQuantities map of book ID to quantity to add
+     * @param now            the modification timestamp
+     * @return number of rows updated per book, in the map's iteration order
+     */
+    int[] batchAddQuantities(Map<Long, Integer> bookQuantities, LocalDateTime now);
+
+    /**
+     * Reads the stored quantity of many books into a primitive map, one
+     * {@code IN} query per chunk, without materialising entities.
+     *
+     * @param bookIds   the book IDs
+     * @param chunkSize maximum number of IDs bound per query
+     * @return map of book ID to stored quantity, for the books that exist
+     */
+    LongIntHashMap loadQuantities(long[] bookIds, int chunkSize);
+}
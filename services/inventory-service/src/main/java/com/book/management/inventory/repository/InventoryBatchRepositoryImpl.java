@@ -0,0 +1,72 @@
+package com.book.management.inventory.repository;
+
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link InventoryBatchRepository}.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@RequiredArgsConstructor
+public class InventoryBatchRepositoryImpl implements InventoryBatchRepository {
+
+    private static final String ADD_QUANTITY_SQL =
+            "UPDATE inventory SET quantity = quantity + ?, updated_at = ?, version = version + 1 WHERE book_id = ?";
+
+    private static final String LOAD_QUANTITIES_SQL = "SELECT book_id, quantity FROM inventory WHERE book_id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] batchAddQuantities(Map<Long, Integer> bookQuantities, LocalDateTime now) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(bookQuantities.entrySet());
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.batchUpdate(ADD_QUANTITY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getValue());
+                ps.setTimestamp(2, timestamp);
+                ps.setLong(3, entry.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    @Override
+    public LongIntHashMap loadQuantities(long[] bookIds, int chunkSize) {
+        LongIntHashMap quantities = new LongIntHashMap(bookIds.length);
+        int size = Math.max(1, chunkSize);
+        for (int from = 0; from < bookIds.length; from += size) {
+            int start = from;
+            int count = Math.min(size, bookIds.length - from);
+            String sql = LOAD_QUANTITIES_SQL + String.join(",", Collections.nCopies(count, "?")) + ")";
+            jdbcTemplate.query(sql, ps -> {
+                for (int i = 0; i < count; i++) {
+                    ps.setLong(i + 1, bookIds[start + i]);
+                }
+            }, rs -> {
+                quantities.put(rs.getLong(1), rs.getInt(2));
+            });
+        }
+        return quantities;
+    }
+}
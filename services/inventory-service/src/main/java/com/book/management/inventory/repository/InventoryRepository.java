@@ -1,26 +1,40 @@
 package com.book.management.inventory.repository;
 
 import com.book.management.inventory.model.Inventory;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository interface for Inventory entity.
  * 
  * Provides CRUD operations and custom queries for inventory management.
- * Extends JpaRepository for standard database operations.
+ * Extends JpaRepository for standard database operations and
+ * {@link InventoryBatchRepository} for JDBC-batched bulk writes.
  * 
  * @author Aditya Srivastava
  * @version 2.0
  * @since 2024-12-29
  */
 @Repository
-public interface InventoryRepository extends JpaRepository<Inventory, Long> {
+public interface InventoryRepository extends JpaRepository<Inventory, Long>, InventoryBatchRepository {
+
+    /** Rows fetched per round trip when streaming the inventory table. */
+    String STREAM_FETCH_SIZE = "500";
 
     /**
      * Finds inventory by book ID.
@@ -65,6 +79,53 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     @Query("SELECT i FROM Inventory i WHERE i.quantity > 0")
     List<Inventory> findInStockItems();
 
+    /**
+     * Finds the page of inventory records following a cursor (keyset
+     * pagination). Seeks on the primary key, so every page costs the same
+     * regardless of its position. Null bounds are not applied.
+     *
+     * @param afterId     exclusive inventory ID cursor, 0 for the first page
+     * @param minQuantity inclusive lower quantity bound, or null
+     * @param maxQuantity inclusive upper quantity bound, or null
+     * @param pageable    page size; the page number must be 0
+     * @return inventories ordered by inventory ID
+     */
+    @Query("SELECT i FROM Inventory i WHERE i.inventoryId > :afterId " +
+           "AND (:minQuantity IS NULL OR i.quantity >= :minQuantity) " +
+           "AND (:maxQuantity IS NULL OR i.quantity <= :maxQuantity) ORDER BY i.inventoryId")
+    List<Inventory> findPageAfter(@Param("afterId") Long afterId,
+                                  @Param("minQuantity") Integer minQuantity,
+                                  @Param("maxQuantity") Integer maxQuantity,
+                                  Pageable pageable);
+
+    /**
+     * Streams inventory records in inventory ID order, fetching
+     * {@value #STREAM_FETCH_SIZE} rows per round trip. Must be consumed and
+     * closed inside a transaction. Null bounds are not applied.
+     *
+     * @param minQuantity inclusive lower quantity bound, or null
+     * @param maxQuantity inclusive upper quantity bound, or null
+     * @return stream of read-only inventories
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Inventory i WHERE (:minQuantity IS NULL OR i.quantity >= :minQuantity) " +
+           "AND (:maxQuantity IS NULL OR i.quantity <= :maxQuantity) ORDER BY i.inventoryId")
+    Stream<Inventory> streamAll(@Param("minQuantity") Integer minQuantity,
+                                @Param("maxQuantity") Integer maxQuantity);
+
+    /**
+     * Streams the book IDs of in-stock inventory records in ascending order.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @return stream of in-stock book IDs
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT i.bookId FROM Inventory i WHERE i.quantity > 0 ORDER BY i.bookId")
+    Stream<Long> streamInStockBookIds();
+
     /**
      * Finds inventory items by quantity range.
      * 
@@ -100,6 +161,35 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     @Query("SELECT COUNT(i) FROM Inventory i WHERE i.quantity = 0")
     long countOutOfStockItems();
 
+    /**
+     * Counts SKUs and units per stock band in one statement. Sharded books
+     * are classified by their slot total, since their row quantity is only
+     * synced by the rebalance. Bands are named after
+     * {@link com.book.management.inventory.event.StockLevel}.
+     *
+     * @return SKU and unit totals of each non-empty band
+     */
+    @Query(value = "SELECT CASE WHEN b.quantity = 0 THEN 'OUT_OF_STOCK' "
+            + "WHEN b.quantity <= b.low_stock_threshold THEN 'LOW_STOCK' ELSE 'IN_STOCK' END AS band, "
+            + "COUNT(*) AS skus, COALESCE(SUM(b.quantity), 0) AS units "
+            + "FROM (SELECT CASE WHEN i.sharded = true "
+            + "THEN (SELECT COALESCE(SUM(s.quantity), 0) FROM inventory_slots s WHERE s.book_id = i.book_id) "
+            + "ELSE i.quantity END AS quantity, i.low_stock_threshold FROM inventory i) b "
+            + "GROUP BY band", nativeQuery = true)
+    List<StockBandTotals> summariseStockBands();
+
+    /**
+     * SKU and unit totals of one stock band, as returned by {@link #summariseStockBands()}.
+     */
+    interface StockBandTotals {
+
+        String getBand();
+
+        long getSkus();
+
+        long getUnits();
+    }
+
     /**
      * Finds inventory by book IDs (bulk operation).
      * 
@@ -108,4 +198,45 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      */
     @Query("SELECT i FROM Inventory i WHERE i.bookId IN :bookIds")
     List<Inventory> findByBookIdIn(@Param("bookIds") List<Long> bookIds);
+
+    /**
+     * Finds and write-locks inventory by book IDs ({@code SELECT ... FOR UPDATE}).
+     * Rows are returned, and therefore locked, in ascending book ID order.
+     *
+     * @param bookIds book IDs to lock
+     * @return List of locked inventories ordered by book ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i WHERE i.bookId IN :bookIds ORDER BY i.bookId")
+    List<Inventory> findByBookIdInForUpdate(@Param("bookIds") Collection<Long> bookIds);
+
+    /**
+     * Atomically applies a quantity change if the result stays non-negative
+     * and the book is not in sharded-stock mode.
+     * Bypasses the persistence context, so the version and audit timestamp
+     * are maintained explicitly.
+     *
+     * @param bookId the book ID
+     * @param delta  the signed quantity change
+     * @param now    the modification timestamp
+     * @return number of rows updated (0 if missing, sharded or insufficient stock)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity + :delta, i.updatedAt = :now, " +
+           "i.version = i.version + 1 WHERE i.bookId = :bookId AND i.sharded = false AND i.quantity + :delta >= 0")
+    int applyQuantityDelta(@Param("bookId") Long bookId,
+                           @Param("delta") int delta,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Flags every book that has stock slots as sharded. Backfills rows
+     * sharded before the flag was persisted.
+     *
+     * @return number of rows flagged
+     */
+    @Modifying
+    @Query(value = "UPDATE inventory SET sharded = true, version = version + 1 " +
+                   "WHERE sharded = false AND book_id IN (SELECT book_id FROM inventory_slots)",
+           nativeQuery = true)
+    int markShardedFromSlots();
 }
@@ -0,0 +1,102 @@
+package com.book.management.inventory.repository;
+
+import com.book.management.inventory.model.InventorySlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Repository interface for sharded stock slots.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface InventorySlotRepository extends JpaRepository<InventorySlot, Long> {
+
+    /**
+     * Read-only view of a slot's stock, not attached to the persistence context.
+     */
+    interface SlotQuantity {
+        Integer getSlotIndex();
+
+        Integer getQuantity();
+    }
+
+    /**
+     * Reads the current stock of every slot of a book without locking.
+     *
+     * @param bookId the book ID
+     * @return slot quantities ordered by slot index
+     */
+    List<SlotQuantity> findQuantitiesByBookIdOrderBySlotIndexAsc(Long bookId);
+
+    /**
+     * Finds and write-locks all slots of a book in slot index order.
+     *
+     * @param bookId the book ID
+     * @return locked slots ordered by slot index
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InventorySlot s WHERE s.bookId = :bookId ORDER BY s.slotIndex")
+    List<InventorySlot> findByBookIdForUpdate(@Param("bookId") Long bookId);
+
+    /**
+     * Atomically applies a quantity change to one slot if it stays non-negative.
+     *
+     * @param bookId    the book ID
+     * @param slotIndex the slot index
+     * @param delta     the signed quantity change
+     * @return number of rows updated (0 if the slot lacks stock)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InventorySlot s SET s.quantity = s.quantity + :delta " +
+           "WHERE s.bookId = :bookId AND s.slotIndex = :slotIndex AND s.quantity + :delta >= 0")
+    int applySlotDelta(@Param("bookId") Long bookId,
+                       @Param("slotIndex") int slotIndex,
+                       @Param("delta") int delta);
+
+    /**
+     * Sums the stock of all slots of a book.
+     *
+     * @param bookId the book ID
+     * @return total units across slots
+     */
+    @Query("SELECT COALESCE(SUM(s.quantity), 0) FROM InventorySlot s WHERE s.bookId = :bookId")
+    long sumQuantityByBookId(@Param("bookId") Long bookId);
+
+    /**
+     * Lists the books that have stock slots.
+     *
+     * @return sharded book IDs
+     */
+    @Query("SELECT DISTINCT s.bookId FROM InventorySlot s")
+    List<Long> findShardedBookIds();
+
+    /**
+     * Lists the books among the given ones that have stock slots.
+     *
+     * @param bookIds the book IDs to check
+     * @return sharded book IDs
+     */
+    @Query("SELECT DISTINCT s.bookId FROM InventorySlot s WHERE s.bookId IN :bookIds")
+    List<Long> findShardedBookIdsIn(@Param("bookIds") Collection<Long> bookIds);
+
+    /**
+     * Removes all slots of a book.
+     *
+     * @param bookId the book ID
+     * @return number of slots deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM InventorySlot s WHERE s.bookId = :bookId")
+    int deleteAllByBookId(@Param("bookId") Long bookId);
+}
@@ -0,0 +1,45 @@
+package com.book.management.inventory.repository;
+
+import com.book.management.inventory.model.SagaStockRecord;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Repository interface for per-saga stock records.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface SagaStockRecordRepository extends JpaRepository<SagaStockRecord, Long> {
+
+    /**
+     * Lists which of the given sagas already have a stock record.
+     *
+     * @param sagaIds the saga IDs
+     * @return saga IDs with at least one record
+     */
+    @Query("SELECT DISTINCT r.sagaId FROM SagaStockRecord r WHERE r.sagaId IN :sagaIds")
+    List<Long> findRecordedSagaIds(@Param("sagaIds") Collection<Long> sagaIds);
+
+    /**
+     * Finds and write-locks the records of the given sagas for the given books.
+     *
+     * @param sagaIds the saga IDs
+     * @param bookIds the book IDs
+     * @return locked records ordered by saga and book ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SagaStockRecord r WHERE r.sagaId IN :sagaIds AND r.bookId IN :bookIds "
+            + "ORDER BY r.sagaId, r.bookId")
+    List<SagaStockRecord> findForUpdate(@Param("sagaIds") Collection<Long> sagaIds,
+                                        @Param("bookIds") Collection<Long> bookIds);
+}
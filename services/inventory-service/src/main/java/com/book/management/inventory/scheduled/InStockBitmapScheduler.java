@@ -0,0 +1,48 @@
+package com.book.management.inventory.scheduled;
+
+import com.book.management.inventory.service.bitmap.InStockBitmapService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled polling of the shared in-stock change log and reconciliation of
+ * the in-stock bitmap against the database.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InStockBitmapScheduler {
+
+    private final InStockBitmapService inStockBitmapService;
+
+    /**
+     * Applies new in-stock changes to the bitmap.
+     */
+    @Scheduled(fixedDelayString = "${inventory.in-stock-bitmap.poll-interval-millis:500}")
+    public void pollInStockChanges() {
+        try {
+            inStockBitmapService.poll();
+        } catch (Exception e) {
+            log.error("Error polling in-stock changes: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reconciles the in-stock bitmap.
+     */
+    @Scheduled(fixedDelayString = "${inventory.in-stock-bitmap.reconcile-interval-millis:600000}",
+               initialDelayString = "${inventory.in-stock-bitmap.reconcile-interval-millis:600000}")
+    public void reconcileInStockBitmap() {
+        try {
+            inStockBitmapService.reconcile();
+        } catch (Exception e) {
+            log.error("Error during in-stock bitmap reconciliation: {}", e.getMessage(), e);
+        }
+    }
+}
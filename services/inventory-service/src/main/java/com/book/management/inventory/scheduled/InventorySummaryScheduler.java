@@ -0,0 +1,35 @@
+package com.book.management.inventory.scheduled;
+
+import com.book.management.inventory.service.summary.InventorySummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled re-baseline of the in-memory inventory summary counters.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventorySummaryScheduler {
+
+    private final InventorySummaryService summaryService;
+
+    /**
+     * Re-baselines the summary counters from the inventory table.
+     */
+    @Scheduled(fixedDelayString = "${inventory.summary.rebaseline-interval-millis:300000}",
+               initialDelayString = "${inventory.summary.rebaseline-interval-millis:300000}")
+    public void rebaselineSummary() {
+        try {
+            summaryService.rebaseline();
+        } catch (Exception e) {
+            log.error("Error during inventory summary re-baseline: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.book.management.inventory.scheduled;
+
+import com.book.management.inventory.service.ledger.InventoryLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled compaction of the inventory movement ledger into snapshots.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.ledger.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerSnapshotScheduler {
+
+    private final InventoryLedgerService ledgerService;
+
+    /**
+     * Takes a compacted ledger snapshot.
+     */
+    @Scheduled(fixedDelayString = "${inventory.ledger.snapshot-interval-millis:3600000}",
+               initialDelayString = "${inventory.ledger.snapshot-interval-millis:3600000}")
+    public void snapshotLedger() {
+        try {
+            ledgerService.takeSnapshot();
+        } catch (Exception e) {
+            log.error("Error during ledger snapshot: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.book.management.inventory.scheduled;
+
+import com.book.management.inventory.service.planning.RestockPlanningService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled demand flushes and restock planning runs.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.restock-planning.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RestockPlanningScheduler {
+
+    private final RestockPlanningService planningService;
+
+    /**
+     * Writes the demand counted in memory since the previous flush.
+     */
+    @Scheduled(fixedDelayString = "${inventory.restock-planning.demand-flush-interval-millis:10000}")
+    public void flushDemand() {
+        try {
+            planningService.flushDemand();
+        } catch (Exception e) {
+            log.error("Error during demand flush: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Flushes pending demand and recomputes the restock plan.
+     */
+    @Scheduled(fixedDelayString = "${inventory.restock-planning.plan-interval-millis:3600000}",
+               initialDelayString = "${inventory.restock-planning.plan-interval-millis:3600000}")
+    public void planRestock() {
+        try {
+            planningService.flushDemand();
+            planningService.plan();
+        } catch (Exception e) {
+            log.error("Error during restock planning: {}", e.getMessage(), e);
+        }
+    }
+}
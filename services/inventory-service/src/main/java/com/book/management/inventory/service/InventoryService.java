@@ -2,12 +2,16 @@ package com.book.management.inventory.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.book.management.inventory.dto.*;
 import com.book.management.inventory.exception.InsufficientStockException;
 import com.book.management.inventory.exception.InvalidInventoryOperationException;
 import com.book.management.inventory.exception.InventoryAlreadyExistsException;
 import com.book.management.inventory.exception.InventoryNotFoundException;
+import com.book.management.inventory.service.bulk.BulkAvailability;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
 
 /**
  * Service interface defining business logic operations for Inventory
@@ -55,6 +59,27 @@ public interface InventoryService {
      */
     List<InventoryResponseDTO> getAllInventory();
 
+    /**
+     * Retrieves one page of inventory records after a cursor, ordered by
+     * inventory ID.
+     *
+     * @param filter  stock filter to apply
+     * @param afterId exclusive inventory ID cursor, or null for the first page
+     * @param size    page size, or null for the configured default
+     * @return the page and the cursor of the next one
+     * @throws InvalidInventoryOperationException if the page size is out of range
+     */
+    InventoryPageDTO getInventoryPage(InventoryStockFilter filter, Long afterId, Integer size);
+
+    /**
+     * Streams every matching inventory record to a consumer in inventory ID
+     * order, holding only one fetch-size window of rows in memory.
+     *
+     * @param filter   stock filter to apply
+     * @param consumer receives each inventory record
+     */
+    void streamInventory(InventoryStockFilter filter, Consumer<InventoryResponseDTO> consumer);
+
     /**
      * Updates the quantity of an inventory record.
      *
@@ -154,13 +179,71 @@ public interface InventoryService {
      */
     void deleteInventoryByBookId(Long bookId);
 
+    /**
+     * Switches a book to sharded-stock mode, splitting its quantity across
+     * several slot rows so concurrent reductions do not contend on one row.
+     *
+     * @param bookId the book ID
+     * @param slots  number of slots, or null for the configured default
+     * @return the inventory response DTO
+     * @throws InventoryNotFoundException         if inventory not found
+     * @throws InvalidInventoryOperationException if sharding is disabled or
+     *                                            the slot count is out of range
+     */
+    InventoryResponseDTO enableShardedStock(Long bookId, Integer slots);
+
+    /**
+     * Collapses a sharded book back into its single inventory row.
+     *
+     * @param bookId the book ID
+     * @return the inventory response DTO
+     * @throws InventoryNotFoundException if inventory not found
+     */
+    InventoryResponseDTO disableShardedStock(Long bookId);
+
     /**
      * Checks stock availability for multiple books.
      *
      * @param bookQuantities map of bookId to required quantity
-     * @return map of bookId to availability status
+     * @return availability of every requested book
+     */
+    BulkAvailability checkBulkAvailability(LongIntHashMap bookQuantities);
+
+    /**
+     * Retrieves the inventory of many books, querying in chunks.
+     *
+     * @param bookIds the book IDs to look up
+     * @return map of book ID to inventory, in request order; unknown books are omitted
+     * @throws InvalidInventoryOperationException if the request is too large
+     */
+    Map<Long, InventoryResponseDTO> getBulkInventory(List<Long> bookIds);
+
+    /**
+     * Restocks many books. Books are processed in ascending ID order in
+     * chunks, each chunk in its own transaction, so a failing chunk does not
+     * undo the ones already committed.
+     *
+     * @param bookQuantities map of bookId to quantity to add
+     * @return map of book ID to its restock outcome
+     * @throws InvalidInventoryOperationException if the request is too large
      */
-    Map<Long, Boolean> checkBulkAvailability(Map<Long, Integer> bookQuantities);
+    Map<Long, BulkRestockResultDTO> restockBulkInventory(Map<Long, Integer> bookQuantities);
+
+    /**
+     * Restocks the stock of compensated order sagas, at most once per saga
+     * and book, in the same chunks as {@link #restockBulkInventory(Map)}.
+     * A keyed saga restocks only the reduction recorded under its ID, and
+     * is voided when none was recorded so that a late reduction is refused.
+     *
+     * @param bookQuantities map of bookId to quantity, the per-book sum of {@code sagaQuantities}
+     * @param sagaQuantities saga ID to the quantities to restock for it
+     * @param keyedSagaIds   sagas whose stock was reduced under their saga ID
+     * @return map of book ID to its restock outcome
+     * @throws InvalidInventoryOperationException if the request is too large or the quantities do not add up
+     */
+    Map<Long, BulkRestockResultDTO> restockBulkInventory(Map<Long, Integer> bookQuantities,
+                                                         Map<Long, Map<Long, Integer>> sagaQuantities,
+                                                         Set<Long> keyedSagaIds);
 
     /**
      * Reduces inventory for multiple books (bulk deduction).
@@ -169,6 +252,20 @@ public interface InventoryService {
      *
      * @param bookQuantities map of bookId to quantity to deduct
      * @throws InsufficientStockException if any book has insufficient stock
+     * @throws InvalidInventoryOperationException if a book ID or quantity is not positive
+     */
+    void reduceBulkInventory(LongIntHashMap bookQuantities);
+
+    /**
+     * Reduces inventory for order sagas, at most once per saga. Sagas that
+     * were already reduced, or voided by a compensation that arrived first,
+     * are skipped; the others are reduced all-or-nothing together with a
+     * record of each saga's reduction.
+     *
+     * @param bookQuantities map of bookId to quantity, the per-book sum of {@code sagaQuantities}
+     * @param sagaQuantities saga ID to the quantities to deduct for it
+     * @throws InsufficientStockException if any book has insufficient stock
+     * @throws InvalidInventoryOperationException if a quantity is not positive or the quantities do not add up
      */
-    void reduceBulkInventory(Map<Long, Integer> bookQuantities);
+    void reduceBulkInventory(LongIntHashMap bookQuantities, Map<Long, Map<Long, Integer>> sagaQuantities);
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.book.management.inventory.service.alert;
+
+import com.book.management.inventory.config.LowStockAlertProperties;
+import com.book.management.inventory.dto.LowStockAlertDTO;
+import com.book.management.inventory.dto.StockLevelChangeDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.StockLevel;
+import com.book.management.inventory.exception.InvalidInventoryOperationException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tracks low-stock and out-of-stock records from inventory change events.
+ *
+ * The set of active alerts is loaded once at startup and then maintained from
+ * {@link InventoryChangeEvent}s, so dashboards no longer need to poll the
+ * full-scan low-stock queries. Threshold crossings are pushed to
+ * Server-Sent Events subscribers from a dedicated thread, keeping slow
+ * clients off the request path. Alerts are tracked per service instance.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+public class LowStockAlertService {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String STOCK_LEVEL_EVENT = "stock-level";
+
+    private final InventoryRepository inventoryRepository;
+    private final LowStockAlertProperties properties;
+
+    /** Book ID to its current alert. */
+    private final Map<Long, LowStockAlertDTO> activeAlerts = new ConcurrentHashMap<>();
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "low-stock-alerts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LowStockAlertService(InventoryRepository inventoryRepository, LowStockAlertProperties properties) {
+        this.inventoryRepository = inventoryRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Seeds the alert set with a single low-stock scan at startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveAlerts() {
+        if (!properties.isAlertEnabled()) {
+            return;
+        }
+        for (Inventory inventory : inventoryRepository.findLowStockItems()) {
+            activeAlerts.put(inventory.getBookId(), toAlert(inventory.getInventoryId(), inventory.getBookId(),
+                    inventory.getQuantity(), inventory.getLowStockThreshold()));
+        }
+        log.info("Loaded {} active low-stock alerts", activeAlerts.size());
+    }
+
+    /**
+     * Updates the alert set from a committed inventory change and pushes
+     * threshold crossings to subscribers.
+     *
+     * @param event the inventory change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChange(InventoryChangeEvent event) {
+        if (!properties.isAlertEnabled()) {
+            return;
+        }
+
+        StockLevel level = event.level();
+        if (level == null || level == StockLevel.IN_STOCK) {
+            activeAlerts.remove(event.bookId());
+        } else {
+            activeAlerts.put(event.bookId(), toAlert(event.inventoryId(), event.bookId(),
+                    event.quantity(), event.lowStockThreshold()));
+        }
+
+        if (isAlertTransition(event)) {
+            StockLevelChangeDTO change = StockLevelChangeDTO.builder()
+                    .inventoryId(event.inventoryId())
+                    .bookId(event.bookId())
+                    .changeType(event.changeType())
+                    .previousLevel(event.previousLevel())
+                    .level(level)
+                    .quantity(event.quantity())
+                    .lowStockThreshold(event.lowStockThreshold())
+                    .occurredAt(event.occurredAt())
+                    .build();
+            log.debug("Book ID: {} moved from {} to {}", event.bookId(), event.previousLevel(), level);
+            dispatcher.execute(() -> broadcast(STOCK_LEVEL_EVENT, change));
+        }
+    }
+
+    /**
+     * Returns the current low-stock and out-of-stock alerts, most urgent first.
+     *
+     * @return list of active alerts
+     */
+    public List<LowStockAlertDTO> getActiveAlerts() {
+        return activeAlerts.values().stream()
+                .sorted(Comparator.comparing(LowStockAlertDTO::getCurrentQuantity)
+                        .thenComparing(LowStockAlertDTO::getBookId))
+                .toList();
+    }
+
+    /**
+     * Opens a Server-Sent Events subscription. The first event is a snapshot
+     * of the active alerts, followed by one event per threshold crossing.
+     *
+     * @return the emitter backing the subscription
+     * @throws InvalidInventoryOperationException if alerts are disabled
+     */
+    public SseEmitter subscribe() {
+        if (!properties.isAlertEnabled()) {
+            throw new InvalidInventoryOperationException("Low-stock alerts are disabled");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeoutMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(ex -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        send(emitter, SNAPSHOT_EVENT, getActiveAlerts());
+        return emitter;
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return subscriber count
+     */
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdown();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    private static boolean isAlertTransition(InventoryChangeEvent event) {
+        StockLevel previous = event.previousLevel();
+        StockLevel current = event.level();
+        if (previous == current) {
+            return false;
+        }
+        // Records appearing or disappearing while comfortably in stock are not alerts
+        boolean previousAlerting = previous != null && previous != StockLevel.IN_STOCK;
+        boolean currentAlerting = current != null && current != StockLevel.IN_STOCK;
+        return previousAlerting || currentAlerting;
+    }
+
+    private void broadcast(String name, Object data) {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, name, data);
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Dropping low-stock alert subscriber: {}", ex.getMessage());
+            emitters.remove(emitter);
+        }
+    }
+
+    private static LowStockAlertDTO toAlert(Long inventoryId, Long bookId, int quantity, int lowStockThreshold) {
+        return LowStockAlertDTO.builder()
+                .inventoryId(inventoryId)
+                .bookId(bookId)
+                .currentQuantity(quantity)
+                .lowStockThreshold(lowStockThreshold)
+                .quantityNeeded(lowStockThreshold - quantity)
+                .alertLevel(quantity == 0 ? "CRITICAL" : "WARNING")
+                .build();
+    }
+}
@@ -0,0 +1,318 @@
+package com.book.management.inventory.service.bitmap;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Compressed set of book IDs in the style of a Roaring bitmap.
+ *
+ * IDs are grouped by their upper 48 bits into containers of 65,536 values.
+ * Sparse containers hold a sorted array of the lower 16 bits; containers
+ * with more than {@value #ARRAY_MAX} entries switch to a fixed 8 KB bitmap,
+ * so memory stays close to two bytes per ID for sparse ranges and one bit
+ * per ID for dense ones. Not thread-safe.
+ *
+ * <p>Binary layout, all values big-endian: {@code int} container count, then
+ * per container {@code long} key (ID &gt;&gt;&gt; 16), {@code byte} type
+ * (0 = array, 1 = bitmap), {@code int} cardinality, followed by the
+ * cardinality's worth of {@code unsigned short} values for an array
+ * container or 1024 {@code long} words for a bitmap container.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class BookIdBitmap {
+
+    static final int ARRAY_MAX = 4096;
+    static final byte ARRAY_CONTAINER = 0;
+    static final byte BITMAP_CONTAINER = 1;
+
+    private final TreeMap<Long, Container> containers = new TreeMap<>();
+    private long cardinality;
+
+    /**
+     * Adds a book ID.
+     *
+     * @param bookId the book ID
+     * @return true if the ID was not present before
+     */
+    public boolean add(long bookId) {
+        long key = bookId >>> 16;
+        Container container = containers.get(key);
+        if (container == null) {
+            container = new ArrayContainer();
+        }
+        int before = container.cardinality();
+        Container updated = container.add((char) bookId);
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        containers.put(key, updated);
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Removes a book ID.
+     *
+     * @param bookId the book ID
+     * @return true if the ID was present before
+     */
+    public boolean remove(long bookId) {
+        long key = bookId >>> 16;
+        Container container = containers.get(key);
+        if (container == null) {
+            return false;
+        }
+        int before = container.cardinality();
+        Container updated = container.remove((char) bookId);
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        if (updated.cardinality() == 0) {
+            containers.remove(key);
+        } else {
+            containers.put(key, updated);
+        }
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * @param bookId the book ID
+     * @return true if the ID is present
+     */
+    public boolean contains(long bookId) {
+        Container container = containers.get(bookId >>> 16);
+        return container != null && container.contains((char) bookId);
+    }
+
+    /**
+     * @return number of IDs in the set
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Passes every ID to the consumer in ascending order.
+     *
+     * @param consumer receives each ID
+     */
+    public void forEach(LongConsumer consumer) {
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            entry.getValue().forEach(entry.getKey() << 16, consumer);
+        }
+    }
+
+    /**
+     * Writes the bitmap in the binary layout described above.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    public void serialize(DataOutput out) throws IOException {
+        out.writeInt(containers.size());
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container container = entry.getValue();
+            out.writeLong(entry.getKey());
+            out.writeByte(container instanceof BitmapContainer ? BITMAP_CONTAINER : ARRAY_CONTAINER);
+            out.writeInt(container.cardinality());
+            container.write(out);
+        }
+    }
+
+    /**
+     * Reads a bitmap written by {@link #serialize(DataOutput)}.
+     *
+     * @param in the source
+     * @return the bitmap
+     * @throws IOException if reading fails or the data is malformed
+     */
+    public static BookIdBitmap deserialize(DataInput in) throws IOException {
+        BookIdBitmap bitmap = new BookIdBitmap();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            long key = in.readLong();
+            byte type = in.readByte();
+            int containerCardinality = in.readInt();
+            Container container = switch (type) {
+                case ARRAY_CONTAINER -> ArrayContainer.read(in, containerCardinality);
+                case BITMAP_CONTAINER -> BitmapContainer.read(in, containerCardinality);
+                default -> throw new IOException("Unknown container type: " + type);
+            };
+            bitmap.containers.put(key, container);
+            bitmap.cardinality += containerCardinality;
+        }
+        return bitmap;
+    }
+
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        /** Returns the container holding the result, which may be a converted one. */
+        abstract Container add(char low);
+
+        /** Returns the container holding the result, which may be a converted one. */
+        abstract Container remove(char low);
+
+        abstract void forEach(long base, LongConsumer consumer);
+
+        abstract void write(DataOutput out) throws IOException;
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index < 0) {
+                return this;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return this;
+        }
+
+        @Override
+        void forEach(long base, LongConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+            for (int i = 0; i < size; i++) {
+                out.writeShort(values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+
+        static ArrayContainer read(DataInput in, int cardinality) throws IOException {
+            ArrayContainer container = new ArrayContainer();
+            container.values = new char[Math.max(4, cardinality)];
+            for (int i = 0; i < cardinality; i++) {
+                container.values[i] = in.readChar();
+            }
+            container.size = cardinality;
+            return container;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            if (!contains(low)) {
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            if (!contains(low)) {
+                return this;
+            }
+            words[low >>> 6] &= ~(1L << low);
+            cardinality--;
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        void forEach(long base, LongConsumer consumer) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(base | ((long) i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            forEach(0, low -> array.add((char) low));
+            return array;
+        }
+
+        static BitmapContainer read(DataInput in, int cardinality) throws IOException {
+            BitmapContainer container = new BitmapContainer();
+            for (int i = 0; i < container.words.length; i++) {
+                container.words[i] = in.readLong();
+            }
+            container.cardinality = cardinality;
+            return container;
+        }
+    }
+}
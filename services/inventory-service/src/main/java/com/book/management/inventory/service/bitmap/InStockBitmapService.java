@@ -0,0 +1,378 @@
+package com.book.management.inventory.service.bitmap;
+
+import com.book.management.inventory.config.InStockBitmapProperties;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.StockLevel;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Maintains a versioned {@link BookIdBitmap} of in-stock book IDs for other
+ * services.
+ *
+ * Every stock change that crosses zero appends a row to the shared
+ * {@code in_stock_changes} log in the same transaction. Each instance loads
+ * the bitmap at startup and then folds the log into it in change ID order,
+ * so the change ID is the bitmap version and all instances agree on what a
+ * version means. A consumer holding a copy at some version can catch up
+ * from any instance with a small delta instead of the full bitmap. A
+ * periodic reconciliation against the database appends corrections for any
+ * drift to the same log.
+ *
+ * <p>Changes are applied once they are older than the settle delay, and
+ * polling stops at the first younger one, so a transaction that commits a
+ * little after a later one is not overtaken. The epoch is stored in the
+ * database next to the log and shared by all instances.
+ *
+ * <p>Snapshot layout: {@code int} magic, {@code byte} format version,
+ * {@code long} epoch, {@code long} version, then the bitmap as written by
+ * {@link BookIdBitmap#serialize}. Delta layout: {@code int} magic,
+ * {@code byte} format version, {@code long} epoch, {@code long} from version,
+ * {@code long} to version, {@code int} count, then per book {@code long}
+ * book ID and {@code boolean} in stock.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+public class InStockBitmapService {
+
+    static final int SNAPSHOT_MAGIC = 0x42534E50;
+    static final int DELTA_MAGIC = 0x4244454C;
+    static final byte FORMAT_VERSION = 1;
+
+    private static final int EPOCH_KEY = 1;
+    private static final int POLL_BATCH_SIZE = 10_000;
+
+    private static final String INSERT_CHANGE_SQL =
+            "INSERT INTO in_stock_changes (book_id, in_stock, created_at) VALUES (?, ?, ?)";
+    private static final String CHANGES_AFTER_SQL =
+            "SELECT change_id, book_id, in_stock, created_at FROM in_stock_changes WHERE change_id > ? "
+            + "ORDER BY change_id LIMIT " + POLL_BATCH_SIZE;
+    private static final String BOOKS_CHANGED_AFTER_SQL =
+            "SELECT DISTINCT book_id FROM in_stock_changes WHERE change_id > ?";
+    private static final String TRIM_SQL = "DELETE FROM in_stock_changes WHERE change_id <= ?";
+    private static final String SELECT_EPOCH_SQL = "SELECT epoch FROM in_stock_bitmap_epoch WHERE epoch_key = ?";
+    private static final String INSERT_EPOCH_SQL = "INSERT INTO in_stock_bitmap_epoch (epoch_key, epoch) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryRepository inventoryRepository;
+    private final ShardedStockManager shardedStockManager;
+    private final InStockBitmapProperties properties;
+
+    private final BookIdBitmap bitmap = new BookIdBitmap();
+    private final Deque<Change> changes = new ArrayDeque<>();
+    private volatile long epoch;
+    private boolean loaded;
+    private long version;
+
+    /** Version just before the oldest change still held for deltas. */
+    private long changesFrom;
+
+    /** Encoded snapshot and the version it was encoded at. */
+    private byte[] encodedSnapshot;
+    private long encodedVersion = -1;
+
+    private record Change(long version, long bookId, boolean inStock) {
+    }
+
+    private record LoggedChange(Change change, LocalDateTime createdAt) {
+    }
+
+    public InStockBitmapService(JdbcTemplate jdbcTemplate,
+                                InventoryRepository inventoryRepository,
+                                ShardedStockManager shardedStockManager,
+                                InStockBitmapProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.inventoryRepository = inventoryRepository;
+        this.shardedStockManager = shardedStockManager;
+        this.properties = properties;
+    }
+
+    /**
+     * Appends a zero crossing to the change log, inside the transaction of
+     * the stock change so that a rolled-back change leaves no entry.
+     *
+     * @param event the inventory change event
+     */
+    @EventListener
+    public void onInventoryChange(InventoryChangeEvent event) {
+        if (isInStock(event.previousLevel()) != isInStock(event.level())) {
+            jdbcTemplate.update(INSERT_CHANGE_SQL, event.bookId(), isInStock(event.level()),
+                    Timestamp.valueOf(LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Folds settled changes from the log into the bitmap, in change ID order.
+     *
+     * @return number of changes applied
+     */
+    public int poll() {
+        long from;
+        synchronized (this) {
+            if (!loaded) {
+                return 0;
+            }
+            from = version;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(properties.getSettleMillis() * 1_000_000);
+        List<LoggedChange> logged = jdbcTemplate.query(CHANGES_AFTER_SQL, (rs, rowNum) -> new LoggedChange(
+                new Change(rs.getLong("change_id"), rs.getLong("book_id"), rs.getBoolean("in_stock")),
+                rs.getTimestamp("created_at").toLocalDateTime()), from);
+
+        int applied = 0;
+        synchronized (this) {
+            for (LoggedChange entry : logged) {
+                if (entry.createdAt().isAfter(cutoff)) {
+                    break;
+                }
+                if (apply(entry.change())) {
+                    applied++;
+                }
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Compares the bitmap with the database and appends the differences to
+     * the change log. Books with a change logged after the bitmap version
+     * the scan started from are skipped, since the scan may predate that
+     * change. The first run at startup loads the bitmap without logging.
+     *
+     * @return number of corrected books
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int reconcile() {
+        if (!isLoaded()) {
+            load();
+            return 0;
+        }
+
+        poll();
+        long scanFrom = getVersion();
+        BookIdBitmap actual = scanInStock();
+        Set<Long> changedSinceScan = new HashSet<>(
+                jdbcTemplate.queryForList(BOOKS_CHANGED_AFTER_SQL, Long.class, scanFrom));
+
+        List<Object[]> corrections = new ArrayList<>();
+        synchronized (this) {
+            actual.forEach(bookId -> {
+                if (!bitmap.contains(bookId) && !changedSinceScan.contains(bookId)) {
+                    corrections.add(new Object[] { bookId, true, Timestamp.valueOf(LocalDateTime.now()) });
+                }
+            });
+            bitmap.forEach(bookId -> {
+                if (!actual.contains(bookId) && !changedSinceScan.contains(bookId)) {
+                    corrections.add(new Object[] { bookId, false, Timestamp.valueOf(LocalDateTime.now()) });
+                }
+            });
+        }
+        if (!corrections.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, corrections);
+            log.warn("Reconciled in-stock bitmap: {} books corrected after version {}", corrections.size(), scanFrom);
+        }
+
+        int trimmed = jdbcTemplate.update(TRIM_SQL, scanFrom - properties.getMaxDeltaEntries());
+        if (trimmed > 0) {
+            log.debug("Trimmed {} in-stock changes outside the delta window", trimmed);
+        }
+        return corrections.size();
+    }
+
+    private void load() {
+        long loadedEpoch = loadEpoch();
+        Long latest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(change_id), 0) FROM in_stock_changes",
+                Long.class);
+        BookIdBitmap actual = scanInStock();
+
+        synchronized (this) {
+            // The scan reflects at least every change up to the latest ID; later ones are applied by polling
+            actual.forEach(bitmap::add);
+            epoch = loadedEpoch;
+            version = latest;
+            changesFrom = latest;
+            loaded = true;
+            log.info("Loaded in-stock bitmap with {} books at version {}", bitmap.cardinality(), version);
+        }
+    }
+
+    private long loadEpoch() {
+        List<Long> existing = jdbcTemplate.queryForList(SELECT_EPOCH_SQL, Long.class, EPOCH_KEY);
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        try {
+            jdbcTemplate.update(INSERT_EPOCH_SQL, EPOCH_KEY, ThreadLocalRandom.current().nextLong());
+        } catch (DuplicateKeyException ex) {
+            log.debug("In-stock bitmap epoch was created by another instance");
+        }
+        return jdbcTemplate.queryForObject(SELECT_EPOCH_SQL, Long.class, EPOCH_KEY);
+    }
+
+    private BookIdBitmap scanInStock() {
+        BookIdBitmap actual = new BookIdBitmap();
+        try (Stream<Long> bookIds = inventoryRepository.streamInStockBookIds()) {
+            bookIds.forEach(actual::add);
+        }
+        shardedStockManager.refreshShardedBooks();
+        for (Long bookId : shardedStockManager.getShardedBookIds()) {
+            if (shardedStockManager.getTotalQuantity(bookId) > 0) {
+                actual.add(bookId);
+            } else {
+                actual.remove(bookId);
+            }
+        }
+        return actual;
+    }
+
+    private synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @param bookId the book ID
+     * @return true if the book is in stock according to the bitmap
+     */
+    public synchronized boolean isInStock(long bookId) {
+        return bitmap.contains(bookId);
+    }
+
+    /**
+     * @return the current bitmap version
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the epoch versions of this instance belong to
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Encodes the full bitmap. The encoding is cached until the next change.
+     *
+     * @return the encoded snapshot
+     */
+    public synchronized byte[] encodeSnapshot() {
+        if (encodedVersion != version) {
+            encodedSnapshot = encode(out -> {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeByte(FORMAT_VERSION);
+                out.writeLong(epoch);
+                out.writeLong(version);
+                bitmap.serialize(out);
+            });
+            encodedVersion = version;
+        }
+        return encodedSnapshot;
+    }
+
+    /**
+     * Encodes the changes after a version, keeping only the latest state of
+     * each book.
+     *
+     * @param clientEpoch  epoch of the consumer's copy
+     * @param sinceVersion version of the consumer's copy
+     * @return the encoded delta, or empty if the consumer must fetch the full snapshot
+     */
+    public synchronized Optional<byte[]> encodeDelta(long clientEpoch, long sinceVersion) {
+        if (clientEpoch != epoch || sinceVersion > version) {
+            return Optional.empty();
+        }
+        if (sinceVersion < changesFrom) {
+            return Optional.empty();
+        }
+
+        Map<Long, Boolean> latest = new LinkedHashMap<>();
+        Iterator<Change> newestFirst = changes.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Change change = newestFirst.next();
+            if (change.version() <= sinceVersion) {
+                break;
+            }
+            latest.putIfAbsent(change.bookId(), change.inStock());
+        }
+
+        return Optional.of(encode(out -> {
+            out.writeInt(DELTA_MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(epoch);
+            out.writeLong(sinceVersion);
+            out.writeLong(version);
+            out.writeInt(latest.size());
+            for (Map.Entry<Long, Boolean> entry : latest.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeBoolean(entry.getValue());
+            }
+        }));
+    }
+
+    private boolean apply(Change change) {
+        if (change.version() <= version) {
+            return false;
+        }
+        if (change.inStock()) {
+            bitmap.add(change.bookId());
+        } else {
+            bitmap.remove(change.bookId());
+        }
+        version = change.version();
+        changes.addLast(change);
+        while (changes.size() > properties.getMaxDeltaEntries()) {
+            changesFrom = changes.pollFirst().version();
+        }
+        return true;
+    }
+
+    private static boolean isInStock(StockLevel level) {
+        return level != null && level != StockLevel.OUT_OF_STOCK;
+    }
+
+    private interface Encoder {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(Encoder encoder) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            encoder.write(out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+}
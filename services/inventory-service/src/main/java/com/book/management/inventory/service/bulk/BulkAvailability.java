@@ -0,0 +1,112 @@
+package com.book.management.inventory.service.bulk;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Availability of a bulk stock request, held as a sorted {@code long[]} of
+ * book IDs with a parallel {@code boolean[]} of outcomes.
+ *
+ * Serialises as the same JSON object as a {@code Map<Long, Boolean>}, so
+ * callers see the usual {@code availabilityMap} without the service boxing
+ * an entry per book.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@JsonSerialize(using = BulkAvailability.Serializer.class)
+public final class BulkAvailability {
+
+    public static final BulkAvailability EMPTY = new BulkAvailability(new long[0], new boolean[0]);
+
+    private final long[] bookIds;
+    private final boolean[] available;
+    private final boolean allAvailable;
+
+    private BulkAvailability(long[] bookIds, boolean[] available) {
+        this.bookIds = bookIds;
+        this.available = available;
+        boolean all = true;
+        for (boolean bookAvailable : available) {
+            all &= bookAvailable;
+        }
+        this.allAvailable = all;
+    }
+
+    /**
+     * Compares requested quantities with stock on hand. A book missing from
+     * the stock map is unavailable.
+     *
+     * @param sortedBookIds the requested book IDs in ascending order
+     * @param requested     book ID to requested quantity
+     * @param stock         book ID to quantity on hand
+     * @return the availability of every requested book
+     */
+    public static BulkAvailability evaluate(long[] sortedBookIds, LongIntHashMap requested, LongIntHashMap stock) {
+        boolean[] available = new boolean[sortedBookIds.length];
+        for (int i = 0; i < sortedBookIds.length; i++) {
+            long bookId = sortedBookIds[i];
+            int onHand = stock.getOrDefault(bookId, -1);
+            available[i] = onHand >= 0 && onHand >= requested.getOrDefault(bookId, 0);
+        }
+        return new BulkAvailability(sortedBookIds, available);
+    }
+
+    public int size() {
+        return bookIds.length;
+    }
+
+    public boolean isAllAvailable() {
+        return allAvailable;
+    }
+
+    /**
+     * @param bookId the book ID
+     * @return true if the book was requested and is available
+     */
+    public boolean isAvailable(long bookId) {
+        int index = Arrays.binarySearch(bookIds, bookId);
+        return index >= 0 && available[index];
+    }
+
+    /**
+     * Copies the outcomes into a boxed map ordered by book ID.
+     *
+     * @return map of book ID to availability
+     */
+    public Map<Long, Boolean> toMap() {
+        Map<Long, Boolean> map = new LinkedHashMap<>(bookIds.length * 2);
+        for (int i = 0; i < bookIds.length; i++) {
+            map.put(bookIds[i], available[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * Writes the outcomes as a JSON object of book ID to boolean.
+     */
+    public static class Serializer extends ValueSerializer<BulkAvailability> {
+
+        @Override
+        public void serialize(BulkAvailability availability, JsonGenerator generator, SerializationContext context) {
+            generator.writeStartObject();
+            for (int i = 0; i < availability.bookIds.length; i++) {
+                generator.writePropertyId(availability.bookIds[i]);
+                generator.writeBoolean(availability.available[i]);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.book.management.inventory.service.bulk;
+
+import com.book.management.inventory.dto.BulkRestockResultDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.InvalidInventoryOperationException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.model.SagaStockRecord;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.SagaStockRecordRepository;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+/**
+ * Applies one chunk of a bulk inventory write in its own transaction.
+ *
+ * The rows of a chunk are locked in ascending book ID order with a single
+ * {@code SELECT ... FOR UPDATE}, then updated with one JDBC batch. Books in
+ * sharded-stock mode are restocked through their slots instead. Saga
+ * restocks record what they restocked per saga and book in the same
+ * transaction, so a retried compensation restocks nothing twice.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryBulkWriter {
+
+    private final InventoryRepository inventoryRepository;
+    private final ShardedStockManager shardedStockManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SagaStockRecordRepository sagaStockRepository;
+
+    /**
+     * Restocks one chunk of books.
+     *
+     * @param chunk book ID to quantity to add, sorted by book ID
+     * @return per-book outcome, in book ID order
+     */
+    @Transactional
+    public Map<Long, BulkRestockResultDTO> restockChunk(SortedMap<Long, Integer> chunk) {
+        Map<Long, Inventory> locked = new HashMap<>();
+        for (Inventory inventory : inventoryRepository.findByBookIdInForUpdate(chunk.keySet())) {
+            locked.put(inventory.getBookId(), inventory);
+        }
+
+        Map<Long, Integer> rowUpdates = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : chunk.entrySet()) {
+            Inventory inventory = locked.get(entry.getKey());
+            if (inventory != null && !inventory.isSharded()) {
+                rowUpdates.put(entry.getKey(), entry.getValue());
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!rowUpdates.isEmpty()) {
+            inventoryRepository.batchAddQuantities(rowUpdates, now);
+        }
+
+        Map<Long, BulkRestockResultDTO> results = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : chunk.entrySet()) {
+            Long bookId = entry.getKey();
+            Inventory inventory = locked.get(bookId);
+            if (inventory == null) {
+                results.put(bookId, BulkRestockResultDTO.builder()
+                        .status(BulkRestockResultDTO.NOT_FOUND)
+                        .message("Inventory not found for bookId: " + bookId)
+                        .build());
+                continue;
+            }
+
+            int quantity;
+            if (rowUpdates.containsKey(bookId)) {
+                quantity = inventory.getQuantity() + entry.getValue();
+            } else {
+                if (!shardedStockManager.applyDelta(bookId, entry.getValue())) {
+                    throw new InvalidInventoryOperationException("No stock slots found for bookId: " + bookId);
+                }
+                quantity = shardedStockManager.sumSlots(bookId);
+            }
+            eventPublisher.publishEvent(new InventoryChangeEvent(inventory.getInventoryId(), bookId,
+                    ChangeType.RESTOCKED, quantity - entry.getValue(), quantity,
+                    inventory.getLowStockThreshold(), inventory.getLowStockThreshold(), now));
+            results.put(bookId, BulkRestockResultDTO.builder()
+                    .status(BulkRestockResultDTO.RESTOCKED)
+                    .quantity(quantity)
+                    .build());
+        }
+
+        log.debug("Restocked chunk of {} books ({} via JDBC batch)", chunk.size(), rowUpdates.size());
+        return results;
+    }
+
+    /**
+     * Restocks one chunk of books for compensated order sagas, skipping
+     * every saga and book that was already restocked or voided.
+     *
+     * @param bookIds        the chunk's book IDs
+     * @param sagaQuantities saga ID to the quantities to restock for it
+     * @param keyedSagaIds   sagas whose stock was reduced under their saga ID
+     * @return per-book outcome, in book ID order
+     */
+    @Transactional
+    public Map<Long, BulkRestockResultDTO> restockSagaChunk(SortedSet<Long> bookIds,
+                                                            Map<Long, Map<Long, Integer>> sagaQuantities,
+                                                            Set<Long> keyedSagaIds) {
+        List<Long> sagaIds = sagaQuantities.entrySet().stream()
+                .filter(saga -> saga.getValue().keySet().stream().anyMatch(bookIds::contains))
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<Long, Map<Long, SagaStockRecord>> recorded = new HashMap<>();
+        for (SagaStockRecord record : sagaStockRepository.findForUpdate(sagaIds, bookIds)) {
+            recorded.computeIfAbsent(record.getSagaId(), sagaId -> new HashMap<>()).put(record.getBookId(), record);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        SortedMap<Long, Integer> chunk = new TreeMap<>();
+        List<SagaStockRecord> changed = new ArrayList<>();
+        for (Long sagaId : sagaIds) {
+            boolean keyed = keyedSagaIds.contains(sagaId);
+            for (Map.Entry<Long, Integer> item : sagaQuantities.get(sagaId).entrySet()) {
+                Long bookId = item.getKey();
+                if (!bookIds.contains(bookId)) {
+                    continue;
+                }
+                SagaStockRecord record = recorded.getOrDefault(sagaId, Map.of()).get(bookId);
+                if (record == null) {
+                    // A keyed saga without a reservation never reduced the book; void it so a late reduction is refused
+                    int quantity = keyed ? 0 : item.getValue();
+                    changed.add(SagaStockRecord.builder()
+                            .sagaId(sagaId)
+                            .bookId(bookId)
+                            .state(keyed ? SagaStockRecord.State.VOIDED : SagaStockRecord.State.RELEASED)
+                            .quantity(quantity)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build());
+                    if (quantity > 0) {
+                        chunk.merge(bookId, quantity, Integer::sum);
+                    }
+                } else if (record.getState() == SagaStockRecord.State.RESERVED) {
+                    record.setState(SagaStockRecord.State.RELEASED);
+                    record.setUpdatedAt(now);
+                    changed.add(record);
+                    chunk.merge(bookId, record.getQuantity(), Integer::sum);
+                }
+            }
+        }
+        sagaStockRepository.saveAll(changed);
+
+        Map<Long, BulkRestockResultDTO> results = chunk.isEmpty() ? new LinkedHashMap<>() : restockChunk(chunk);
+        Map<Long, BulkRestockResultDTO> ordered = new LinkedHashMap<>();
+        for (Long bookId : bookIds) {
+            ordered.put(bookId, results.getOrDefault(bookId, BulkRestockResultDTO.builder()
+                    .status(BulkRestockResultDTO.RESTOCKED)
+                    .message("Already restocked for these sagas")
+                    .build()));
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,327 @@
+package com.book.management.inventory.service.bulk;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Open-addressing hash map from {@code long} book IDs to {@code int} quantities.
+ *
+ * Keys and values live in parallel primitive arrays probed linearly, so
+ * neither inserts nor lookups box. The bulk stock endpoints read their
+ * request bodies straight into this map, which keeps large orders from
+ * allocating several wrapper objects per item. The JSON form is the same
+ * object as a {@code Map<Long, Integer>}. Not thread-safe.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@JsonSerialize(using = LongIntHashMap.Serializer.class)
+@JsonDeserialize(using = LongIntHashMap.Deserializer.class)
+public final class LongIntHashMap {
+
+    private static final int MIN_CAPACITY = 8;
+
+    /** Slot marker; key 0 is stored outside the table. */
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+
+    public LongIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Copies a boxed map.
+     *
+     * @param source map of book ID to quantity
+     * @return a new primitive map with the same entries
+     */
+    public static LongIntHashMap of(Map<Long, Integer> source) {
+        LongIntHashMap map = new LongIntHashMap(source.size());
+        source.forEach((key, value) -> map.put(key, value));
+        return map;
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(long key, int value) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key          the key
+     * @param defaultValue value returned when the key is absent
+     * @return the value, or {@code defaultValue}
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == FREE) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * @param key the key
+     * @return true if the map holds the key
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the keys in ascending order.
+     *
+     * @return a new sorted array of the keys
+     */
+    public long[] sortedKeys() {
+        long[] sorted = new long[size];
+        int index = 0;
+        if (hasFreeKey) {
+            sorted[index++] = FREE;
+        }
+        for (long key : keys) {
+            if (key != FREE) {
+                sorted[index++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Visits every entry in table order.
+     *
+     * @param action the visitor
+     */
+    public void forEach(EntryConsumer action) {
+        if (hasFreeKey) {
+            action.accept(FREE, freeKeyValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Copies the entries into a boxed map, for APIs that still take one.
+     *
+     * @return a new map of the same entries
+     */
+    public Map<Long, Integer> toMap() {
+        Map<Long, Integer> map = new HashMap<>(size * 2);
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof LongIntHashMap that) || that.size != size) {
+            return false;
+        }
+        if (hasFreeKey && (!that.hasFreeKey || that.freeKeyValue != freeKeyValue)) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            long key = keys[slot];
+            if (key != FREE && (!that.containsKey(key) || that.getOrDefault(key, 0) != values[slot])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = hasFreeKey ? freeKeyValue : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE) {
+                hash += Long.hashCode(keys[slot]) ^ values[slot];
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (text.length() > 1) {
+                text.append(", ");
+            }
+            text.append(key).append('=').append(value);
+        });
+        return text.append('}').toString();
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // Keep the load factor at or below one half
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2) - 1) << 1;
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 2;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            long key = oldKeys[slot];
+            if (key != FREE) {
+                int target = slot(key);
+                while (keys[target] != FREE) {
+                    target = (target + 1) & mask;
+                }
+                keys[target] = key;
+                values[target] = oldValues[slot];
+            }
+        }
+    }
+
+    /**
+     * Receives the entries of a {@link LongIntHashMap}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    /**
+     * Writes the map as a JSON object of decimal keys to numbers.
+     */
+    public static class Serializer extends ValueSerializer<LongIntHashMap> {
+
+        @Override
+        public void serialize(LongIntHashMap map, JsonGenerator generator, SerializationContext context) {
+            generator.writeStartObject();
+            map.forEach((key, value) -> {
+                generator.writePropertyId(key);
+                generator.writeNumber(value);
+            });
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads a JSON object of decimal keys to integers without building an
+     * intermediate boxed map.
+     */
+    public static class Deserializer extends ValueDeserializer<LongIntHashMap> {
+
+        @Override
+        public LongIntHashMap deserialize(JsonParser parser, DeserializationContext context) {
+            if (!parser.isExpectedStartObjectToken()) {
+                return (LongIntHashMap) context.handleUnexpectedToken(LongIntHashMap.class, parser);
+            }
+
+            LongIntHashMap map = new LongIntHashMap();
+            for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+                long key;
+                try {
+                    key = Long.parseLong(name);
+                } catch (NumberFormatException ex) {
+                    return context.reportInputMismatch(LongIntHashMap.class, "Book ID '%s' is not a number", name);
+                }
+                if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                    return context.reportInputMismatch(LongIntHashMap.class,
+                            "Quantity of book ID %d must be an integer", key);
+                }
+                map.put(key, parser.getIntValue());
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.book.management.inventory.service.cache;
+
+import com.book.management.inventory.config.LookupCacheProperties;
+import com.book.management.inventory.dto.InventoryResponseDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, short-TTL cache of inventory lookups by book ID.
+ *
+ * Entries are invalidated as soon as an {@link InventoryChangeEvent} for the
+ * book commits, which covers every mutation made through this instance;
+ * the TTL bounds staleness for changes made through other instances. A load
+ * that overlaps an invalidation of the same book is not cached, so a value
+ * read before a commit cannot outlive it. When full, the least recently
+ * used entry is evicted.
+ *
+ * <p>Metrics: {@code inventory.lookup.cache.requests} tagged
+ * {@code result=hit|miss}, {@code inventory.lookup.cache.hit.ratio},
+ * {@code inventory.lookup.cache.invalidations},
+ * {@code inventory.lookup.cache.size} and {@code inventory.lookup.cache.age},
+ * the age of each served entry, which is the most its data can be stale.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class InventoryLookupCache {
+
+    private static final int STRIPES = 64;
+
+    private final LookupCacheProperties properties;
+
+    /** Access-ordered, so the eldest entry is the least recently used; guarded by itself. */
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > properties.getMaxEntries();
+        }
+    };
+
+    /** Invalidation counters per book ID stripe, used to reject racing loads. */
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidationCount;
+    private final Timer age;
+
+    private record Entry(InventoryResponseDTO value, long loadedAtNanos) {
+    }
+
+    public InventoryLookupCache(LookupCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = Counter.builder("inventory.lookup.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("inventory.lookup.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.invalidationCount = Counter.builder("inventory.lookup.cache.invalidations").register(meterRegistry);
+        this.age = Timer.builder("inventory.lookup.cache.age")
+                .description("Age of cached inventory lookups when served")
+                .register(meterRegistry);
+        Gauge.builder("inventory.lookup.cache.hit.ratio", this, InventoryLookupCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("inventory.lookup.cache.size", this, InventoryLookupCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached lookup for a book, loading it on a miss.
+     * Exceptions thrown by the loader are propagated and nothing is cached.
+     *
+     * @param bookId the book ID
+     * @param loader loads the inventory from the database
+     * @return the inventory response
+     */
+    public InventoryResponseDTO get(Long bookId, Supplier<InventoryResponseDTO> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        long now = System.nanoTime();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(bookId);
+            if (entry != null && now - entry.loadedAtNanos() >= TimeUnit.MILLISECONDS.toNanos(properties.getTtlMillis())) {
+                entries.remove(bookId);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+            age.record(now - entry.loadedAtNanos(), TimeUnit.NANOSECONDS);
+            return entry.value();
+        }
+
+        misses.increment();
+        int stripe = stripe(bookId);
+        long invalidationsBefore = invalidations.get(stripe);
+        InventoryResponseDTO value = loader.get();
+        synchronized (entries) {
+            // Checked under the lock so that an invalidation cannot slip in before the put
+            if (invalidations.get(stripe) == invalidationsBefore) {
+                entries.put(bookId, new Entry(value, now));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drops the cached lookup of a book.
+     *
+     * @param bookId the book ID
+     */
+    public void invalidate(Long bookId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet(stripe(bookId));
+            entries.remove(bookId);
+        }
+        invalidationCount.increment();
+    }
+
+    /**
+     * Invalidates the changed book once the change has committed.
+     *
+     * @param event the inventory change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChange(InventoryChangeEvent event) {
+        invalidate(event.bookId());
+    }
+
+    /**
+     * @return fraction of lookups served from the cache
+     */
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    /**
+     * @return number of cached books
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static int stripe(Long bookId) {
+        return Long.hashCode(bookId) & (STRIPES - 1);
+    }
+}
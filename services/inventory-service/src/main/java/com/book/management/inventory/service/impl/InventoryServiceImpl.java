@@ -1,23 +1,48 @@
 package com.book.management.inventory.service.impl;
 
 import com.book.management.inventory.dto.*;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.book.management.inventory.exception.InsufficientStockException;
+import com.book.management.inventory.config.BulkOperationProperties;
+import com.book.management.inventory.config.ListingProperties;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
 import com.book.management.inventory.exception.InvalidInventoryOperationException;
 import com.book.management.inventory.exception.InventoryAlreadyExistsException;
 import com.book.management.inventory.exception.InventoryNotFoundException;
 import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.model.SagaStockRecord;
 import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.SagaStockRecordRepository;
 import com.book.management.inventory.service.InventoryService;
-
+import com.book.management.inventory.service.bulk.BulkAvailability;
+import com.book.management.inventory.service.bulk.InventoryBulkWriter;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import com.book.management.inventory.service.cache.InventoryLookupCache;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Implementation of InventoryService interface.
@@ -25,6 +50,11 @@ import java.util.Map;
  * Follows Single Responsibility Principle (SRP) and Dependency Inversion
  * Principle (DIP).
  *
+ * Relative quantity changes (adjust, reduce, restock, bulk reduce) are applied
+ * through the configured {@link InventoryLockingStrategy}, which owns the
+ * transaction so that it can retry or lock as its mode requires. Every
+ * mutation publishes an {@link InventoryChangeEvent} describing the change.
+ *
  * @author Aditya Srivastava
  * @version 2.0
  * @since 2024-12-08
@@ -36,6 +66,15 @@ public class InventoryServiceImpl implements InventoryService {
 
     private static final String BOOK_ID_FIELD = "bookId";
     private final InventoryRepository inventoryRepository;
+    private final InventoryLockingStrategy lockingStrategy;
+    private final ShardedStockManager shardedStockManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InventoryBulkWriter bulkWriter;
+    private final BulkOperationProperties bulkOperationProperties;
+    private final ListingProperties listingProperties;
+    private final EntityManager entityManager;
+    private final InventoryLookupCache lookupCache;
+    private final SagaStockRecordRepository sagaStockRepository;
 
     @Override
     @Transactional
@@ -53,7 +92,9 @@ public class InventoryServiceImpl implements InventoryService {
                 .lowStockThreshold(createDTO.getLowStockThreshold() != null ? createDTO.getLowStockThreshold() : 10)
                 .build();
 
-        return mapToResponseDTO(inventoryRepository.save(inventory));
+        Inventory saved = inventoryRepository.save(inventory);
+        publishChange(saved, ChangeType.CREATED, 0, saved.getQuantity(), saved.getLowStockThreshold());
+        return mapToResponseDTO(saved);
     }
 
     @Override
@@ -66,12 +107,11 @@ public class InventoryServiceImpl implements InventoryService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public InventoryResponseDTO getInventoryByBookId(Long bookId) {
-        Inventory inventory = inventoryRepository.findByBookId(bookId)
-                .orElseThrow(() -> new InventoryNotFoundException(BOOK_ID_FIELD, bookId));
-
-        return mapToResponseDTO(inventory);
+        // No surrounding transaction, so cache hits do not borrow a connection
+        return lookupCache.get(bookId, () -> inventoryRepository.findByBookId(bookId)
+                .map(this::mapToResponseDTO)
+                .orElseThrow(() -> new InventoryNotFoundException(BOOK_ID_FIELD, bookId)));
     }
 
     @Override
@@ -82,67 +122,105 @@ public class InventoryServiceImpl implements InventoryService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryPageDTO getInventoryPage(InventoryStockFilter filter, Long afterId, Integer size) {
+        int pageSize = size != null ? size : listingProperties.getDefaultPageSize();
+        if (pageSize < 1 || pageSize > listingProperties.getMaxPageSize()) {
+            throw new InvalidInventoryOperationException(
+                    "Page size must be between 1 and " + listingProperties.getMaxPageSize());
+        }
+
+        // One extra row tells whether another page follows without a count query
+        List<Inventory> rows = inventoryRepository.findPageAfter(afterId != null ? afterId : 0L,
+                filter.getMinQuantity(), filter.getMaxQuantity(), PageRequest.ofSize(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<Inventory> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return InventoryPageDTO.builder()
+                .items(page.stream().map(this::mapToResponseDTO).toList())
+                .nextCursor(hasMore ? page.get(page.size() - 1).getInventoryId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamInventory(InventoryStockFilter filter, Consumer<InventoryResponseDTO> consumer) {
+        try (Stream<Inventory> rows = inventoryRepository.streamAll(filter.getMinQuantity(), filter.getMaxQuantity())) {
+            rows.forEach(inventory -> {
+                InventoryResponseDTO dto = mapToResponseDTO(inventory);
+                // Detach as we go so the persistence context does not grow with the table
+                entityManager.detach(inventory);
+                consumer.accept(dto);
+            });
+        }
+    }
+
     @Override
     @Transactional
     public InventoryResponseDTO updateInventoryQuantity(Long inventoryId, InventoryUpdateDTO updateDTO) {
         Inventory inventory = inventoryRepository.findById(inventoryId)
                 .orElseThrow(() -> new InventoryNotFoundException(inventoryId));
 
+        int previousQuantity = quantityOf(inventory);
         inventory.setQuantity(updateDTO.getQuantity());
-        return mapToResponseDTO(inventoryRepository.save(inventory));
+        if (inventory.isSharded()) {
+            shardedStockManager.resetSlots(inventory.getBookId(), updateDTO.getQuantity());
+        }
+        Inventory saved = inventoryRepository.save(inventory);
+        publishChange(saved, ChangeType.QUANTITY_SET, previousQuantity, updateDTO.getQuantity(),
+                saved.getLowStockThreshold());
+        return mapToResponseDTO(saved, updateDTO.getQuantity());
     }
 
     @Override
-    @Transactional
     public InventoryResponseDTO adjustInventoryQuantity(Long inventoryId, InventoryAdjustmentDTO adjustmentDTO) {
         Inventory inventory = inventoryRepository.findById(inventoryId)
                 .orElseThrow(() -> new InventoryNotFoundException(inventoryId));
 
-        int newQuantity = inventory.getQuantity() + adjustmentDTO.getAdjustmentQuantity();
+        int currentQuantity = quantityOf(inventory);
+        int newQuantity = currentQuantity + adjustmentDTO.getAdjustmentQuantity();
 
         if (newQuantity < 0) {
             log.warn(
                     "Invalid adjustment for inventory ID: {}. Current: {}, Adjustment: {} would result in negative quantity",
-                    inventoryId, inventory.getQuantity(), adjustmentDTO.getAdjustmentQuantity());
+                    inventoryId, currentQuantity, adjustmentDTO.getAdjustmentQuantity());
             throw new InvalidInventoryOperationException(
                     "Adjustment would result in negative quantity");
         }
 
-        inventory.setQuantity(newQuantity);
-        return mapToResponseDTO(inventoryRepository.save(inventory));
+        return applyDelta(inventory.getBookId(), adjustmentDTO.getAdjustmentQuantity(), ChangeType.ADJUSTED);
     }
 
     @Override
-    @Transactional
     public InventoryResponseDTO reduceInventory(Long bookId, Integer quantity) {
-        Inventory inventory = inventoryRepository.findByBookId(bookId)
-                .orElseThrow(() -> new InventoryNotFoundException(BOOK_ID_FIELD, bookId));
-
-        if (inventory.getQuantity() < quantity) {
-            log.warn("Insufficient stock for book ID: {}. Available: {}, Requested: {}",
-                    bookId, inventory.getQuantity(), quantity);
-            throw new InsufficientStockException(bookId, inventory.getQuantity(), quantity);
-        }
-
-        inventory.setQuantity(inventory.getQuantity() - quantity);
-        return mapToResponseDTO(inventoryRepository.save(inventory));
+        return applyDelta(bookId, -quantity, ChangeType.REDUCED);
     }
 
     @Override
-    @Transactional
     public InventoryResponseDTO restockInventory(Long bookId, Integer quantity) {
-        Inventory inventory = inventoryRepository.findByBookId(bookId)
-                .orElseThrow(() -> new InventoryNotFoundException(BOOK_ID_FIELD, bookId));
+        return applyDelta(bookId, quantity, ChangeType.RESTOCKED);
+    }
 
-        inventory.setQuantity(inventory.getQuantity() + quantity);
-        return mapToResponseDTO(inventoryRepository.save(inventory));
+    /**
+     * Applies a relative quantity change through the locking strategy, which
+     * also publishes the change event inside its transaction.
+     *
+     * @param bookId     the book ID
+     * @param delta      the signed quantity change
+     * @param changeType the kind of mutation
+     * @return the inventory response DTO
+     */
+    private InventoryResponseDTO applyDelta(Long bookId, int delta, ChangeType changeType) {
+        return mapToResponseDTO(lockingStrategy.applyDelta(bookId, delta, changeType));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional // Not read-only: gates order placement, so it must not read a lagging replica
     public boolean checkAvailability(Long bookId, Integer quantity) {
         return inventoryRepository.findByBookId(bookId)
-                .map(inventory -> inventory.getQuantity() >= quantity)
+                .map(inventory -> quantityOf(inventory) >= quantity)
                 .orElse(false);
     }
 
@@ -176,18 +254,24 @@ public class InventoryServiceImpl implements InventoryService {
         Inventory inventory = inventoryRepository.findById(inventoryId)
                 .orElseThrow(() -> new InventoryNotFoundException(inventoryId));
 
+        int previousThreshold = inventory.getLowStockThreshold();
         inventory.setLowStockThreshold(newThreshold);
-        return mapToResponseDTO(inventoryRepository.save(inventory));
+        Inventory saved = inventoryRepository.save(inventory);
+        int quantity = quantityOf(saved);
+        publishChange(saved, ChangeType.THRESHOLD_CHANGED, quantity, quantity, previousThreshold);
+        return mapToResponseDTO(saved, quantity);
     }
 
     @Override
     @Transactional
     public void deleteInventory(Long inventoryId) {
-        if (!inventoryRepository.existsById(inventoryId)) {
-            throw new InventoryNotFoundException(inventoryId);
-        }
+        Inventory inventory = inventoryRepository.findById(inventoryId)
+                .orElseThrow(() -> new InventoryNotFoundException(inventoryId));
 
-        inventoryRepository.deleteById(inventoryId);
+        int quantity = quantityOf(inventory);
+        shardedStockManager.removeSlots(inventory.getBookId());
+        inventoryRepository.delete(inventory);
+        publishChange(inventory, ChangeType.DELETED, quantity, 0, inventory.getLowStockThreshold());
     }
 
     @Override
@@ -196,7 +280,171 @@ public class InventoryServiceImpl implements InventoryService {
         Inventory inventory = inventoryRepository.findByBookId(bookId)
                 .orElseThrow(() -> new InventoryNotFoundException(BOOK_ID_FIELD, bookId));
 
+        int quantity = quantityOf(inventory);
+        shardedStockManager.removeSlots(bookId);
         inventoryRepository.delete(inventory);
+        publishChange(inventory, ChangeType.DELETED, quantity, 0, inventory.getLowStockThreshold());
+    }
+
+    @Override
+    @Transactional
+    public InventoryResponseDTO enableShardedStock(Long bookId, Integer slots) {
+        Inventory inventory = lockByBookId(bookId);
+        int quantity = quantityOf(inventory);
+        shardedStockManager.shard(inventory, slots);
+        return mapToResponseDTO(inventory, quantity);
+    }
+
+    @Override
+    @Transactional
+    public InventoryResponseDTO disableShardedStock(Long bookId) {
+        Inventory inventory = lockByBookId(bookId);
+        shardedStockManager.unshard(inventory);
+        return mapToResponseDTO(inventoryRepository.save(inventory), inventory.getQuantity());
+    }
+
+    /**
+     * Publishes an {@link InventoryChangeEvent} for a mutated inventory record.
+     *
+     * @param inventory         the inventory entity
+     * @param changeType        the kind of mutation
+     * @param previousQuantity  quantity before the change
+     * @param quantity          quantity after the change
+     * @param previousThreshold low-stock threshold before the change
+     */
+    private void publishChange(Inventory inventory, ChangeType changeType, int previousQuantity,
+                               int quantity, int previousThreshold) {
+        eventPublisher.publishEvent(new InventoryChangeEvent(inventory.getInventoryId(), inventory.getBookId(),
+                changeType, previousQuantity, quantity, previousThreshold, inventory.getLowStockThreshold(),
+                LocalDateTime.now()));
+    }
+
+    /**
+     * Rejects bulk requests above the configured maximum size.
+     *
+     * @param size number of books in the request
+     */
+    private void checkBulkRequestSize(int size) {
+        if (size > bulkOperationProperties.getMaxRequestSize()) {
+            throw new InvalidInventoryOperationException(
+                    "Bulk request exceeds the maximum of " + bulkOperationProperties.getMaxRequestSize() + " books");
+        }
+    }
+
+    /**
+     * Checks that saga quantities are positive and add up to the per-book
+     * totals of the request.
+     *
+     * @param bookQuantities the request's per-book totals
+     * @param sagaQuantities saga ID to its quantities per book
+     */
+    private static void checkSagaQuantities(Map<Long, Integer> bookQuantities,
+                                            Map<Long, Map<Long, Integer>> sagaQuantities) {
+        Map<Long, Integer> totals = new HashMap<>();
+        sagaQuantities.forEach((sagaId, items) -> {
+            if (sagaId == null || sagaId <= 0 || items == null || items.isEmpty()) {
+                throw new InvalidInventoryOperationException("Saga " + sagaId + " must have a positive ID and items");
+            }
+            items.forEach((bookId, quantity) -> {
+                if (bookId == null || bookId <= 0 || quantity == null || quantity <= 0) {
+                    throw new InvalidInventoryOperationException(
+                            "Book ID and quantity must be positive, got " + bookId + " -> " + quantity);
+                }
+                totals.merge(bookId, quantity, Integer::sum);
+            });
+        });
+        if (!totals.equals(bookQuantities)) {
+            throw new InvalidInventoryOperationException("bookQuantities must be the per-book sum of sagaQuantities");
+        }
+    }
+
+    /**
+     * Builds a RESERVED record per saga and book for a reduction attempt.
+     *
+     * @param sagaQuantities saga ID to its quantities per book
+     * @return unsaved records
+     */
+    private static List<SagaStockRecord> reservedRecords(Map<Long, Map<Long, Integer>> sagaQuantities) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SagaStockRecord> records = new ArrayList<>();
+        sagaQuantities.forEach((sagaId, items) -> items.forEach((bookId, quantity) ->
+                records.add(SagaStockRecord.builder()
+                        .sagaId(sagaId)
+                        .bookId(bookId)
+                        .state(SagaStockRecord.State.RESERVED)
+                        .quantity(quantity)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())));
+        return records;
+    }
+
+    /**
+     * Restocks books chunk by chunk in ascending book ID order. A failing
+     * chunk is reported as FAILED for each of its books without stopping
+     * the others.
+     *
+     * @param bookIds      the book IDs to restock
+     * @param restockChunk restocks one chunk in its own transaction
+     * @return per-book outcome
+     */
+    private Map<Long, BulkRestockResultDTO> restockInChunks(
+            Collection<Long> bookIds, Function<List<Long>, Map<Long, BulkRestockResultDTO>> restockChunk) {
+        // Ascending book ID order keeps row locks ordered across chunks and concurrent writers
+        Map<Long, BulkRestockResultDTO> results = new LinkedHashMap<>();
+        for (List<Long> chunk : partition(new ArrayList<>(new TreeSet<>(bookIds)))) {
+            try {
+                results.putAll(restockChunk.apply(chunk));
+            } catch (RuntimeException ex) {
+                log.warn("Bulk restock chunk of {} books starting at book ID: {} failed: {}",
+                        chunk.size(), chunk.get(0), ex.getMessage());
+                chunk.forEach(bookId -> results.put(bookId, BulkRestockResultDTO.builder()
+                        .status(BulkRestockResultDTO.FAILED)
+                        .message(ex.getMessage())
+                        .build()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Splits book IDs into chunks of the configured batch size.
+     *
+     * @param bookIds the book IDs
+     * @return consecutive chunks
+     */
+    private List<List<Long>> partition(List<Long> bookIds) {
+        int size = Math.max(1, bulkOperationProperties.getMaxBatchSize());
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < bookIds.size(); from += size) {
+            chunks.add(bookIds.subList(from, Math.min(from + size, bookIds.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Loads an inventory record by book ID under a row lock.
+     *
+     * @param bookId the book ID
+     * @return the locked inventory record
+     */
+    private Inventory lockByBookId(Long bookId) {
+        return inventoryRepository.findByBookIdInForUpdate(List.of(bookId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new InventoryNotFoundException(BOOK_ID_FIELD, bookId));
+    }
+
+    /**
+     * Returns the authoritative stock of an inventory record: the slot total
+     * for books in sharded-stock mode, otherwise the row quantity.
+     *
+     * @param inventory the inventory entity
+     * @return the current quantity
+     */
+    private int quantityOf(Inventory inventory) {
+        return inventory.isSharded()
+                ? shardedStockManager.getTotalQuantity(inventory.getBookId())
+                : inventory.getQuantity();
     }
 
     /**
@@ -206,13 +454,25 @@ public class InventoryServiceImpl implements InventoryService {
      * @return the inventory response DTO
      */
     private InventoryResponseDTO mapToResponseDTO(Inventory inventory) {
+        return mapToResponseDTO(inventory, quantityOf(inventory));
+    }
+
+    /**
+     * Maps Inventory entity to InventoryResponseDTO using an already resolved
+     * quantity.
+     *
+     * @param inventory the inventory entity
+     * @param quantity  the current quantity
+     * @return the inventory response DTO
+     */
+    private InventoryResponseDTO mapToResponseDTO(Inventory inventory, int quantity) {
         return InventoryResponseDTO.builder()
                 .inventoryId(inventory.getInventoryId())
                 .bookId(inventory.getBookId())
-                .quantity(inventory.getQuantity())
+                .quantity(quantity)
                 .lowStockThreshold(inventory.getLowStockThreshold())
-                .isLowStock(inventory.isLowStock())
-                .isOutOfStock(inventory.isOutOfStock())
+                .isLowStock(quantity <= inventory.getLowStockThreshold())
+                .isOutOfStock(quantity == 0)
                 .createdAt(inventory.getCreatedAt())
                 .updatedAt(inventory.getUpdatedAt())
                 .build();
@@ -225,13 +485,14 @@ public class InventoryServiceImpl implements InventoryService {
      * @return the low stock alert DTO
      */
     private LowStockAlertDTO mapToLowStockAlertDTO(Inventory inventory) {
-        int quantityNeeded = inventory.getLowStockThreshold() - inventory.getQuantity();
-        String alertLevel = inventory.isOutOfStock() ? "CRITICAL" : "WARNING";
+        int quantity = quantityOf(inventory);
+        int quantityNeeded = inventory.getLowStockThreshold() - quantity;
+        String alertLevel = quantity == 0 ? "CRITICAL" : "WARNING";
 
         return LowStockAlertDTO.builder()
                 .inventoryId(inventory.getInventoryId())
                 .bookId(inventory.getBookId())
-                .currentQuantity(inventory.getQuantity())
+                .currentQuantity(quantity)
                 .lowStockThreshold(inventory.getLowStockThreshold())
                 .quantityNeeded(quantityNeeded)
                 .alertLevel(alertLevel)
@@ -239,76 +500,124 @@ public class InventoryServiceImpl implements InventoryService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Map<Long, Boolean> checkBulkAvailability(Map<Long, Integer> bookQuantities) {
+    @Transactional // Not read-only: gates order placement, so it must not read a lagging replica
+    public BulkAvailability checkBulkAvailability(LongIntHashMap bookQuantities) {
         if (bookQuantities == null || bookQuantities.isEmpty()) {
-            return new HashMap<>();
+            return BulkAvailability.EMPTY;
         }
 
-        // Single bulk query instead of N individual queries
-        List<Long> bookIds = new ArrayList<>(bookQuantities.keySet());
-        List<Inventory> inventories = inventoryRepository.findByBookIdIn(bookIds);
-
-        // Create a map for quick lookup: bookId -> Inventory
-        Map<Long, Inventory> inventoryMap = inventories.stream()
-                .collect(java.util.stream.Collectors.toMap(Inventory::getBookId, inv -> inv));
-
-        // Check availability in-memory
-        Map<Long, Boolean> availabilityMap = new HashMap<>();
-        for (Map.Entry<Long, Integer> entry : bookQuantities.entrySet()) {
-            Long bookId = entry.getKey();
-            Integer requestedQuantity = entry.getValue();
-            Inventory inventory = inventoryMap.get(bookId);
-            boolean isAvailable = inventory != null && inventory.getQuantity() >= requestedQuantity;
-            availabilityMap.put(bookId, isAvailable);
+        // Quantities are read straight into a primitive map, one query per chunk
+        long[] bookIds = bookQuantities.sortedKeys();
+        LongIntHashMap stock = inventoryRepository.loadQuantities(bookIds,
+                bulkOperationProperties.getMaxBatchSize());
+
+        // Sharded books keep their stock in slots rather than the inventory row
+        List<Long> present = new ArrayList<>(stock.size());
+        for (long bookId : bookIds) {
+            if (stock.containsKey(bookId)) {
+                present.add(bookId);
+            }
+        }
+        for (Long shardedBookId : shardedStockManager.refreshShardedBooks(present)) {
+            stock.put(shardedBookId, shardedStockManager.getTotalQuantity(shardedBookId));
         }
 
-        log.debug("Bulk availability check for {} books completed with single query", bookIds.size());
-        return availabilityMap;
+        log.debug("Bulk availability check for {} books completed", bookIds.length);
+        return BulkAvailability.evaluate(bookIds, bookQuantities, stock);
     }
 
     @Override
-    @Transactional
-    public void reduceBulkInventory(Map<Long, Integer> bookQuantities) {
-        if (bookQuantities == null || bookQuantities.isEmpty()) {
-            return;
+    @Transactional(readOnly = true)
+    public Map<Long, InventoryResponseDTO> getBulkInventory(List<Long> bookIds) {
+        List<Long> distinctIds = bookIds.stream().distinct().toList();
+        checkBulkRequestSize(distinctIds.size());
+
+        Map<Long, InventoryResponseDTO> found = new HashMap<>();
+        for (List<Long> chunk : partition(distinctIds)) {
+            for (Inventory inventory : inventoryRepository.findByBookIdIn(chunk)) {
+                found.put(inventory.getBookId(), mapToResponseDTO(inventory));
+            }
         }
 
-        // Single bulk query to fetch all inventory records
-        List<Long> bookIds = new ArrayList<>(bookQuantities.keySet());
-        List<Inventory> inventories = inventoryRepository.findByBookIdIn(bookIds);
-
-        // Create a map for quick lookup: bookId -> Inventory
-        Map<Long, Inventory> inventoryMap = inventories.stream()
-                .collect(java.util.stream.Collectors.toMap(Inventory::getBookId, inv -> inv));
-
-        // Check availability in-memory
-        List<Long> unavailableBooks = new ArrayList<>();
-        for (Map.Entry<Long, Integer> entry : bookQuantities.entrySet()) {
-            Long bookId = entry.getKey();
-            Integer requestedQuantity = entry.getValue();
-            Inventory inventory = inventoryMap.get(bookId);
-            if (inventory == null || inventory.getQuantity() < requestedQuantity) {
-                unavailableBooks.add(bookId);
+        Map<Long, InventoryResponseDTO> result = new LinkedHashMap<>();
+        for (Long bookId : distinctIds) {
+            InventoryResponseDTO inventory = found.get(bookId);
+            if (inventory != null) {
+                result.put(bookId, inventory);
             }
         }
+        return result;
+    }
 
-        if (!unavailableBooks.isEmpty()) {
-            log.warn("Bulk inventory reduction failed. Unavailable books: {}", unavailableBooks);
-            throw new InsufficientStockException(
-                    "Insufficient stock for books: " + unavailableBooks);
+    @Override
+    public Map<Long, BulkRestockResultDTO> restockBulkInventory(Map<Long, Integer> bookQuantities) {
+        checkBulkRequestSize(bookQuantities.size());
+        return restockInChunks(bookQuantities.keySet(), chunkIds -> {
+            SortedMap<Long, Integer> chunk = new TreeMap<>();
+            chunkIds.forEach(bookId -> chunk.put(bookId, bookQuantities.get(bookId)));
+            return bulkWriter.restockChunk(chunk);
+        });
+    }
+
+    @Override
+    public Map<Long, BulkRestockResultDTO> restockBulkInventory(Map<Long, Integer> bookQuantities,
+                                                                Map<Long, Map<Long, Integer>> sagaQuantities,
+                                                                Set<Long> keyedSagaIds) {
+        checkBulkRequestSize(bookQuantities.size());
+        checkSagaQuantities(bookQuantities, sagaQuantities);
+        Set<Long> keyed = keyedSagaIds != null ? keyedSagaIds : Set.of();
+        return restockInChunks(bookQuantities.keySet(),
+                chunkIds -> bulkWriter.restockSagaChunk(new TreeSet<>(chunkIds), sagaQuantities, keyed));
+    }
+
+    @Override
+    public void reduceBulkInventory(LongIntHashMap bookQuantities) {
+        if (bookQuantities == null || bookQuantities.isEmpty()) {
+            return;
         }
 
-        // All available - proceed with deduction in-memory and batch save
-        for (Map.Entry<Long, Integer> entry : bookQuantities.entrySet()) {
-            Long bookId = entry.getKey();
-            Integer quantity = entry.getValue();
-            Inventory inventory = inventoryMap.get(bookId);
-            inventory.setQuantity(inventory.getQuantity() - quantity);
+        // All-or-nothing deduction; the strategy validates every book before committing
+        LongIntHashMap deltas = new LongIntHashMap(bookQuantities.size());
+        bookQuantities.forEach((bookId, quantity) -> {
+            if (bookId <= 0 || quantity <= 0) {
+                throw new InvalidInventoryOperationException(
+                        "Book ID and quantity must be positive, got " + bookId + " -> " + quantity);
+            }
+            deltas.put(bookId, -quantity);
+        });
+
+        lockingStrategy.applyDeltas(deltas, ChangeType.REDUCED);
+        log.debug("Bulk inventory reduction for {} books completed using {} locking",
+                deltas.size(), lockingStrategy.getMode());
+    }
+
+    @Override
+    public void reduceBulkInventory(LongIntHashMap bookQuantities, Map<Long, Map<Long, Integer>> sagaQuantities) {
+        checkSagaQuantities(bookQuantities.toMap(), sagaQuantities);
+
+        // A recorded saga was reduced before, or voided by a compensation that arrived first
+        Set<Long> recorded = new HashSet<>(sagaStockRepository.findRecordedSagaIds(sagaQuantities.keySet()));
+        Map<Long, Map<Long, Integer>> pending = new HashMap<>();
+        Map<Long, Integer> deltas = new HashMap<>();
+        sagaQuantities.forEach((sagaId, items) -> {
+            if (recorded.contains(sagaId)) {
+                return;
+            }
+            pending.put(sagaId, items);
+            items.forEach((bookId, quantity) -> deltas.merge(bookId, -quantity, Integer::sum));
+        });
+        if (!recorded.isEmpty()) {
+            log.info("Skipped stock reduction for sagas already recorded: {}", recorded);
+        }
+        if (deltas.isEmpty()) {
+            return;
         }
 
-        // Save all updated inventories in one batch
-        inventoryRepository.saveAll(inventories);
-        log.debug("Bulk inventory reduction for {} books completed with optimized queries", bookIds.size());
+        // Recorded inside each write attempt, so a concurrent duplicate fails on the unique key
+        // before locking stock and a retried attempt records the sagas again with its stock change
+        lockingStrategy.applyDeltas(deltas, ChangeType.REDUCED,
+                () -> sagaStockRepository.saveAll(reservedRecords(pending)));
+        log.debug("Saga stock reduction for {} sagas and {} books completed using {} locking",
+                pending.size(), deltas.size(), lockingStrategy.getMode());
     }
 }
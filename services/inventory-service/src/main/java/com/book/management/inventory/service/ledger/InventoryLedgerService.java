@@ -0,0 +1,289 @@
+package com.book.management.inventory.service.ledger;
+
+import com.book.management.inventory.config.LedgerProperties;
+import com.book.management.inventory.dto.LedgerReplayDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Append-only ledger of inventory movements with compacted snapshots.
+ *
+ * Movements are collected from {@link InventoryChangeEvent}s during a
+ * transaction and written with a single JDBC batch just before it commits,
+ * so a bulk reduction costs one round trip and a rolled-back change leaves
+ * no trace. Snapshots periodically fold the movements of each book into one
+ * row and mark them with the snapshot's ID; the quantity of any book can then
+ * be rebuilt as its latest snapshot plus its movements not folded yet. A
+ * movement with a lower ID that commits after a snapshot is simply folded by
+ * the next one.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+public class InventoryLedgerService {
+
+    private static final String INSERT_MOVEMENT_SQL =
+            "INSERT INTO inventory_movements (book_id, inventory_id, movement_type, quantity_delta, quantity_after, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String LATEST_SNAPSHOT_JOIN =
+            "LEFT JOIN inventory_snapshots s ON s.book_id = m.book_id "
+            + "AND s.snapshot_id = (SELECT MAX(s2.snapshot_id) FROM inventory_snapshots s2 WHERE s2.book_id = m.book_id) ";
+
+    /** Marker of movements claimed by the running snapshot; never committed. */
+    private static final long FOLDING = 0L;
+
+    /**
+     * Claims every committed movement not folded yet. Movements committing
+     * later stay unfolded whatever their ID.
+     */
+    private static final String CLAIM_SQL =
+            "UPDATE inventory_movements SET snapshot_id = " + FOLDING + " WHERE snapshot_id IS NULL";
+
+    /** Folds the claimed movements into each book's latest snapshot. */
+    private static final String SNAPSHOT_SQL =
+            "INSERT INTO inventory_snapshots (book_id, quantity, last_movement_id, created_at) "
+            + "SELECT m.book_id, COALESCE(MAX(s.quantity), 0) + SUM(m.quantity_delta), "
+            + "GREATEST(COALESCE(MAX(s.last_movement_id), 0), MAX(m.movement_id)), ? "
+            + "FROM inventory_movements m " + LATEST_SNAPSHOT_JOIN
+            + "WHERE m.snapshot_id = " + FOLDING + " "
+            + "GROUP BY m.book_id";
+
+    /** Marks the claimed movements with the snapshot that folded them. */
+    private static final String MARK_FOLDED_SQL =
+            "UPDATE inventory_movements m SET snapshot_id = "
+            + "(SELECT MAX(s.snapshot_id) FROM inventory_snapshots s WHERE s.book_id = m.book_id) "
+            + "WHERE m.snapshot_id = " + FOLDING;
+
+    /** Keeps only the latest snapshot of each book; the derived table is required by MySQL. */
+    private static final String COMPACT_SQL =
+            "DELETE FROM inventory_snapshots WHERE snapshot_id NOT IN ("
+            + "SELECT latest.snapshot_id FROM (SELECT MAX(snapshot_id) AS snapshot_id FROM inventory_snapshots GROUP BY book_id) latest)";
+
+    /** Records the current quantity of books that predate the ledger. */
+    private static final String OPENING_BALANCE_SQL =
+            "INSERT INTO inventory_snapshots (book_id, quantity, last_movement_id, created_at) "
+            + "SELECT i.book_id, i.quantity, 0, ? FROM inventory i "
+            + "WHERE NOT EXISTS (SELECT 1 FROM inventory_snapshots s WHERE s.book_id = i.book_id) "
+            + "AND NOT EXISTS (SELECT 1 FROM inventory_movements m WHERE m.book_id = i.book_id)";
+
+    private static final String SELECT_SNAPSHOT =
+            "SELECT s.snapshot_id, s.book_id, s.quantity, s.last_movement_id FROM inventory_snapshots s ";
+
+    private static final String LATEST_SNAPSHOTS_SQL = SELECT_SNAPSHOT
+            + "WHERE s.snapshot_id IN (SELECT MAX(snapshot_id) FROM inventory_snapshots GROUP BY book_id)";
+
+    /** Single-book variant of {@link #LATEST_SNAPSHOTS_SQL}, served by idx_snapshot_book_id. */
+    private static final String LATEST_BOOK_SNAPSHOT_SQL = SELECT_SNAPSHOT
+            + "WHERE s.book_id = ? AND s.snapshot_id = (SELECT MAX(snapshot_id) FROM inventory_snapshots WHERE book_id = ?)";
+
+    private static final String SELECT_UNFOLDED_MOVEMENTS =
+            "SELECT m.book_id, COUNT(*) AS movements, SUM(m.quantity_delta) AS delta "
+            + "FROM inventory_movements m WHERE m.snapshot_id IS NULL ";
+
+    /** Served by idx_movement_snapshot. */
+    private static final String UNFOLDED_MOVEMENTS_SQL = SELECT_UNFOLDED_MOVEMENTS
+            + "GROUP BY m.book_id";
+
+    /** Single-book variant of {@link #UNFOLDED_MOVEMENTS_SQL}. */
+    private static final String BOOK_UNFOLDED_MOVEMENTS_SQL = SELECT_UNFOLDED_MOVEMENTS
+            + "AND m.book_id = ? GROUP BY m.book_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryRepository inventoryRepository;
+    private final ShardedStockManager shardedStockManager;
+    private final LedgerProperties properties;
+
+    /** Transaction resource key of the pending movement buffer. */
+    private final Object bufferKey = new Object();
+
+    public InventoryLedgerService(JdbcTemplate jdbcTemplate,
+                                  InventoryRepository inventoryRepository,
+                                  ShardedStockManager shardedStockManager,
+                                  LedgerProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.inventoryRepository = inventoryRepository;
+        this.shardedStockManager = shardedStockManager;
+        this.properties = properties;
+    }
+
+    /**
+     * Queues a movement for the current transaction. Outside a transaction
+     * the movement is written immediately.
+     *
+     * @param event the inventory change event
+     */
+    @EventListener
+    public void onInventoryChange(InventoryChangeEvent event) {
+        if (!properties.isEnabled() || event.delta() == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insertMovements(List.of(event));
+            return;
+        }
+        pendingMovements().add(event);
+    }
+
+    /**
+     * Records opening balances for books that have neither a snapshot nor
+     * any movement, so that books predating the ledger can be replayed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recordOpeningBalances() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int seeded = jdbcTemplate.update(OPENING_BALANCE_SQL, Timestamp.valueOf(LocalDateTime.now()));
+        if (seeded > 0) {
+            log.info("Recorded opening ledger balances for {} books", seeded);
+        }
+    }
+
+    /**
+     * Folds every committed movement not folded yet into a new snapshot per
+     * book and drops the superseded snapshots. The claim, the new snapshots
+     * and the marks commit together, so a movement is folded exactly once.
+     *
+     * @return number of books snapshotted
+     */
+    @Transactional
+    public int takeSnapshot() {
+        int movements = jdbcTemplate.update(CLAIM_SQL);
+        if (movements == 0) {
+            return 0;
+        }
+
+        int books = jdbcTemplate.update(SNAPSHOT_SQL, Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(MARK_FOLDED_SQL);
+        int compacted = jdbcTemplate.update(COMPACT_SQL);
+        log.info("Ledger snapshot folded {} movements of {} books, compacted {} old snapshots",
+                movements, books, compacted);
+        return books;
+    }
+
+    /**
+     * Rebuilds quantities from the latest snapshot plus unfolded movements and
+     * compares them with the live inventory.
+     *
+     * @param bookId optional book ID to restrict the replay to
+     * @return replay results ordered by book ID
+     */
+    @Transactional(readOnly = true)
+    public List<LedgerReplayDTO> replay(Long bookId) {
+        Map<Long, LedgerReplayDTO> results = new HashMap<>();
+        Object[] snapshotArgs = bookId != null ? new Object[] { bookId, bookId } : new Object[0];
+        Object[] movementArgs = bookId != null ? new Object[] { bookId } : new Object[0];
+
+        jdbcTemplate.query(bookId != null ? LATEST_BOOK_SNAPSHOT_SQL : LATEST_SNAPSHOTS_SQL, rs -> {
+            long snapshotBookId = rs.getLong("book_id");
+            results.put(snapshotBookId, LedgerReplayDTO.builder()
+                    .bookId(snapshotBookId)
+                    .snapshotId(rs.getLong("snapshot_id"))
+                    .snapshotQuantity(rs.getInt("quantity"))
+                    .snapshotMovementId(rs.getLong("last_movement_id"))
+                    .movementsReplayed(0L)
+                    .replayedQuantity(rs.getInt("quantity"))
+                    .build());
+        }, snapshotArgs);
+
+        jdbcTemplate.query(bookId != null ? BOOK_UNFOLDED_MOVEMENTS_SQL : UNFOLDED_MOVEMENTS_SQL, rs -> {
+            long movementBookId = rs.getLong("book_id");
+            LedgerReplayDTO result = results.computeIfAbsent(movementBookId, id -> LedgerReplayDTO.builder()
+                    .bookId(id)
+                    .snapshotQuantity(0)
+                    .snapshotMovementId(0L)
+                    .replayedQuantity(0)
+                    .build());
+            result.setMovementsReplayed(rs.getLong("movements"));
+            result.setReplayedQuantity(result.getReplayedQuantity() + rs.getInt("delta"));
+        }, movementArgs);
+
+        Collection<Long> bookIds = new TreeSet<>(results.keySet());
+        Map<Long, Integer> current = currentQuantities(bookIds);
+        List<LedgerReplayDTO> replayed = new ArrayList<>(bookIds.size());
+        for (Long id : bookIds) {
+            LedgerReplayDTO result = results.get(id);
+            Integer currentQuantity = current.get(id);
+            result.setCurrentQuantity(currentQuantity);
+            result.setConsistent(currentQuantity != null
+                    ? currentQuantity.equals(result.getReplayedQuantity())
+                    : result.getReplayedQuantity() == 0);
+            replayed.add(result);
+        }
+        return replayed;
+    }
+
+    private Map<Long, Integer> currentQuantities(Collection<Long> bookIds) {
+        Map<Long, Integer> current = new HashMap<>();
+        if (bookIds.isEmpty()) {
+            return current;
+        }
+        for (Inventory inventory : inventoryRepository.findByBookIdIn(new ArrayList<>(bookIds))) {
+            current.put(inventory.getBookId(), inventory.isSharded()
+                    ? shardedStockManager.sumSlots(inventory.getBookId())
+                    : inventory.getQuantity());
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<InventoryChangeEvent> pendingMovements() {
+        List<InventoryChangeEvent> pending = (List<InventoryChangeEvent>) TransactionSynchronizationManager.getResource(bufferKey);
+        if (pending != null) {
+            return pending;
+        }
+
+        List<InventoryChangeEvent> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(bufferKey, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                insertMovements(buffer);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(bufferKey);
+            }
+        });
+        return buffer;
+    }
+
+    private void insertMovements(List<InventoryChangeEvent> movements) {
+        if (movements.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, movements, properties.getBatchSize(), (ps, event) -> {
+            ps.setLong(1, event.bookId());
+            ps.setObject(2, event.inventoryId());
+            ps.setString(3, event.changeType().name());
+            ps.setInt(4, event.delta());
+            ps.setInt(5, event.quantity());
+            ps.setTimestamp(6, Timestamp.valueOf(event.occurredAt()));
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.book.management.inventory.service.locking;
+
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.InsufficientStockException;
+import com.book.management.inventory.exception.InventoryNotFoundException;
+import com.book.management.inventory.exception.ShardModeChangedException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Base class holding the validation and error reporting shared by all
+ * locking strategies.
+ *
+ * Deltas are always processed in ascending book ID order so that concurrent
+ * multi-book writes acquire row locks in the same order and cannot deadlock.
+ * Rows in sharded-stock mode are never written here; their stock lives in
+ * slots.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Slf4j
+public abstract class AbstractInventoryLockingStrategy implements InventoryLockingStrategy {
+
+    private static final String BOOK_ID_FIELD = "bookId";
+    private static final Runnable NO_WORK = () -> { };
+
+    protected final InventoryRepository inventoryRepository;
+    protected final TransactionTemplate transactionTemplate;
+    protected final ApplicationEventPublisher eventPublisher;
+
+    protected AbstractInventoryLockingStrategy(InventoryRepository inventoryRepository,
+                                               TransactionTemplate transactionTemplate,
+                                               ApplicationEventPublisher eventPublisher) {
+        this.inventoryRepository = inventoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Inventory applyDelta(Long bookId, int delta, ChangeType changeType) {
+        return applyDeltas(Map.of(bookId, delta), changeType).get(bookId);
+    }
+
+    @Override
+    public Map<Long, Inventory> applyDeltas(Map<Long, Integer> deltas, ChangeType changeType) {
+        return applyDeltas(deltas, changeType, NO_WORK);
+    }
+
+    @Override
+    public Map<Long, Inventory> applyDeltas(Map<Long, Integer> deltas, ChangeType changeType, Runnable beforeWrite) {
+        if (deltas == null || deltas.isEmpty()) {
+            return new HashMap<>();
+        }
+        return apply(new TreeMap<>(deltas), changeType, beforeWrite);
+    }
+
+    @Override
+    public Map<Long, Inventory> applyDeltas(LongIntHashMap deltas, ChangeType changeType) {
+        if (deltas == null || deltas.isEmpty()) {
+            return new HashMap<>();
+        }
+        // Keys come out sorted, so the ordered map is filled directly without an intermediate map
+        SortedMap<Long, Integer> sorted = new TreeMap<>();
+        for (long bookId : deltas.sortedKeys()) {
+            sorted.put(bookId, deltas.getOrDefault(bookId, 0));
+        }
+        return apply(sorted, changeType, NO_WORK);
+    }
+
+    /**
+     * Applies the ordered deltas using the concrete locking mode.
+     * Implementations must run {@code beforeWrite} first in every attempt's
+     * transaction and call {@link #applied} before that transaction commits.
+     *
+     * @param deltas      book ID to quantity change, sorted by book ID
+     * @param changeType  the kind of mutation
+     * @param beforeWrite caller work joined to the write transaction
+     * @return updated inventories keyed by book ID
+     */
+    protected abstract Map<Long, Inventory> apply(SortedMap<Long, Integer> deltas, ChangeType changeType,
+                                                  Runnable beforeWrite);
+
+    /**
+     * Publishes a change event for every applied delta. Called from inside
+     * the write transaction, so in-transaction listeners commit or roll back
+     * together with the stock change.
+     *
+     * @param inventories the updated rows, keyed by book ID
+     * @param deltas      the applied changes
+     * @param changeType  the kind of mutation
+     * @return the updated rows, for chaining
+     */
+    protected Map<Long, Inventory> applied(Map<Long, Inventory> inventories,
+                                           SortedMap<Long, Integer> deltas,
+                                           ChangeType changeType) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            Inventory inventory = inventories.get(entry.getKey());
+            eventPublisher.publishEvent(new InventoryChangeEvent(inventory.getInventoryId(), inventory.getBookId(),
+                    changeType, inventory.getQuantity() - entry.getValue(), inventory.getQuantity(),
+                    inventory.getLowStockThreshold(), inventory.getLowStockThreshold(), now));
+        }
+        return inventories;
+    }
+
+    /**
+     * Validates the deltas against loaded rows and applies them in memory.
+     *
+     * @param inventories the current rows, keyed by book ID
+     * @param deltas      the requested changes
+     */
+    protected void checkAndApply(Map<Long, Inventory> inventories, SortedMap<Long, Integer> deltas) {
+        rejectSharded(inventories, deltas.keySet());
+        List<Long> unavailable = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            Inventory inventory = inventories.get(entry.getKey());
+            if (inventory == null || inventory.getQuantity() + entry.getValue() < 0) {
+                unavailable.add(entry.getKey());
+            }
+        }
+
+        if (!unavailable.isEmpty()) {
+            throw shortfall(inventories, deltas, unavailable);
+        }
+
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            Inventory inventory = inventories.get(entry.getKey());
+            inventory.setQuantity(inventory.getQuantity() + entry.getValue());
+        }
+    }
+
+    /**
+     * Refuses to write rows that are in sharded-stock mode.
+     *
+     * @param inventories the current rows, keyed by book ID
+     * @param bookIds     the books about to be written
+     * @throws ShardModeChangedException if any of them is sharded
+     */
+    protected void rejectSharded(Map<Long, Inventory> inventories, Collection<Long> bookIds) {
+        List<Long> sharded = new ArrayList<>();
+        for (Long bookId : bookIds) {
+            Inventory inventory = inventories.get(bookId);
+            if (inventory != null && inventory.isSharded()) {
+                sharded.add(bookId);
+            }
+        }
+        if (!sharded.isEmpty()) {
+            throw new ShardModeChangedException(sharded);
+        }
+    }
+
+    /**
+     * Builds the exception describing why the deltas could not be applied.
+     * Single-book requests keep the detailed messages of the non-bulk API.
+     *
+     * @param inventories the current rows, keyed by book ID
+     * @param deltas      the requested changes
+     * @param unavailable book IDs that were missing or short of stock
+     * @return the exception to throw
+     */
+    protected RuntimeException shortfall(Map<Long, Inventory> inventories,
+                                         SortedMap<Long, Integer> deltas,
+                                         List<Long> unavailable) {
+        log.warn("Stock change rejected ({}). Unavailable books: {}, requested deltas: {}",
+                getMode(), unavailable, deltas);
+        if (deltas.size() == 1) {
+            Long bookId = deltas.firstKey();
+            Inventory inventory = inventories.get(bookId);
+            if (inventory == null) {
+                return new InventoryNotFoundException(BOOK_ID_FIELD, bookId);
+            }
+            return new InsufficientStockException(bookId, inventory.getQuantity(), -deltas.get(bookId));
+        }
+        return new InsufficientStockException("Insufficient stock for books: " + unavailable);
+    }
+
+    /**
+     * Indexes inventories by book ID.
+     *
+     * @param inventories the inventories to index
+     * @return map of book ID to inventory
+     */
+    protected static Map<Long, Inventory> byBookId(Collection<Inventory> inventories) {
+        Map<Long, Inventory> map = new HashMap<>();
+        for (Inventory inventory : inventories) {
+            map.put(inventory.getBookId(), inventory);
+        }
+        return map;
+    }
+}
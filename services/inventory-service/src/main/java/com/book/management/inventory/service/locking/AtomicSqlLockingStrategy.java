@@ -0,0 +1,63 @@
+package com.book.management.inventory.service.locking;
+
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Atomic SQL strategy issuing a conditional
+ * {@code UPDATE inventory SET quantity = quantity + ? WHERE book_id = ? AND quantity + ? >= 0}
+ * per book.
+ *
+ * The stock check, and the check that the book is not sharded, happen inside
+ * the UPDATE itself, so no row is read before it is written and the row lock is held only for the statement. If any book
+ * cannot be updated the whole transaction is rolled back.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class AtomicSqlLockingStrategy extends AbstractInventoryLockingStrategy {
+
+    public AtomicSqlLockingStrategy(InventoryRepository inventoryRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    ApplicationEventPublisher eventPublisher) {
+        super(inventoryRepository, transactionTemplate, eventPublisher);
+    }
+
+    @Override
+    public LockingMode getMode() {
+        return LockingMode.ATOMIC;
+    }
+
+    @Override
+    protected Map<Long, Inventory> apply(SortedMap<Long, Integer> deltas, ChangeType changeType,
+                                         Runnable beforeWrite) {
+        return transactionTemplate.execute(status -> {
+            beforeWrite.run();
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> unavailable = new ArrayList<>();
+            for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+                if (inventoryRepository.applyQuantityDelta(entry.getKey(), entry.getValue(), now) == 0) {
+                    unavailable.add(entry.getKey());
+                }
+            }
+
+            List<Long> bookIds = new ArrayList<>(deltas.keySet());
+            if (!unavailable.isEmpty()) {
+                Map<Long, Inventory> inventories = byBookId(inventoryRepository.findByBookIdIn(bookIds));
+                rejectSharded(inventories, unavailable);
+                throw shortfall(inventories, deltas, unavailable);
+            }
+            return applied(byBookId(inventoryRepository.findByBookIdIn(bookIds)), deltas, changeType);
+        });
+    }
+}
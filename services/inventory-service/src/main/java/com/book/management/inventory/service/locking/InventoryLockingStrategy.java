@@ -0,0 +1,87 @@
+package com.book.management.inventory.service.locking;
+
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.ConcurrentStockUpdateException;
+import com.book.management.inventory.exception.InsufficientStockException;
+import com.book.management.inventory.exception.InventoryNotFoundException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+
+import java.util.Map;
+
+/**
+ * Strategy for applying quantity changes to inventory rows under concurrency.
+ *
+ * Implementations own the transaction boundary of the write so that they can
+ * retry (optimistic) or lock (pessimistic) as their mode requires. Callers must
+ * therefore not invoke them from inside an existing transaction.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public interface InventoryLockingStrategy {
+
+    /**
+     * Returns the mode implemented by this strategy.
+     *
+     * @return the locking mode
+     */
+    LockingMode getMode();
+
+    /**
+     * Applies a signed quantity change to a single book and publishes an
+     * {@link InventoryChangeEvent} inside the write transaction.
+     *
+     * @param bookId     the book ID
+     * @param delta      the quantity change, negative for reductions
+     * @param changeType the kind of mutation reported in the change event
+     * @return the updated inventory
+     * @throws InventoryNotFoundException     if no inventory exists for the book
+     * @throws InsufficientStockException     if the change would make stock negative
+     * @throws ConcurrentStockUpdateException if the write kept conflicting
+     */
+    Inventory applyDelta(Long bookId, int delta, ChangeType changeType);
+
+    /**
+     * Applies signed quantity changes to several books, all or nothing, and
+     * publishes one {@link InventoryChangeEvent} per book inside the write
+     * transaction.
+     *
+     * @param deltas     map of book ID to quantity change
+     * @param changeType the kind of mutation reported in the change events
+     * @return updated inventories keyed by book ID
+     * @throws InsufficientStockException     if any book is missing or would go negative
+     * @throws ConcurrentStockUpdateException if the write kept conflicting
+     */
+    Map<Long, Inventory> applyDeltas(Map<Long, Integer> deltas, ChangeType changeType);
+
+    /**
+     * Variant of {@link #applyDeltas(Map, ChangeType)} that runs
+     * {@code beforeWrite} inside the write transaction before any stock is
+     * changed. Whatever it writes commits or rolls back with the stock
+     * change, and it runs again for every retried attempt, so it must build
+     * fresh entities each time. Nothing runs for an empty map.
+     *
+     * @param deltas      map of book ID to quantity change
+     * @param changeType  the kind of mutation reported in the change events
+     * @param beforeWrite work joined to the write transaction
+     * @return updated inventories keyed by book ID
+     * @throws InsufficientStockException     if any book is missing or would go negative
+     * @throws ConcurrentStockUpdateException if the write kept conflicting
+     */
+    Map<Long, Inventory> applyDeltas(Map<Long, Integer> deltas, ChangeType changeType, Runnable beforeWrite);
+
+    /**
+     * Variant of {@link #applyDeltas(Map, ChangeType)} for bulk callers that
+     * already hold the deltas in a {@link LongIntHashMap}.
+     *
+     * @param deltas     book ID to quantity change
+     * @param changeType the kind of mutation reported in the change events
+     * @return updated inventories keyed by book ID
+     * @throws InsufficientStockException     if any book is missing or would go negative
+     * @throws ConcurrentStockUpdateException if the write kept conflicting
+     */
+    Map<Long, Inventory> applyDeltas(LongIntHashMap deltas, ChangeType changeType);
+}
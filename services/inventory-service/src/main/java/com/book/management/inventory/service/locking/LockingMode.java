@@ -0,0 +1,22 @@
+package com.book.management.inventory.service.locking;
+
+/**
+ * Concurrency control modes available for inventory quantity writes.
+ *
+ * Selected per deployment through {@code inventory.locking.mode}.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum LockingMode {
+
+    /** Read, modify and rely on the {@code @Version} check, retrying on conflict. */
+    OPTIMISTIC,
+
+    /** {@code SELECT ... FOR UPDATE} with rows locked in ascending book ID order. */
+    PESSIMISTIC,
+
+    /** Conditional {@code UPDATE ... SET quantity = quantity + ?} without a prior read. */
+    ATOMIC
+}
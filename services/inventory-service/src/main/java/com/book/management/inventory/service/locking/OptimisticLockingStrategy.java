@@ -0,0 +1,103 @@
+package com.book.management.inventory.service.locking;
+
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.ConcurrentStockUpdateException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optimistic locking strategy relying on the {@code @Version} column of
+ * {@link Inventory}.
+ *
+ * Every attempt runs in its own transaction: rows are read without locks,
+ * changed in memory and flushed. A version conflict rolls the attempt back
+ * and the whole read-modify-write is retried after a short randomised
+ * back-off, up to a bounded number of attempts. When joined to an outer
+ * transaction a conflict cannot be retried locally and is reported at once.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Slf4j
+public class OptimisticLockingStrategy extends AbstractInventoryLockingStrategy {
+
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final LongAdder conflicts = new LongAdder();
+
+    public OptimisticLockingStrategy(InventoryRepository inventoryRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     ApplicationEventPublisher eventPublisher,
+                                     int maxAttempts,
+                                     long retryBackoffMillis) {
+        super(inventoryRepository, transactionTemplate, eventPublisher);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+    }
+
+    @Override
+    public LockingMode getMode() {
+        return LockingMode.OPTIMISTIC;
+    }
+
+    /**
+     * Returns the number of version conflicts seen since startup.
+     *
+     * @return total conflicts, including those that were retried successfully
+     */
+    public long getConflictCount() {
+        return conflicts.sum();
+    }
+
+    @Override
+    protected Map<Long, Inventory> apply(SortedMap<Long, Integer> deltas, ChangeType changeType,
+                                         Runnable beforeWrite) {
+        int attempts = TransactionSynchronizationManager.isActualTransactionActive() ? 1 : maxAttempts;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    beforeWrite.run();
+                    List<Inventory> inventories = inventoryRepository.findByBookIdIn(new ArrayList<>(deltas.keySet()));
+                    Map<Long, Inventory> inventoryMap = byBookId(inventories);
+                    checkAndApply(inventoryMap, deltas);
+                    inventoryRepository.saveAllAndFlush(inventories);
+                    return applied(inventoryMap, deltas, changeType);
+                });
+            } catch (ObjectOptimisticLockingFailureException ex) {
+                conflicts.increment();
+                if (attempt >= attempts) {
+                    log.warn("Optimistic stock update gave up after {} attempts for books: {}",
+                            attempt, deltas.keySet());
+                    throw new ConcurrentStockUpdateException(deltas.keySet(), attempt);
+                }
+                log.debug("Version conflict on attempt {} for books: {}, retrying", attempt, deltas.keySet());
+                backOff();
+            }
+        }
+    }
+
+    private void backOff() {
+        if (retryBackoffMillis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(retryBackoffMillis, retryBackoffMillis * 2 + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentStockUpdateException("Interrupted while retrying stock update");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.book.management.inventory.service.locking;
+
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Pessimistic locking strategy using {@code SELECT ... FOR UPDATE}.
+ *
+ * Rows are locked in ascending book ID order, so two orders touching the
+ * same books always queue behind each other instead of deadlocking.
+ * Conflicting writers wait rather than abort.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class PessimisticLockingStrategy extends AbstractInventoryLockingStrategy {
+
+    public PessimisticLockingStrategy(InventoryRepository inventoryRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      ApplicationEventPublisher eventPublisher) {
+        super(inventoryRepository, transactionTemplate, eventPublisher);
+    }
+
+    @Override
+    public LockingMode getMode() {
+        return LockingMode.PESSIMISTIC;
+    }
+
+    @Override
+    protected Map<Long, Inventory> apply(SortedMap<Long, Integer> deltas, ChangeType changeType,
+                                         Runnable beforeWrite) {
+        return transactionTemplate.execute(status -> {
+            beforeWrite.run();
+            Map<Long, Inventory> inventoryMap = byBookId(
+                    inventoryRepository.findByBookIdInForUpdate(deltas.keySet()));
+            checkAndApply(inventoryMap, deltas);
+            return applied(inventoryMap, deltas, changeType);
+        });
+    }
+}
@@ -0,0 +1,449 @@
+package com.book.management.inventory.service.planning;
+
+import com.book.management.inventory.config.ListingProperties;
+import com.book.management.inventory.config.RestockPlanningProperties;
+import com.book.management.inventory.dto.RestockPlanDTO;
+import com.book.management.inventory.dto.RestockPlanPageDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.InvalidInventoryOperationException;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Restock planning from stock on hand and recent demand.
+ *
+ * Committed reductions are counted per book in memory and flushed to
+ * {@code inventory_demand} on a schedule, so recording demand adds no write
+ * to the reduction itself. A failed flush puts its counts back for the next
+ * one, and the remaining counts are flushed on shutdown. A planning run streams the inventory table in
+ * keyset chunks, computes daily velocity, days of cover and a suggested
+ * reorder quantity for each chunk on a dedicated fork-join pool, and writes
+ * the results to {@code restock_plans} with one JDBC batch and one short
+ * transaction per chunk. Readers are served the run recorded in
+ * {@code restock_plan_latest_run}, which a final transaction switches to the
+ * new run once all of it is written, deleting the previous run.
+ *
+ * The suggestion tops stock up to the demand expected over the lead time
+ * and review period plus the low-stock threshold as safety stock. A book
+ * with no demand in the window keeps the old threshold-minus-quantity rule.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+public class RestockPlanningService {
+
+    private static final String INSERT_DEMAND_SQL =
+            "INSERT INTO inventory_demand (book_id, demand_date, units) VALUES (?, ?, ?)";
+
+    private static final String DEMAND_SINCE_SQL =
+            "SELECT book_id, SUM(units) FROM inventory_demand WHERE demand_date >= ? GROUP BY book_id";
+
+    private static final String PRUNE_DEMAND_SQL = "DELETE FROM inventory_demand WHERE demand_date < ?";
+
+    private static final String INVENTORY_CHUNK_SQL =
+            "SELECT inventory_id, book_id, quantity, low_stock_threshold FROM inventory "
+            + "WHERE inventory_id > ? ORDER BY inventory_id LIMIT ?";
+
+    private static final String INSERT_PLAN_SQL =
+            "INSERT INTO restock_plans (run_id, book_id, quantity, low_stock_threshold, daily_velocity, "
+            + "days_of_cover, suggested_quantity, planned_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_OLD_RUNS_SQL = "DELETE FROM restock_plans WHERE run_id < ?";
+
+    private static final String DELETE_RUN_SQL = "DELETE FROM restock_plans WHERE run_id = ?";
+
+    /** Highest run written so far, switched in or not. */
+    private static final String MAX_RUN_SQL = "SELECT MAX(run_id) FROM restock_plans";
+
+    private static final String LATEST_RUN_SQL = "SELECT run_id FROM restock_plan_latest_run WHERE run_key = ?";
+
+    private static final String LOCK_LATEST_RUN_SQL = LATEST_RUN_SQL + " FOR UPDATE";
+
+    private static final String INSERT_LATEST_RUN_SQL =
+            "INSERT INTO restock_plan_latest_run (run_key, run_id, switched_at) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_LATEST_RUN_SQL =
+            "UPDATE restock_plan_latest_run SET run_id = ?, switched_at = ? WHERE run_key = ?";
+
+    /** Key of the single row of {@code restock_plan_latest_run}. */
+    private static final int LATEST_RUN_KEY = 1;
+
+    private static final String PLAN_PAGE_SQL =
+            "SELECT book_id, quantity, low_stock_threshold, daily_velocity, days_of_cover, suggested_quantity, planned_at "
+            + "FROM restock_plans WHERE run_id = ? AND book_id > ? AND suggested_quantity >= ? "
+            + "ORDER BY book_id LIMIT ?";
+
+    /** Rows below which a planning task computes instead of splitting. */
+    private static final int SPLIT_THRESHOLD = 2_048;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardedStockManager shardedStockManager;
+    private final RestockPlanningProperties properties;
+    private final ListingProperties listingProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+
+    /** Units reduced per book since the last flush. */
+    private final Map<Long, Integer> pendingDemand = new ConcurrentHashMap<>();
+
+    public RestockPlanningService(JdbcTemplate jdbcTemplate,
+                                  ShardedStockManager shardedStockManager,
+                                  RestockPlanningProperties properties,
+                                  ListingProperties listingProperties,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardedStockManager = shardedStockManager;
+        this.properties = properties;
+        this.listingProperties = listingProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pool = new ForkJoinPool(properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        try {
+            flushDemand();
+        } catch (RuntimeException ex) {
+            log.warn("Could not flush demand for {} books on shutdown: {}", pendingDemand.size(), ex.getMessage());
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Counts a committed reduction as demand for its book.
+     *
+     * @param event the inventory change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChange(InventoryChangeEvent event) {
+        if (!properties.isEnabled() || event.changeType() != ChangeType.REDUCED || event.delta() >= 0) {
+            return;
+        }
+        pendingDemand.merge(event.bookId(), -event.delta(), Integer::sum);
+    }
+
+    /**
+     * Writes the demand counted since the previous flush as today's demand.
+     * If the write fails the counts are merged back and the exception is
+     * rethrown, so the next flush writes them.
+     *
+     * @return number of books flushed
+     */
+    public int flushDemand() {
+        List<long[]> rows = new ArrayList<>(pendingDemand.size());
+        for (Long bookId : pendingDemand.keySet()) {
+            // remove() is atomic with merge(), so no reduction is lost or counted twice
+            Integer units = pendingDemand.remove(bookId);
+            if (units != null) {
+                rows.add(new long[] { bookId, units });
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Date today = Date.valueOf(LocalDate.now());
+        try {
+            // One transaction across all chunks, so a failure writes nothing and merging back cannot double count
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_DEMAND_SQL, rows, properties.getChunkSize(), (ps, row) -> {
+                        ps.setLong(1, row[0]);
+                        ps.setDate(2, today);
+                        ps.setInt(3, (int) row[1]);
+                    }));
+        } catch (RuntimeException ex) {
+            for (long[] row : rows) {
+                pendingDemand.merge(row[0], (int) row[1], Integer::sum);
+            }
+            throw ex;
+        }
+        log.debug("Flushed demand for {} books", rows.size());
+        return rows.size();
+    }
+
+    /**
+     * Computes a new restock plan for every inventory record and replaces
+     * the previous plan. Each chunk commits on its own; readers switch to
+     * the new run only after the last one. A failed run deletes what it
+     * wrote and leaves the previous plan in place.
+     *
+     * @return number of books planned
+     */
+    public int plan() {
+        long started = System.nanoTime();
+        LocalDateTime plannedAt = LocalDateTime.now();
+        long runId = nextRunId();
+
+        int windowDays = Math.max(1, properties.getVelocityWindowDays());
+        Date windowStart = Date.valueOf(plannedAt.toLocalDate().minusDays(windowDays - 1L));
+        LongIntHashMap demand = new LongIntHashMap();
+        jdbcTemplate.query(DEMAND_SINCE_SQL, rs -> {
+            demand.put(rs.getLong(1), rs.getInt(2));
+        }, windowStart);
+
+        shardedStockManager.refreshShardedBooks();
+        long[] shardedBookIds = shardedStockManager.getShardedBookIds().stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        int horizonDays = properties.getLeadTimeDays() + properties.getReviewPeriodDays();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+
+        int planned = 0;
+        long afterId = 0;
+        try {
+            while (true) {
+                PlanChunk chunk = readChunk(afterId, chunkSize);
+                if (chunk.size == 0) {
+                    break;
+                }
+                for (int i = 0; i < chunk.size; i++) {
+                    if (Arrays.binarySearch(shardedBookIds, chunk.bookIds[i]) >= 0) {
+                        chunk.quantities[i] = shardedStockManager.getTotalQuantity(chunk.bookIds[i]);
+                    }
+                }
+
+                pool.invoke(new PlanTask(chunk, demand, windowDays, horizonDays, 0, chunk.size));
+                transactionTemplate.executeWithoutResult(status -> insertPlans(runId, plannedAt, chunk));
+
+                planned += chunk.size;
+                afterId = chunk.lastInventoryId;
+                if (chunk.size < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            discardRun(runId);
+            throw ex;
+        }
+
+        Integer replaced = transactionTemplate.execute(status -> switchTo(runId, windowStart));
+        log.info("Restock plan {} covered {} books in {} ms (replaced {} rows)",
+                runId, planned, (System.nanoTime() - started) / 1_000_000, replaced);
+        return planned;
+    }
+
+    /**
+     * Points readers at a fully written run and deletes the runs before it,
+     * including rows left by runs that failed. A run that finishes after a
+     * newer one was switched in is discarded instead.
+     *
+     * @param runId       the run whose rows are all written
+     * @param windowStart first day of the velocity window; older demand is pruned
+     * @return number of plan rows deleted
+     */
+    private int switchTo(long runId, Date windowStart) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> latest = jdbcTemplate.queryForList(LOCK_LATEST_RUN_SQL, Long.class, LATEST_RUN_KEY);
+        if (latest.isEmpty()) {
+            jdbcTemplate.update(INSERT_LATEST_RUN_SQL, LATEST_RUN_KEY, runId, now);
+        } else if (latest.get(0) > runId) {
+            log.info("Restock plan {} finished after newer plan {}; discarding it", runId, latest.get(0));
+            jdbcTemplate.update(DELETE_RUN_SQL, runId);
+            return 0;
+        } else {
+            jdbcTemplate.update(UPDATE_LATEST_RUN_SQL, runId, now, LATEST_RUN_KEY);
+        }
+
+        int pruned = jdbcTemplate.update(PRUNE_DEMAND_SQL, windowStart);
+        log.debug("Pruned {} demand rows before {}", pruned, windowStart);
+        return jdbcTemplate.update(DELETE_OLD_RUNS_SQL, runId);
+    }
+
+    private void discardRun(long runId) {
+        try {
+            jdbcTemplate.update(DELETE_RUN_SQL, runId);
+        } catch (RuntimeException ex) {
+            // Left for the next successful run, which deletes every older run
+            log.warn("Could not delete rows of failed restock plan {}: {}", runId, ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns one page of the latest restock plan ordered by book ID.
+     *
+     * @param afterBookId  exclusive book ID cursor, null for the first page
+     * @param size         page size, null for the configured default
+     * @param reorderOnly  whether to skip books with nothing to reorder
+     * @return the page, empty when no plan has been computed yet
+     */
+    @Transactional(readOnly = true)
+    public RestockPlanPageDTO getPlanPage(Long afterBookId, Integer size, boolean reorderOnly) {
+        int pageSize = size != null ? size : listingProperties.getDefaultPageSize();
+        if (pageSize < 1 || pageSize > listingProperties.getMaxPageSize()) {
+            throw new InvalidInventoryOperationException(
+                    "Page size must be between 1 and " + listingProperties.getMaxPageSize());
+        }
+
+        List<Long> latest = jdbcTemplate.queryForList(LATEST_RUN_SQL, Long.class, LATEST_RUN_KEY);
+        if (latest.isEmpty()) {
+            return RestockPlanPageDTO.builder().items(List.of()).hasMore(false).build();
+        }
+        long runId = latest.get(0);
+
+        // One extra row tells whether another page follows without a count query
+        List<RestockPlanDTO> rows = jdbcTemplate.query(PLAN_PAGE_SQL, (rs, rowNum) -> RestockPlanDTO.builder()
+                .bookId(rs.getLong("book_id"))
+                .quantity(rs.getInt("quantity"))
+                .lowStockThreshold(rs.getInt("low_stock_threshold"))
+                .dailyVelocity(rs.getDouble("daily_velocity"))
+                .daysOfCover(rs.getObject("days_of_cover", Double.class))
+                .suggestedQuantity(rs.getInt("suggested_quantity"))
+                .plannedAt(rs.getTimestamp("planned_at").toLocalDateTime())
+                .build(), runId, afterBookId != null ? afterBookId : Long.MIN_VALUE, reorderOnly ? 1 : 0, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<RestockPlanDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return RestockPlanPageDTO.builder()
+                .runId(runId)
+                .items(page)
+                .nextCursor(hasMore ? page.get(page.size() - 1).getBookId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private long nextRunId() {
+        Long latest = jdbcTemplate.queryForObject(MAX_RUN_SQL, Long.class);
+        return Math.max(System.currentTimeMillis(), latest != null ? latest + 1 : 0);
+    }
+
+    private PlanChunk readChunk(long afterId, int chunkSize) {
+        PlanChunk chunk = new PlanChunk(chunkSize);
+        jdbcTemplate.query(INVENTORY_CHUNK_SQL, rs -> {
+            int i = chunk.size++;
+            chunk.lastInventoryId = rs.getLong(1);
+            chunk.bookIds[i] = rs.getLong(2);
+            chunk.quantities[i] = rs.getInt(3);
+            chunk.thresholds[i] = rs.getInt(4);
+        }, afterId, chunkSize);
+        return chunk;
+    }
+
+    private void insertPlans(long runId, LocalDateTime plannedAt, PlanChunk chunk) {
+        Timestamp timestamp = Timestamp.valueOf(plannedAt);
+        jdbcTemplate.batchUpdate(INSERT_PLAN_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, runId);
+                ps.setLong(2, chunk.bookIds[i]);
+                ps.setInt(3, chunk.quantities[i]);
+                ps.setInt(4, chunk.thresholds[i]);
+                ps.setDouble(5, chunk.velocities[i]);
+                if (Double.isNaN(chunk.daysOfCover[i])) {
+                    ps.setNull(6, Types.DOUBLE);
+                } else {
+                    ps.setDouble(6, chunk.daysOfCover[i]);
+                }
+                ps.setInt(7, chunk.suggested[i]);
+                ps.setTimestamp(8, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size;
+            }
+        });
+    }
+
+    /**
+     * One keyset chunk of the inventory table with its planning results,
+     * held in parallel primitive arrays.
+     */
+    static final class PlanChunk {
+
+        final long[] bookIds;
+        final int[] quantities;
+        final int[] thresholds;
+        final double[] velocities;
+        /** NaN when the book had no demand in the window. */
+        final double[] daysOfCover;
+        final int[] suggested;
+        int size;
+        long lastInventoryId;
+
+        PlanChunk(int capacity) {
+            bookIds = new long[capacity];
+            quantities = new int[capacity];
+            thresholds = new int[capacity];
+            velocities = new double[capacity];
+            daysOfCover = new double[capacity];
+            suggested = new int[capacity];
+        }
+    }
+
+    /**
+     * Fills the planning results of a range of a chunk, splitting in halves
+     * until the range is small enough to compute directly.
+     */
+    static final class PlanTask extends RecursiveAction {
+
+        private final PlanChunk chunk;
+        private final LongIntHashMap demand;
+        private final int windowDays;
+        private final int horizonDays;
+        private final int from;
+        private final int to;
+
+        PlanTask(PlanChunk chunk, LongIntHashMap demand, int windowDays, int horizonDays, int from, int to) {
+            this.chunk = chunk;
+            this.demand = demand;
+            this.windowDays = windowDays;
+            this.horizonDays = horizonDays;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    plan(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PlanTask(chunk, demand, windowDays, horizonDays, from, middle),
+                    new PlanTask(chunk, demand, windowDays, horizonDays, middle, to));
+        }
+
+        private void plan(int i) {
+            int quantity = chunk.quantities[i];
+            double velocity = (double) demand.getOrDefault(chunk.bookIds[i], 0) / windowDays;
+            long target = (long) Math.ceil(velocity * horizonDays) + chunk.thresholds[i];
+
+            chunk.velocities[i] = velocity;
+            chunk.daysOfCover[i] = velocity > 0 ? quantity / velocity : Double.NaN;
+            chunk.suggested[i] = (int) Math.min(Integer.MAX_VALUE, Math.max(0, target - quantity));
+        }
+    }
+}
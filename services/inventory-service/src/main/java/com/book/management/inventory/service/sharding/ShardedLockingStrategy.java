@@ -0,0 +1,130 @@
+package com.book.management.inventory.service.sharding;
+
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.ShardModeChangedException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.service.locking.AbstractInventoryLockingStrategy;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import com.book.management.inventory.service.locking.LockingMode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Locking strategy decorator that routes sharded books to their slot counters.
+ *
+ * Deltas for books in sharded-stock mode are applied through
+ * {@link ShardedStockManager}; all other books go to the configured strategy.
+ * Requests that touch only regular books pass straight through, so the
+ * delegate keeps full control of its transactions and retries. Mixed requests
+ * run in one transaction to stay all-or-nothing.
+ *
+ * Routing follows the manager's in-memory hint. The writes themselves check
+ * the persisted mode, so when another instance switched a book the write is
+ * rolled back, the hint reloaded for that book and the request routed again.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ShardedLockingStrategy extends AbstractInventoryLockingStrategy {
+
+    /** Routings tried before a mode change is reported to the caller. */
+    private static final int MAX_ROUTING_ATTEMPTS = 3;
+
+    private final InventoryLockingStrategy delegate;
+    private final ShardedStockManager shardedStockManager;
+
+    public ShardedLockingStrategy(InventoryLockingStrategy delegate,
+                                  ShardedStockManager shardedStockManager,
+                                  InventoryRepository inventoryRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher) {
+        super(inventoryRepository, transactionTemplate, eventPublisher);
+        this.delegate = delegate;
+        this.shardedStockManager = shardedStockManager;
+    }
+
+    @Override
+    public LockingMode getMode() {
+        return delegate.getMode();
+    }
+
+    @Override
+    protected Map<Long, Inventory> apply(SortedMap<Long, Integer> deltas, ChangeType changeType,
+                                         Runnable beforeWrite) {
+        // Inside an outer transaction the rolled-back attempt cannot be retried here
+        int attempts = TransactionSynchronizationManager.isActualTransactionActive() ? 1 : MAX_ROUTING_ATTEMPTS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return route(deltas, changeType, beforeWrite);
+            } catch (ShardModeChangedException ex) {
+                shardedStockManager.refreshShardedBooks(ex.getBookIds());
+                if (attempt >= attempts) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private Map<Long, Inventory> route(SortedMap<Long, Integer> deltas, ChangeType changeType,
+                                       Runnable beforeWrite) {
+        SortedMap<Long, Integer> sharded = new TreeMap<>();
+        SortedMap<Long, Integer> regular = new TreeMap<>();
+        deltas.forEach((bookId, delta) ->
+                (shardedStockManager.isKnownSharded(bookId) ? sharded : regular).put(bookId, delta));
+
+        if (sharded.isEmpty()) {
+            return delegate.applyDeltas(regular, changeType, beforeWrite);
+        }
+
+        return transactionTemplate.execute(status -> {
+            beforeWrite.run();
+            Map<Long, Inventory> result = new HashMap<>(delegate.applyDeltas(regular, changeType));
+            Map<Long, Inventory> rows = byBookId(inventoryRepository.findByBookIdIn(new ArrayList<>(sharded.keySet())));
+
+            List<Long> unavailable = new ArrayList<>();
+            for (Map.Entry<Long, Integer> entry : sharded.entrySet()) {
+                if (!rows.containsKey(entry.getKey())
+                        || !shardedStockManager.applyDelta(entry.getKey(), entry.getValue())) {
+                    unavailable.add(entry.getKey());
+                }
+            }
+
+            Map<Long, Inventory> views = new HashMap<>();
+            rows.forEach((bookId, inventory) -> views.put(bookId, withQuantity(inventory,
+                    shardedStockManager.sumSlots(bookId))));
+            if (!unavailable.isEmpty()) {
+                throw shortfall(views, deltas, unavailable);
+            }
+
+            result.putAll(applied(views, sharded, changeType));
+            return result;
+        });
+    }
+
+    /**
+     * Copies an inventory row with its quantity replaced by the slot total,
+     * leaving the managed entity untouched.
+     */
+    private static Inventory withQuantity(Inventory inventory, int quantity) {
+        return Inventory.builder()
+                .inventoryId(inventory.getInventoryId())
+                .bookId(inventory.getBookId())
+                .quantity(quantity)
+                .lowStockThreshold(inventory.getLowStockThreshold())
+                .createdAt(inventory.getCreatedAt())
+                .updatedAt(inventory.getUpdatedAt())
+                .version(inventory.getVersion())
+                .sharded(inventory.isSharded())
+                .build();
+    }
+}
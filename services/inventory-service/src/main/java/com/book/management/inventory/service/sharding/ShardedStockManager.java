@@ -0,0 +1,422 @@
+package com.book.management.inventory.service.sharding;
+
+import com.book.management.inventory.config.ShardingProperties;
+import com.book.management.inventory.exception.InvalidInventoryOperationException;
+import com.book.management.inventory.exception.ShardModeChangedException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.model.InventorySlot;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventorySlotRepository;
+import com.book.management.inventory.repository.InventorySlotRepository.SlotQuantity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Manages sharded stock counters for ultra-hot books.
+ *
+ * A sharded book keeps its stock in N {@link InventorySlot} rows. Decrements
+ * pick a random slot that can cover the request and update it with a
+ * conditional UPDATE, so concurrent orders mostly touch different rows. When
+ * no single slot has enough stock, all slots of the book are locked in index
+ * order and the request borrows from siblings. A background job evens the
+ * slots out again and folds their changes into {@link Inventory#getQuantity()},
+ * which keeps the threshold-based low-stock queries working.
+ *
+ * Whether a book is sharded is persisted as {@link Inventory#isSharded()}
+ * and changes only with the inventory row locked. The in-memory set of
+ * sharded books is a routing hint: regular writes refuse sharded rows and
+ * slot writes refuse books without slots, so a stale hint costs a retry,
+ * never a lost update.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+public class ShardedStockManager {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventorySlotRepository slotRepository;
+    private final ShardingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /** Last known sharded book IDs; a routing hint, verified by every write. */
+    private final Set<Long> shardedBooks = ConcurrentHashMap.newKeySet();
+
+    /** Short-lived cache of summed slot totals. */
+    private final Map<Long, CachedTotal> totals = new ConcurrentHashMap<>();
+
+    public ShardedStockManager(InventoryRepository inventoryRepository,
+                               InventorySlotRepository slotRepository,
+                               ShardingProperties properties,
+                               PlatformTransactionManager transactionManager) {
+        this.inventoryRepository = inventoryRepository;
+        this.slotRepository = slotRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Checks whether a book was last seen in sharded-stock mode. Only a
+     * routing hint; writes verify it against the inventory row.
+     *
+     * @param bookId the book ID
+     * @return true if the book's stock is expected to live in slots
+     */
+    public boolean isKnownSharded(Long bookId) {
+        return shardedBooks.contains(bookId);
+    }
+
+    /**
+     * Returns the book IDs last seen in sharded-stock mode, for read paths
+     * that may lag a mode change by one refresh.
+     *
+     * @return unmodifiable view of sharded book IDs
+     */
+    public Set<Long> getShardedBookIds() {
+        return Collections.unmodifiableSet(shardedBooks);
+    }
+
+    /**
+     * Returns the summed slot quantity of a sharded book, served from a
+     * short-lived cache.
+     *
+     * @param bookId the book ID
+     * @return total units across slots
+     */
+    public int getTotalQuantity(Long bookId) {
+        long now = System.nanoTime();
+        CachedTotal cached = totals.get(bookId);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.total();
+        }
+        int total = (int) slotRepository.sumQuantityByBookId(bookId);
+        totals.put(bookId, new CachedTotal(total, now + properties.getTotalCacheTtlMillis() * 1_000_000));
+        return total;
+    }
+
+    /**
+     * Sums the slots of a book without consulting the cache, seeing any
+     * uncommitted changes of the current transaction.
+     *
+     * @param bookId the book ID
+     * @return total units across slots
+     */
+    public int sumSlots(Long bookId) {
+        return (int) slotRepository.sumQuantityByBookId(bookId);
+    }
+
+    /**
+     * Applies a quantity change to a sharded book.
+     * Must run inside the caller's transaction.
+     *
+     * @param bookId the book ID
+     * @param delta  the signed quantity change
+     * @return true if applied, false if the book lacks stock across all slots
+     * @throws ShardModeChangedException if the book no longer has slots
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean applyDelta(Long bookId, int delta) {
+        invalidateTotal(bookId);
+        if (delta == 0) {
+            return true;
+        }
+
+        List<SlotQuantity> slots = slotRepository.findQuantitiesByBookIdOrderBySlotIndexAsc(bookId);
+        if (slots.isEmpty()) {
+            throw new ShardModeChangedException(List.of(bookId));
+        }
+
+        if (delta > 0) {
+            int slotIndex = slots.get(ThreadLocalRandom.current().nextInt(slots.size())).getSlotIndex();
+            if (slotRepository.applySlotDelta(bookId, slotIndex, delta) == 0) {
+                // An increment only misses when the slot was deleted since it was read
+                throw new ShardModeChangedException(List.of(bookId));
+            }
+            return true;
+        }
+
+        // Fast path: a random slot that can cover the whole request on its own
+        List<SlotQuantity> candidates = new ArrayList<>();
+        for (SlotQuantity slot : slots) {
+            if (slot.getQuantity() >= -delta) {
+                candidates.add(slot);
+            }
+        }
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+        for (SlotQuantity candidate : candidates) {
+            if (slotRepository.applySlotDelta(bookId, candidate.getSlotIndex(), delta) == 1) {
+                return true;
+            }
+        }
+
+        return borrow(bookId, -delta);
+    }
+
+    /**
+     * Splits a book's current quantity across slots and switches it to
+     * sharded-stock mode. Must run inside the caller's transaction.
+     *
+     * @param inventory the locked inventory record
+     * @param slotCount number of slots, or null for the configured default
+     * @return the number of slots created
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int shard(Inventory inventory, Integer slotCount) {
+        if (!properties.isEnabled()) {
+            throw new InvalidInventoryOperationException("Sharded stock mode is disabled");
+        }
+        int slots = slotCount != null ? slotCount : properties.getDefaultSlots();
+        if (slots < 2 || slots > properties.getMaxSlots()) {
+            throw new InvalidInventoryOperationException(
+                    "Slot count must be between 2 and " + properties.getMaxSlots());
+        }
+
+        Long bookId = inventory.getBookId();
+        int quantity = inventory.isSharded() ? (int) slotRepository.sumQuantityByBookId(bookId) : inventory.getQuantity();
+        slotRepository.deleteAllByBookId(bookId);
+        slotRepository.saveAll(split(bookId, quantity, slots));
+        // The slot delete cleared the persistence context, so the row is saved explicitly
+        inventory.setSharded(true);
+        inventoryRepository.save(inventory);
+
+        afterCommit(() -> shardedBooks.add(bookId), bookId);
+        log.info("Book ID: {} switched to sharded stock with {} slots ({} units)", bookId, slots, quantity);
+        return slots;
+    }
+
+    /**
+     * Collapses a sharded book back into its single inventory row.
+     * Must run inside the caller's transaction.
+     *
+     * @param inventory the locked inventory record
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void unshard(Inventory inventory) {
+        Long bookId = inventory.getBookId();
+        List<InventorySlot> slots = slotRepository.findByBookIdForUpdate(bookId);
+        inventory.setSharded(false);
+        if (slots.isEmpty()) {
+            return;
+        }
+        // The row is locked and nothing but the rebalance wrote its quantity while sharded
+        inventory.setQuantity(slots.stream().mapToInt(InventorySlot::getQuantity).sum());
+        slotRepository.deleteAllByBookId(bookId);
+
+        afterCommit(() -> shardedBooks.remove(bookId), bookId);
+        log.info("Book ID: {} collapsed back to a single stock row ({} units)", bookId, inventory.getQuantity());
+    }
+
+    /**
+     * Replaces the stock of a sharded book with an absolute quantity,
+     * spread evenly across its existing slots. Must run inside the caller's
+     * transaction.
+     *
+     * @param bookId   the book ID
+     * @param quantity the new total quantity
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void resetSlots(Long bookId, int quantity) {
+        List<InventorySlot> slots = slotRepository.findByBookIdForUpdate(bookId);
+        distribute(slots, quantity);
+        invalidateTotal(bookId);
+    }
+
+    /**
+     * Drops all slots of a book that is being deleted.
+     * Must run inside the caller's transaction.
+     *
+     * @param bookId the book ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeSlots(Long bookId) {
+        if (slotRepository.deleteAllByBookId(bookId) > 0) {
+            afterCommit(() -> shardedBooks.remove(bookId), bookId);
+        }
+    }
+
+    /**
+     * Evens out the slots of every sharded book and folds their changes into
+     * the inventory row. Each book is handled in its own short transaction.
+     *
+     * @return number of books whose slots or total were changed
+     */
+    public int rebalanceAll() {
+        refreshShardedBooks();
+
+        int changed = 0;
+        for (Long bookId : shardedBooks) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> rebalance(bookId)))) {
+                    changed++;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Rebalancing sharded stock failed for book ID: {}: {}", bookId, ex.getMessage());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Flags books that have slots but were sharded before the flag was
+     * persisted, then loads the routing hint.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Integer flagged = transactionTemplate.execute(status -> inventoryRepository.markShardedFromSlots());
+        if (flagged != null && flagged > 0) {
+            log.info("Flagged {} books with stock slots as sharded", flagged);
+        }
+        refreshShardedBooks();
+    }
+
+    /**
+     * Reloads the routing hint from the slot table, picking up books
+     * sharded or collapsed by other instances.
+     */
+    public void refreshShardedBooks() {
+        Set<Long> current = Set.copyOf(slotRepository.findShardedBookIds());
+        shardedBooks.retainAll(current);
+        shardedBooks.addAll(current);
+    }
+
+    /**
+     * Reloads the routing hint for some books from the slot table, for
+     * example after a write found their mode changed.
+     *
+     * @param bookIds the books to reload
+     * @return the books among them that are currently sharded
+     */
+    public List<Long> refreshShardedBooks(Collection<Long> bookIds) {
+        List<Long> sharded = slotRepository.findShardedBookIdsIn(bookIds);
+        bookIds.forEach(shardedBooks::remove);
+        shardedBooks.addAll(sharded);
+        bookIds.forEach(this::invalidateTotal);
+        return sharded;
+    }
+
+    /**
+     * Evens out the slots of one book and adds the slots' net change since
+     * the last rebalance to the inventory row. The row is locked before its
+     * slots, as in {@link #shard} and {@link #unshard}, and only this method
+     * writes the quantity of a sharded row, so the difference between the
+     * slot total and the row is exactly that net change.
+     */
+    private boolean rebalance(Long bookId) {
+        Inventory inventory = inventoryRepository.findByBookIdInForUpdate(List.of(bookId)).stream()
+                .findFirst()
+                .orElse(null);
+        if (inventory == null || !inventory.isSharded()) {
+            return false;
+        }
+        List<InventorySlot> slots = slotRepository.findByBookIdForUpdate(bookId);
+        if (slots.isEmpty()) {
+            return false;
+        }
+        int total = slots.stream().mapToInt(InventorySlot::getQuantity).sum();
+        int min = slots.stream().mapToInt(InventorySlot::getQuantity).min().orElse(0);
+        int max = slots.stream().mapToInt(InventorySlot::getQuantity).max().orElse(0);
+
+        boolean changed = false;
+        if (max - min > 1) {
+            distribute(slots, total);
+            changed = true;
+        }
+
+        int drift = total - inventory.getQuantity();
+        if (drift != 0) {
+            inventory.setQuantity(inventory.getQuantity() + drift);
+            changed = true;
+        }
+        invalidateTotal(bookId);
+        return changed;
+    }
+
+    private boolean borrow(Long bookId, int needed) {
+        List<InventorySlot> slots = slotRepository.findByBookIdForUpdate(bookId);
+        if (slots.isEmpty()) {
+            throw new ShardModeChangedException(List.of(bookId));
+        }
+        int total = slots.stream().mapToInt(InventorySlot::getQuantity).sum();
+        if (total < needed) {
+            return false;
+        }
+
+        // Drain the fullest slots first so that as few rows as possible are emptied
+        List<InventorySlot> byQuantity = new ArrayList<>(slots);
+        byQuantity.sort(Comparator.comparing(InventorySlot::getQuantity).reversed());
+        int remaining = needed;
+        for (InventorySlot slot : byQuantity) {
+            int taken = Math.min(remaining, slot.getQuantity());
+            slot.setQuantity(slot.getQuantity() - taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        log.debug("Book ID: {} borrowed {} units across slots", bookId, needed);
+        return true;
+    }
+
+    private static List<InventorySlot> split(Long bookId, int quantity, int slots) {
+        List<InventorySlot> result = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            result.add(InventorySlot.builder().bookId(bookId).slotIndex(i).quantity(share(quantity, slots, i)).build());
+        }
+        return result;
+    }
+
+    private static void distribute(List<InventorySlot> slots, int quantity) {
+        for (int i = 0; i < slots.size(); i++) {
+            slots.get(i).setQuantity(share(quantity, slots.size(), i));
+        }
+    }
+
+    private static int share(int quantity, int slots, int index) {
+        return quantity / slots + (index < quantity % slots ? 1 : 0);
+    }
+
+    private void invalidateTotal(Long bookId) {
+        totals.remove(bookId);
+    }
+
+    private void afterCommit(Runnable action, Long bookId) {
+        invalidateTotal(bookId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+                invalidateTotal(bookId);
+            }
+        });
+    }
+
+    /**
+     * Cached slot total with its expiry time in {@link System#nanoTime()} units.
+     */
+    private record CachedTotal(int total, long expiresAt) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.book.management.inventory.service.summary;
+
+import com.book.management.inventory.dto.InventorySummaryDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.StockLevel;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventoryRepository.StockBandTotals;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inventory totals kept in memory for the summary dashboard.
+ *
+ * SKU and unit counters per stock band are adjusted from every committed
+ * {@link InventoryChangeEvent}, so reading the summary never touches the
+ * database. A scheduled re-baseline replaces the counters with fresh
+ * aggregates to correct drift from writes that bypass the events or from
+ * changes made by other service instances. Events are held back while the
+ * re-baseline reads and applies its snapshot, so none is lost by being
+ * applied between the read and the reset.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+public class InventorySummaryService {
+
+    private static final StockLevel[] BANDS = StockLevel.values();
+
+    private final InventoryRepository inventoryRepository;
+
+    /** SKU and unit counters indexed by {@link StockLevel#ordinal()}. */
+    private final AtomicLongArray skus = new AtomicLongArray(BANDS.length);
+    private final AtomicLongArray units = new AtomicLongArray(BANDS.length);
+
+    /** Events share the read lock; the re-baseline takes the write lock. */
+    private final ReadWriteLock baselineLock = new ReentrantReadWriteLock();
+
+    private volatile LocalDateTime baselinedAt;
+
+    public InventorySummaryService(InventoryRepository inventoryRepository) {
+        this.inventoryRepository = inventoryRepository;
+    }
+
+    /**
+     * Applies a committed inventory change to the counters.
+     *
+     * @param event the inventory change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChange(InventoryChangeEvent event) {
+        baselineLock.readLock().lock();
+        try {
+            StockLevel previous = event.previousLevel();
+            if (previous != null) {
+                skus.decrementAndGet(previous.ordinal());
+                units.addAndGet(previous.ordinal(), -event.previousQuantity());
+            }
+            StockLevel current = event.level();
+            if (current != null) {
+                skus.incrementAndGet(current.ordinal());
+                units.addAndGet(current.ordinal(), event.quantity());
+            }
+        } finally {
+            baselineLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the counters with one snapshot of the inventory and slot
+     * tables. Runs at startup and then on the re-baseline schedule.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebaseline() {
+        baselineLock.writeLock().lock();
+        try {
+            List<StockBandTotals> snapshot = inventoryRepository.summariseStockBands();
+            long totalSkus = 0;
+            long totalUnits = 0;
+            for (StockLevel band : BANDS) {
+                skus.set(band.ordinal(), 0);
+                units.set(band.ordinal(), 0);
+            }
+            for (StockBandTotals totals : snapshot) {
+                int band = StockLevel.valueOf(totals.getBand()).ordinal();
+                skus.set(band, totals.getSkus());
+                units.set(band, totals.getUnits());
+                totalSkus += totals.getSkus();
+                totalUnits += totals.getUnits();
+            }
+            baselinedAt = LocalDateTime.now();
+            log.debug("Re-baselined inventory summary: {} SKUs, {} units", totalSkus, totalUnits);
+        } finally {
+            baselineLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current inventory summary from the in-memory counters.
+     *
+     * @return the inventory summary
+     */
+    public InventorySummaryDTO getSummary() {
+        Map<StockLevel, Long> skusByBand = new EnumMap<>(StockLevel.class);
+        Map<StockLevel, Long> unitsByBand = new EnumMap<>(StockLevel.class);
+        long totalSkus = 0;
+        long totalUnits = 0;
+        for (StockLevel band : BANDS) {
+            long bandSkus = skus.get(band.ordinal());
+            long bandUnits = units.get(band.ordinal());
+            skusByBand.put(band, bandSkus);
+            unitsByBand.put(band, bandUnits);
+            totalSkus += bandSkus;
+            totalUnits += bandUnits;
+        }
+
+        long outOfStock = skusByBand.get(StockLevel.OUT_OF_STOCK);
+        return InventorySummaryDTO.builder()
+                .totalSkus(totalSkus)
+                .totalUnits(totalUnits)
+                .lowStockCount(skusByBand.get(StockLevel.LOW_STOCK) + outOfStock)
+                .outOfStockCount(outOfStock)
+                .skusByBand(skusByBand)
+                .unitsByBand(unitsByBand)
+                .baselinedAt(baselinedAt)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.book.management.inventory.validation;
+
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for {@link ValidBookQuantities}. Walks the primitive entries
+ * directly, so validation does not box the map.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class BookQuantitiesValidator implements ConstraintValidator<ValidBookQuantities, LongIntHashMap> {
+
+    @Override
+    public boolean isValid(LongIntHashMap bookQuantities, ConstraintValidatorContext context) {
+        if (bookQuantities == null) {
+            return true;
+        }
+        if (bookQuantities.isEmpty()) {
+            return false;
+        }
+        boolean[] valid = { true };
+        bookQuantities.forEach((bookId, quantity) -> valid[0] &= bookId > 0 && quantity > 0);
+        return valid[0];
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.management.inventory.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates a {@link com.book.management.inventory.service.bulk.LongIntHashMap}
+ * of book ID to quantity: the map must not be empty and every book ID and
+ * quantity must be positive. A null map is left to {@code @NotNull}.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Documented
+@Constraint(validatedBy = BookQuantitiesValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidBookQuantities {
+
+    String message() default "bookQuantities must not be empty and all book IDs and quantities must be positive";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
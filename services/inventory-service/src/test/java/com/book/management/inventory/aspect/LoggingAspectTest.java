@@ -1,137 +1,114 @@
 package com.book.management.inventory.aspect;
 
-import org.aspectj.lang.JoinPoint;
+import com.book.management.inventory.config.InstrumentationProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for LoggingAspect.
- * Tests AOP logging functionality.
+ * Tests timer recording and slow-call argument logging.
  *
  * @author Aditya Srivastava
- * @version 2.0
+ * @version 3.0
  * @since 2024-12-16
  */
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class LoggingAspectTest {
 
     private LoggingAspect loggingAspect;
-
-    @Mock
-    private JoinPoint joinPoint;
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentationProperties properties;
 
     @Mock
     private ProceedingJoinPoint proceedingJoinPoint;
 
     @Mock
-    private Signature signature;
+    private MethodSignature signature;
 
     @BeforeEach
-    void setUp() {
-        loggingAspect = new LoggingAspect();
-    }
-
-    @Test
-    void logMethodEntry_LogsEntrySuccessfully() {
-        // Arrange
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.test.TestClass");
-        when(signature.getName()).thenReturn("testMethod");
-        when(joinPoint.getArgs()).thenReturn(new Object[] { "arg1", 123 });
-
-        // Act & Assert - no exception should be thrown
-        assertDoesNotThrow(() -> loggingAspect.logMethodEntry(joinPoint));
-    }
-
-    @Test
-    void logMethodExit_LogsExitSuccessfully() {
-        // Arrange
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.test.TestClass");
-        when(signature.getName()).thenReturn("testMethod");
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new InstrumentationProperties();
+        loggingAspect = new LoggingAspect(meterRegistry, properties);
 
-        // Act & Assert - no exception should be thrown
-        assertDoesNotThrow(() -> loggingAspect.logMethodExit(joinPoint, "testResult"));
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(String.class);
+        when(signature.getDeclaringTypeName()).thenReturn("java.lang.String");
+        when(signature.getName()).thenReturn("trim");
+        when(signature.getMethod()).thenReturn(String.class.getMethod("trim"));
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] { "arg1", 123 });
     }
 
-    @Test
-    void logMethodExit_WithNullResult_LogsSuccessfully() {
-        // Arrange
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.test.TestClass");
-        when(signature.getName()).thenReturn("testMethod");
-
-        // Act & Assert - no exception should be thrown
-        assertDoesNotThrow(() -> loggingAspect.logMethodExit(joinPoint, null));
+    private Timer timer(String layer, String exception) {
+        return meterRegistry.find(LoggingAspect.TIMER_NAME)
+                .tags("layer", layer, "class", "String", "method", "trim", "exception", exception)
+                .timer();
     }
 
     @Test
-    void logExecutionTime_ReturnsResult() throws Throwable {
+    void timeService_RecordsTimerAndReturnsResult() throws Throwable {
         // Arrange
-        String expectedResult = "test result";
-        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.test.TestClass");
-        when(signature.getName()).thenReturn("testMethod");
-        when(proceedingJoinPoint.proceed()).thenReturn(expectedResult);
+        when(proceedingJoinPoint.proceed()).thenReturn("test result");
 
         // Act
-        Object result = loggingAspect.logExecutionTime(proceedingJoinPoint);
+        Object first = loggingAspect.timeService(proceedingJoinPoint);
+        loggingAspect.timeService(proceedingJoinPoint);
 
         // Assert
-        assertEquals(expectedResult, result);
-        verify(proceedingJoinPoint, times(1)).proceed();
+        assertEquals("test result", first);
+        assertNotNull(timer("service", "none"));
+        assertEquals(2, timer("service", "none").count());
     }
 
     @Test
-    void logExecutionTime_PropagatesException() throws Throwable {
+    void timeController_RecordsExceptionTagAndPropagates() throws Throwable {
         // Arrange
-        RuntimeException expectedException = new RuntimeException("Test exception");
-        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.test.TestClass");
-        when(signature.getName()).thenReturn("testMethod");
-        when(proceedingJoinPoint.proceed()).thenThrow(expectedException);
+        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("Test exception"));
 
         // Act & Assert
-        RuntimeException thrown = assertThrows(RuntimeException.class,
-                () -> loggingAspect.logExecutionTime(proceedingJoinPoint));
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> loggingAspect.timeController(proceedingJoinPoint));
         assertEquals("Test exception", thrown.getMessage());
+        assertEquals(1, timer("controller", "IllegalStateException").count());
+        assertNull(timer("controller", "none"));
     }
 
     @Test
-    void logException_LogsExceptionSuccessfully() {
+    void fastCall_DoesNotFormatArguments() throws Throwable {
         // Arrange
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.test.TestClass");
-        when(signature.getName()).thenReturn("testMethod");
-        RuntimeException exception = new RuntimeException("Test exception");
+        when(proceedingJoinPoint.proceed()).thenReturn("test result");
 
-        // Act & Assert - no exception should be thrown
-        assertDoesNotThrow(() -> loggingAspect.logException(joinPoint, exception));
+        // Act
+        loggingAspect.timeService(proceedingJoinPoint);
+
+        // Assert
+        verify(proceedingJoinPoint, never()).getArgs();
     }
 
     @Test
-    void logDatabaseOperation_ReturnsResult() throws Throwable {
-        // Arrange
-        String expectedResult = "db result";
-        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("findById");
-        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] { 1L });
-        when(proceedingJoinPoint.proceed()).thenReturn(expectedResult);
+    void slowCall_LogsArguments() throws Throwable {
+        // Arrange - every call counts as slow
+        properties.setSlowCallThresholdMillis(0);
+        when(proceedingJoinPoint.proceed()).thenReturn("test result");
 
         // Act
-        Object result = loggingAspect.logDatabaseOperation(proceedingJoinPoint);
+        loggingAspect.timeService(proceedingJoinPoint);
 
         // Assert
-        assertEquals(expectedResult, result);
-        verify(proceedingJoinPoint, times(1)).proceed();
+        verify(proceedingJoinPoint, times(1)).getArgs();
     }
 
     @Test
@@ -139,6 +116,5 @@ class LoggingAspectTest {
         // These are just pointcut definitions, they shouldn't throw
         assertDoesNotThrow(() -> loggingAspect.controllerLayer());
         assertDoesNotThrow(() -> loggingAspect.serviceLayer());
-        assertDoesNotThrow(() -> loggingAspect.repositoryLayer());
     }
 }
@@ -0,0 +1,229 @@
+package com.book.management.inventory.benchmark;
+
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.service.locking.AtomicSqlLockingStrategy;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import com.book.management.inventory.service.locking.LockingMode;
+import com.book.management.inventory.service.locking.OptimisticLockingStrategy;
+import com.book.management.inventory.service.locking.PessimisticLockingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Multi-threaded contention benchmark for the inventory locking strategies.
+ *
+ * Simulates concurrent orders that each reduce stock for a few books picked
+ * from a Zipf distribution, so a small set of hot books receives most of the
+ * traffic. For every mode it reports throughput, abort rate and latency
+ * percentiles, and verifies that no unit of stock was lost or double counted.
+ *
+ * Disabled by default. Run with:
+ * <pre>
+ * mvn test -Dtest=InventoryContentionBenchmark -Dinventory.benchmark=true \
+ *     -Dbench.threads=32 -Dbench.skew=1.2 -Dbench.modes=OPTIMISTIC,ATOMIC
+ * </pre>
+ * Runs on H2 in MySQL mode unless {@code bench.url} (plus {@code bench.username}
+ * and {@code bench.password}) points at a real MySQL instance.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "inventory.benchmark", matches = "true")
+@TestPropertySource(properties = {
+        "spring.datasource.url=${bench.url:jdbc:h2:mem:benchdb;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.username=${bench.username:sa}",
+        "spring.datasource.password=${bench.password:}",
+        "spring.datasource.hikari.maximum-pool-size=${bench.pool:10}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "logging.level.com.book.management.inventory=WARN"
+})
+class InventoryContentionBenchmark {
+
+    private static final int INITIAL_QUANTITY = 1_000_000;
+
+    private final int threads = Integer.getInteger("bench.threads", 16);
+    private final int books = Integer.getInteger("bench.books", 1_000);
+    private final int opsPerThread = Integer.getInteger("bench.ops", 500);
+    private final int booksPerOrder = Integer.getInteger("bench.booksPerOrder", 3);
+    private final double skew = Double.parseDouble(System.getProperty("bench.skew", "1.0"));
+    private final List<LockingMode> modes = Arrays.stream(
+                    System.getProperty("bench.modes", "OPTIMISTIC,PESSIMISTIC,ATOMIC").split(","))
+            .map(String::trim)
+            .map(LockingMode::valueOf)
+            .toList();
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareLockingStrategies() throws InterruptedException {
+        System.out.printf("%nInventory contention benchmark: threads=%d books=%d ops/thread=%d books/order=%d skew=%.2f%n",
+                threads, books, opsPerThread, booksPerOrder, skew);
+        System.out.printf("%-12s %12s %10s %10s %10s %10s %10s%n",
+                "mode", "orders/s", "aborts", "abort%", "p50 ms", "p99 ms", "max ms");
+
+        for (LockingMode mode : modes) {
+            Result result = run(mode);
+            System.out.printf("%-12s %12.1f %10d %9.2f%% %10.2f %10.2f %10.2f%n",
+                    mode, result.throughput(), result.aborts(), result.abortRate() * 100,
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(1.0));
+        }
+    }
+
+    private Result run(LockingMode mode) throws InterruptedException {
+        seed();
+        InventoryLockingStrategy strategy = strategy(mode);
+        ZipfSampler sampler = new ZipfSampler(books, skew);
+
+        long[] latencies = new long[threads * opsPerThread];
+        LongAdder failed = new LongAdder();
+        LongAdder unitsSold = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t * opsPerThread;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        Map<Long, Integer> order = sampler.order(booksPerOrder);
+                        long begin = System.nanoTime();
+                        try {
+                            strategy.applyDeltas(order, ChangeType.REDUCED);
+                            unitsSold.add(order.size());
+                        } catch (RuntimeException ex) {
+                            failed.increment();
+                        }
+                        latencies[offset + i] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        long remaining = inventoryRepository.findAll().stream().mapToLong(Inventory::getQuantity).sum();
+        assertEquals((long) books * INITIAL_QUANTITY - unitsSold.sum(), remaining,
+                mode + " lost or duplicated stock updates");
+
+        long retried = strategy instanceof OptimisticLockingStrategy optimistic ? optimistic.getConflictCount() : 0;
+        long aborts = retried + (mode == LockingMode.OPTIMISTIC ? 0 : failed.sum());
+        long transactions = latencies.length + Math.max(0, retried - failed.sum());
+        Arrays.sort(latencies);
+        return new Result(latencies.length * 1e9 / elapsed, aborts, (double) aborts / transactions, latencies);
+    }
+
+    private void seed() {
+        inventoryRepository.deleteAllInBatch();
+        List<Inventory> inventories = new ArrayList<>(books);
+        for (long bookId = 1; bookId <= books; bookId++) {
+            inventories.add(Inventory.builder().bookId(bookId).quantity(INITIAL_QUANTITY).lowStockThreshold(10).build());
+        }
+        inventoryRepository.saveAll(inventories);
+    }
+
+    private InventoryLockingStrategy strategy(LockingMode mode) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ApplicationEventPublisher noEvents = event -> { };
+        return switch (mode) {
+            case OPTIMISTIC -> new OptimisticLockingStrategy(inventoryRepository, transactionTemplate, noEvents,
+                    Integer.getInteger("bench.maxAttempts", 3), Long.getLong("bench.backoffMillis", 5L));
+            case PESSIMISTIC -> new PessimisticLockingStrategy(inventoryRepository, transactionTemplate, noEvents);
+            case ATOMIC -> new AtomicSqlLockingStrategy(inventoryRepository, transactionTemplate, noEvents);
+        };
+    }
+
+    /**
+     * Benchmark outcome for one locking mode.
+     */
+    private record Result(double throughput, long aborts, double abortRate, long[] sortedLatencies) {
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Samples book IDs 1..n with probability proportional to 1 / rank^skew.
+     * A skew of 0 is uniform; values above 1 concentrate load on a few books.
+     */
+    private static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double skew) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int rank = 1; rank <= n; rank++) {
+                sum += 1.0 / Math.pow(rank, skew);
+                cumulative[rank - 1] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        long next() {
+            int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+            return (index >= 0 ? index : -index - 1) + 1L;
+        }
+
+        Map<Long, Integer> order(int size) {
+            Map<Long, Integer> order = new HashMap<>();
+            while (order.size() < Math.min(size, cumulative.length)) {
+                order.put(next(), -1);
+            }
+            return order;
+        }
+    }
+}
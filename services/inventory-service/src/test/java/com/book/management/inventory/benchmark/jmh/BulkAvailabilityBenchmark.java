@@ -0,0 +1,131 @@
+package com.book.management.inventory.benchmark.jmh;
+
+import com.book.management.inventory.dto.BulkStockCheckDTO;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.service.bulk.BulkAvailability;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the boxed and the primitive bulk availability paths, from request
+ * JSON to response JSON, for a large B2B order. The database read is replaced
+ * by an in-memory stock table so that only the per-item work is measured.
+ *
+ * Operations are counted per order item, so the {@code gc.alloc.rate.norm}
+ * column of the GC profiler reads as bytes allocated per item. Run with:
+ * <pre>
+ * mvn -Pbenchmark test-compile dependency:build-classpath -Dmdep.outputFile=target/benchmark.classpath -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/benchmark.classpath) \
+ *     com.book.management.inventory.benchmark.jmh.BulkAvailabilityBenchmark
+ * </pre>
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BulkAvailabilityBenchmark.ITEMS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkAvailabilityBenchmark {
+
+    static final int ITEMS = 2_000;
+
+    private static final TypeReference<Map<String, Map<Long, Integer>>> BOXED_REQUEST = new TypeReference<>() { };
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private String requestJson;
+    private List<Inventory> boxedStock;
+    private long[] stockBookIds;
+    private int[] stockQuantities;
+
+    @Setup
+    public void setUp() {
+        Map<Long, Integer> quantities = new HashMap<>();
+        boxedStock = new ArrayList<>(ITEMS);
+        stockBookIds = new long[ITEMS];
+        stockQuantities = new int[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            long bookId = 1_000_000L + i * 7L;
+            quantities.put(bookId, 1 + i % 5);
+            boxedStock.add(Inventory.builder().bookId(bookId).quantity(i % 9).build());
+            stockBookIds[i] = bookId;
+            stockQuantities[i] = i % 9;
+        }
+        requestJson = objectMapper.writeValueAsString(Map.of("bookQuantities", quantities));
+    }
+
+    /**
+     * The previous path: boxed request map, entity lookup map, boxed result map.
+     */
+    @Benchmark
+    public String boxed() {
+        Map<Long, Integer> bookQuantities = objectMapper.readValue(requestJson, BOXED_REQUEST).get("bookQuantities");
+
+        Map<Long, Inventory> inventoryMap = boxedStock.stream()
+                .collect(Collectors.toMap(Inventory::getBookId, inventory -> inventory));
+        Map<Long, Boolean> availabilityMap = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : bookQuantities.entrySet()) {
+            Inventory inventory = inventoryMap.get(entry.getKey());
+            availabilityMap.put(entry.getKey(), inventory != null && inventory.getQuantity() >= entry.getValue());
+        }
+        boolean allAvailable = availabilityMap.values().stream().allMatch(Boolean::booleanValue);
+
+        return objectMapper.writeValueAsString(Map.of("availabilityMap", availabilityMap, "allAvailable", allAvailable));
+    }
+
+    /**
+     * The primitive path: request read into a {@link LongIntHashMap}, stock
+     * rows copied into a second one as the JDBC loader does, outcomes in a
+     * sorted {@link BulkAvailability}.
+     */
+    @Benchmark
+    public String primitive() {
+        LongIntHashMap bookQuantities = objectMapper.readValue(requestJson, BulkStockCheckDTO.class).getBookQuantities();
+
+        long[] bookIds = bookQuantities.sortedKeys();
+        LongIntHashMap stock = new LongIntHashMap(bookIds.length);
+        for (int i = 0; i < stockBookIds.length; i++) {
+            stock.put(stockBookIds[i], stockQuantities[i]);
+        }
+        BulkAvailability availability = BulkAvailability.evaluate(bookIds, bookQuantities, stock);
+
+        return objectMapper.writeValueAsString(Map.of("availabilityMap", availability,
+                "allAvailable", availability.isAllAvailable()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkAvailabilityBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
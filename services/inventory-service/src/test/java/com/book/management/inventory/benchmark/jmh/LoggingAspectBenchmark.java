@@ -0,0 +1,74 @@
+package com.book.management.inventory.benchmark.jmh;
+
+import com.book.management.inventory.aspect.LoggingAspect;
+import com.book.management.inventory.config.InstrumentationProperties;
+import com.book.management.inventory.dto.InventorySummaryDTO;
+import com.book.management.inventory.service.summary.InventorySummaryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures calls per second through a service proxied the way Spring AOP
+ * proxies it, with the timing aspect applied and without it. The target is
+ * the in-memory summary service, so the figures show the aspect's own cost
+ * rather than any I/O.
+ *
+ * Run as described in {@link BulkAvailabilityBenchmark}, with this class as
+ * the main class.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    @Param({ "off", "on" })
+    private String aspect;
+
+    private InventorySummaryService service;
+
+    @Setup
+    public void setUp() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new InventorySummaryService(null));
+        proxyFactory.setProxyTargetClass(true);
+        if ("on".equals(aspect)) {
+            proxyFactory.addAspect(new LoggingAspect(new SimpleMeterRegistry(), new InstrumentationProperties()));
+        }
+        service = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public InventorySummaryDTO getSummary() {
+        return service.getSummary();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoggingAspectBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
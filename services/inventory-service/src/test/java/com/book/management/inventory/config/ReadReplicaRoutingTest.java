@@ -0,0 +1,120 @@
+package com.book.management.inventory.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for read-replica routing, with two in-memory H2 databases standing
+ * in for the primary and the replica.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class ReadReplicaRoutingTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReadReplicaProperties properties;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate routed;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2("inventory_primary");
+        DataSource replicaDataSource = h2("inventory_replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        for (JdbcTemplate database : new JdbcTemplate[] { primary, replica }) {
+            database.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+            database.execute("DELETE FROM node");
+        }
+        primary.update("INSERT INTO node VALUES ('primary')");
+        replica.update("INSERT INTO node VALUES ('replica')");
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds BIGINT)");
+        replica.execute("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+
+        properties = new ReadReplicaProperties();
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+        properties.setLagColumn("seconds");
+        monitor = new ReplicaLagMonitor(replicaDataSource, properties);
+        monitor.start();
+
+        DataSource dataSource = ReadReplicaDataSourceConfig.routingDataSource(primaryDataSource, replicaDataSource,
+                monitor);
+        routed = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    private String node(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> routed.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    void readOnlyTransaction_GoesToReplica() {
+        // Act & Assert
+        assertTrue(monitor.isReplicaUsable());
+        assertEquals("replica", node(readOnly));
+    }
+
+    @Test
+    void readWriteTransaction_GoesToPrimary() {
+        // Act
+        String node = node(readWrite);
+        readWrite.executeWithoutResult(status -> routed.update("INSERT INTO node VALUES ('written')"));
+
+        // Assert
+        assertEquals("primary", node);
+        assertEquals(2, primary.queryForObject("SELECT COUNT(*) FROM node", Integer.class));
+        assertEquals(1, replica.queryForObject("SELECT COUNT(*) FROM node", Integer.class));
+    }
+
+    @Test
+    void laggingReplica_FallsBackToPrimary() {
+        // Arrange
+        replica.update("UPDATE replica_lag SET seconds = ?", properties.getMaxLagSeconds() + 1);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertFalse(monitor.isReplicaUsable());
+        assertEquals("primary", node(readOnly));
+    }
+
+    @Test
+    void failingLagQuery_FallsBackToPrimary() {
+        // Arrange
+        replica.execute("DROP TABLE replica_lag");
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertEquals("primary", node(readOnly));
+    }
+}
@@ -12,19 +12,32 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.book.management.inventory.config.GatewaySecurityProperties;
 import com.book.management.inventory.config.JpaAuditingConfig;
 import com.book.management.inventory.dto.*;
+import com.book.management.inventory.event.StockLevel;
 import com.book.management.inventory.filter.GatewayAuthenticationFilter;
 import com.book.management.inventory.service.InventoryService;
+import com.book.management.inventory.service.alert.LowStockAlertService;
+import com.book.management.inventory.service.bitmap.InStockBitmapService;
+import com.book.management.inventory.service.bulk.BulkAvailability;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import com.book.management.inventory.service.ledger.InventoryLedgerService;
+import com.book.management.inventory.service.planning.RestockPlanningService;
+import com.book.management.inventory.service.summary.InventorySummaryService;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -58,6 +71,21 @@ class InventoryControllerTest {
         @MockitoBean
         private InventoryService inventoryService;
 
+        @MockitoBean
+        private LowStockAlertService lowStockAlertService;
+
+        @MockitoBean
+        private InventoryLedgerService ledgerService;
+
+        @MockitoBean
+        private InventorySummaryService summaryService;
+
+        @MockitoBean
+        private InStockBitmapService inStockBitmapService;
+
+        @MockitoBean
+        private RestockPlanningService restockPlanningService;
+
         @MockitoBean
         private GatewaySecurityProperties gatewaySecurityProperties;
 
@@ -437,21 +465,157 @@ class InventoryControllerTest {
                 verify(inventoryService, times(1)).deleteInventoryByBookId(100L);
         }
 
+        @Test
+        void testGetActiveAlerts() throws Exception {
+                // Arrange
+                LowStockAlertDTO alert = LowStockAlertDTO.builder()
+                                .inventoryId(1L)
+                                .bookId(100L)
+                                .currentQuantity(0)
+                                .lowStockThreshold(10)
+                                .quantityNeeded(10)
+                                .alertLevel("CRITICAL")
+                                .build();
+                when(lowStockAlertService.getActiveAlerts()).thenReturn(List.of(alert));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/alerts/active"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].bookId").value(100))
+                                .andExpect(jsonPath("$[0].alertLevel").value("CRITICAL"));
+        }
+
+        @Test
+        void testStreamAlerts() throws Exception {
+                // Arrange
+                when(lowStockAlertService.subscribe()).thenReturn(new SseEmitter());
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/alerts/stream"))
+                                .andExpect(request().asyncStarted());
+
+                verify(lowStockAlertService, times(1)).subscribe();
+        }
+
+        @Test
+        void testReplayLedger() throws Exception {
+                // Arrange
+                LedgerReplayDTO replay = LedgerReplayDTO.builder()
+                                .bookId(100L)
+                                .snapshotQuantity(50)
+                                .movementsReplayed(2L)
+                                .replayedQuantity(37)
+                                .currentQuantity(37)
+                                .consistent(true)
+                                .build();
+                when(ledgerService.replay(100L)).thenReturn(List.of(replay));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/ledger/replay").param("bookId", "100"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].replayedQuantity").value(37))
+                                .andExpect(jsonPath("$[0].consistent").value(true));
+        }
+
+        @Test
+        void testSnapshotLedger() throws Exception {
+                // Arrange
+                when(ledgerService.takeSnapshot()).thenReturn(3);
+
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/inventory/ledger/snapshot"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string("3"));
+        }
+
+        @Test
+        void testGetRestockPlan() throws Exception {
+                // Arrange
+                RestockPlanDTO plan = RestockPlanDTO.builder()
+                                .bookId(100L)
+                                .quantity(35)
+                                .lowStockThreshold(10)
+                                .dailyVelocity(5.0)
+                                .daysOfCover(7.0)
+                                .suggestedQuantity(10)
+                                .build();
+                when(restockPlanningService.getPlanPage(99L, 1, true)).thenReturn(RestockPlanPageDTO.builder()
+                                .runId(1L)
+                                .items(List.of(plan))
+                                .nextCursor(100L)
+                                .hasMore(true)
+                                .build());
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/restock-plan")
+                                .param("afterBookId", "99")
+                                .param("size", "1")
+                                .param("reorderOnly", "true"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].bookId").value(100))
+                                .andExpect(jsonPath("$.items[0].daysOfCover").value(7.0))
+                                .andExpect(jsonPath("$.items[0].suggestedQuantity").value(10))
+                                .andExpect(jsonPath("$.nextCursor").value(100))
+                                .andExpect(jsonPath("$.hasMore").value(true));
+        }
+
+        @Test
+        void testRunRestockPlan() throws Exception {
+                // Arrange
+                when(restockPlanningService.plan()).thenReturn(3);
+
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/inventory/restock-plan/run"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string("3"));
+                verify(restockPlanningService).flushDemand();
+        }
+
+        @Test
+        void testEnableShardedStock() throws Exception {
+                // Arrange
+                when(inventoryService.enableShardedStock(100L, 8)).thenReturn(responseDTO);
+
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/inventory/book/{bookId}/shard", 100L)
+                                .param("slots", "8"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.bookId").value(100))
+                                .andExpect(jsonPath("$.quantity").value(50));
+
+                verify(inventoryService, times(1)).enableShardedStock(100L, 8);
+        }
+
+        @Test
+        void testDisableShardedStock() throws Exception {
+                // Arrange
+                when(inventoryService.disableShardedStock(100L)).thenReturn(responseDTO);
+
+                // Act & Assert
+                mockMvc.perform(delete("/api/v1/inventory/book/{bookId}/shard", 100L))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.quantity").value(50));
+
+                verify(inventoryService, times(1)).disableShardedStock(100L);
+        }
+
         @Test
         void testCheckBulkAvailability() throws Exception {
                 // Arrange
                 BulkStockCheckDTO checkDTO = BulkStockCheckDTO.builder()
-                                .bookQuantities(java.util.Map.of(100L, 5, 101L, 3))
+                                .bookQuantities(LongIntHashMap.of(java.util.Map.of(100L, 5, 101L, 3)))
                                 .build();
 
-                java.util.Map<Long, Boolean> availabilityMap = java.util.Map.of(100L, true, 101L, true);
-                when(inventoryService.checkBulkAvailability(any())).thenReturn(availabilityMap);
+                BulkAvailability availability = BulkAvailability.evaluate(new long[] { 100L, 101L },
+                                checkDTO.getBookQuantities(), LongIntHashMap.of(java.util.Map.of(100L, 10, 101L, 10)));
+                when(inventoryService.checkBulkAvailability(any())).thenReturn(availability);
 
                 // Act & Assert
                 mockMvc.perform(post("/api/v1/inventory/bulk/check-availability")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(checkDTO)))
                                 .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.availabilityMap.100").value(true))
                                 .andExpect(jsonPath("$.allAvailable").value(true))
                                 .andExpect(jsonPath("$.message")
                                                 .value("All books are available in required quantities"));
@@ -463,7 +627,7 @@ class InventoryControllerTest {
         void testReduceBulkInventory() throws Exception {
                 // Arrange
                 BulkStockReduceDTO reduceDTO = new BulkStockReduceDTO();
-                reduceDTO.setBookQuantities(java.util.Map.of(100L, 2, 101L, 1));
+                reduceDTO.setBookQuantities(LongIntHashMap.of(java.util.Map.of(100L, 2, 101L, 1)));
 
                 doNothing().when(inventoryService).reduceBulkInventory(any());
 
@@ -473,7 +637,168 @@ class InventoryControllerTest {
                                 .content(objectMapper.writeValueAsString(reduceDTO)))
                                 .andExpect(status().isOk());
 
-                verify(inventoryService, times(1)).reduceBulkInventory(any());
+                verify(inventoryService, times(1)).reduceBulkInventory(reduceDTO.getBookQuantities());
+        }
+
+        @Test
+        void testReduceBulkInventory_EmptyMapRejected() throws Exception {
+                // Act & Assert
+                mockMvc.perform(patch("/api/v1/inventory/bulk/reduce")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"bookQuantities\":{}}"))
+                                .andExpect(status().isBadRequest());
+
+                verify(inventoryService, never()).reduceBulkInventory(any());
+        }
+
+        @Test
+        void testReduceBulkInventory_NonPositiveQuantityRejected() throws Exception {
+                // Act & Assert
+                mockMvc.perform(patch("/api/v1/inventory/bulk/reduce")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"bookQuantities\":{\"100\":2,\"101\":0}}"))
+                                .andExpect(status().isBadRequest());
+
+                verify(inventoryService, never()).reduceBulkInventory(any());
+        }
+
+        @Test
+        void testGetInventorySummary() throws Exception {
+                // Arrange
+                when(summaryService.getSummary()).thenReturn(InventorySummaryDTO.builder()
+                                .totalSkus(10)
+                                .totalUnits(500)
+                                .lowStockCount(3)
+                                .outOfStockCount(1)
+                                .unitsByBand(java.util.Map.of(StockLevel.LOW_STOCK, 12L))
+                                .build());
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/summary"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.totalSkus").value(10))
+                                .andExpect(jsonPath("$.lowStockCount").value(3))
+                                .andExpect(jsonPath("$.unitsByBand.LOW_STOCK").value(12));
+
+                verifyNoInteractions(inventoryService);
+        }
+
+        @Test
+        void testGetInStockBitmap() throws Exception {
+                // Arrange
+                when(inStockBitmapService.encodeSnapshot()).thenReturn(new byte[] { 1, 2, 3 });
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/status/in-stock/bitmap"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                                .andExpect(content().bytes(new byte[] { 1, 2, 3 }));
+        }
+
+        @Test
+        void testGetInStockBitmapDelta_GoneWhenTooFarBehind() throws Exception {
+                // Arrange
+                when(inStockBitmapService.encodeDelta(7L, 3L)).thenReturn(java.util.Optional.empty());
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/status/in-stock/bitmap/delta")
+                                .param("epoch", "7")
+                                .param("sinceVersion", "3"))
+                                .andExpect(status().isGone());
+        }
+
+        @Test
+        void testGetInventoryPage() throws Exception {
+                // Arrange
+                InventoryPageDTO page = InventoryPageDTO.builder()
+                                .items(List.of(responseDTO))
+                                .nextCursor(1L)
+                                .hasMore(true)
+                                .build();
+                when(inventoryService.getInventoryPage(InventoryStockFilter.IN_STOCK, 0L, 1)).thenReturn(page);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/inventory/page")
+                                .param("filter", "IN_STOCK")
+                                .param("afterId", "0")
+                                .param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].bookId").value(100L))
+                                .andExpect(jsonPath("$.nextCursor").value(1L))
+                                .andExpect(jsonPath("$.hasMore").value(true));
+        }
+
+        @Test
+        void testStreamInventory() throws Exception {
+                // Arrange
+                doAnswer(invocation -> {
+                        Consumer<InventoryResponseDTO> consumer = invocation.getArgument(1);
+                        consumer.accept(responseDTO);
+                        consumer.accept(responseDTO);
+                        return null;
+                }).when(inventoryService).streamInventory(eq(InventoryStockFilter.ALL), any());
+
+                // Act
+                MvcResult result = mockMvc.perform(get("/api/v1/inventory/stream"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                // Assert
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+                String[] lines = result.getResponse().getContentAsString().split("\n");
+                assertEquals(2, lines.length);
+                assertEquals(100L, objectMapper.readTree(lines[0]).get("bookId").asLong());
+        }
+
+        @Test
+        void testGetBulkInventory() throws Exception {
+                // Arrange
+                BulkInventoryLookupDTO lookupDTO = new BulkInventoryLookupDTO(List.of(100L, 999L));
+                when(inventoryService.getBulkInventory(List.of(100L, 999L)))
+                                .thenReturn(java.util.Map.of(100L, responseDTO));
+
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/inventory/bulk/get")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(lookupDTO)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$['100'].quantity").value(50))
+                                .andExpect(jsonPath("$['999']").doesNotExist());
+        }
+
+        @Test
+        void testGetBulkInventory_EmptyList() throws Exception {
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/inventory/bulk/get")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"bookIds\":[]}"))
+                                .andExpect(status().isBadRequest());
+
+                verify(inventoryService, never()).getBulkInventory(any());
+        }
+
+        @Test
+        void testRestockBulkInventory() throws Exception {
+                // Arrange
+                BulkStockRestockDTO restockDTO = BulkStockRestockDTO.builder()
+                                .bookQuantities(java.util.Map.of(100L, 10, 999L, 5))
+                                .build();
+                when(inventoryService.restockBulkInventory(any())).thenReturn(java.util.Map.of(
+                                100L, BulkRestockResultDTO.builder()
+                                                .status(BulkRestockResultDTO.RESTOCKED).quantity(60).build(),
+                                999L, BulkRestockResultDTO.builder()
+                                                .status(BulkRestockResultDTO.NOT_FOUND).build()));
+
+                // Act & Assert
+                mockMvc.perform(patch("/api/v1/inventory/bulk/restock")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(restockDTO)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$['100'].status").value("RESTOCKED"))
+                                .andExpect(jsonPath("$['100'].quantity").value(60))
+                                .andExpect(jsonPath("$['999'].status").value("NOT_FOUND"));
         }
 
         @Test
@@ -497,17 +822,19 @@ class InventoryControllerTest {
         void testCheckBulkAvailability_PartialAvailability() throws Exception {
                 // Arrange - some books not available
                 BulkStockCheckDTO checkDTO = BulkStockCheckDTO.builder()
-                                .bookQuantities(java.util.Map.of(100L, 5, 101L, 100))
+                                .bookQuantities(LongIntHashMap.of(java.util.Map.of(100L, 5, 101L, 100)))
                                 .build();
 
-                java.util.Map<Long, Boolean> availabilityMap = java.util.Map.of(100L, true, 101L, false);
-                when(inventoryService.checkBulkAvailability(any())).thenReturn(availabilityMap);
+                BulkAvailability availability = BulkAvailability.evaluate(new long[] { 100L, 101L },
+                                checkDTO.getBookQuantities(), LongIntHashMap.of(java.util.Map.of(100L, 10, 101L, 10)));
+                when(inventoryService.checkBulkAvailability(any())).thenReturn(availability);
 
                 // Act & Assert
                 mockMvc.perform(post("/api/v1/inventory/bulk/check-availability")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(checkDTO)))
                                 .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.availabilityMap.101").value(false))
                                 .andExpect(jsonPath("$.allAvailable").value(false))
                                 .andExpect(jsonPath("$.message")
                                                 .value("Some books are not available in required quantities"));
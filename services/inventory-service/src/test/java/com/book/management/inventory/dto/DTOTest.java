@@ -1,9 +1,10 @@
 package com.book.management.inventory.dto;
 
+import com.book.management.inventory.service.bulk.BulkAvailability;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -137,7 +138,7 @@ class DTOTest {
     @Test
     void bulkStockCheckDTO_BuilderAndGetters() {
         // Arrange
-        Map<Long, Integer> bookQuantities = new HashMap<>();
+        LongIntHashMap bookQuantities = new LongIntHashMap();
         bookQuantities.put(100L, 5);
         bookQuantities.put(101L, 3);
 
@@ -149,7 +150,7 @@ class DTOTest {
         // Assert
         assertNotNull(dto.getBookQuantities());
         assertEquals(2, dto.getBookQuantities().size());
-        assertEquals(5, dto.getBookQuantities().get(100L));
+        assertEquals(5, dto.getBookQuantities().getOrDefault(100L, 0));
     }
 
     // ==================== BulkStockCheckResponseDTO Tests ====================
@@ -157,9 +158,8 @@ class DTOTest {
     @Test
     void bulkStockCheckResponseDTO_BuilderAndGetters() {
         // Arrange
-        Map<Long, Boolean> availabilityMap = new HashMap<>();
-        availabilityMap.put(100L, true);
-        availabilityMap.put(101L, false);
+        BulkAvailability availabilityMap = BulkAvailability.evaluate(new long[] { 100L, 101L },
+                LongIntHashMap.of(Map.of(100L, 1, 101L, 1)), LongIntHashMap.of(Map.of(100L, 1)));
 
         // Act
         BulkStockCheckResponseDTO dto = BulkStockCheckResponseDTO.builder()
@@ -180,7 +180,7 @@ class DTOTest {
     void bulkStockReduceDTO_SettersAndGetters() {
         // Arrange
         BulkStockReduceDTO dto = new BulkStockReduceDTO();
-        Map<Long, Integer> bookQuantities = new HashMap<>();
+        LongIntHashMap bookQuantities = new LongIntHashMap();
         bookQuantities.put(100L, 2);
 
         // Act
@@ -189,6 +189,6 @@ class DTOTest {
         // Assert
         assertNotNull(dto.getBookQuantities());
         assertEquals(1, dto.getBookQuantities().size());
-        assertEquals(2, dto.getBookQuantities().get(100L));
+        assertEquals(2, dto.getBookQuantities().getOrDefault(100L, 0));
     }
 }
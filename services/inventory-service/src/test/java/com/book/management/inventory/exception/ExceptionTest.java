@@ -145,4 +145,25 @@ class ExceptionTest {
         assertEquals("Service error", ex.getMessage());
         assertEquals(500, ex.getHttpStatus());
     }
+
+    // ==================== ConcurrentStockUpdateException Tests ====================
+
+    @Test
+    void concurrentStockUpdateException_MessageConstructor() {
+        // Act
+        ConcurrentStockUpdateException ex = new ConcurrentStockUpdateException("Conflict");
+
+        // Assert
+        assertEquals("Conflict", ex.getMessage());
+    }
+
+    @Test
+    void concurrentStockUpdateException_BookIdsConstructor() {
+        // Act
+        ConcurrentStockUpdateException ex = new ConcurrentStockUpdateException(java.util.List.of(100L, 101L), 3);
+
+        // Assert
+        assertTrue(ex.getMessage().contains("[100, 101]"));
+        assertTrue(ex.getMessage().contains("3 attempts"));
+    }
 }
@@ -192,6 +192,23 @@ class GlobalExceptionHandlerTest {
         assertTrue(response.getBody().getMessage().contains("100"));
     }
 
+    @Test
+    void handleConcurrentStockUpdateException_ReturnsConflict() {
+        // Arrange
+        ConcurrentStockUpdateException ex = new ConcurrentStockUpdateException(List.of(100L), 3);
+
+        // Act
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = exceptionHandler
+                .handleConcurrentStockUpdateException(ex, webRequest);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(409, response.getBody().getStatus());
+        assertTrue(response.getBody().getMessage().contains("concurrent updates"));
+    }
+
     @Test
     void handleInsufficientStockException_WithMessage() {
         // Arrange
@@ -137,7 +137,7 @@ class InventoryTest {
         LocalDateTime now = LocalDateTime.now();
 
         // Act
-        Inventory inventory = new Inventory(1L, 100L, 50, 15, now, now, 0L);
+        Inventory inventory = new Inventory(1L, 100L, 50, 15, false, now, now, 0L);
 
         // Assert
         assertEquals(1L, inventory.getInventoryId());
@@ -0,0 +1,96 @@
+package com.book.management.inventory.repository;
+
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.model.Inventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the keyset pagination and streaming queries, running
+ * against H2 in MySQL compatibility mode.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listingdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class InventoryListingQueryTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.deleteAll();
+        for (long bookId = 100; bookId < 110; bookId++) {
+            int quantity = bookId % 3 == 0 ? 0 : (int) bookId;
+            inventoryRepository.save(Inventory.builder().bookId(bookId).quantity(quantity).lowStockThreshold(10).build());
+        }
+    }
+
+    private static List<Long> bookIds(List<Inventory> inventories) {
+        return inventories.stream().map(Inventory::getBookId).toList();
+    }
+
+    @Test
+    void findPageAfter_WalksTableInInventoryIdOrder() {
+        // Act
+        List<Inventory> first = inventoryRepository.findPageAfter(0L, null, null, PageRequest.ofSize(4));
+        List<Inventory> second = inventoryRepository.findPageAfter(
+                first.get(3).getInventoryId(), null, null, PageRequest.ofSize(4));
+
+        // Assert
+        assertEquals(List.of(100L, 101L, 102L, 103L), bookIds(first));
+        assertEquals(List.of(104L, 105L, 106L, 107L), bookIds(second));
+    }
+
+    @Test
+    void findPageAfter_AppliesStockBounds() {
+        // Act
+        List<Inventory> outOfStock = inventoryRepository.findPageAfter(0L, null, 0, PageRequest.ofSize(10));
+        List<Inventory> inStock = inventoryRepository.findPageAfter(0L, 1, null, PageRequest.ofSize(10));
+
+        // Assert
+        assertEquals(List.of(102L, 105L, 108L), bookIds(outOfStock));
+        assertEquals(7, inStock.size());
+    }
+
+    @Test
+    void streamAll_ReturnsFilteredRowsInOrder() {
+        // Act
+        List<Long> streamed = new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<Inventory> rows = inventoryRepository.streamAll(1, null)) {
+                return rows.map(Inventory::getBookId).toList();
+            }
+        });
+
+        // Assert
+        assertEquals(List.of(100L, 101L, 103L, 104L, 106L, 107L, 109L), streamed);
+    }
+}
@@ -1,6 +1,8 @@
 package com.book.management.inventory.repository;
 
 import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.model.InventorySlot;
+import com.book.management.inventory.repository.InventoryRepository.StockBandTotals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,7 +11,9 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,6 +38,9 @@ class InventoryRepositoryTest {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private InventorySlotRepository slotRepository;
+
     private Inventory testInventory;
 
     @BeforeEach
@@ -226,4 +233,26 @@ class InventoryRepositoryTest {
         // Assert
         assertTrue(count >= 1);
     }
+
+    @Test
+    void summariseStockBands_ClassifiesShardedBooksBySlotTotal() {
+        // Arrange - the sharded row still shows 40 units but its slots hold 4
+        inventoryRepository.save(Inventory.builder().bookId(108L).quantity(0).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(109L).quantity(40).lowStockThreshold(10)
+                .sharded(true).build());
+        slotRepository.save(InventorySlot.builder().bookId(109L).slotIndex(0).quantity(3).build());
+        slotRepository.save(InventorySlot.builder().bookId(109L).slotIndex(1).quantity(1).build());
+
+        // Act
+        Map<String, StockBandTotals> bands = inventoryRepository.summariseStockBands().stream()
+                .collect(Collectors.toMap(StockBandTotals::getBand, totals -> totals));
+
+        // Assert
+        assertEquals(1, bands.get("IN_STOCK").getSkus());
+        assertEquals(50, bands.get("IN_STOCK").getUnits());
+        assertEquals(1, bands.get("LOW_STOCK").getSkus());
+        assertEquals(4, bands.get("LOW_STOCK").getUnits());
+        assertEquals(1, bands.get("OUT_OF_STOCK").getSkus());
+        assertEquals(0, bands.get("OUT_OF_STOCK").getUnits());
+    }
 }
@@ -0,0 +1,147 @@
+package com.book.management.inventory.service.alert;
+
+import com.book.management.inventory.config.LowStockAlertProperties;
+import com.book.management.inventory.dto.LowStockAlertDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.InvalidInventoryOperationException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LowStockAlertService.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class LowStockAlertServiceTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private LowStockAlertProperties properties;
+    private LowStockAlertService alertService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LowStockAlertProperties();
+        alertService = new LowStockAlertService(inventoryRepository, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        alertService.shutdown();
+    }
+
+    private static InventoryChangeEvent event(ChangeType type, int previousQuantity, int quantity) {
+        return new InventoryChangeEvent(1L, 100L, type, previousQuantity, quantity, 10, 10, LocalDateTime.now());
+    }
+
+    @Test
+    void loadActiveAlerts_SeedsFromLowStockScan() {
+        // Arrange
+        Inventory low = Inventory.builder().inventoryId(1L).bookId(100L).quantity(0).lowStockThreshold(10).build();
+        when(inventoryRepository.findLowStockItems()).thenReturn(List.of(low));
+
+        // Act
+        alertService.loadActiveAlerts();
+
+        // Assert
+        List<LowStockAlertDTO> alerts = alertService.getActiveAlerts();
+        assertEquals(1, alerts.size());
+        assertEquals("CRITICAL", alerts.get(0).getAlertLevel());
+    }
+
+    @Test
+    void onInventoryChange_CrossingIntoLowStockAddsAlert() {
+        // Act
+        alertService.onInventoryChange(event(ChangeType.REDUCED, 12, 4));
+
+        // Assert
+        List<LowStockAlertDTO> alerts = alertService.getActiveAlerts();
+        assertEquals(1, alerts.size());
+        assertEquals(4, alerts.get(0).getCurrentQuantity());
+        assertEquals(6, alerts.get(0).getQuantityNeeded());
+        assertEquals("WARNING", alerts.get(0).getAlertLevel());
+    }
+
+    @Test
+    void onInventoryChange_ChangeWithinLowStockRefreshesAlert() {
+        // Arrange
+        alertService.onInventoryChange(event(ChangeType.REDUCED, 12, 4));
+
+        // Act
+        alertService.onInventoryChange(event(ChangeType.REDUCED, 4, 2));
+
+        // Assert
+        assertEquals(2, alertService.getActiveAlerts().get(0).getCurrentQuantity());
+    }
+
+    @Test
+    void onInventoryChange_RestockAboveThresholdClearsAlert() {
+        // Arrange
+        alertService.onInventoryChange(event(ChangeType.REDUCED, 12, 0));
+
+        // Act
+        alertService.onInventoryChange(event(ChangeType.RESTOCKED, 0, 30));
+
+        // Assert
+        assertTrue(alertService.getActiveAlerts().isEmpty());
+    }
+
+    @Test
+    void onInventoryChange_DeletionClearsAlert() {
+        // Arrange
+        alertService.onInventoryChange(event(ChangeType.REDUCED, 12, 3));
+
+        // Act
+        alertService.onInventoryChange(event(ChangeType.DELETED, 3, 0));
+
+        // Assert
+        assertTrue(alertService.getActiveAlerts().isEmpty());
+    }
+
+    @Test
+    void onInventoryChange_IgnoredWhenDisabled() {
+        // Arrange
+        properties.setAlertEnabled(false);
+
+        // Act
+        alertService.onInventoryChange(event(ChangeType.REDUCED, 12, 0));
+
+        // Assert
+        assertTrue(alertService.getActiveAlerts().isEmpty());
+    }
+
+    @Test
+    void subscribe_RegistersSubscriber() {
+        // Act
+        alertService.subscribe();
+
+        // Assert
+        assertEquals(1, alertService.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_RejectedWhenDisabled() {
+        // Arrange
+        properties.setAlertEnabled(false);
+
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class, () -> alertService.subscribe());
+    }
+}
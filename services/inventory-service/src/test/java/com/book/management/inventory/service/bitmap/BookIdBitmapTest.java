@@ -0,0 +1,87 @@
+package com.book.management.inventory.service.bitmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BookIdBitmap.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class BookIdBitmapTest {
+
+    private static BookIdBitmap roundTrip(BookIdBitmap bitmap) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bitmap.serialize(new DataOutputStream(bytes));
+        return BookIdBitmap.deserialize(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void addAndRemove_TrackMembershipAndCardinality() {
+        // Arrange
+        BookIdBitmap bitmap = new BookIdBitmap();
+
+        // Act
+        assertTrue(bitmap.add(100L));
+        assertFalse(bitmap.add(100L));
+        assertTrue(bitmap.add(70_000L));
+        assertTrue(bitmap.remove(100L));
+        assertFalse(bitmap.remove(100L));
+
+        // Assert
+        assertFalse(bitmap.contains(100L));
+        assertTrue(bitmap.contains(70_000L));
+        assertEquals(1, bitmap.cardinality());
+    }
+
+    @Test
+    void denseContainer_ConvertsToBitmapAndBack() throws IOException {
+        // Arrange
+        BookIdBitmap bitmap = new BookIdBitmap();
+        int dense = BookIdBitmap.ARRAY_MAX + 100;
+
+        // Act
+        for (long bookId = 1; bookId <= dense; bookId++) {
+            bitmap.add(bookId * 2);
+        }
+        BookIdBitmap copy = roundTrip(bitmap);
+        for (long bookId = 1; bookId <= 200; bookId++) {
+            copy.remove(bookId * 2);
+        }
+
+        // Assert
+        assertEquals(dense, bitmap.cardinality());
+        assertTrue(bitmap.contains(2L * dense));
+        assertFalse(bitmap.contains(3L));
+        assertEquals(dense - 200, copy.cardinality());
+        assertFalse(copy.contains(400L));
+        assertTrue(copy.contains(402L));
+    }
+
+    @Test
+    void serialize_RoundTripsSparseIdsInOrder() throws IOException {
+        // Arrange
+        BookIdBitmap bitmap = new BookIdBitmap();
+        bitmap.add(5_000_000_000L);
+        bitmap.add(3L);
+        bitmap.add(65_536L);
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        roundTrip(bitmap).forEach(ids::add);
+
+        // Assert
+        assertEquals(List.of(3L, 65_536L, 5_000_000_000L), ids);
+    }
+}
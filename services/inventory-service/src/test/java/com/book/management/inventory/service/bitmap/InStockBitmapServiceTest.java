@@ -0,0 +1,252 @@
+package com.book.management.inventory.service.bitmap;
+
+import com.book.management.inventory.config.InStockBitmapProperties;
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.config.ShardingProperties;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventorySlotRepository;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for InStockBitmapService and its shared change log,
+ * running against H2 in MySQL compatibility mode.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bitmapdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class InStockBitmapServiceTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventorySlotRepository slotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ShardedStockManager shardedStockManager;
+    private InStockBitmapProperties properties;
+    private InStockBitmapService bitmapService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM in_stock_changes");
+        jdbcTemplate.update("DELETE FROM in_stock_bitmap_epoch");
+        jdbcTemplate.update("DELETE FROM inventory_slots");
+        jdbcTemplate.update("DELETE FROM inventory");
+        inventoryRepository.save(Inventory.builder().bookId(100L).quantity(5).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(101L).quantity(50).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(102L).quantity(0).lowStockThreshold(10).build());
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        shardedStockManager = new ShardedStockManager(inventoryRepository, slotRepository, new ShardingProperties(),
+                transactionManager);
+        properties = new InStockBitmapProperties();
+        properties.setSettleMillis(0);
+        bitmapService = newService();
+    }
+
+    private InStockBitmapService newService() {
+        InStockBitmapService service = new InStockBitmapService(jdbcTemplate, inventoryRepository,
+                shardedStockManager, properties);
+        reconcile(service);
+        return service;
+    }
+
+    private int reconcile(InStockBitmapService service) {
+        return transactionTemplate.execute(status -> service.reconcile());
+    }
+
+    private static InventoryChangeEvent event(Long bookId, ChangeType type, int previousQuantity, int quantity) {
+        return new InventoryChangeEvent(1L, bookId, type, previousQuantity, quantity, 10, 10, LocalDateTime.now());
+    }
+
+    private static Map<Long, Boolean> decodeDelta(byte[] delta) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+        assertEquals(InStockBitmapService.DELTA_MAGIC, in.readInt());
+        assertEquals(InStockBitmapService.FORMAT_VERSION, in.readByte());
+        in.readLong();
+        in.readLong();
+        in.readLong();
+        Map<Long, Boolean> changes = new HashMap<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            changes.put(in.readLong(), in.readBoolean());
+        }
+        return changes;
+    }
+
+    @Test
+    void reconcile_InitialLoadFillsBitmapWithoutDeltas() throws IOException {
+        // Assert
+        assertTrue(bitmapService.isInStock(100L));
+        assertFalse(bitmapService.isInStock(102L));
+        assertEquals(0, bitmapService.getVersion());
+        assertEquals(Map.of(), decodeDelta(bitmapService.encodeDelta(bitmapService.getEpoch(), 0).orElseThrow()));
+    }
+
+    @Test
+    void poll_AppliesLoggedZeroCrossings() {
+        // Arrange
+        bitmapService.onInventoryChange(event(100L, ChangeType.REDUCED, 5, 0));
+        bitmapService.onInventoryChange(event(101L, ChangeType.REDUCED, 50, 40));
+        bitmapService.onInventoryChange(event(103L, ChangeType.CREATED, 0, 7));
+        assertTrue(bitmapService.isInStock(100L));
+
+        // Act
+        int applied = bitmapService.poll();
+
+        // Assert
+        assertEquals(2, applied);
+        assertFalse(bitmapService.isInStock(100L));
+        assertTrue(bitmapService.isInStock(103L));
+        assertEquals(jdbcTemplate.queryForObject("SELECT MAX(change_id) FROM in_stock_changes", Long.class),
+                bitmapService.getVersion());
+    }
+
+    @Test
+    void poll_WaitsForChangesToSettle() {
+        // Arrange
+        properties.setSettleMillis(60_000);
+        bitmapService.onInventoryChange(event(100L, ChangeType.REDUCED, 5, 0));
+
+        // Act & Assert
+        assertEquals(0, bitmapService.poll());
+        assertTrue(bitmapService.isInStock(100L));
+    }
+
+    @Test
+    void encodeDelta_ReturnsLatestStatePerBook() throws IOException {
+        // Arrange
+        long since = bitmapService.getVersion();
+        bitmapService.onInventoryChange(event(100L, ChangeType.REDUCED, 5, 0));
+        bitmapService.onInventoryChange(event(100L, ChangeType.RESTOCKED, 0, 9));
+        bitmapService.onInventoryChange(event(101L, ChangeType.DELETED, 3, 0));
+        bitmapService.poll();
+
+        // Act
+        Map<Long, Boolean> changes = decodeDelta(bitmapService.encodeDelta(bitmapService.getEpoch(), since)
+                .orElseThrow());
+
+        // Assert
+        assertEquals(Map.of(100L, true, 101L, false), changes);
+    }
+
+    @Test
+    void encodeDelta_GoneForOtherEpochOrTrimmedLog() {
+        // Arrange
+        properties.setMaxDeltaEntries(1);
+        long since = bitmapService.getVersion();
+        bitmapService.onInventoryChange(event(100L, ChangeType.REDUCED, 5, 0));
+        bitmapService.onInventoryChange(event(101L, ChangeType.REDUCED, 5, 0));
+        bitmapService.poll();
+        long last = bitmapService.getVersion();
+
+        // Act & Assert
+        assertTrue(bitmapService.encodeDelta(bitmapService.getEpoch() + 1, since).isEmpty());
+        assertTrue(bitmapService.encodeDelta(bitmapService.getEpoch(), since).isEmpty());
+        assertTrue(bitmapService.encodeDelta(bitmapService.getEpoch(), last - 1).isPresent());
+    }
+
+    @Test
+    void instances_ShareEpochAndVersions() {
+        // Arrange
+        InStockBitmapService other = newService();
+        bitmapService.onInventoryChange(event(100L, ChangeType.REDUCED, 5, 0));
+
+        // Act
+        bitmapService.poll();
+        other.poll();
+
+        // Assert
+        assertEquals(bitmapService.getEpoch(), other.getEpoch());
+        assertEquals(bitmapService.getVersion(), other.getVersion());
+        assertArrayEquals(bitmapService.encodeSnapshot(), other.encodeSnapshot());
+    }
+
+    @Test
+    void reconcile_LogsCorrectionsAsChanges() throws IOException {
+        // Arrange - writes that bypass the events
+        long since = bitmapService.getVersion();
+        jdbcTemplate.update("UPDATE inventory SET quantity = 0 WHERE book_id = 100");
+        jdbcTemplate.update("UPDATE inventory SET quantity = 12 WHERE book_id = 102");
+
+        // Act
+        int corrected = reconcile(bitmapService);
+        bitmapService.poll();
+
+        // Assert
+        assertEquals(2, corrected);
+        assertEquals(Map.of(100L, false, 102L, true),
+                decodeDelta(bitmapService.encodeDelta(bitmapService.getEpoch(), since).orElseThrow()));
+    }
+
+    @Test
+    void reconcile_SkipsBooksChangedAfterScanStarted() {
+        // Arrange - a sell-out logged but not yet applied, and a drifted book
+        properties.setSettleMillis(60_000);
+        jdbcTemplate.update("UPDATE inventory SET quantity = 0 WHERE book_id = 100");
+        bitmapService.onInventoryChange(event(100L, ChangeType.REDUCED, 5, 0));
+        jdbcTemplate.update("UPDATE inventory SET quantity = 0 WHERE book_id = 101");
+
+        // Act
+        int corrected = reconcile(bitmapService);
+
+        // Assert
+        assertEquals(1, corrected);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM in_stock_changes WHERE book_id = 100", Integer.class));
+    }
+
+    @Test
+    void encodeSnapshot_CachedUntilNextChange() {
+        // Act
+        byte[] first = bitmapService.encodeSnapshot();
+        byte[] second = bitmapService.encodeSnapshot();
+        bitmapService.onInventoryChange(event(100L, ChangeType.REDUCED, 5, 0));
+        bitmapService.poll();
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, bitmapService.encodeSnapshot());
+    }
+}
@@ -0,0 +1,195 @@
+package com.book.management.inventory.service.bulk;
+
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.config.ShardingProperties;
+import com.book.management.inventory.dto.BulkRestockResultDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.model.SagaStockRecord;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventorySlotRepository;
+import com.book.management.inventory.repository.SagaStockRecordRepository;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for chunked bulk restocking, running against H2 in MySQL
+ * compatibility mode.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class InventoryBulkWriterTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventorySlotRepository slotRepository;
+
+    @Autowired
+    private SagaStockRecordRepository sagaStockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<InventoryChangeEvent> events = new ArrayList<>();
+    private TransactionTemplate transactionTemplate;
+    private ShardedStockManager shardedStockManager;
+    private InventoryBulkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        events.clear();
+        sagaStockRepository.deleteAll();
+        slotRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        inventoryRepository.save(Inventory.builder().bookId(100L).quantity(50).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(101L).quantity(5).lowStockThreshold(10).build());
+
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setTotalCacheTtlMillis(0);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        shardedStockManager = new ShardedStockManager(inventoryRepository, slotRepository, properties,
+                transactionManager);
+        writer = new InventoryBulkWriter(inventoryRepository, shardedStockManager,
+                event -> events.add((InventoryChangeEvent) event), sagaStockRepository);
+    }
+
+    private Map<Long, BulkRestockResultDTO> restock(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> chunk = new TreeMap<>(quantities);
+        return transactionTemplate.execute(status -> writer.restockChunk(chunk));
+    }
+
+    @Test
+    void restockChunk_UpdatesRowsAndReportsEachBook() {
+        // Act
+        Map<Long, BulkRestockResultDTO> result = restock(Map.of(100L, 10, 101L, 20, 999L, 1));
+
+        // Assert
+        assertEquals(BulkRestockResultDTO.RESTOCKED, result.get(100L).getStatus());
+        assertEquals(60, result.get(100L).getQuantity());
+        assertEquals(25, result.get(101L).getQuantity());
+        assertEquals(BulkRestockResultDTO.NOT_FOUND, result.get(999L).getStatus());
+
+        Inventory updated = inventoryRepository.findByBookId(101L).orElseThrow();
+        assertEquals(25, updated.getQuantity());
+        assertEquals(1L, updated.getVersion());
+    }
+
+    @Test
+    void restockChunk_PublishesRestockEvents() {
+        // Act
+        restock(Map.of(100L, 10, 101L, 20));
+
+        // Assert
+        assertEquals(2, events.size());
+        InventoryChangeEvent event = events.get(1);
+        assertEquals(101L, event.bookId());
+        assertEquals(ChangeType.RESTOCKED, event.changeType());
+        assertEquals(5, event.previousQuantity());
+        assertEquals(25, event.quantity());
+        assertTrue(event.isLevelChange());
+    }
+
+    @Test
+    void restockChunk_ShardedBookGoesThroughSlots() {
+        // Arrange
+        transactionTemplate.executeWithoutResult(status ->
+                shardedStockManager.shard(inventoryRepository.findByBookId(100L).orElseThrow(), 4));
+
+        // Act
+        Map<Long, BulkRestockResultDTO> result = restock(Map.of(100L, 10, 101L, 1));
+
+        // Assert
+        assertEquals(60, result.get(100L).getQuantity());
+        assertEquals(60, shardedStockManager.sumSlots(100L));
+        assertEquals(6, inventoryRepository.findByBookId(101L).orElseThrow().getQuantity());
+    }
+
+    private Map<Long, BulkRestockResultDTO> restockSagas(Map<Long, Map<Long, Integer>> sagaQuantities,
+                                                         Set<Long> keyedSagaIds) {
+        return transactionTemplate.execute(status ->
+                writer.restockSagaChunk(new TreeSet<>(Set.of(100L, 101L)), sagaQuantities, keyedSagaIds));
+    }
+
+    @Test
+    void restockSagaChunk_RetriedCompensationRestocksOnce() {
+        // Arrange - saga 7 reduced 4 of book 100 under its ID, saga 8 predates keyed reductions
+        LocalDateTime now = LocalDateTime.now();
+        sagaStockRepository.save(SagaStockRecord.builder().sagaId(7L).bookId(100L)
+                .state(SagaStockRecord.State.RESERVED).quantity(4).createdAt(now).updatedAt(now).build());
+        Map<Long, Map<Long, Integer>> sagas = Map.of(7L, Map.of(100L, 4), 8L, Map.of(100L, 1, 101L, 2));
+
+        // Act
+        Map<Long, BulkRestockResultDTO> first = restockSagas(sagas, Set.of(7L));
+        Map<Long, BulkRestockResultDTO> retried = restockSagas(sagas, Set.of(7L));
+
+        // Assert
+        assertEquals(55, first.get(100L).getQuantity());
+        assertEquals(7, first.get(101L).getQuantity());
+        assertEquals(BulkRestockResultDTO.RESTOCKED, retried.get(100L).getStatus());
+        assertEquals(55, inventoryRepository.findByBookId(100L).orElseThrow().getQuantity());
+        assertEquals(7, inventoryRepository.findByBookId(101L).orElseThrow().getQuantity());
+        assertTrue(sagaStockRepository.findAll().stream()
+                .allMatch(record -> record.getState() == SagaStockRecord.State.RELEASED));
+    }
+
+    @Test
+    void restockSagaChunk_KeyedSagaWithoutReservationIsVoided() {
+        // Act - saga 9 crashed before inventory recorded its reduction
+        Map<Long, BulkRestockResultDTO> result = restockSagas(Map.of(9L, Map.of(100L, 3)), Set.of(9L));
+
+        // Assert
+        assertEquals(BulkRestockResultDTO.RESTOCKED, result.get(100L).getStatus());
+        assertEquals(50, inventoryRepository.findByBookId(100L).orElseThrow().getQuantity());
+        SagaStockRecord record = sagaStockRepository.findAll().get(0);
+        assertEquals(SagaStockRecord.State.VOIDED, record.getState());
+        assertEquals(List.of(9L), sagaStockRepository.findRecordedSagaIds(List.of(9L)));
+    }
+
+    @Test
+    void loadQuantities_ReadsExistingBooksAcrossChunks() {
+        // Act - a chunk size of one forces a query per book
+        LongIntHashMap quantities = inventoryRepository.loadQuantities(new long[] { 100L, 101L, 999L }, 1);
+
+        // Assert
+        assertEquals(2, quantities.size());
+        assertEquals(50, quantities.getOrDefault(100L, -1));
+        assertEquals(5, quantities.getOrDefault(101L, -1));
+        assertFalse(quantities.containsKey(999L));
+    }
+}
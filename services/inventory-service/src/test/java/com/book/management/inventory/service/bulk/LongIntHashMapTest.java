@@ -0,0 +1,100 @@
+package com.book.management.inventory.service.bulk;
+
+import com.book.management.inventory.dto.BulkStockCheckDTO;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the primitive bulk structures and their JSON forms.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class LongIntHashMapTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Test
+    void put_MatchesBoxedMapAcrossResizes() {
+        // Arrange
+        Random random = new Random(42);
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(5_000) - 100;
+            int value = random.nextInt();
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.toMap());
+        assertFalse(map.containsKey(Long.MAX_VALUE));
+        assertEquals(-1, map.getOrDefault(Long.MAX_VALUE, -1));
+    }
+
+    @Test
+    void sortedKeys_ReturnsAscendingKeysIncludingZero() {
+        // Arrange
+        LongIntHashMap map = LongIntHashMap.of(Map.of(30L, 1, 0L, 2, -5L, 3, 7L, 4));
+
+        // Act
+        long[] keys = map.sortedKeys();
+
+        // Assert
+        assertArrayEquals(new long[] { -5L, 0L, 7L, 30L }, keys);
+        assertEquals(2, map.getOrDefault(0L, -1));
+    }
+
+    @Test
+    void json_ReadsAndWritesSameShapeAsBoxedMap() {
+        // Arrange
+        String json = "{\"bookQuantities\":{\"100\":5,\"101\":3}}";
+
+        // Act
+        BulkStockCheckDTO dto = objectMapper.readValue(json, BulkStockCheckDTO.class);
+        String written = objectMapper.writeValueAsString(dto.getBookQuantities());
+
+        // Assert
+        assertEquals(LongIntHashMap.of(Map.of(100L, 5, 101L, 3)), dto.getBookQuantities());
+        assertEquals(Map.of("100", 5, "101", 3), objectMapper.readValue(written, Map.class));
+    }
+
+    @Test
+    void json_RejectsNonNumericEntries() {
+        // Act & Assert
+        assertThrows(DatabindException.class,
+                () -> objectMapper.readValue("{\"abc\":1}", LongIntHashMap.class));
+        assertThrows(DatabindException.class,
+                () -> objectMapper.readValue("{\"100\":\"many\"}", LongIntHashMap.class));
+    }
+
+    @Test
+    void availability_EvaluatesAndSerialisesByBookId() {
+        // Arrange
+        LongIntHashMap requested = LongIntHashMap.of(Map.of(101L, 2, 100L, 5, 102L, 1));
+        LongIntHashMap stock = LongIntHashMap.of(Map.of(100L, 5, 101L, 1));
+
+        // Act
+        BulkAvailability availability = BulkAvailability.evaluate(requested.sortedKeys(), requested, stock);
+
+        // Assert
+        assertTrue(availability.isAvailable(100L));
+        assertFalse(availability.isAvailable(101L));
+        assertFalse(availability.isAvailable(102L));
+        assertFalse(availability.isAllAvailable());
+        assertEquals("{\"100\":true,\"101\":false,\"102\":false}", objectMapper.writeValueAsString(availability));
+    }
+}
@@ -0,0 +1,133 @@
+package com.book.management.inventory.service.cache;
+
+import com.book.management.inventory.config.LookupCacheProperties;
+import com.book.management.inventory.dto.InventoryResponseDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InventoryLookupCache.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class InventoryLookupCacheTest {
+
+    private LookupCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private InventoryLookupCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LookupCacheProperties();
+        properties.setTtlMillis(60_000);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new InventoryLookupCache(properties, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<InventoryResponseDTO> loader(Long bookId, int quantity) {
+        return () -> {
+            loads.incrementAndGet();
+            return InventoryResponseDTO.builder().bookId(bookId).quantity(quantity).build();
+        };
+    }
+
+    @Test
+    void get_ServesRepeatedLookupsFromCache() {
+        // Act
+        cache.get(100L, loader(100L, 5));
+        InventoryResponseDTO result = cache.get(100L, loader(100L, 9));
+
+        // Assert
+        assertEquals(5, result.getQuantity());
+        assertEquals(1, loads.get());
+        assertEquals(0.5, cache.hitRatio());
+        assertEquals(0.5, meterRegistry.get("inventory.lookup.cache.hit.ratio").gauge().value());
+        assertEquals(1, meterRegistry.get("inventory.lookup.cache.age").timer().count());
+    }
+
+    @Test
+    void get_ReloadsAfterTtl() {
+        // Arrange
+        properties.setTtlMillis(0);
+
+        // Act
+        cache.get(100L, loader(100L, 5));
+        InventoryResponseDTO result = cache.get(100L, loader(100L, 9));
+
+        // Assert
+        assertEquals(9, result.getQuantity());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onInventoryChange_InvalidatesBook() {
+        // Arrange
+        cache.get(100L, loader(100L, 5));
+
+        // Act
+        cache.onInventoryChange(new InventoryChangeEvent(1L, 100L, ChangeType.REDUCED, 5, 3, 10, 10,
+                LocalDateTime.now()));
+        InventoryResponseDTO result = cache.get(100L, loader(100L, 3));
+
+        // Assert
+        assertEquals(3, result.getQuantity());
+        assertEquals(1, meterRegistry.get("inventory.lookup.cache.invalidations").counter().count());
+    }
+
+    @Test
+    void get_LoadOverlappingInvalidationIsNotCached() {
+        // Act - the book changes while its old value is being loaded
+        cache.get(100L, () -> {
+            cache.invalidate(100L);
+            return InventoryResponseDTO.builder().bookId(100L).quantity(5).build();
+        });
+        InventoryResponseDTO result = cache.get(100L, loader(100L, 3));
+
+        // Assert
+        assertEquals(3, result.getQuantity());
+    }
+
+    @Test
+    void get_EvictsLeastRecentlyUsedWhenFull() {
+        // Arrange
+        properties.setMaxEntries(2);
+        cache.get(100L, loader(100L, 5));
+        cache.get(101L, loader(101L, 5));
+        cache.get(100L, loader(100L, 5));
+
+        // Act
+        cache.get(102L, loader(102L, 5));
+        cache.get(100L, loader(100L, 5));
+        cache.get(101L, loader(101L, 5));
+
+        // Assert - 101 was evicted by 102, then reloaded in place of 102
+        assertEquals(4, loads.get());
+        assertEquals(2.0, meterRegistry.get("inventory.lookup.cache.size").gauge().value());
+    }
+
+    @Test
+    void get_BypassedWhenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        cache.get(100L, loader(100L, 5));
+        cache.get(100L, loader(100L, 5));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+}
@@ -3,23 +3,49 @@ package com.book.management.inventory.service.impl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+import com.book.management.inventory.config.BulkOperationProperties;
+import com.book.management.inventory.config.ListingProperties;
+import com.book.management.inventory.config.LookupCacheProperties;
 import com.book.management.inventory.dto.*;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.event.StockLevel;
 import com.book.management.inventory.exception.*;
 import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.model.SagaStockRecord;
 import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.SagaStockRecordRepository;
+import com.book.management.inventory.service.bulk.BulkAvailability;
+import com.book.management.inventory.service.bulk.InventoryBulkWriter;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import com.book.management.inventory.service.cache.InventoryLookupCache;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import com.book.management.inventory.service.locking.LockingMode;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +64,34 @@ class InventoryServiceImplTest {
     @Mock
     private InventoryRepository inventoryRepository;
 
+    @Mock
+    private InventoryLockingStrategy lockingStrategy;
+
+    @Mock
+    private ShardedStockManager shardedStockManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private InventoryBulkWriter bulkWriter;
+
+    @Spy
+    private BulkOperationProperties bulkOperationProperties = new BulkOperationProperties();
+
+    @Spy
+    private ListingProperties listingProperties = new ListingProperties();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private InventoryLookupCache lookupCache = new InventoryLookupCache(new LookupCacheProperties(),
+            new SimpleMeterRegistry());
+
+    @Mock
+    private SagaStockRecordRepository sagaStockRepository;
+
     @InjectMocks
     private InventoryServiceImpl inventoryService;
 
@@ -146,6 +200,61 @@ class InventoryServiceImplTest {
         verify(inventoryRepository, times(1)).findAll();
     }
 
+    @Test
+    void getInventoryPage_ReturnsCursorWhenMoreRowsFollow() {
+        // Arrange
+        Inventory second = Inventory.builder().inventoryId(2L).bookId(101L).quantity(5).lowStockThreshold(10).build();
+        Inventory third = Inventory.builder().inventoryId(3L).bookId(102L).quantity(7).lowStockThreshold(10).build();
+        when(inventoryRepository.findPageAfter(0L, 1, null, PageRequest.ofSize(3)))
+                .thenReturn(List.of(testInventory, second, third));
+
+        // Act
+        InventoryPageDTO result = inventoryService.getInventoryPage(InventoryStockFilter.IN_STOCK, null, 2);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.isHasMore());
+        assertEquals(2L, result.getNextCursor());
+    }
+
+    @Test
+    void getInventoryPage_LastPageHasNoCursor() {
+        // Arrange
+        when(inventoryRepository.findPageAfter(1L, null, null, PageRequest.ofSize(101)))
+                .thenReturn(List.of(testInventory));
+
+        // Act
+        InventoryPageDTO result = inventoryService.getInventoryPage(InventoryStockFilter.ALL, 1L, null);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getInventoryPage_RejectsPageSizeAboveMaximum() {
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class,
+                () -> inventoryService.getInventoryPage(InventoryStockFilter.ALL, null, 1001));
+        verify(inventoryRepository, never()).findPageAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void streamInventory_DetachesEachRow() {
+        // Arrange
+        when(inventoryRepository.streamAll(null, 0)).thenReturn(Stream.of(testInventory));
+        List<InventoryResponseDTO> received = new ArrayList<>();
+
+        // Act
+        inventoryService.streamInventory(InventoryStockFilter.OUT_OF_STOCK, received::add);
+
+        // Assert
+        assertEquals(1, received.size());
+        assertEquals(100L, received.get(0).getBookId());
+        verify(entityManager).detach(testInventory);
+    }
+
     @Test
     void updateInventoryQuantity_Success() {
         // Arrange
@@ -172,7 +281,7 @@ class InventoryServiceImplTest {
                 .reason("Restock")
                 .build();
         when(inventoryRepository.findById(1L)).thenReturn(Optional.of(testInventory));
-        when(inventoryRepository.save(any(Inventory.class))).thenReturn(testInventory);
+        when(lockingStrategy.applyDelta(100L, 10, ChangeType.ADJUSTED)).thenReturn(testInventory);
 
         // Act
         InventoryResponseDTO result = inventoryService.adjustInventoryQuantity(1L, adjustmentDTO);
@@ -180,7 +289,7 @@ class InventoryServiceImplTest {
         // Assert
         assertNotNull(result);
         verify(inventoryRepository, times(1)).findById(1L);
-        verify(inventoryRepository, times(1)).save(any(Inventory.class));
+        verify(lockingStrategy, times(1)).applyDelta(100L, 10, ChangeType.ADJUSTED);
     }
 
     @Test
@@ -196,49 +305,45 @@ class InventoryServiceImplTest {
         assertThrows(InvalidInventoryOperationException.class,
                 () -> inventoryService.adjustInventoryQuantity(1L, adjustmentDTO));
         verify(inventoryRepository, times(1)).findById(1L);
-        verify(inventoryRepository, never()).save(any(Inventory.class));
+        verify(lockingStrategy, never()).applyDelta(anyLong(), anyInt(), any());
     }
 
     @Test
     void reduceInventory_Success() {
         // Arrange
-        when(inventoryRepository.findByBookId(100L)).thenReturn(Optional.of(testInventory));
-        when(inventoryRepository.save(any(Inventory.class))).thenReturn(testInventory);
+        when(lockingStrategy.applyDelta(100L, -20, ChangeType.REDUCED)).thenReturn(testInventory);
 
         // Act
         InventoryResponseDTO result = inventoryService.reduceInventory(100L, 20);
 
         // Assert
         assertNotNull(result);
-        verify(inventoryRepository, times(1)).findByBookId(100L);
-        verify(inventoryRepository, times(1)).save(any(Inventory.class));
+        verify(lockingStrategy, times(1)).applyDelta(100L, -20, ChangeType.REDUCED);
     }
 
     @Test
     void reduceInventory_ThrowsExceptionForInsufficientStock() {
         // Arrange
-        when(inventoryRepository.findByBookId(100L)).thenReturn(Optional.of(testInventory));
+        when(lockingStrategy.applyDelta(100L, -100, ChangeType.REDUCED))
+                .thenThrow(new InsufficientStockException(100L, 50, 100));
 
         // Act & Assert
         assertThrows(InsufficientStockException.class,
                 () -> inventoryService.reduceInventory(100L, 100));
-        verify(inventoryRepository, times(1)).findByBookId(100L);
-        verify(inventoryRepository, never()).save(any(Inventory.class));
+        verify(lockingStrategy, times(1)).applyDelta(100L, -100, ChangeType.REDUCED);
     }
 
     @Test
     void restockInventory_Success() {
         // Arrange
-        when(inventoryRepository.findByBookId(100L)).thenReturn(Optional.of(testInventory));
-        when(inventoryRepository.save(any(Inventory.class))).thenReturn(testInventory);
+        when(lockingStrategy.applyDelta(100L, 30, ChangeType.RESTOCKED)).thenReturn(testInventory);
 
         // Act
         InventoryResponseDTO result = inventoryService.restockInventory(100L, 30);
 
         // Assert
         assertNotNull(result);
-        verify(inventoryRepository, times(1)).findByBookId(100L);
-        verify(inventoryRepository, times(1)).save(any(Inventory.class));
+        verify(lockingStrategy, times(1)).applyDelta(100L, 30, ChangeType.RESTOCKED);
     }
 
     @Test
@@ -327,27 +432,28 @@ class InventoryServiceImplTest {
     @Test
     void deleteInventory_Success() {
         // Arrange
-        when(inventoryRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(inventoryRepository).deleteById(1L);
+        when(inventoryRepository.findById(1L)).thenReturn(Optional.of(testInventory));
+        doNothing().when(inventoryRepository).delete(testInventory);
 
         // Act
         inventoryService.deleteInventory(1L);
 
         // Assert
-        verify(inventoryRepository, times(1)).existsById(1L);
-        verify(inventoryRepository, times(1)).deleteById(1L);
+        verify(inventoryRepository, times(1)).findById(1L);
+        verify(shardedStockManager, times(1)).removeSlots(100L);
+        verify(inventoryRepository, times(1)).delete(testInventory);
     }
 
     @Test
     void deleteInventory_ThrowsExceptionWhenNotFound() {
         // Arrange
-        when(inventoryRepository.existsById(1L)).thenReturn(false);
+        when(inventoryRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(InventoryNotFoundException.class,
                 () -> inventoryService.deleteInventory(1L));
-        verify(inventoryRepository, times(1)).existsById(1L);
-        verify(inventoryRepository, never()).deleteById(anyLong());
+        verify(inventoryRepository, times(1)).findById(1L);
+        verify(inventoryRepository, never()).delete(any(Inventory.class));
     }
 
     @Test
@@ -400,54 +506,75 @@ class InventoryServiceImplTest {
     @Test
     void checkBulkAvailability_Success() {
         // Arrange
-        Inventory inv1 = Inventory.builder().bookId(100L).quantity(50).build();
-        Inventory inv2 = Inventory.builder().bookId(101L).quantity(30).build();
-        when(inventoryRepository.findByBookIdIn(any())).thenReturn(Arrays.asList(inv1, inv2));
+        LongIntHashMap stock = new LongIntHashMap();
+        stock.put(100L, 50);
+        stock.put(101L, 30);
+        when(inventoryRepository.loadQuantities(any(), anyInt())).thenReturn(stock);
 
-        Map<Long, Integer> bookQuantities = new java.util.HashMap<>();
+        LongIntHashMap bookQuantities = new LongIntHashMap();
         bookQuantities.put(100L, 10);
         bookQuantities.put(101L, 20);
 
         // Act
-        Map<Long, Boolean> result = inventoryService.checkBulkAvailability(bookQuantities);
+        BulkAvailability result = inventoryService.checkBulkAvailability(bookQuantities);
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertTrue(result.get(100L));
-        assertTrue(result.get(101L));
+        assertTrue(result.isAvailable(100L));
+        assertTrue(result.isAvailable(101L));
+        assertTrue(result.isAllAvailable());
+    }
+
+    @Test
+    void checkBulkAvailability_MissingAndShortBooksUnavailable() {
+        // Arrange
+        LongIntHashMap stock = new LongIntHashMap();
+        stock.put(100L, 5);
+        stock.put(102L, 0);
+        when(inventoryRepository.loadQuantities(new long[] { 100L, 101L, 102L }, 100)).thenReturn(stock);
+        when(shardedStockManager.refreshShardedBooks(List.of(100L, 102L))).thenReturn(List.of(102L));
+        when(shardedStockManager.getTotalQuantity(102L)).thenReturn(8);
+
+        LongIntHashMap bookQuantities = LongIntHashMap.of(Map.of(100L, 6, 101L, 1, 102L, 8));
+
+        // Act
+        BulkAvailability result = inventoryService.checkBulkAvailability(bookQuantities);
+
+        // Assert
+        assertFalse(result.isAvailable(100L));
+        assertFalse(result.isAvailable(101L));
+        assertTrue(result.isAvailable(102L));
+        assertFalse(result.isAllAvailable());
     }
 
     @Test
     void checkBulkAvailability_EmptyMap() {
         // Act
-        Map<Long, Boolean> result = inventoryService.checkBulkAvailability(new java.util.HashMap<>());
+        BulkAvailability result = inventoryService.checkBulkAvailability(new LongIntHashMap());
 
         // Assert
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(inventoryRepository, never()).findByBookIdIn(any());
+        assertEquals(0, result.size());
+        verify(inventoryRepository, never()).loadQuantities(any(), anyInt());
     }
 
     @Test
     void checkBulkAvailability_NullMap() {
         // Act
-        Map<Long, Boolean> result = inventoryService.checkBulkAvailability(null);
+        BulkAvailability result = inventoryService.checkBulkAvailability(null);
 
         // Assert
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertEquals(0, result.size());
     }
 
     @Test
     void reduceBulkInventory_Success() {
         // Arrange
-        Inventory inv1 = Inventory.builder().inventoryId(1L).bookId(100L).quantity(50).build();
-        Inventory inv2 = Inventory.builder().inventoryId(2L).bookId(101L).quantity(30).build();
-        when(inventoryRepository.findByBookIdIn(any())).thenReturn(Arrays.asList(inv1, inv2));
-        when(inventoryRepository.saveAll(any())).thenReturn(Arrays.asList(inv1, inv2));
+        when(lockingStrategy.getMode()).thenReturn(LockingMode.OPTIMISTIC);
 
-        Map<Long, Integer> bookQuantities = new java.util.HashMap<>();
+        LongIntHashMap bookQuantities = new LongIntHashMap();
         bookQuantities.put(100L, 10);
         bookQuantities.put(101L, 5);
 
@@ -455,18 +582,17 @@ class InventoryServiceImplTest {
         inventoryService.reduceBulkInventory(bookQuantities);
 
         // Assert
-        verify(inventoryRepository, times(1)).findByBookIdIn(any());
-        verify(inventoryRepository, times(1)).saveAll(any());
+        verify(lockingStrategy, times(1)).applyDeltas(LongIntHashMap.of(Map.of(100L, -10, 101L, -5)),
+                ChangeType.REDUCED);
     }
 
     @Test
     void reduceBulkInventory_EmptyMap() {
         // Act
-        inventoryService.reduceBulkInventory(new java.util.HashMap<>());
+        inventoryService.reduceBulkInventory(new LongIntHashMap());
 
         // Assert
-        verify(inventoryRepository, never()).findByBookIdIn(any());
-        verify(inventoryRepository, never()).saveAll(any());
+        verify(lockingStrategy, never()).applyDeltas(any(LongIntHashMap.class), any());
     }
 
     @Test
@@ -475,22 +601,128 @@ class InventoryServiceImplTest {
         inventoryService.reduceBulkInventory(null);
 
         // Assert
-        verify(inventoryRepository, never()).findByBookIdIn(any());
+        verify(lockingStrategy, never()).applyDeltas(any(LongIntHashMap.class), any());
+    }
+
+    @Test
+    void reduceBulkInventory_NonPositiveQuantityRejected() {
+        // Arrange
+        LongIntHashMap bookQuantities = LongIntHashMap.of(Map.of(100L, 0));
+
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class,
+                () -> inventoryService.reduceBulkInventory(bookQuantities));
+        verify(lockingStrategy, never()).applyDeltas(any(LongIntHashMap.class), any());
     }
 
     @Test
     void reduceBulkInventory_InsufficientStock() {
         // Arrange
-        Inventory inv1 = Inventory.builder().bookId(100L).quantity(5).build(); // Only 5 available
-        when(inventoryRepository.findByBookIdIn(any())).thenReturn(Arrays.asList(inv1));
+        when(lockingStrategy.applyDeltas(LongIntHashMap.of(Map.of(100L, -10)), ChangeType.REDUCED))
+                .thenThrow(new InsufficientStockException("Insufficient stock for books: [100]"));
 
-        Map<Long, Integer> bookQuantities = new java.util.HashMap<>();
+        LongIntHashMap bookQuantities = new LongIntHashMap();
         bookQuantities.put(100L, 10); // Requesting 10
 
         // Act & Assert
         assertThrows(InsufficientStockException.class,
                 () -> inventoryService.reduceBulkInventory(bookQuantities));
-        verify(inventoryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void reduceBulkInventory_ForSagas_SkipsSagasAlreadyRecorded() {
+        // Arrange
+        when(lockingStrategy.getMode()).thenReturn(LockingMode.PESSIMISTIC);
+        when(sagaStockRepository.findRecordedSagaIds(Set.of(7L, 8L))).thenReturn(List.of(7L));
+        LongIntHashMap bookQuantities = LongIntHashMap.of(Map.of(100L, 3, 101L, 1));
+
+        // Act
+        inventoryService.reduceBulkInventory(bookQuantities, Map.of(7L, Map.of(100L, 2), 8L, Map.of(100L, 1, 101L, 1)));
+
+        // Assert
+        ArgumentCaptor<Runnable> beforeWrite = ArgumentCaptor.forClass(Runnable.class);
+        verify(lockingStrategy).applyDeltas(eq(Map.of(100L, -1, 101L, -1)), eq(ChangeType.REDUCED),
+                beforeWrite.capture());
+        verify(sagaStockRepository, never()).saveAll(any());
+        beforeWrite.getValue().run();
+        verify(sagaStockRepository).saveAll(argThat(records -> {
+            List<SagaStockRecord> saved = new ArrayList<>();
+            records.forEach(saved::add);
+            return saved.size() == 2 && saved.stream().allMatch(record -> record.getSagaId() == 8L
+                    && record.getState() == SagaStockRecord.State.RESERVED);
+        }));
+    }
+
+    @Test
+    void reduceBulkInventory_ForSagas_RejectsTotalsThatDoNotAddUp() {
+        // Arrange
+        LongIntHashMap bookQuantities = LongIntHashMap.of(Map.of(100L, 5));
+
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class,
+                () -> inventoryService.reduceBulkInventory(bookQuantities, Map.of(7L, Map.of(100L, 2))));
+        verify(lockingStrategy, never()).applyDeltas(anyMap(), any(), any());
+    }
+
+    @Test
+    void getBulkInventory_QueriesInChunksAndKeepsRequestOrder() {
+        // Arrange
+        bulkOperationProperties.setMaxBatchSize(2);
+        Inventory other = Inventory.builder().inventoryId(2L).bookId(101L).quantity(5).lowStockThreshold(10).build();
+        when(inventoryRepository.findByBookIdIn(List.of(101L, 100L))).thenReturn(List.of(testInventory, other));
+        when(inventoryRepository.findByBookIdIn(List.of(999L))).thenReturn(List.of());
+
+        // Act
+        Map<Long, InventoryResponseDTO> result = inventoryService.getBulkInventory(List.of(101L, 100L, 101L, 999L));
+
+        // Assert
+        assertEquals(List.of(101L, 100L), List.copyOf(result.keySet()));
+        assertTrue(result.get(101L).isLowStock());
+        verify(inventoryRepository, times(2)).findByBookIdIn(any());
+    }
+
+    @Test
+    void getBulkInventory_RejectsOversizedRequest() {
+        // Arrange
+        bulkOperationProperties.setMaxRequestSize(1);
+
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class,
+                () -> inventoryService.getBulkInventory(List.of(100L, 101L)));
+        verify(inventoryRepository, never()).findByBookIdIn(any());
+    }
+
+    @Test
+    void restockBulkInventory_FailedChunkDoesNotAbortOthers() {
+        // Arrange
+        bulkOperationProperties.setMaxBatchSize(2);
+        BulkRestockResultDTO restocked = BulkRestockResultDTO.builder()
+                .status(BulkRestockResultDTO.RESTOCKED).quantity(60).build();
+        when(bulkWriter.restockChunk(new TreeMap<>(Map.of(100L, 10, 101L, 5))))
+                .thenReturn(Map.of(100L, restocked, 101L, restocked));
+        when(bulkWriter.restockChunk(new TreeMap<>(Map.of(102L, 1))))
+                .thenThrow(new IllegalStateException("Deadlock found"));
+
+        // Act
+        Map<Long, BulkRestockResultDTO> result = inventoryService.restockBulkInventory(
+                Map.of(102L, 1, 101L, 5, 100L, 10));
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(BulkRestockResultDTO.RESTOCKED, result.get(100L).getStatus());
+        assertEquals(BulkRestockResultDTO.FAILED, result.get(102L).getStatus());
+        assertEquals("Deadlock found", result.get(102L).getMessage());
+    }
+
+    @Test
+    void restockBulkInventory_RejectsOversizedRequest() {
+        // Arrange
+        bulkOperationProperties.setMaxRequestSize(1);
+
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class,
+                () -> inventoryService.restockBulkInventory(Map.of(100L, 1, 101L, 1)));
+        verify(bulkWriter, never()).restockChunk(any());
     }
 
     @Test
@@ -513,6 +745,20 @@ class InventoryServiceImplTest {
         assertEquals("CRITICAL", result.get(0).getAlertLevel());
     }
 
+    @Test
+    void getInventoryByBookId_SecondLookupServedFromCache() {
+        // Arrange
+        when(inventoryRepository.findByBookId(100L)).thenReturn(Optional.of(testInventory));
+
+        // Act
+        inventoryService.getInventoryByBookId(100L);
+        InventoryResponseDTO result = inventoryService.getInventoryByBookId(100L);
+
+        // Assert
+        assertEquals(50, result.getQuantity());
+        verify(inventoryRepository, times(1)).findByBookId(100L);
+    }
+
     @Test
     void getInventoryByBookId_ThrowsExceptionWhenNotFound() {
         // Arrange
@@ -549,4 +795,103 @@ class InventoryServiceImplTest {
         assertNotNull(result);
         assertEquals(10, result.getLowStockThreshold());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getInventoryByBookId_ShardedBookReportsSlotTotal() {
+        // Arrange
+        when(inventoryRepository.findByBookId(100L)).thenReturn(Optional.of(testInventory));
+        testInventory.setSharded(true);
+        when(shardedStockManager.getTotalQuantity(100L)).thenReturn(5);
+
+        // Act
+        InventoryResponseDTO result = inventoryService.getInventoryByBookId(100L);
+
+        // Assert
+        assertEquals(5, result.getQuantity());
+        assertTrue(result.isLowStock());
+        assertFalse(result.isOutOfStock());
+    }
+
+    @Test
+    void checkAvailability_ShardedBookUsesSlotTotal() {
+        // Arrange
+        when(inventoryRepository.findByBookId(100L)).thenReturn(Optional.of(testInventory));
+        testInventory.setSharded(true);
+        when(shardedStockManager.getTotalQuantity(100L)).thenReturn(3);
+
+        // Act & Assert
+        assertFalse(inventoryService.checkAvailability(100L, 4));
+    }
+
+    @Test
+    void updateInventoryQuantity_ShardedBookResetsSlots() {
+        // Arrange
+        InventoryUpdateDTO updateDTO = InventoryUpdateDTO.builder().quantity(40).build();
+        when(inventoryRepository.findById(1L)).thenReturn(Optional.of(testInventory));
+        when(inventoryRepository.save(any(Inventory.class))).thenReturn(testInventory);
+        testInventory.setSharded(true);
+
+        // Act
+        InventoryResponseDTO result = inventoryService.updateInventoryQuantity(1L, updateDTO);
+
+        // Assert
+        assertEquals(40, result.getQuantity());
+        verify(shardedStockManager, times(1)).resetSlots(100L, 40);
+    }
+
+    @Test
+    void enableShardedStock_Success() {
+        // Arrange
+        when(inventoryRepository.findByBookIdInForUpdate(List.of(100L))).thenReturn(List.of(testInventory));
+        when(shardedStockManager.shard(testInventory, 4)).thenReturn(4);
+
+        // Act
+        InventoryResponseDTO result = inventoryService.enableShardedStock(100L, 4);
+
+        // Assert
+        assertEquals(50, result.getQuantity());
+        verify(shardedStockManager, times(1)).shard(testInventory, 4);
+    }
+
+    @Test
+    void enableShardedStock_ThrowsExceptionWhenNotFound() {
+        // Arrange
+        when(inventoryRepository.findByBookIdInForUpdate(List.of(999L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(InventoryNotFoundException.class,
+                () -> inventoryService.enableShardedStock(999L, 4));
+        verify(shardedStockManager, never()).shard(any(Inventory.class), any());
+    }
+
+    @Test
+    void disableShardedStock_Success() {
+        // Arrange
+        when(inventoryRepository.findByBookIdInForUpdate(List.of(100L))).thenReturn(List.of(testInventory));
+        when(inventoryRepository.save(testInventory)).thenReturn(testInventory);
+
+        // Act
+        InventoryResponseDTO result = inventoryService.disableShardedStock(100L);
+
+        // Assert
+        assertEquals(50, result.getQuantity());
+        verify(shardedStockManager, times(1)).unshard(testInventory);
+    }
+
+    @Test
+    void updateLowStockThreshold_PublishesThresholdChange() {
+        // Arrange
+        when(inventoryRepository.findById(1L)).thenReturn(Optional.of(testInventory));
+        when(inventoryRepository.save(any(Inventory.class))).thenReturn(testInventory);
+        ArgumentCaptor<InventoryChangeEvent> captor = ArgumentCaptor.forClass(InventoryChangeEvent.class);
+
+        // Act
+        inventoryService.updateLowStockThreshold(1L, 60);
+
+        // Assert
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(ChangeType.THRESHOLD_CHANGED, captor.getValue().changeType());
+        assertEquals(StockLevel.IN_STOCK, captor.getValue().previousLevel());
+        assertEquals(StockLevel.LOW_STOCK, captor.getValue().level());
+    }
+}
@@ -0,0 +1,212 @@
+package com.book.management.inventory.service.ledger;
+
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.config.LedgerProperties;
+import com.book.management.inventory.config.ShardingProperties;
+import com.book.management.inventory.dto.LedgerReplayDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.InsufficientStockException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventorySlotRepository;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import com.book.management.inventory.service.locking.PessimisticLockingStrategy;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the inventory movement ledger, running against H2 in
+ * MySQL compatibility mode with a real locking strategy publishing into it.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ledgerdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class InventoryLedgerServiceTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventorySlotRepository slotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InventoryLedgerService ledgerService;
+    private InventoryLockingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM inventory_movements");
+        jdbcTemplate.update("DELETE FROM inventory_snapshots");
+        inventoryRepository.deleteAll();
+        inventoryRepository.save(Inventory.builder().bookId(100L).quantity(50).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(101L).quantity(5).lowStockThreshold(10).build());
+
+        LedgerProperties properties = new LedgerProperties();
+        ShardedStockManager shardedStockManager = new ShardedStockManager(inventoryRepository, slotRepository,
+                new ShardingProperties(), transactionManager);
+        ledgerService = new InventoryLedgerService(jdbcTemplate, inventoryRepository, shardedStockManager, properties);
+        ledgerService.recordOpeningBalances();
+
+        strategy = new PessimisticLockingStrategy(inventoryRepository, new TransactionTemplate(transactionManager),
+                event -> ledgerService.onInventoryChange((InventoryChangeEvent) event));
+    }
+
+    private int movementCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_movements", Integer.class);
+    }
+
+    private LedgerReplayDTO replay(Long bookId) {
+        List<LedgerReplayDTO> results = ledgerService.replay(bookId);
+        assertEquals(1, results.size());
+        return results.get(0);
+    }
+
+    @Test
+    void applyDeltas_WritesOneMovementPerBook() {
+        // Act
+        strategy.applyDeltas(Map.of(100L, -10, 101L, -2), ChangeType.REDUCED);
+        strategy.applyDelta(100L, 4, ChangeType.RESTOCKED);
+
+        // Assert
+        assertEquals(3, movementCount());
+        assertEquals(44, jdbcTemplate.queryForObject(
+                "SELECT quantity_after FROM inventory_movements WHERE book_id = 100 AND movement_type = 'RESTOCKED'",
+                Integer.class));
+    }
+
+    @Test
+    void rejectedChange_LeavesNoMovement() {
+        // Act
+        assertThrows(InsufficientStockException.class,
+                () -> strategy.applyDeltas(Map.of(100L, -10, 101L, -6), ChangeType.REDUCED));
+
+        // Assert
+        assertEquals(0, movementCount());
+    }
+
+    @Test
+    void replay_RebuildsQuantityFromOpeningBalanceAndMovements() {
+        // Arrange
+        strategy.applyDelta(100L, -20, ChangeType.REDUCED);
+        strategy.applyDelta(100L, 7, ChangeType.RESTOCKED);
+
+        // Act
+        LedgerReplayDTO result = replay(100L);
+
+        // Assert
+        assertEquals(50, result.getSnapshotQuantity());
+        assertEquals(2L, result.getMovementsReplayed());
+        assertEquals(37, result.getReplayedQuantity());
+        assertEquals(37, result.getCurrentQuantity());
+        assertTrue(result.isConsistent());
+    }
+
+    @Test
+    void takeSnapshot_FoldsMovementsAndKeepsLatestSnapshotOnly() {
+        // Arrange
+        strategy.applyDelta(100L, -20, ChangeType.REDUCED);
+
+        // Act
+        int books = ledgerService.takeSnapshot();
+        strategy.applyDelta(100L, -5, ChangeType.REDUCED);
+
+        // Assert
+        assertEquals(1, books);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventory_snapshots WHERE book_id = 100", Integer.class));
+        LedgerReplayDTO result = replay(100L);
+        assertEquals(30, result.getSnapshotQuantity());
+        assertEquals(1L, result.getMovementsReplayed());
+        assertEquals(25, result.getReplayedQuantity());
+        assertTrue(result.isConsistent());
+    }
+
+    @Test
+    void takeSnapshot_FoldsLowerIdMovementCommittedAfterIt() {
+        // Arrange - the first movement stands for a transaction that has not committed yet
+        strategy.applyDelta(100L, -3, ChangeType.REDUCED);
+        strategy.applyDelta(100L, -4, ChangeType.REDUCED);
+        Map<String, Object> late = jdbcTemplate.queryForMap(
+                "SELECT * FROM inventory_movements WHERE book_id = 100 AND quantity_delta = -3");
+        jdbcTemplate.update("DELETE FROM inventory_movements WHERE movement_id = ?", late.get("movement_id"));
+        ledgerService.takeSnapshot();
+
+        // Act
+        jdbcTemplate.update("INSERT INTO inventory_movements (movement_id, book_id, inventory_id, movement_type, "
+                        + "quantity_delta, quantity_after, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                late.get("movement_id"), late.get("book_id"), late.get("inventory_id"), late.get("movement_type"),
+                late.get("quantity_delta"), late.get("quantity_after"), late.get("created_at"));
+        LedgerReplayDTO beforeSnapshot = replay(100L);
+        ledgerService.takeSnapshot();
+        LedgerReplayDTO afterSnapshot = replay(100L);
+
+        // Assert
+        assertEquals(46, beforeSnapshot.getSnapshotQuantity());
+        assertEquals(1L, beforeSnapshot.getMovementsReplayed());
+        assertTrue(beforeSnapshot.isConsistent());
+        assertEquals(43, afterSnapshot.getSnapshotQuantity());
+        assertEquals(0L, afterSnapshot.getMovementsReplayed());
+        assertTrue(afterSnapshot.isConsistent());
+    }
+
+    @Test
+    void replay_FlagsDriftBetweenLedgerAndInventory() {
+        // Arrange - a write that bypasses the ledger
+        jdbcTemplate.update("UPDATE inventory SET quantity = 3 WHERE book_id = 101");
+
+        // Act
+        LedgerReplayDTO result = replay(101L);
+
+        // Assert
+        assertEquals(5, result.getReplayedQuantity());
+        assertEquals(3, result.getCurrentQuantity());
+        assertFalse(result.isConsistent());
+    }
+
+    @Test
+    void replay_WithoutBookIdCoversAllBooks() {
+        // Arrange
+        strategy.applyDeltas(Map.of(100L, -10, 101L, -2), ChangeType.REDUCED);
+
+        // Act
+        List<LedgerReplayDTO> results = ledgerService.replay(null);
+
+        // Assert
+        assertEquals(List.of(100L, 101L), results.stream().map(LedgerReplayDTO::getBookId).toList());
+        assertEquals(40, results.get(0).getReplayedQuantity());
+        assertEquals(3, results.get(1).getReplayedQuantity());
+        assertTrue(results.stream().allMatch(LedgerReplayDTO::isConsistent));
+    }
+}
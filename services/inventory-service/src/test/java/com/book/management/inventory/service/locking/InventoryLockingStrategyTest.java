@@ -0,0 +1,212 @@
+package com.book.management.inventory.service.locking;
+
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.InsufficientStockException;
+import com.book.management.inventory.exception.InventoryNotFoundException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.service.bulk.LongIntHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the inventory locking strategies.
+ * Runs every mode against H2 in MySQL compatibility mode; each strategy
+ * manages its own transactions, so the test itself is non-transactional.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lockingdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class InventoryLockingStrategyTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<InventoryChangeEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.deleteAll();
+        events.clear();
+        inventoryRepository.save(Inventory.builder().bookId(100L).quantity(50).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(101L).quantity(5).lowStockThreshold(10).build());
+    }
+
+    private InventoryLockingStrategy strategy(LockingMode mode) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return switch (mode) {
+            case OPTIMISTIC -> new OptimisticLockingStrategy(inventoryRepository, transactionTemplate, this::record, 3, 1);
+            case PESSIMISTIC -> new PessimisticLockingStrategy(inventoryRepository, transactionTemplate, this::record);
+            case ATOMIC -> new AtomicSqlLockingStrategy(inventoryRepository, transactionTemplate, this::record);
+        };
+    }
+
+    private void record(Object event) {
+        events.add((InventoryChangeEvent) event);
+    }
+
+    private int quantityOf(Long bookId) {
+        return inventoryRepository.findByBookId(bookId).orElseThrow().getQuantity();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDelta_ReducesAndRestocks(LockingMode mode) {
+        // Arrange
+        InventoryLockingStrategy strategy = strategy(mode);
+
+        // Act
+        Inventory reduced = strategy.applyDelta(100L, -20, ChangeType.REDUCED);
+        Inventory restocked = strategy.applyDelta(100L, 5, ChangeType.RESTOCKED);
+
+        // Assert
+        assertEquals(mode, strategy.getMode());
+        assertEquals(30, reduced.getQuantity());
+        assertEquals(35, restocked.getQuantity());
+        assertEquals(35, quantityOf(100L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDelta_ThrowsInsufficientStock(LockingMode mode) {
+        // Act & Assert
+        InsufficientStockException ex = assertThrows(InsufficientStockException.class,
+                () -> strategy(mode).applyDelta(101L, -6, ChangeType.REDUCED));
+        assertTrue(ex.getMessage().contains("Available: 5"));
+        assertEquals(5, quantityOf(101L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDelta_ThrowsNotFoundForUnknownBook(LockingMode mode) {
+        // Act & Assert
+        assertThrows(InventoryNotFoundException.class,
+                () -> strategy(mode).applyDelta(999L, -1, ChangeType.REDUCED));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDeltas_IsAllOrNothing(LockingMode mode) {
+        // Act & Assert
+        assertThrows(InsufficientStockException.class,
+                () -> strategy(mode).applyDeltas(Map.of(100L, -10, 101L, -10), ChangeType.REDUCED));
+        assertEquals(50, quantityOf(100L));
+        assertEquals(5, quantityOf(101L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDeltas_UpdatesAllBooks(LockingMode mode) {
+        // Act
+        Map<Long, Inventory> result = strategy(mode).applyDeltas(Map.of(100L, -10, 101L, -5), ChangeType.REDUCED);
+
+        // Assert
+        assertEquals(40, result.get(100L).getQuantity());
+        assertEquals(0, result.get(101L).getQuantity());
+        assertEquals(40, quantityOf(100L));
+        assertEquals(0, quantityOf(101L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDeltas_PrimitiveMapUpdatesAllBooks(LockingMode mode) {
+        // Act
+        Map<Long, Inventory> result = strategy(mode).applyDeltas(
+                LongIntHashMap.of(Map.of(101L, -5, 100L, -10)), ChangeType.REDUCED);
+
+        // Assert
+        assertEquals(40, result.get(100L).getQuantity());
+        assertEquals(0, result.get(101L).getQuantity());
+        assertEquals(40, quantityOf(100L));
+        assertEquals(0, quantityOf(101L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDeltas_EmptyMapIsNoOp(LockingMode mode) {
+        // Act & Assert
+        assertTrue(strategy(mode).applyDeltas(Map.of(), ChangeType.REDUCED).isEmpty());
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDeltas_PublishesOneEventPerBook(LockingMode mode) {
+        // Act
+        strategy(mode).applyDeltas(Map.of(100L, -45, 101L, 3), ChangeType.REDUCED);
+
+        // Assert
+        assertEquals(2, events.size());
+        InventoryChangeEvent reduced = events.stream().filter(e -> e.bookId().equals(100L)).findFirst().orElseThrow();
+        assertEquals(ChangeType.REDUCED, reduced.changeType());
+        assertEquals(50, reduced.previousQuantity());
+        assertEquals(5, reduced.quantity());
+        assertTrue(reduced.isLevelChange());
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDelta_RejectedChangePublishesNothing(LockingMode mode) {
+        // Act
+        assertThrows(InsufficientStockException.class,
+                () -> strategy(mode).applyDelta(101L, -6, ChangeType.REDUCED));
+
+        // Assert
+        assertTrue(events.isEmpty());
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDeltas_BeforeWriteCommitsWithTheStockChange(LockingMode mode) {
+        // Act
+        strategy(mode).applyDeltas(Map.of(100L, -10), ChangeType.REDUCED, () -> inventoryRepository.save(
+                Inventory.builder().bookId(200L).quantity(1).lowStockThreshold(10).build()));
+
+        // Assert
+        assertEquals(40, quantityOf(100L));
+        assertTrue(inventoryRepository.findByBookId(200L).isPresent());
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void applyDeltas_BeforeWriteRollsBackWithRejectedChange(LockingMode mode) {
+        // Act
+        assertThrows(InsufficientStockException.class,
+                () -> strategy(mode).applyDeltas(Map.of(101L, -6), ChangeType.REDUCED, () -> inventoryRepository.save(
+                        Inventory.builder().bookId(200L).quantity(1).lowStockThreshold(10).build())));
+
+        // Assert
+        assertFalse(inventoryRepository.findByBookId(200L).isPresent());
+        assertEquals(5, quantityOf(101L));
+    }
+}
@@ -0,0 +1,276 @@
+package com.book.management.inventory.service.planning;
+
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.config.ListingProperties;
+import com.book.management.inventory.config.RestockPlanningProperties;
+import com.book.management.inventory.config.ShardingProperties;
+import com.book.management.inventory.dto.RestockPlanDTO;
+import com.book.management.inventory.dto.RestockPlanPageDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventorySlotRepository;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import com.book.management.inventory.service.locking.PessimisticLockingStrategy;
+import com.book.management.inventory.service.sharding.ShardedStockManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for restock planning, running against H2 in MySQL
+ * compatibility mode with a real locking strategy recording demand.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:restockdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class RestockPlanningServiceTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventorySlotRepository slotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RestockPlanningProperties properties;
+    private RestockPlanningService planningService;
+    private InventoryLockingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM inventory_demand");
+        jdbcTemplate.update("DELETE FROM restock_plans");
+        jdbcTemplate.update("DELETE FROM restock_plan_latest_run");
+        inventoryRepository.deleteAll();
+        inventoryRepository.save(Inventory.builder().bookId(100L).quantity(70).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(101L).quantity(5).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(102L).quantity(500).lowStockThreshold(10).build());
+
+        properties = new RestockPlanningProperties();
+        properties.setVelocityWindowDays(7);
+        properties.setLeadTimeDays(3);
+        properties.setReviewPeriodDays(4);
+        properties.setChunkSize(2);
+        ShardedStockManager shardedStockManager = new ShardedStockManager(inventoryRepository, slotRepository,
+                new ShardingProperties(), transactionManager);
+        planningService = new RestockPlanningService(jdbcTemplate, shardedStockManager, properties,
+                new ListingProperties(), transactionManager);
+
+        strategy = new PessimisticLockingStrategy(inventoryRepository, new TransactionTemplate(transactionManager),
+                event -> planningService.onInventoryChange((InventoryChangeEvent) event));
+    }
+
+    @AfterEach
+    void tearDown() {
+        planningService.shutdown();
+    }
+
+    private Map<Long, RestockPlanDTO> planByBook(RestockPlanPageDTO page) {
+        Map<Long, RestockPlanDTO> plans = new HashMap<>();
+        page.getItems().forEach(plan -> plans.put(plan.getBookId(), plan));
+        return plans;
+    }
+
+    @Test
+    void plan_ComputesVelocityCoverAndSuggestionFromRecordedDemand() {
+        // Arrange - 35 units of book 100 sold this week, i.e. 5 per day
+        strategy.applyDeltas(Map.of(100L, -20, 101L, -1), ChangeType.REDUCED);
+        strategy.applyDelta(100L, -15, ChangeType.REDUCED);
+        strategy.applyDelta(102L, 40, ChangeType.RESTOCKED);
+        assertEquals(2, planningService.flushDemand());
+
+        // Act
+        int planned = planningService.plan();
+        Map<Long, RestockPlanDTO> plans = planByBook(planningService.getPlanPage(null, 10, false));
+
+        // Assert
+        assertEquals(3, planned);
+        RestockPlanDTO busy = plans.get(100L);
+        assertEquals(35, busy.getQuantity());
+        assertEquals(5.0, busy.getDailyVelocity(), 1e-9);
+        assertEquals(7.0, busy.getDaysOfCover(), 1e-9);
+        // 7 days of demand plus a threshold of 10, less 35 on hand
+        assertEquals(10, busy.getSuggestedQuantity());
+
+        RestockPlanDTO idle = plans.get(102L);
+        assertEquals(0.0, idle.getDailyVelocity());
+        assertNull(idle.getDaysOfCover());
+        assertEquals(0, idle.getSuggestedQuantity());
+
+        // 1 unit of demand over the horizon plus a threshold of 10, less 4 on hand
+        assertEquals(7, plans.get(101L).getSuggestedQuantity());
+    }
+
+    @Test
+    void flushDemand_WhenWriteFails_KeepsDemandForNextFlush() {
+        // Arrange
+        strategy.applyDeltas(Map.of(100L, -20, 101L, -1, 102L, -3), ChangeType.REDUCED);
+        jdbcTemplate.execute("ALTER TABLE inventory_demand RENAME TO inventory_demand_off");
+        try {
+            // Act
+            assertThrows(RuntimeException.class, () -> planningService.flushDemand());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE inventory_demand_off RENAME TO inventory_demand");
+        }
+        strategy.applyDelta(100L, -5, ChangeType.REDUCED);
+
+        // Assert
+        assertEquals(3, planningService.flushDemand());
+        assertEquals(25, jdbcTemplate.queryForObject(
+                "SELECT SUM(units) FROM inventory_demand WHERE book_id = 100", Integer.class));
+        assertEquals(29, jdbcTemplate.queryForObject("SELECT SUM(units) FROM inventory_demand", Integer.class));
+    }
+
+    @Test
+    void shutdown_FlushesPendingDemand() {
+        // Arrange
+        strategy.applyDelta(100L, -4, ChangeType.REDUCED);
+
+        // Act
+        planningService.shutdown();
+
+        // Assert
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT SUM(units) FROM inventory_demand", Integer.class));
+    }
+
+    @Test
+    void getPlanPage_PagesByBookIdAndFiltersReorders() {
+        // Arrange
+        planningService.plan();
+
+        // Act
+        RestockPlanPageDTO first = planningService.getPlanPage(null, 2, false);
+        RestockPlanPageDTO second = planningService.getPlanPage(first.getNextCursor(), 2, false);
+        RestockPlanPageDTO reorders = planningService.getPlanPage(null, 10, true);
+
+        // Assert
+        assertEquals(List.of(100L, 101L), first.getItems().stream().map(RestockPlanDTO::getBookId).toList());
+        assertTrue(first.isHasMore());
+        assertEquals(List.of(102L), second.getItems().stream().map(RestockPlanDTO::getBookId).toList());
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+        assertEquals(List.of(101L), reorders.getItems().stream().map(RestockPlanDTO::getBookId).toList());
+    }
+
+    @Test
+    void plan_ReplacesPreviousRunAndPrunesOldDemand() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO inventory_demand (book_id, demand_date, units) VALUES (100, ?, 999)",
+                Date.valueOf(LocalDate.now().minusDays(30)));
+        planningService.plan();
+        long firstRun = planningService.getPlanPage(null, 10, false).getRunId();
+
+        // Act
+        planningService.plan();
+        RestockPlanPageDTO page = planningService.getPlanPage(null, 10, false);
+
+        // Assert
+        assertTrue(page.getRunId() > firstRun);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restock_plans", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_demand", Integer.class));
+        assertEquals(0.0, planByBook(page).get(100L).getDailyVelocity());
+    }
+
+    @Test
+    void getPlanPage_KeepsServingSwitchedRunWhileNextRunIsWritten() {
+        // Arrange - rows of a newer run whose chunks are still being written
+        planningService.plan();
+        long switchedRun = planningService.getPlanPage(null, 10, false).getRunId();
+        jdbcTemplate.update("INSERT INTO restock_plans (run_id, book_id, quantity, low_stock_threshold, "
+                + "daily_velocity, suggested_quantity, planned_at) VALUES (?, 100, 0, 10, 0, 99, CURRENT_TIMESTAMP)",
+                switchedRun + 1);
+
+        // Act
+        RestockPlanPageDTO page = planningService.getPlanPage(null, 10, false);
+
+        // Assert
+        assertEquals(switchedRun, page.getRunId());
+        assertEquals(3, page.getItems().size());
+        assertEquals(0, planByBook(page).get(100L).getSuggestedQuantity());
+    }
+
+    @Test
+    void plan_DeletesRowsLeftByFailedRuns() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO restock_plans (run_id, book_id, quantity, low_stock_threshold, "
+                + "daily_velocity, suggested_quantity, planned_at) VALUES (?, 100, 0, 10, 0, 99, CURRENT_TIMESTAMP)",
+                System.currentTimeMillis() + 60_000);
+
+        // Act
+        planningService.plan();
+        RestockPlanPageDTO page = planningService.getPlanPage(null, 10, false);
+
+        // Assert
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restock_plans", Integer.class));
+        assertEquals(3, page.getItems().size());
+        assertEquals(0, planByBook(page).get(100L).getSuggestedQuantity());
+    }
+
+    @Test
+    void plan_ParallelResultsMatchAcrossManyChunks() {
+        // Arrange
+        List<Inventory> books = new ArrayList<>();
+        for (long bookId = 1_000; bookId < 6_000; bookId++) {
+            books.add(Inventory.builder().bookId(bookId).quantity((int) (bookId % 50)).lowStockThreshold(20).build());
+        }
+        inventoryRepository.saveAll(books);
+        properties.setChunkSize(4_096);
+
+        // Act
+        int planned = planningService.plan();
+
+        // Assert
+        assertEquals(5_003, planned);
+        assertEquals(5_003, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restock_plans", Integer.class));
+        assertEquals(2_000, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM restock_plans WHERE book_id >= 1000 AND suggested_quantity = 20 - quantity "
+                + "AND suggested_quantity > 0", Integer.class));
+    }
+
+    @Test
+    void getPlanPage_WithoutRun_ReturnsEmptyPage() {
+        // Act
+        RestockPlanPageDTO page = planningService.getPlanPage(null, null, false);
+
+        // Assert
+        assertNull(page.getRunId());
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasMore());
+    }
+}
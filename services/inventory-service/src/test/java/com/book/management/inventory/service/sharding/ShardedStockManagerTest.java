@@ -0,0 +1,232 @@
+package com.book.management.inventory.service.sharding;
+
+import com.book.management.inventory.config.JpaAuditingConfig;
+import com.book.management.inventory.config.ShardingProperties;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.exception.InsufficientStockException;
+import com.book.management.inventory.exception.InvalidInventoryOperationException;
+import com.book.management.inventory.model.Inventory;
+import com.book.management.inventory.model.InventorySlot;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventorySlotRepository;
+import com.book.management.inventory.service.locking.AtomicSqlLockingStrategy;
+import com.book.management.inventory.service.locking.InventoryLockingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for sharded stock counters and the sharded locking
+ * strategy decorator, running against H2 in MySQL compatibility mode.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shardingdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class ShardedStockManagerTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventorySlotRepository slotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ShardingProperties properties;
+    private ShardedStockManager manager;
+    private InventoryLockingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        slotRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        inventoryRepository.save(Inventory.builder().bookId(100L).quantity(40).lowStockThreshold(10).build());
+        inventoryRepository.save(Inventory.builder().bookId(101L).quantity(5).lowStockThreshold(10).build());
+
+        properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setTotalCacheTtlMillis(0);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        manager = new ShardedStockManager(inventoryRepository, slotRepository, properties, transactionManager);
+        InventoryLockingStrategy delegate = new AtomicSqlLockingStrategy(inventoryRepository, transactionTemplate,
+                event -> { });
+        strategy = new ShardedLockingStrategy(delegate, manager, inventoryRepository, transactionTemplate,
+                event -> { });
+    }
+
+    private void shard(Long bookId, int slots) {
+        transactionTemplate.executeWithoutResult(status ->
+                manager.shard(inventoryRepository.findByBookId(bookId).orElseThrow(), slots));
+    }
+
+    private boolean isShardedRow(Long bookId) {
+        return inventoryRepository.findByBookId(bookId).orElseThrow().isSharded();
+    }
+
+    @Test
+    void shard_SplitsQuantityEvenlyAcrossSlots() {
+        // Act
+        shard(100L, 4);
+
+        // Assert
+        assertTrue(isShardedRow(100L));
+        assertTrue(manager.isKnownSharded(100L));
+        assertEquals(40, manager.getTotalQuantity(100L));
+        assertTrue(slotRepository.findAll().stream()
+                .filter(slot -> slot.getBookId().equals(100L))
+                .allMatch(slot -> slot.getQuantity() == 10));
+    }
+
+    @Test
+    void shard_RejectsSlotCountOutOfRange() {
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class, () -> shard(100L, 1));
+        assertFalse(isShardedRow(100L));
+    }
+
+    @Test
+    void shard_RejectedWhenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act & Assert
+        assertThrows(InvalidInventoryOperationException.class, () -> shard(100L, 4));
+    }
+
+    @Test
+    void applyDelta_BorrowsFromSiblingSlots() {
+        // Arrange
+        shard(100L, 4);
+
+        // Act - no single slot holds 25 units
+        Inventory result = strategy.applyDelta(100L, -25, ChangeType.REDUCED);
+
+        // Assert
+        assertEquals(15, result.getQuantity());
+        assertEquals(15, manager.sumSlots(100L));
+    }
+
+    @Test
+    void applyDelta_InsufficientAcrossAllSlots() {
+        // Arrange
+        shard(100L, 4);
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class, () -> strategy.applyDelta(100L, -41, ChangeType.REDUCED));
+        assertEquals(40, manager.sumSlots(100L));
+    }
+
+    @Test
+    void applyDeltas_MixedShardedAndRegularIsAllOrNothing() {
+        // Arrange
+        shard(100L, 4);
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class,
+                () -> strategy.applyDeltas(Map.of(100L, -5, 101L, -6), ChangeType.REDUCED));
+        assertEquals(40, manager.sumSlots(100L));
+        assertEquals(5, inventoryRepository.findByBookId(101L).orElseThrow().getQuantity());
+
+        Map<Long, Inventory> result = strategy.applyDeltas(Map.of(100L, -5, 101L, -5), ChangeType.REDUCED);
+        assertEquals(35, result.get(100L).getQuantity());
+        assertEquals(0, result.get(101L).getQuantity());
+    }
+
+    @Test
+    void rebalanceAll_EvensSlotsAndSyncsInventoryRow() {
+        // Arrange
+        shard(100L, 4);
+        strategy.applyDelta(100L, -10, ChangeType.REDUCED);
+
+        // Act
+        int changed = manager.rebalanceAll();
+
+        // Assert
+        assertEquals(1, changed);
+        assertEquals(30, inventoryRepository.findByBookId(100L).orElseThrow().getQuantity());
+        int min = slotRepository.findAll().stream().mapToInt(InventorySlot::getQuantity).min().orElseThrow();
+        int max = slotRepository.findAll().stream().mapToInt(InventorySlot::getQuantity).max().orElseThrow();
+        assertTrue(max - min <= 1);
+    }
+
+    @Test
+    void unshard_CollapsesSlotsIntoInventoryRow() {
+        // Arrange
+        shard(100L, 4);
+        strategy.applyDelta(100L, -7, ChangeType.REDUCED);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Inventory inventory = inventoryRepository.findByBookId(100L).orElseThrow();
+            manager.unshard(inventory);
+            inventoryRepository.save(inventory);
+        });
+
+        // Assert
+        assertFalse(isShardedRow(100L));
+        assertFalse(manager.isKnownSharded(100L));
+        assertEquals(0, slotRepository.count());
+        assertEquals(33, inventoryRepository.findByBookId(100L).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void applyDelta_StaleRoutingHintStillWritesSlots() {
+        // Arrange - another instance sharded the book after this router loaded its hint
+        ShardedStockManager stale = new ShardedStockManager(inventoryRepository, slotRepository, properties,
+                transactionManager);
+        InventoryLockingStrategy staleStrategy = new ShardedLockingStrategy(
+                new AtomicSqlLockingStrategy(inventoryRepository, transactionTemplate, event -> { }),
+                stale, inventoryRepository, transactionTemplate, event -> { });
+        shard(100L, 4);
+
+        // Act
+        Inventory result = staleStrategy.applyDelta(100L, -5, ChangeType.REDUCED);
+        stale.rebalanceAll();
+
+        // Assert - the decrement went to the slots and survives the rebalance
+        assertEquals(35, result.getQuantity());
+        assertTrue(stale.isKnownSharded(100L));
+        assertEquals(35, manager.sumSlots(100L));
+        assertEquals(35, inventoryRepository.findByBookId(100L).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void rebalanceAll_AppliesOnlyNetSlotChangeToInventoryRow() {
+        // Arrange
+        shard(100L, 4);
+        strategy.applyDelta(100L, -10, ChangeType.REDUCED);
+        manager.rebalanceAll();
+        strategy.applyDelta(100L, -3, ChangeType.REDUCED);
+
+        // Act
+        manager.rebalanceAll();
+
+        // Assert
+        assertEquals(27, inventoryRepository.findByBookId(100L).orElseThrow().getQuantity());
+        assertEquals(27, manager.sumSlots(100L));
+    }
+}
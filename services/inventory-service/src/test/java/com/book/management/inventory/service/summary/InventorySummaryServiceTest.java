@@ -0,0 +1,151 @@
+package com.book.management.inventory.service.summary;
+
+import com.book.management.inventory.dto.InventorySummaryDTO;
+import com.book.management.inventory.event.InventoryChangeEvent;
+import com.book.management.inventory.event.InventoryChangeEvent.ChangeType;
+import com.book.management.inventory.event.StockLevel;
+import com.book.management.inventory.repository.InventoryRepository;
+import com.book.management.inventory.repository.InventoryRepository.StockBandTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InventorySummaryService.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class InventorySummaryServiceTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private InventorySummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        summaryService = new InventorySummaryService(inventoryRepository);
+    }
+
+    private static InventoryChangeEvent event(ChangeType type, int previousQuantity, int quantity,
+                                              int previousThreshold, int threshold) {
+        return new InventoryChangeEvent(1L, 100L, type, previousQuantity, quantity, previousThreshold, threshold,
+                LocalDateTime.now());
+    }
+
+    private static StockBandTotals bandTotals(StockLevel band, long skus, long units) {
+        return new StockBandTotals() {
+            @Override
+            public String getBand() {
+                return band.name();
+            }
+
+            @Override
+            public long getSkus() {
+                return skus;
+            }
+
+            @Override
+            public long getUnits() {
+                return units;
+            }
+        };
+    }
+
+    private void baseline() {
+        // 10 SKUs holding 500 units: 3 low-stock (1 of them out of stock) holding 12 units
+        when(inventoryRepository.summariseStockBands()).thenReturn(List.of(
+                bandTotals(StockLevel.IN_STOCK, 7, 488),
+                bandTotals(StockLevel.LOW_STOCK, 2, 12),
+                bandTotals(StockLevel.OUT_OF_STOCK, 1, 0)));
+        summaryService.rebaseline();
+    }
+
+    @Test
+    void rebaseline_SplitsAggregatesIntoBands() {
+        // Act
+        baseline();
+
+        // Assert
+        InventorySummaryDTO summary = summaryService.getSummary();
+        assertEquals(10, summary.getTotalSkus());
+        assertEquals(500, summary.getTotalUnits());
+        assertEquals(3, summary.getLowStockCount());
+        assertEquals(1, summary.getOutOfStockCount());
+        assertEquals(7L, summary.getSkusByBand().get(StockLevel.IN_STOCK));
+        assertEquals(488L, summary.getUnitsByBand().get(StockLevel.IN_STOCK));
+        assertEquals(12L, summary.getUnitsByBand().get(StockLevel.LOW_STOCK));
+        assertNotNull(summary.getBaselinedAt());
+    }
+
+    @Test
+    void onInventoryChange_MovesCountersBetweenBands() {
+        // Arrange
+        baseline();
+
+        // Act - an in-stock book sells out
+        summaryService.onInventoryChange(event(ChangeType.REDUCED, 20, 0, 10, 10));
+
+        // Assert
+        InventorySummaryDTO summary = summaryService.getSummary();
+        assertEquals(10, summary.getTotalSkus());
+        assertEquals(480, summary.getTotalUnits());
+        assertEquals(4, summary.getLowStockCount());
+        assertEquals(2, summary.getOutOfStockCount());
+        assertEquals(6L, summary.getSkusByBand().get(StockLevel.IN_STOCK));
+    }
+
+    @Test
+    void onInventoryChange_CreateAndDeleteChangeSkuCount() {
+        // Act
+        summaryService.onInventoryChange(event(ChangeType.CREATED, 0, 40, 10, 10));
+        summaryService.onInventoryChange(event(ChangeType.CREATED, 0, 5, 10, 10));
+        summaryService.onInventoryChange(event(ChangeType.DELETED, 40, 0, 10, 10));
+
+        // Assert
+        InventorySummaryDTO summary = summaryService.getSummary();
+        assertEquals(1, summary.getTotalSkus());
+        assertEquals(5, summary.getTotalUnits());
+        assertEquals(1, summary.getLowStockCount());
+    }
+
+    @Test
+    void onInventoryChange_ThresholdChangeMovesBandWithoutUnits() {
+        // Act
+        summaryService.onInventoryChange(event(ChangeType.CREATED, 0, 15, 10, 10));
+        summaryService.onInventoryChange(event(ChangeType.THRESHOLD_CHANGED, 15, 15, 10, 20));
+
+        // Assert
+        InventorySummaryDTO summary = summaryService.getSummary();
+        assertEquals(1, summary.getLowStockCount());
+        assertEquals(15L, summary.getUnitsByBand().get(StockLevel.LOW_STOCK));
+        assertEquals(0L, summary.getUnitsByBand().get(StockLevel.IN_STOCK));
+    }
+
+    @Test
+    void rebaseline_ClearsBandsMissingFromSnapshot() {
+        // Arrange
+        summaryService.onInventoryChange(event(ChangeType.CREATED, 0, 0, 10, 10));
+        when(inventoryRepository.summariseStockBands()).thenReturn(List.of(bandTotals(StockLevel.IN_STOCK, 1, 30)));
+
+        // Act
+        summaryService.rebaseline();
+
+        // Assert
+        InventorySummaryDTO summary = summaryService.getSummary();
+        assertEquals(1, summary.getTotalSkus());
+        assertEquals(0, summary.getOutOfStockCount());
+        assertEquals(30, summary.getTotalUnits());
+    }
+}
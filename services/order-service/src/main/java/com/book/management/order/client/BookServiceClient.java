@@ -3,9 +3,11 @@ package com.book.management.order.client;
 
 import com.book.management.order.client.fallback.BookClientFallbackFactory;
 import com.book.management.order.dto.requestdto.GetBookPriceRequestDTO;
+import com.book.management.order.dto.responsedto.CatalogueVersionResponseDTO;
 import com.book.management.order.dto.responsedto.GetBookPriceResponseDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -28,6 +30,8 @@ import org.springframework.web.bind.annotation.RequestBody;
  *     "110": 799.0
  *   }
  * }
+
+ * Endpoint (via Gateway): GET /api/v1/books/catalogue/version
  */
 @FeignClient(
         name = "book-service",
@@ -42,4 +46,10 @@ public interface BookServiceClient {
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     GetBookPriceResponseDTO getBookPrices(@RequestBody GetBookPriceRequestDTO request);
+
+    /**
+     * Returns the catalogue version, used to revalidate locally cached prices.
+     */
+    @GetMapping(value = "/catalogue/version", produces = MediaType.APPLICATION_JSON_VALUE)
+    CatalogueVersionResponseDTO getCatalogueVersion();
 }
@@ -2,15 +2,22 @@
 package com.book.management.order.client;
 
 import com.book.management.order.client.fallback.InventoryClientFallbackFactory;
+import com.book.management.order.dto.requestdto.CheckInventoryAvailabilityRequestDTO;
 import com.book.management.order.dto.requestdto.ReduceInventoryStockRequestDTO;
+import com.book.management.order.dto.requestdto.RestockInventoryStockRequestDTO;
+import com.book.management.order.dto.responsedto.CheckInventoryAvailabilityResponseDTO;
+import com.book.management.order.dto.responsedto.RestockInventoryStockResultDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Map;
+
 /**
  * Feign Client for Inventory Service.
- * Reduces stock for multiple books using a typed request DTO.
+ * Checks, reduces and restocks stock for multiple books using typed request DTOs.
  * Endpoint (via Gateway):</b> PATCH /api/v1/inventory/bulk/reduce
  * 
  * Request Body:
@@ -31,6 +38,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 @FeignClient(name = "inventory-service", path = "/api/v1/inventory", fallbackFactory = InventoryClientFallbackFactory.class)
 public interface InventoryServiceClient {
 
+        @PostMapping(value = "/bulk/check-availability", consumes = MediaType.APPLICATION_JSON_VALUE,
+                        produces = MediaType.APPLICATION_JSON_VALUE)
+        CheckInventoryAvailabilityResponseDTO checkAvailability(@RequestBody CheckInventoryAvailabilityRequestDTO request);
+
         @PatchMapping(value = "/bulk/reduce", consumes = MediaType.APPLICATION_JSON_VALUE)
         void reduceStock(@RequestBody ReduceInventoryStockRequestDTO request);
+
+        @PatchMapping(value = "/bulk/restock", consumes = MediaType.APPLICATION_JSON_VALUE,
+                        produces = MediaType.APPLICATION_JSON_VALUE)
+        Map<Long, RestockInventoryStockResultDTO> restockStock(@RequestBody RestockInventoryStockRequestDTO request);
 }
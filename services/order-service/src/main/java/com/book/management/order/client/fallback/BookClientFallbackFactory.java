@@ -1,6 +1,9 @@
 package com.book.management.order.client.fallback;
 
 import com.book.management.order.client.BookServiceClient;
+import com.book.management.order.dto.requestdto.GetBookPriceRequestDTO;
+import com.book.management.order.dto.responsedto.CatalogueVersionResponseDTO;
+import com.book.management.order.dto.responsedto.GetBookPriceResponseDTO;
 import com.book.management.order.exception.OrderNotPlacedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.openfeign.FallbackFactory;
@@ -11,10 +14,19 @@ import org.springframework.stereotype.Component;
 public class BookClientFallbackFactory implements FallbackFactory<BookServiceClient> {
     @Override
     public BookServiceClient create(Throwable cause) {
-        return request -> {
-            log.error("CRITICAL: Book Service failed for IDs: {} | Reason: {}",
-                    request.getBookIds(), cause.getMessage());
-            throw new OrderNotPlacedException("Book Service unavailable: " + cause.getMessage());
+        return new BookServiceClient() {
+            @Override
+            public GetBookPriceResponseDTO getBookPrices(GetBookPriceRequestDTO request) {
+                log.error("CRITICAL: Book Service failed for IDs: {} | Reason: {}",
+                        request.getBookIds(), cause.getMessage());
+                throw new OrderNotPlacedException("Book Service unavailable: " + cause.getMessage());
+            }
+
+            @Override
+            public CatalogueVersionResponseDTO getCatalogueVersion() {
+                log.warn("Book Service catalogue version check failed | Reason: {}", cause.getMessage());
+                throw new IllegalStateException("Catalogue version unavailable: " + cause.getMessage());
+            }
         };
     }
 }
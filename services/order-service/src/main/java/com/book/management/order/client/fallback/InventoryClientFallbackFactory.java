@@ -2,12 +2,18 @@
 package com.book.management.order.client.fallback;
 
 import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.dto.requestdto.CheckInventoryAvailabilityRequestDTO;
 import com.book.management.order.dto.requestdto.ReduceInventoryStockRequestDTO;
+import com.book.management.order.dto.requestdto.RestockInventoryStockRequestDTO;
+import com.book.management.order.dto.responsedto.CheckInventoryAvailabilityResponseDTO;
+import com.book.management.order.dto.responsedto.RestockInventoryStockResultDTO;
 import com.book.management.order.exception.OrderNotPlacedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.openfeign.FallbackFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * Fallback factory for InventoryClient.
  * This captures the actual exception that caused the fallback, enabling better
@@ -23,6 +29,19 @@ public class InventoryClientFallbackFactory implements FallbackFactory<Inventory
     @Override
     public InventoryServiceClient create(Throwable cause) {
         return new InventoryServiceClient() {
+            @Override
+            public CheckInventoryAvailabilityResponseDTO checkAvailability(CheckInventoryAvailabilityRequestDTO request) {
+                log.error("CRITICAL: Inventory Service availability check failed for items: {} | Cause: {} - {}",
+                        request.getBookQuantities(),
+                        cause.getClass().getSimpleName(),
+                        cause.getMessage());
+
+                log.debug("Full exception details:", cause);
+
+                throw new OrderNotPlacedException(
+                        "Inventory Service unavailable: " + cause.getMessage());
+            }
+
             @Override
             public void reduceStock(ReduceInventoryStockRequestDTO request) {
                 log.error("CRITICAL: Inventory Service call failed for items: {} | Cause: {} - {}",
@@ -36,6 +55,19 @@ public class InventoryClientFallbackFactory implements FallbackFactory<Inventory
                 throw new OrderNotPlacedException(
                         "Inventory Service unavailable: " + cause.getMessage());
             }
+
+            @Override
+            public Map<Long, RestockInventoryStockResultDTO> restockStock(RestockInventoryStockRequestDTO request) {
+                log.error("Inventory Service restock failed for items: {} | Cause: {} - {}",
+                        request.getBookQuantities(),
+                        cause.getClass().getSimpleName(),
+                        cause.getMessage());
+
+                log.debug("Full exception details:", cause);
+
+                // Not an order placement failure; the saga worker retries the restock later
+                throw new IllegalStateException("Inventory Service unavailable: " + cause.getMessage(), cause);
+            }
         };
     }
 }
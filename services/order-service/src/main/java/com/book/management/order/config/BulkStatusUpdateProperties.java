@@ -0,0 +1,21 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk order status updates.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.bulk-status-update")
+public class BulkStatusUpdateProperties {
+
+    /** Orders checked and updated per transaction. */
+    private int chunkSize = 500;
+}
@@ -1,5 +1,6 @@
 package com.book.management.order.config;
 
+import com.book.management.order.exception.InsufficientStockException;
 import com.book.management.order.exception.OrderNotPlacedException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -18,6 +19,9 @@ import java.util.Map;
 @Slf4j
 public class CustomFeignErrorDecoder implements ErrorDecoder {
 
+    /** Prefix of every insufficient-stock message returned by Inventory Service. */
+    private static final String INSUFFICIENT_STOCK_PREFIX = "Insufficient stock";
+
     private final ObjectMapper objectMapper;
 
     public CustomFeignErrorDecoder() {
@@ -41,7 +45,9 @@ public class CustomFeignErrorDecoder implements ErrorDecoder {
         log.error("Downstream Error [Status {}] at {}: {}", response.status(), methodKey, downstreamMessage);
 
         return switch (response.status()) {
-            case 400 -> new OrderNotPlacedException("Inventory Issue: " + downstreamMessage);
+            case 400 -> downstreamMessage.startsWith(INSUFFICIENT_STOCK_PREFIX)
+                    ? new InsufficientStockException("Inventory Issue: " + downstreamMessage)
+                    : new OrderNotPlacedException("Inventory Issue: " + downstreamMessage);
             case 404 -> new OrderNotPlacedException("BookItem Issue: " + downstreamMessage);
             default -> new OrderNotPlacedException("Order process failed due to: " + downstreamMessage);
         };
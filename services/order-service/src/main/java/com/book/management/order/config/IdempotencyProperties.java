@@ -0,0 +1,33 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for Idempotency-Key handling on order placement.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.idempotency")
+public class IdempotencyProperties {
+
+    /** Completed keys kept in memory in front of the key table. */
+    private int cacheSize = 10_000;
+
+    /** How long a duplicate waits for the first request to finish, in milliseconds. */
+    private long waitTimeoutMillis = 30_000;
+
+    /** Delay between checks while waiting on a request held by another instance, in milliseconds. */
+    private long pollIntervalMillis = 100;
+
+    /** How long keys are kept before they may be reused, in hours. */
+    private long retentionHours = 24;
+
+    /** Delay between purges of expired keys, in milliseconds. */
+    private long purgeIntervalMillis = 3_600_000;
+}
@@ -0,0 +1,48 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the order analytics rollups.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.analytics")
+public class OrderAnalyticsProperties {
+
+    /** Longest date range, in days, one analytics request may cover. */
+    private int maxRangeDays = 366;
+
+    /** Order IDs summed per query while rebuilding the rollups. */
+    private int rebuildChunkSize = 10_000;
+
+    /** Chunks summed concurrently while rebuilding; each holds a database connection. */
+    private int rebuildParallelism = 4;
+
+    /** Rollup rows inserted per flush while rebuilding. */
+    private int rebuildWriteBatchSize = 500;
+
+    /**
+     * How far before a rebuild starts an order change still counts as
+     * racing it. Must exceed the longest order transaction.
+     */
+    private long rebuildWriteGraceMillis = 60_000;
+
+    /** Deltas applied to the rollups per fold transaction. */
+    private int foldBatchSize = 1_000;
+
+    /** Most fold transactions one scheduled fold runs. */
+    private int foldMaxBatchesPerRun = 20;
+
+    /**
+     * How long folded deltas are kept. A rebuild that runs longer than this
+     * may miss changes made while it ran.
+     */
+    private long foldedRetentionMillis = 86_400_000;
+}
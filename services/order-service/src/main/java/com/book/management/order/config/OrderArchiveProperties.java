@@ -0,0 +1,33 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the archival of completed orders.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.archive")
+public class OrderArchiveProperties {
+
+    /** Age, in days from the order date, after which final-state orders are archived. */
+    private int retentionDays = 90;
+
+    /** Orders moved per transaction. */
+    private int chunkSize = 500;
+
+    /** Pause between chunks, in milliseconds, so archival yields to live traffic. */
+    private long pauseMillis = 200;
+
+    /** Chunks moved per run at most; the rest wait for the next run. */
+    private int maxChunksPerRun = 200;
+
+    /** Delay between archival runs, in milliseconds. */
+    private long intervalMillis = 3_600_000;
+}
@@ -0,0 +1,42 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for asynchronous order intake.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.intake")
+public class OrderIntakeProperties {
+
+    /** Orders placed per batch, sharing one price lookup and one stock reduction. */
+    private int batchSize = 50;
+
+    /** Workers draining the queue concurrently on each run. */
+    private int workers = 4;
+
+    /** Batches a worker places per run before yielding to the next run. */
+    private int maxBatchesPerRun = 20;
+
+    /** Delay between intake runs, in milliseconds. */
+    private long pollIntervalMillis = 500;
+
+    /** Age after which a claimed entry that was never finished is claimed again, in milliseconds. */
+    private long staleAfterMillis = 60_000;
+
+    /** Placement attempts before a queued order is rejected. */
+    private int maxAttempts = 5;
+
+    /** Delay before retrying a batch whose downstream calls failed, in milliseconds. */
+    private long retryBackoffMillis = 5_000;
+
+    /** How long a status subscription stays open, in milliseconds. */
+    private long subscribeTimeoutMillis = 30_000;
+}
@@ -0,0 +1,27 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for paginated order listings and exports.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.listing")
+public class OrderListingProperties {
+
+    /** Page size used when the client does not ask for one. */
+    private int defaultPageSize = 100;
+
+    /** Largest page size a client may ask for. */
+    private int maxPageSize = 1000;
+
+    /** Orders read per query while exporting. */
+    private int exportBatchSize = 500;
+}
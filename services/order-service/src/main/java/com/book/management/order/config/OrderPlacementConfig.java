@@ -0,0 +1,26 @@
+package com.book.management.order.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor for the downstream calls made while placing an order.
+ *
+ * The price lookup and the availability pre-check block on HTTP, so each
+ * runs on its own virtual thread rather than occupying a platform thread.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+public class OrderPlacementConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService orderPlacementExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-placement-", 0).factory());
+    }
+}
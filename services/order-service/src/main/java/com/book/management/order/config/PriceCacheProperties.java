@@ -0,0 +1,30 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the local book price cache.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.price-cache")
+public class PriceCacheProperties {
+
+    /** Serve prices from the cache; when false every placement asks Book Service. */
+    private boolean enabled = true;
+
+    /** Maximum number of cached book prices. */
+    private int maxEntries = 50_000;
+
+    /** Cached prices older than this are reloaded whatever the catalogue version, in milliseconds. */
+    private long maxAgeMillis = 300_000;
+
+    /** Delay between catalogue version checks, in milliseconds. */
+    private long versionCheckIntervalMillis = 5_000;
+}
@@ -0,0 +1,40 @@
+package com.book.management.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the order placement saga and its
+ * compensation worker.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.saga")
+public class SagaProperties {
+
+    /** Sagas restocked per inventory call. */
+    private int compensationBatchSize = 100;
+
+    /** Batches processed per worker run before yielding to the next run. */
+    private int maxBatchesPerRun = 10;
+
+    /** Delay between compensation worker runs, in milliseconds. */
+    private long compensationIntervalMillis = 5_000;
+
+    /**
+     * Age after which a reserved saga without an order, or a claimed saga
+     * that was never finished, is compensated, in milliseconds.
+     */
+    private long staleAfterMillis = 60_000;
+
+    /** Compensation attempts before a saga is marked FAILED. */
+    private int maxAttempts = 10;
+
+    /** Delay before retrying a failed compensation, in milliseconds. */
+    private long retryBackoffMillis = 30_000;
+}
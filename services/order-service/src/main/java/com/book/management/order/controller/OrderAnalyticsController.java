@@ -0,0 +1,64 @@
+package com.book.management.order.controller;
+
+import com.book.management.order.dto.responsedto.AnalyticsRebuildResponseDTO;
+import com.book.management.order.dto.responsedto.OrderAnalyticsResponseDTO;
+import com.book.management.order.service.analytics.OrderAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for order analytics.
+ * Reports are answered from rollup tables maintained as orders are placed,
+ * transitioned and cancelled, never by scanning the orders themselves.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@RestController
+@RequestMapping("/api/v1/order/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderAnalyticsController {
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    /**
+     * Returns revenue per day, orders per status and units per book per day
+     * for an inclusive range of order dates.
+     *
+     * @param from first order date, e.g. 2026-10-01
+     * @param to   last order date
+     * @return 200 with the analytics of the range.
+     */
+    @GetMapping
+    public ResponseEntity<OrderAnalyticsResponseDTO> getAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("GET : /api/v1/order/analytics | Fetching analytics | from: {} | to: {}", from, to);
+        OrderAnalyticsResponseDTO response = orderAnalyticsService.getAnalytics(from, to);
+        log.info("GET : /api/v1/order/analytics | Fetched analytics | days: {}", response.getRevenueByDate().size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recomputes the rollups from the orders. Administrative; run while
+     * order writes are paused.
+     *
+     * @return 200 with a summary of the rebuild, or 409 if a rebuild is
+     *         running or orders it counted changed while it ran.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<AnalyticsRebuildResponseDTO> rebuild() {
+        log.info("POST : /api/v1/order/analytics/rebuild | Rebuilding analytics rollups");
+        AnalyticsRebuildResponseDTO response = orderAnalyticsService.rebuild();
+        log.info("POST : /api/v1/order/analytics/rebuild | Rebuild complete | rowsWritten: {}", response.getRowsWritten());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,9 +1,15 @@
 
 package com.book.management.order.controller;
 
+import com.book.management.order.dto.requestdto.BulkSoftDeleteRequestDTO;
+import com.book.management.order.dto.requestdto.BulkStatusUpdateRequestDTO;
+import com.book.management.order.dto.requestdto.OrderListingRequestDTO;
 import com.book.management.order.dto.requestdto.PlaceOrderRequestDTO;
 import com.book.management.order.dto.requestdto.UpdateOrderStatusRequestDTO;
+import com.book.management.order.dto.responsedto.BulkStatusUpdateResponseDTO;
+import com.book.management.order.dto.responsedto.OrderPageResponseDTO;
 import com.book.management.order.dto.responsedto.OrderResponseDTO;
+import com.book.management.order.dto.responsedto.OrderSoftDeleteResultDTO;
 import com.book.management.order.enums.OrderEnum;
 import com.book.management.order.service.OrderService;
 import jakarta.validation.Valid;
@@ -11,7 +17,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
 
 /**
@@ -29,20 +41,30 @@ import java.util.List;
 @Slf4j
 public class OrderController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Places a new order by orchestrating calls to Book and Inventory services.
+     * With an Idempotency-Key header, a retried request returns the order
+     * created by the first one instead of placing another.
      *
-     * @param request Validated DTO containing user ID and items.
+     * @param request        Validated DTO containing user ID and items.
+     * @param idempotencyKey Optional client-generated key identifying the request.
      * @return ResponseEntity containing the created OrderResponseDTO.
      */
     @PostMapping("/place")
-    public ResponseEntity<OrderResponseDTO> placeOrder(@Valid @RequestBody PlaceOrderRequestDTO request) {
+    public ResponseEntity<OrderResponseDTO> placeOrder(
+            @Valid @RequestBody PlaceOrderRequestDTO request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         log.info("POST : /api/v1/order/place | Initiating order placement | userId: {} | itemsCount: {}",
                 request.getUserId(), request.getBookOrder() != null ? request.getBookOrder().size() : 0);
 
-        OrderResponseDTO response = orderService.placeOrder(request);
+        OrderResponseDTO response = idempotencyKey != null
+                ? orderService.placeOrder(request, idempotencyKey)
+                : orderService.placeOrder(request);
 
         log.info("POST : /api/v1/order/place | Order created | orderId: {} | userId: {} | status: {}",
                 response.getOrderId(), response.getUserId(), response.getOrderStatus());
@@ -50,7 +72,49 @@ public class OrderController {
     }
 
     /**
-     * Retrieves all active (non-deleted) orders.
+     * Accepts an order for asynchronous placement and returns without calling
+     * the Book or Inventory services. The order starts as ACCEPTED and becomes
+     * PENDING or REJECTED once an intake worker has processed it; poll
+     * /getById/{orderId} or subscribe to /subscribe/{orderId} for the outcome.
+     *
+     * @param request        Validated DTO containing user ID and items.
+     * @param idempotencyKey Optional client-generated key identifying the request.
+     * @return 202 Accepted with the ACCEPTED order and its location.
+     */
+    @PostMapping("/place/async")
+    public ResponseEntity<OrderResponseDTO> placeOrderAsync(
+            @Valid @RequestBody PlaceOrderRequestDTO request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        log.info("POST : /api/v1/order/place/async | Accepting order | userId: {} | itemsCount: {}",
+                request.getUserId(), request.getBookOrder() != null ? request.getBookOrder().size() : 0);
+
+        OrderResponseDTO response = idempotencyKey != null
+                ? orderService.acceptOrder(request, idempotencyKey)
+                : orderService.acceptOrder(request);
+
+        log.info("POST : /api/v1/order/place/async | Order queued | orderId: {} | userId: {}",
+                response.getOrderId(), response.getUserId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/order/getById/" + response.getOrderId()))
+                .body(response);
+    }
+
+    /**
+     * Streams the outcome of an asynchronously placed order as a single
+     * server-sent event, sent immediately if the order has already left ACCEPTED.
+     *
+     * @param orderId Primary key of the order.
+     * @return Event stream completing after the order's status event.
+     */
+    @GetMapping(value = "/subscribe/{orderId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrderStatus(@PathVariable long orderId) {
+        log.info("GET : /api/v1/order/subscribe/{} | Subscribing to order status", orderId);
+        return orderService.subscribeOrderStatus(orderId);
+    }
+
+    /**
+     * Retrieves all active (non-deleted) orders. Large result sets should use
+     * {@code /page} or {@code /export} instead.
      *
      * @return List of all orders.
      */
@@ -84,7 +148,8 @@ public class OrderController {
     }
 
     /**
-     * Retrieves all orders for a specific user.
+     * Retrieves all orders for a specific user. Users with many orders
+     * should be listed through {@code /page?userId=} instead.
      *
      * @param userId The unique identifier of the user.
      * @return List of orders belonging to the user or 404 if none found.
@@ -100,7 +165,8 @@ public class OrderController {
     }
 
     /**
-     * Filters orders by their current status.
+     * Filters orders by their current status. Busy statuses should be listed
+     * through {@code /page?status=} instead.
      *
      * @param status The OrderEnum value to filter by.
      * @return List of matching orders.
@@ -113,6 +179,48 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Retrieves one page of active orders ordered by order date, then order ID.
+     * Pass the returned {@code nextCursor} as {@code cursor} for the next page.
+     *
+     * @param filter Optional status, userId, from (inclusive) and to (exclusive) filters.
+     * @param cursor Cursor of the page to fetch, omitted for the first page.
+     * @param size   Page size, omitted for the configured default.
+     * @return The page and the cursor of the next one.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<OrderPageResponseDTO> getOrderPage(
+            @Valid @ModelAttribute OrderListingRequestDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET : /api/v1/order/page | Fetching order page | filter: {} | size: {}", filter, size);
+        OrderPageResponseDTO page = orderService.getOrderPage(filter, cursor, size);
+        log.info("GET : /api/v1/order/page | Fetched order page | count: {} | hasMore: {}",
+                page.getItems().size(), page.isHasMore());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams every matching active order as newline-delimited JSON, one
+     * order per line, in the same order as {@code /page}.
+     *
+     * @param filter Optional status, userId, from (inclusive) and to (exclusive) filters.
+     * @return The NDJSON body.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders(@Valid @ModelAttribute OrderListingRequestDTO filter) {
+        log.info("GET : /api/v1/order/export | Exporting orders | filter: {}", filter);
+        StreamingResponseBody body = out -> orderService.exportOrders(filter, order -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(order));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Changes the status of an existing order.
      * @param orderId ID of the order to update.
@@ -130,6 +238,26 @@ public class OrderController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Moves many orders to one status, validating each order against the
+     * same state machine as {@code /update/{orderId}}. Invalid or unknown
+     * orders are reported per order and do not fail the request.
+     * @param request DTO containing up to {@value BulkStatusUpdateRequestDTO#MAX_ORDER_IDS}
+     *                order IDs and the new status.
+     * @return 200 with one outcome per order.
+     */
+    @PatchMapping("/update/bulk")
+    public ResponseEntity<BulkStatusUpdateResponseDTO> changeOrderStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequestDTO request) {
+
+        log.info("PATCH : /api/v1/order/update/bulk | Requested status update | target: {} | count: {}",
+                request.getOrderStatus(), request.getOrderIds().size());
+        BulkStatusUpdateResponseDTO response = orderService.updateOrderStatuses(request);
+        log.info("PATCH : /api/v1/order/update/bulk | Status updated | updated: {} | rejected: {}",
+                response.getUpdated(), response.getRejected());
+        return ResponseEntity.ok(response);
+    }
+
     /*
      * Triggers the business logic for order cancellation.
      * Only allowed for PENDING and SHIPPED orders.
@@ -161,15 +289,31 @@ public class OrderController {
     }
 
     /**
-     * Performs a soft delete on orders for a user (marking isDeleted as true).
+     * Performs a soft delete on orders for a user (marking isDeleted as true)
+     * in a single statement.
      * @param userId of the order to soft-delete.
-     * @return 204 No Content.
+     * @return 200 with the counts of deleted and already-deleted orders.
      */
     @DeleteMapping("/deleteByUser/{userId}")
-    public ResponseEntity<Void> deleteUserOrder(@PathVariable long userId) {
+    public ResponseEntity<OrderSoftDeleteResultDTO> deleteUserOrder(@PathVariable long userId) {
         log.info("DELETE : /api/v1/order/deleteByUser/{} | Soft deleting user orders", userId);
-        orderService.softDeleteUserOrder(userId);
-        log.info("DELETE : /api/v1/order/deleteByUser/{} | Soft delete complete", userId);
-        return ResponseEntity.noContent().build();
+        OrderSoftDeleteResultDTO result = orderService.softDeleteUserOrder(userId);
+        log.info("DELETE : /api/v1/order/deleteByUser/{} | Soft delete complete | deleted: {}",
+                userId, result.getDeleted());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Administrative bulk soft delete of up to
+     * {@value BulkSoftDeleteRequestDTO#MAX_ORDER_IDS} orders in a single statement.
+     * @param request IDs of the orders to soft-delete.
+     * @return 200 with the counts of deleted, already-deleted and unknown orders.
+     */
+    @PostMapping("/delete/bulk")
+    public ResponseEntity<OrderSoftDeleteResultDTO> deleteOrders(@Valid @RequestBody BulkSoftDeleteRequestDTO request) {
+        log.info("POST : /api/v1/order/delete/bulk | Soft deleting orders | count: {}", request.getOrderIds().size());
+        OrderSoftDeleteResultDTO result = orderService.softDeleteOrders(request);
+        log.info("POST : /api/v1/order/delete/bulk | Soft delete complete | deleted: {}", result.getDeleted());
+        return ResponseEntity.ok(result);
     }
-}
+}
\ No newline at end of file
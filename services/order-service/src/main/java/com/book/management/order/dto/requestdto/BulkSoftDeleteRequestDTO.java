@@ -0,0 +1,36 @@
+package com.book.management.order.dto.requestdto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the administrative bulk soft delete.
+ *
+ * Example:
+ * <pre>
+ * {
+ *   "orderIds": [1001, 1002, 1003]
+ * }
+ * </pre>
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSoftDeleteRequestDTO {
+
+    public static final int MAX_ORDER_IDS = 1000;
+
+    @NotEmpty(message = "Order IDs cannot be empty")
+    @Size(max = MAX_ORDER_IDS, message = "At most " + MAX_ORDER_IDS + " order IDs per request")
+    private List<@NotNull(message = "Order ID cannot be null") Long> orderIds;
+}
@@ -0,0 +1,42 @@
+package com.book.management.order.dto.requestdto;
+
+import com.book.management.order.enums.OrderEnum;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for moving many orders to one status.
+ * Each order is checked against the same state machine as a single update.
+ *
+ * Example:
+ * <pre>
+ * {
+ *   "orderIds": [1001, 1002, 1003],
+ *   "orderStatus": "SHIPPED"
+ * }
+ * </pre>
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequestDTO {
+
+    public static final int MAX_ORDER_IDS = 10000;
+
+    @NotEmpty(message = "Order IDs cannot be empty")
+    @Size(max = MAX_ORDER_IDS, message = "At most " + MAX_ORDER_IDS + " order IDs per request")
+    private List<@NotNull(message = "Order ID cannot be null") Long> orderIds;
+
+    @NotNull(message = "Status cannot be null")
+    private OrderEnum orderStatus;
+}
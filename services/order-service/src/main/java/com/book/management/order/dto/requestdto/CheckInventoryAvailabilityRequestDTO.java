@@ -0,0 +1,50 @@
+package com.book.management.order.dto.requestdto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Request DTO for checking stock of multiple books without reducing it.
+ *
+ * Intended use:
+ *   Sent by Order Service to Inventory Service as a pre-check during order
+ *   placement, concurrently with the price lookup.
+ *
+ * <p>Example (JSON request body):</p>
+ * <pre>
+ * {
+ *   "bookQuantities": {
+ *     "101": 1,
+ *     "105": 2
+ *   }
+ * }
+ * </pre>
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInventoryAvailabilityRequestDTO {
+
+    /**
+     * Map of bookId to the quantity that must be in stock.
+     */
+    @NotEmpty(message = "bookQuantities must not be empty")
+    private Map<
+            @NotNull(message = "bookId must not be null")
+            @Positive(message = "bookId must be positive")
+                    Long,
+            @NotNull(message = "quantity must not be null")
+            @Positive(message = "quantity must be positive")
+                    Integer
+            > bookQuantities;
+}
@@ -0,0 +1,51 @@
+package com.book.management.order.dto.requestdto;
+
+import com.book.management.order.enums.OrderEnum;
+import jakarta.validation.constraints.AssertTrue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for paginated order listings and exports, bound from query parameters.
+ * Every filter is optional.
+ *
+ * Example: {@code ?status=PENDING&from=2026-10-01T00:00:00&to=2026-10-19T00:00:00}
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderListingRequestDTO {
+
+    /** Only orders in this status. */
+    private OrderEnum status;
+
+    /** Only orders of this user. */
+    private Long userId;
+
+    /** Inclusive lower bound on the order date. */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    /** Exclusive upper bound on the order date. */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    /**
+     * Checked on binding, so an export with an empty range fails before its
+     * response starts streaming.
+     */
+    @AssertTrue(message = "'from' must be before 'to'")
+    public boolean isDateRangeValid() {
+        return from == null || to == null || from.isBefore(to);
+    }
+}
@@ -62,5 +62,16 @@ public class ReduceInventoryStockRequestDTO {
             @Positive(message = "quantity must be positive")
                     Integer
             > bookQuantities;
+
+    /**
+     * Saga ID to the quantities reduced for it; bookQuantities is their
+     * per-book sum. Inventory records the reduction under the saga ID and
+     * applies it at most once.
+     */
+    private Map<Long, Map<Long, Integer>> sagaQuantities;
+
+    public ReduceInventoryStockRequestDTO(Map<Long, Integer> bookQuantities) {
+        this.bookQuantities = bookQuantities;
+    }
 }
 
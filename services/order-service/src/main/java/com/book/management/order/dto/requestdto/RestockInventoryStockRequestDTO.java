@@ -0,0 +1,67 @@
+package com.book.management.order.dto.requestdto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Request DTO for returning stock of multiple books to inventory.
+ *
+ * Intended use:
+ *   Sent by the saga compensation worker to restock books reduced for
+ *   orders that were never saved or were cancelled.
+ *
+ * <p>Example (JSON request body):</p>
+ * <pre>
+ * {
+ *   "bookQuantities": {
+ *     "101": 1,
+ *     "105": 2
+ *   }
+ * }
+ * </pre>
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestockInventoryStockRequestDTO {
+
+    /**
+     * Map of bookId to quantity to add back.
+     */
+    @NotEmpty(message = "bookQuantities must not be empty")
+    private Map<
+            @NotNull(message = "bookId must not be null")
+            @Positive(message = "bookId must be positive")
+                    Long,
+            @NotNull(message = "quantity must not be null")
+            @Positive(message = "quantity must be positive")
+                    Integer
+            > bookQuantities;
+
+    /**
+     * Saga ID to the quantities to restock for it; bookQuantities is their
+     * per-book sum. Inventory restocks each saga and book at most once.
+     */
+    private Map<Long, Map<Long, Integer>> sagaQuantities;
+
+    /**
+     * Sagas whose stock inventory reduced under their saga ID; only the
+     * reduction inventory recorded is restocked for them.
+     */
+    private Set<Long> keyedSagaIds;
+
+    public RestockInventoryStockRequestDTO(Map<Long, Integer> bookQuantities) {
+        this.bookQuantities = bookQuantities;
+    }
+}
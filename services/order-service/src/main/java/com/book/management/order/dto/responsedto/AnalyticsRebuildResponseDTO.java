@@ -0,0 +1,28 @@
+package com.book.management.order.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO summarising a rebuild of the order analytics rollups.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsRebuildResponseDTO {
+
+    /** Order ID ranges summed. */
+    private int chunks;
+
+    /** Rollup rows written across all rollup tables. */
+    private long rowsWritten;
+
+    private long durationMillis;
+}
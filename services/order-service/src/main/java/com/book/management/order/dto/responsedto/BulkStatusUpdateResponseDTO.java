@@ -0,0 +1,32 @@
+package com.book.management.order.dto.responsedto;
+
+import com.book.management.order.enums.OrderEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk status update, with one outcome per distinct
+ * requested order in request order.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateResponseDTO {
+
+    private OrderEnum orderStatus;
+
+    private long updated;
+
+    private long rejected;
+
+    private List<OrderStatusOutcomeDTO> outcomes;
+}
@@ -0,0 +1,20 @@
+package com.book.management.order.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO carrying the Book Service catalogue version.
+ * The version increases whenever a book price changes or a book is deleted.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogueVersionResponseDTO {
+    private long version;
+}
@@ -0,0 +1,39 @@
+package com.book.management.order.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Response DTO of the Inventory Service bulk availability check.
+ *
+ * Example:
+ * {
+ *   "availabilityMap": { "101": true, "105": false },
+ *   "allAvailable": false,
+ *   "message": "Some books are not available in required quantities"
+ * }
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInventoryAvailabilityResponseDTO {
+
+    /**
+     * Map of bookId to whether the requested quantity is in stock.
+     */
+    private Map<Long, Boolean> availabilityMap;
+
+    /**
+     * True if every requested book is in stock.
+     */
+    private boolean allAvailable;
+
+    private String message;
+}
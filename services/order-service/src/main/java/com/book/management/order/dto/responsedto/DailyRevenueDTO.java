@@ -0,0 +1,26 @@
+package com.book.management.order.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Revenue and number of placed orders of one order date.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRevenueDTO {
+
+    private LocalDate date;
+
+    private double revenue;
+
+    private long orderCount;
+}
@@ -0,0 +1,38 @@
+package com.book.management.order.dto.responsedto;
+
+import com.book.management.order.enums.OrderEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for the order analytics of an inclusive range of order
+ * dates, answered from the rollup tables. Revenue and units count orders
+ * that are PENDING, SHIPPED or DELIVERED; days without any are omitted.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderAnalyticsResponseDTO {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<DailyRevenueDTO> revenueByDate;
+
+    /** Orders of the range currently in each status. */
+    private Map<OrderEnum, Long> ordersByStatus;
+
+    private List<DailyBookUnitsDTO> unitsByBookAndDate;
+}
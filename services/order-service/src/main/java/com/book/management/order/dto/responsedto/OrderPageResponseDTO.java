@@ -0,0 +1,31 @@
+package com.book.management.order.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of a keyset-paginated order listing, ordered by
+ * order date and then order ID. Pass {@code nextCursor} as {@code cursor}
+ * to fetch the following page.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageResponseDTO {
+
+    private List<OrderResponseDTO> items;
+
+    /** Opaque cursor of the next page, or null on the last page. */
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -13,6 +14,7 @@ public class OrderResponseDTO {
     private long orderId;
     private long userId;
     private List<Long> bookIds;
+    private Map<Long, Integer> items;
     private LocalDateTime orderDateTime;
     private double orderTotalAmount;
     private OrderEnum orderStatus;
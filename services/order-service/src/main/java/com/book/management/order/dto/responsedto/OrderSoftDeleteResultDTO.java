@@ -0,0 +1,30 @@
+package com.book.management.order.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a bulk soft delete, counting how each targeted order
+ * was handled.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSoftDeleteResultDTO {
+
+    /** Orders marked as deleted by this request. */
+    private long deleted;
+
+    /** Orders that were already deleted and were left unchanged. */
+    private long alreadyDeleted;
+
+    /** Requested order IDs that do not exist; always 0 for deletes by user. */
+    private long notFound;
+}
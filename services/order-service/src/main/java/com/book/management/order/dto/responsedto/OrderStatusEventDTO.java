@@ -0,0 +1,32 @@
+package com.book.management.order.dto.responsedto;
+
+import com.book.management.order.enums.OrderEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Status update pushed to subscribers of an asynchronously placed order.
+ *
+ * Example:
+ * { "orderId": 42, "orderStatus": "PENDING", "statusDetail": "Order is being processed" }
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusEventDTO {
+
+    private long orderId;
+
+    private OrderEnum orderStatus;
+
+    private String statusDetail;
+
+    public static OrderStatusEventDTO of(long orderId, OrderEnum status) {
+        return new OrderStatusEventDTO(orderId, status, status.getStatusDetail());
+    }
+}
@@ -0,0 +1,30 @@
+package com.book.management.order.dto.responsedto;
+
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.enums.StatusUpdateOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one order in a bulk status update.
+ *
+ * Example:
+ * { "orderId": 1001, "previousStatus": "DELIVERED", "outcome": "INVALID_TRANSITION" }
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusOutcomeDTO {
+
+    private Long orderId;
+
+    /** Status before the update, or null when the order was not found. */
+    private OrderEnum previousStatus;
+
+    private StatusUpdateOutcome outcome;
+}
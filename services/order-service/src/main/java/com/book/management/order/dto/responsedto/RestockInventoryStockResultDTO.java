@@ -0,0 +1,33 @@
+package com.book.management.order.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of restocking one book in an Inventory Service bulk restock.
+ *
+ * Example:
+ * { "status": "RESTOCKED", "quantity": 12, "message": null }
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestockInventoryStockResultDTO {
+
+    public static final String RESTOCKED = "RESTOCKED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String FAILED = "FAILED";
+
+    /** RESTOCKED, NOT_FOUND or FAILED. */
+    private String status;
+
+    /** Quantity after the restock. */
+    private Integer quantity;
+
+    private String message;
+}
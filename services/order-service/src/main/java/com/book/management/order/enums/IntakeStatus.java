@@ -0,0 +1,21 @@
+package com.book.management.order.enums;
+
+/**
+ * State of an accepted order waiting in the intake queue.
+ *
+ * Typical transitions:
+ * QUEUED -> PROCESSING -> (row removed once the order is PENDING or REJECTED)
+ * PROCESSING -> QUEUED (downstream call failed, retried after a back-off)
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum IntakeStatus {
+
+    /** Waiting for an intake worker. */
+    QUEUED,
+
+    /** Claimed by an intake worker. */
+    PROCESSING
+}
@@ -12,6 +12,7 @@ import lombok.Getter;
 
  * Typical transitions:
  * PENDING -> SHIPPED -> DELIVERED
+ * Orders placed asynchronously start as ACCEPTED and become PENDING or REJECTED.
 
  * Usage:
  * Use statusCode for persistence or external systems.
@@ -35,7 +36,13 @@ public enum OrderEnum {
     DELIVERED(3, "Order delivered successfully"),
 
     /** The order has been cancelled by the customer or the system. */
-    CANCELLED(4, "Order has been cancelled");
+    CANCELLED(4, "Order has been cancelled"),
+
+    /** The order has been queued for asynchronous placement. */
+    ACCEPTED(5, "Order accepted and queued for processing"),
+
+    /** The queued order could not be placed. */
+    REJECTED(6, "Order could not be placed");
 
     /** Numeric code representing the status. Useful for persistence and integrations. */
     private final int statusCode;
@@ -0,0 +1,44 @@
+package com.book.management.order.enums;
+
+/**
+ * Step reached by an order placement saga.
+ *
+ * Typical transitions:
+ * STARTED -> STOCK_RESERVED -> COMPLETED
+ * STARTED -> ABORTED (inventory refused the stock reduction, nothing to undo)
+ * STARTED -> COMPENSATION_PENDING (reduction outcome unknown; inventory restocks only what it recorded)
+ * STARTED -> COMPENSATING (stale keyed saga; inventory restocks only what it recorded)
+ * STOCK_RESERVED -> COMPENSATION_PENDING (order could not be saved)
+ * COMPLETED -> COMPENSATION_PENDING (order cancelled)
+ * COMPENSATION_PENDING -> COMPENSATING -> COMPENSATED | COMPENSATION_PENDING (retry) | FAILED
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum SagaStatus {
+
+    /** Saga recorded; stock reduction not yet confirmed. */
+    STARTED,
+
+    /** Inventory confirmed the stock reduction; the order is not saved yet. */
+    STOCK_RESERVED,
+
+    /** The order was saved together with the saga. */
+    COMPLETED,
+
+    /** Inventory refused the stock reduction, so there is nothing to compensate. */
+    ABORTED,
+
+    /** Reduced stock is waiting to be restocked by the compensation worker. */
+    COMPENSATION_PENDING,
+
+    /** Claimed by the compensation worker. */
+    COMPENSATING,
+
+    /** Reduced stock has been restocked. */
+    COMPENSATED,
+
+    /** Compensation gave up; needs manual attention. */
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.book.management.order.enums;
+
+/**
+ * Result of one order in a bulk status update.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum StatusUpdateOutcome {
+
+    /** The order moved to the requested status. */
+    UPDATED,
+
+    /** The order does not exist or has been deleted. */
+    NOT_FOUND,
+
+    /** The state machine does not allow the order's current status to move to the requested one. */
+    INVALID_TRANSITION
+}
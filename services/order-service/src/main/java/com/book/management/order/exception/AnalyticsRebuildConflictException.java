@@ -0,0 +1,7 @@
+package com.book.management.order.exception;
+
+public class AnalyticsRebuildConflictException extends RuntimeException {
+    public AnalyticsRebuildConflictException(String message) {
+        super(message);
+    }
+}
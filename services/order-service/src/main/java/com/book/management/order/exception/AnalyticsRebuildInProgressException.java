@@ -0,0 +1,7 @@
+package com.book.management.order.exception;
+
+public class AnalyticsRebuildInProgressException extends RuntimeException {
+    public AnalyticsRebuildInProgressException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
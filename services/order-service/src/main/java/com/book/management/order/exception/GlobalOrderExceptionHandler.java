@@ -77,6 +77,54 @@ public class GlobalOrderExceptionHandler {
     }
 
 
+    /**
+     * Handles an Idempotency-Key that cannot be honoured: reused with a
+     * different request, or still held by a request that has not finished.
+
+     * Uses 409 CONFLICT because the request itself is valid, but conflicts with
+     * the earlier request made under the same key.
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIdempotencyConflict(
+            IdempotencyKeyConflictException ex, HttpServletRequest request) {
+
+        log.error("Idempotency Conflict: {} | Path: {}", ex.getMessage(), request.getRequestURI());
+        return buildResponse(HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_CONFLICT", ex.getMessage(), request);
+    }
+
+    /**
+     * Handles a request to rebuild the analytics rollups while a rebuild is running.
+     */
+    @ExceptionHandler(AnalyticsRebuildInProgressException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRebuildInProgress(
+            AnalyticsRebuildInProgressException ex, HttpServletRequest request) {
+
+        log.error("Rebuild Conflict: {} | Path: {}", ex.getMessage(), request.getRequestURI());
+        return buildResponse(HttpStatus.CONFLICT, "ANALYTICS_REBUILD_IN_PROGRESS", ex.getMessage(), request);
+    }
+
+    /**
+     * Handles a rebuild abandoned because orders it counted changed while it ran.
+     */
+    @ExceptionHandler(AnalyticsRebuildConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRebuildConflict(
+            AnalyticsRebuildConflictException ex, HttpServletRequest request) {
+
+        log.error("Rebuild Conflict: {} | Path: {}", ex.getMessage(), request.getRequestURI());
+        return buildResponse(HttpStatus.CONFLICT, "ANALYTICS_REBUILD_CONFLICT", ex.getMessage(), request);
+    }
+
+    /**
+     * Handles listing requests with an invalid page size, cursor or date range.
+     */
+    @ExceptionHandler(InvalidOrderQueryException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidQuery(
+            InvalidOrderQueryException ex, HttpServletRequest request) {
+
+        log.error("Invalid Order Query: {} | Path: {}", ex.getMessage(), request.getRequestURI());
+        return buildResponse(HttpStatus.BAD_REQUEST, "INVALID_ORDER_QUERY", ex.getMessage(), request);
+    }
+
     @ExceptionHandler(OrderNotFoundException.class)
     public ResponseEntity<ErrorResponseDTO> handleOrderNotFound(
             OrderNotFoundException ex, HttpServletRequest request) {
@@ -0,0 +1,7 @@
+package com.book.management.order.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.book.management.order.exception;
+
+/**
+ * Thrown when Inventory Service refuses a stock reduction because a book
+ * does not have enough stock. Unlike other placement failures, retrying
+ * the same order will not help until the book is restocked.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class InsufficientStockException extends OrderNotPlacedException {
+
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.book.management.order.exception;
+
+public class InvalidOrderQueryException extends RuntimeException {
+    public InvalidOrderQueryException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.book.management.order.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Single row locked by every analytics fold and by the replace step of a
+ * rebuild, so the two never interleave across service instances.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "order_analytics_fold_lock")
+public class AnalyticsFoldLock {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+}
@@ -0,0 +1,66 @@
+package com.book.management.order.model;
+
+import com.book.management.order.enums.OrderEnum;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Entity class representing an order moved out of {@code orders} by the
+ * archival job.
+ *
+ * The archive tables mirror {@code orders} and {@code order_items} column
+ * for column and keep the original order ID, so rows are copied with
+ * {@code INSERT ... SELECT}. Only final-state orders are archived, so an
+ * archived order is never updated again apart from being soft-deleted.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "orders_archive",
+       indexes = @Index(name = "idx_orders_archive_user_deleted_date_time",
+               columnList = "user_id, is_deleted, order_date_time, order_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@SQLRestriction("is_deleted = false")
+public class ArchivedOrder {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @ElementCollection
+    @BatchSize(size = Order.ITEMS_BATCH_SIZE)
+    @CollectionTable(name = "order_items_archive", joinColumns = @JoinColumn(name = "order_id"),
+            indexes = @Index(name = "idx_order_items_archive_order_id", columnList = "order_id"))
+    @MapKeyColumn(name = "book_id")
+    @Column(name = "quantity")
+    private Map<Long, Integer> items;
+
+    @Column(nullable = false)
+    private LocalDateTime orderDateTime;
+
+    @Column(nullable = false)
+    private double orderTotalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderEnum orderStatus;
+
+    @Column(nullable = false)
+    private boolean isDeleted;
+
+    /** When the archival job moved the order. */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,47 @@
+package com.book.management.order.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores a map of bookId to quantity in a single column as
+ * {@code bookId:quantity} pairs separated by commas, e.g. {@code 101:2,105:1}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Converter
+public class BookQuantitiesConverter implements AttributeConverter<Map<Long, Integer>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Map<Long, Integer> quantities) {
+        if (quantities == null) {
+            return null;
+        }
+        StringBuilder column = new StringBuilder(quantities.size() * 8);
+        quantities.forEach((bookId, quantity) -> {
+            if (!column.isEmpty()) {
+                column.append(',');
+            }
+            column.append(bookId).append(':').append(quantity);
+        });
+        return column.toString();
+    }
+
+    @Override
+    public Map<Long, Integer> convertToEntityAttribute(String column) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        if (column == null || column.isEmpty()) {
+            return quantities;
+        }
+        for (String pair : column.split(",")) {
+            int separator = pair.indexOf(':');
+            quantities.put(Long.parseLong(pair.substring(0, separator)), Integer.parseInt(pair.substring(separator + 1)));
+        }
+        return quantities;
+    }
+}
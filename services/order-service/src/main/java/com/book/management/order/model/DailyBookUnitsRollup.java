@@ -0,0 +1,51 @@
+package com.book.management.order.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Entity class holding the units of each book sold per order date, counting
+ * the same placed orders as {@link DailyRevenueRollup}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "order_rollup_daily_book_units")
+@IdClass(DailyBookUnitsRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyBookUnitsRollup {
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "units", nullable = false)
+    private long units;
+
+    /**
+     * Primary key of {@link DailyBookUnitsRollup}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private LocalDate rollupDate;
+        private Long bookId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.book.management.order.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Entity class holding the revenue and number of placed orders per order date.
+ *
+ * Only orders in a placed status (PENDING, SHIPPED or DELIVERED) count, so
+ * cancelling an order takes its total back out of its day.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "order_rollup_daily_revenue")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyRevenueRollup {
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    @Column(name = "revenue", nullable = false)
+    private double revenue;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+}
@@ -0,0 +1,54 @@
+package com.book.management.order.model;
+
+import com.book.management.order.enums.OrderEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Entity class holding how many orders of each order date are currently in
+ * each status. A status change moves one count from the old status to the
+ * new one.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "order_rollup_daily_status")
+@IdClass(DailyStatusRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyStatusRollup {
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", length = 20)
+    private OrderEnum orderStatus;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    /**
+     * Primary key of {@link DailyStatusRollup}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private LocalDate rollupDate;
+        private OrderEnum orderStatus;
+    }
+}
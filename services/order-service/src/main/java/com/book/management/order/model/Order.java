@@ -3,6 +3,7 @@ package com.book.management.order.model;
 import com.book.management.order.enums.OrderEnum;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -15,13 +16,24 @@ import java.util.Map;
  * Features:
  * - Soft Delete: Uses @SQLDelete to set isDeleted=true instead of physical deletion.
  * - ElementCollection: Stores order items (bookId and quantity) in a relational table.
+ * - Indexes: Every listing filters on is_deleted (via @SQLRestriction) and orders by
+ *   order_date_time, so each index leads with its equality columns, then is_deleted,
+ *   then the keyset columns. order_items is indexed on order_id, which its
+ *   (book_id, order_id) primary key cannot serve.
+ * - Batch fetching: Items of up to {@value #ITEMS_BATCH_SIZE} orders in the same
+ *   persistence context load in one query, so listings do not issue a query per order.
  *
  * @author Rehan Ashraf
  * @version 2.0 (Microservice Migration)
  * @since 2024-12-15
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+       indexes = {
+           @Index(name = "idx_orders_deleted_date_time", columnList = "is_deleted, order_date_time, order_id"),
+           @Index(name = "idx_orders_status_deleted_date_time", columnList = "order_status, is_deleted, order_date_time, order_id"),
+           @Index(name = "idx_orders_user_deleted_date_time", columnList = "user_id, is_deleted, order_date_time, order_id")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,6 +42,8 @@ import java.util.Map;
 @SQLRestriction("is_deleted = false") // Ensures deleted records are excluded from queries
 public class Order {
 
+    public static final int ITEMS_BATCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long orderId;
@@ -42,7 +56,9 @@ public class Order {
      * Persisted in a separate 'order_items' table.
      */
     @ElementCollection
-    @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"))
+    @BatchSize(size = ITEMS_BATCH_SIZE)
+    @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"),
+            indexes = @Index(name = "idx_order_items_order_id", columnList = "order_id"))
     @MapKeyColumn(name = "book_id")
     @Column(name = "quantity")
     private Map<Long, Integer> items;
@@ -0,0 +1,87 @@
+package com.book.management.order.model;
+
+import com.book.management.order.enums.OrderEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class holding one change to one analytics rollup row,
+ * recorded in the transaction that changed an order.
+ *
+ * Deltas are only ever inserted by order writes, so concurrent orders of
+ * the same day never wait on each other. The fold applies them to the
+ * rollups in batches and marks them folded; folded deltas are kept for a
+ * retention period so a rebuild can tell which orders changed while it
+ * ran.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "order_analytics_delta",
+       indexes = {
+           @Index(name = "idx_analytics_delta_folded", columnList = "folded, delta_id"),
+           @Index(name = "idx_analytics_delta_recorded_order", columnList = "recorded_at, order_id")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderAnalyticsDelta {
+
+    /**
+     * Rollup a delta applies to.
+     */
+    public enum Kind {
+        /** Revenue and placed-order count of a day. */
+        REVENUE,
+        /** Order count of a day in {@link #orderStatus}. */
+        STATUS,
+        /** Units of {@link #bookId} sold on a day. */
+        BOOK_UNITS
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delta_id")
+    private Long deltaId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private Kind kind;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", length = 20)
+    private OrderEnum orderStatus;
+
+    @Column(name = "book_id")
+    private Long bookId;
+
+    /** Revenue added; 0 unless {@link Kind#REVENUE}. */
+    @Column(name = "revenue", nullable = false)
+    private double revenue;
+
+    /** Orders or units added. */
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    /** Whether the rollups include this delta. */
+    @Column(name = "folded", nullable = false)
+    private boolean folded;
+}
@@ -0,0 +1,70 @@
+package com.book.management.order.model;
+
+import com.book.management.order.enums.IntakeStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Entity class queuing an accepted order for asynchronous placement.
+ *
+ * The order itself is saved as ACCEPTED in the same transaction, so its ID
+ * can be returned immediately; the intake row carries what the workers need
+ * to place it and is removed once the order is PENDING or REJECTED.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "order_intake",
+       indexes = @Index(name = "idx_order_intake_status", columnList = "status, next_attempt_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderIntake {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "intake_id")
+    private Long intakeId;
+
+    /** The ACCEPTED order this entry places. */
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Requested quantities per book. */
+    @Convert(converter = BookQuantitiesConverter.class)
+    @Column(name = "items", nullable = false, length = 4000)
+    private Map<Long, Integer> items;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IntakeStatus status;
+
+    /** Placement attempts made so far. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** Earliest time a worker may pick the entry up. */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,84 @@
+package com.book.management.order.model;
+
+import com.book.management.order.enums.SagaStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Entity class recording the progress of one order placement saga.
+ *
+ * A saga is written before stock is reduced and moved forward after each
+ * step, so stock reduced for an order that was never saved, or for an
+ * order that was cancelled, can be restocked later by the compensation
+ * worker.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "order_saga",
+       indexes = {
+           @Index(name = "idx_order_saga_status", columnList = "status, next_attempt_at"),
+           @Index(name = "idx_order_saga_order_id", columnList = "order_id")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSaga {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "saga_id")
+    private Long sagaId;
+
+    /** Order created by the saga; null until the order is saved. */
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Quantities reduced per book, restocked on compensation. */
+    @Convert(converter = BookQuantitiesConverter.class)
+    @Column(name = "items", nullable = false, length = 4000)
+    private Map<Long, Integer> items;
+
+    /**
+     * Whether inventory reduced the stock under the saga's ID. Inventory then
+     * restocks exactly what it recorded for the saga, so the saga can be
+     * compensated without knowing whether the reduction happened.
+     */
+    @Column(name = "stock_keyed", nullable = false)
+    @ColumnDefault("false")
+    private boolean stockKeyed;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private SagaStatus status;
+
+    /** Compensation attempts made so far. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** Earliest time the compensation worker may pick the saga up. */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
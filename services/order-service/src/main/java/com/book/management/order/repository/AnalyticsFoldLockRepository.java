@@ -0,0 +1,29 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.model.AnalyticsFoldLock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for AnalyticsFoldLock entity.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface AnalyticsFoldLockRepository extends JpaRepository<AnalyticsFoldLock, Integer> {
+
+    /**
+     * Locks the row, waiting for a fold or rebuild holding it to finish.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM AnalyticsFoldLock l WHERE l.id = :id")
+    Optional<AnalyticsFoldLock> findForUpdate(@Param("id") Integer id);
+}
@@ -0,0 +1,36 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.model.DailyBookUnitsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for DailyBookUnitsRollup entity.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface DailyBookUnitsRollupRepository extends JpaRepository<DailyBookUnitsRollup, DailyBookUnitsRollup.Key> {
+
+    /**
+     * Adds to the units of one book sold on a day, creating the row if needed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_rollup_daily_book_units (rollup_date, book_id, units) "
+            + "VALUES (:rollupDate, :bookId, :units) "
+            + "ON DUPLICATE KEY UPDATE units = units + :units",
+            nativeQuery = true)
+    void add(@Param("rollupDate") LocalDate rollupDate,
+             @Param("bookId") Long bookId,
+             @Param("units") long units);
+
+    List<DailyBookUnitsRollup> findByRollupDateBetweenOrderByRollupDateAscBookIdAsc(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,20 @@
+package com.book.management.order.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Units of one book ordered on one date, as summed by the analytics
+ * rebuild scan.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public interface DailyBookUnitsTotals {
+
+    LocalDate getRollupDate();
+
+    Long getBookId();
+
+    Long getUnits();
+}
@@ -0,0 +1,24 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.enums.OrderEnum;
+
+import java.time.LocalDate;
+
+/**
+ * Number and total amount of the orders of one date in one status, as
+ * summed by the analytics rebuild scan.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public interface DailyOrderTotals {
+
+    LocalDate getRollupDate();
+
+    OrderEnum getOrderStatus();
+
+    Long getOrderCount();
+
+    Double getRevenue();
+}
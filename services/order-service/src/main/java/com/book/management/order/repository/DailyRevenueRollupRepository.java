@@ -0,0 +1,37 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.model.DailyRevenueRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for DailyRevenueRollup entity.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface DailyRevenueRollupRepository extends JpaRepository<DailyRevenueRollup, LocalDate> {
+
+    /**
+     * Adds to a day's revenue and order count, creating the day if needed.
+     * A single upsert, so concurrent orders of the same day never lose an update.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_rollup_daily_revenue (rollup_date, revenue, order_count) "
+            + "VALUES (:rollupDate, :revenue, :orderCount) "
+            + "ON DUPLICATE KEY UPDATE revenue = revenue + :revenue, order_count = order_count + :orderCount",
+            nativeQuery = true)
+    void add(@Param("rollupDate") LocalDate rollupDate,
+             @Param("revenue") double revenue,
+             @Param("orderCount") long orderCount);
+
+    List<DailyRevenueRollup> findByRollupDateBetweenOrderByRollupDate(LocalDate from, LocalDate to);
+}
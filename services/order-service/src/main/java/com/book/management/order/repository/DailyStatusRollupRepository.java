@@ -0,0 +1,36 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.model.DailyStatusRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for DailyStatusRollup entity.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface DailyStatusRollupRepository extends JpaRepository<DailyStatusRollup, DailyStatusRollup.Key> {
+
+    /**
+     * Adds to the number of a day's orders in one status, creating the row if needed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_rollup_daily_status (rollup_date, order_status, order_count) "
+            + "VALUES (:rollupDate, :orderStatus, :orderCount) "
+            + "ON DUPLICATE KEY UPDATE order_count = order_count + :orderCount",
+            nativeQuery = true)
+    void add(@Param("rollupDate") LocalDate rollupDate,
+             @Param("orderStatus") String orderStatus,
+             @Param("orderCount") long orderCount);
+
+    List<DailyStatusRollup> findByRollupDateBetween(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,71 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.model.OrderAnalyticsDelta;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for OrderAnalyticsDelta entity.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface OrderAnalyticsDeltaRepository extends JpaRepository<OrderAnalyticsDelta, Long> {
+
+    /**
+     * Finds the oldest deltas not yet folded, in the order they were recorded.
+     */
+    @Query("SELECT d FROM OrderAnalyticsDelta d WHERE d.folded = false ORDER BY d.deltaId")
+    List<OrderAnalyticsDelta> findOldestUnfolded(Pageable pageable);
+
+    /**
+     * Marks deltas as included in the rollups.
+     */
+    @Modifying
+    @Query("UPDATE OrderAnalyticsDelta d SET d.folded = true WHERE d.deltaId IN :deltaIds")
+    int markFolded(@Param("deltaIds") Collection<Long> deltaIds);
+
+    /**
+     * Marks every folded delta as not yet folded, so the fold applies it again.
+     *
+     * @return number of deltas marked
+     */
+    @Modifying
+    @Query("UPDATE OrderAnalyticsDelta d SET d.folded = false WHERE d.folded = true")
+    int markAllUnfolded();
+
+    /**
+     * Deletes folded deltas recorded before {@code before}.
+     *
+     * @return number of deltas deleted
+     */
+    @Modifying
+    @Query("DELETE FROM OrderAnalyticsDelta d WHERE d.folded = true AND d.recordedAt < :before")
+    int deleteFoldedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Checks whether an order with an ID up to {@code maxOrderId} recorded
+     * a delta at or after {@code since}, folded or not.
+     */
+    boolean existsByRecordedAtGreaterThanEqualAndOrderIdLessThanEqual(LocalDateTime since, Long maxOrderId);
+
+    /**
+     * Deletes the deltas, folded or not, recorded before {@code before} by
+     * orders with an ID up to {@code maxOrderId}.
+     *
+     * @return number of deltas deleted
+     */
+    @Modifying
+    @Query("DELETE FROM OrderAnalyticsDelta d WHERE d.recordedAt < :before AND d.orderId <= :maxOrderId")
+    int deleteRecordedBefore(@Param("before") LocalDateTime before, @Param("maxOrderId") long maxOrderId);
+}
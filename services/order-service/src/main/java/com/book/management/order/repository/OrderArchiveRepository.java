@@ -0,0 +1,102 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.model.ArchivedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link ArchivedOrder}, including the statements
+ * that move orders from the hot tables into the archive.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface OrderArchiveRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    /**
+     * Finds archived orders based on userId.
+     * Note: Hibernate @SQLRestriction handles the isDeleted filter automatically.
+     */
+    List<ArchivedOrder> findByUserId(Long userId);
+
+    /**
+     * Copies the given orders into the archive, deleted flag included.
+     *
+     * @return number of orders copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive (order_id, user_id, order_date_time, order_total_amount, "
+            + "order_status, is_deleted, archived_at) "
+            + "SELECT order_id, user_id, order_date_time, order_total_amount, order_status, is_deleted, :archivedAt "
+            + "FROM orders WHERE order_id IN (:orderIds)",
+            nativeQuery = true)
+    int copyOrders(@Param("orderIds") Collection<Long> orderIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Copies the items of the given orders into the archive.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_items_archive (order_id, book_id, quantity) "
+            + "SELECT order_id, book_id, quantity FROM order_items WHERE order_id IN (:orderIds)",
+            nativeQuery = true)
+    int copyItems(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Deletes the items of the given orders from {@code order_items}.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM order_items WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotItems(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Physically deletes the given orders from {@code orders}.
+     *
+     * @return number of orders deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM orders WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteHotOrders(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Soft-deletes every active archived order of a user in a single statement.
+     *
+     * @return number of orders newly marked as deleted
+     */
+    @Modifying
+    @Query(value = "UPDATE orders_archive SET is_deleted = true WHERE user_id = :userId AND is_deleted = false",
+           nativeQuery = true)
+    int softDeleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts the archived orders of a user that are already soft-deleted.
+     */
+    @Query(value = "SELECT COUNT(*) FROM orders_archive WHERE user_id = :userId AND is_deleted = true",
+           nativeQuery = true)
+    long countDeletedByUserId(@Param("userId") Long userId);
+
+    /**
+     * Soft-deletes the active archived orders among the given IDs in a single statement.
+     *
+     * @return number of orders newly marked as deleted
+     */
+    @Modifying
+    @Query(value = "UPDATE orders_archive SET is_deleted = true WHERE order_id IN (:orderIds) AND is_deleted = false",
+           nativeQuery = true)
+    int softDeleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Counts the archived orders among the given IDs that are already soft-deleted.
+     */
+    @Query(value = "SELECT COUNT(*) FROM orders_archive WHERE order_id IN (:orderIds) AND is_deleted = true",
+           nativeQuery = true)
+    long countDeletedByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
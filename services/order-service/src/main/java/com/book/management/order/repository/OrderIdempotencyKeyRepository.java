@@ -0,0 +1,63 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.model.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for OrderIdempotencyKey entity.
+ *
+ * Each write runs in its own short transaction, since placement itself is
+ * not transactional.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+
+    /**
+     * Claims a key with a plain insert, so a concurrent claim of the same key
+     * fails on the primary key instead of being merged.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException if the key is already claimed
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO order_idempotency_keys (idempotency_key, request_hash, created_at) "
+            + "VALUES (:key, :requestHash, :now)", nativeQuery = true)
+    void claim(@Param("key") String key,
+               @Param("requestHash") String requestHash,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * Records the order created under a claimed key.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderIdempotencyKey k SET k.orderId = :orderId WHERE k.idempotencyKey = :key")
+    int assignOrder(@Param("key") String key, @Param("orderId") Long orderId);
+
+    /**
+     * Releases a claim whose placement failed, so the key can be retried.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.idempotencyKey = :key AND k.orderId IS NULL")
+    int release(@Param("key") String key);
+
+    /**
+     * Deletes keys older than the retention period.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,44 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.enums.IntakeStatus;
+import com.book.management.order.model.OrderIntake;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for OrderIntake entity.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface OrderIntakeRepository extends JpaRepository<OrderIntake, Long> {
+
+    /**
+     * Locks the oldest entries an intake worker should place: queued entries
+     * that are due, and claimed entries whose worker stopped progressing
+     * them. Rows locked by another worker are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM OrderIntake i "
+            + "WHERE (i.status = :queued AND i.nextAttemptAt <= :now) "
+            + "OR (i.status = :processing AND i.updatedAt < :staleBefore) "
+            + "ORDER BY i.intakeId")
+    List<OrderIntake> findClaimable(@Param("queued") IntakeStatus queued,
+                                    @Param("now") LocalDateTime now,
+                                    @Param("processing") IntakeStatus processing,
+                                    @Param("staleBefore") LocalDateTime staleBefore,
+                                    Pageable pageable);
+}
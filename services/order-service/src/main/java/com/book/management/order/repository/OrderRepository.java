@@ -2,8 +2,16 @@ package com.book.management.order.repository;
 
 import com.book.management.order.enums.OrderEnum;
 import com.book.management.order.model.Order;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -26,4 +34,189 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * Note: Hibernate @SQLRestriction handles the isDeleted filter automatically.
      */
     List<Order> findByUserId(Long userId);
+
+    /**
+     * Finds the page of orders following a cursor (keyset pagination) in
+     * (orderDateTime, orderId) order. The redundant {@code >=} bound lets the
+     * database range-scan idx_orders_deleted_date_time from the cursor, so every page
+     * costs the same regardless of its position.
+     *
+     * @param afterDateTime order date of the cursor
+     * @param afterId       order ID of the cursor, 0 to include orders at afterDateTime
+     * @param before        exclusive upper bound on the order date
+     * @param pageable      page size; the page number must be 0
+     * @return orders ordered by order date, then order ID
+     */
+    @Query("SELECT o FROM Order o WHERE o.orderDateTime >= :afterDateTime AND o.orderDateTime < :before " +
+           "AND (o.orderDateTime > :afterDateTime OR o.orderId > :afterId) " +
+           "ORDER BY o.orderDateTime, o.orderId")
+    List<Order> findPageAfter(@Param("afterDateTime") LocalDateTime afterDateTime,
+                              @Param("afterId") long afterId,
+                              @Param("before") LocalDateTime before,
+                              Pageable pageable);
+
+    /**
+     * Same as {@link #findPageAfter} restricted to one status, served by
+     * idx_orders_status_deleted_date_time.
+     */
+    @Query("SELECT o FROM Order o WHERE o.orderStatus = :status " +
+           "AND o.orderDateTime >= :afterDateTime AND o.orderDateTime < :before " +
+           "AND (o.orderDateTime > :afterDateTime OR o.orderId > :afterId) " +
+           "ORDER BY o.orderDateTime, o.orderId")
+    List<Order> findPageByStatusAfter(@Param("status") OrderEnum status,
+                                      @Param("afterDateTime") LocalDateTime afterDateTime,
+                                      @Param("afterId") long afterId,
+                                      @Param("before") LocalDateTime before,
+                                      Pageable pageable);
+
+    /**
+     * Same as {@link #findPageAfter} restricted to one user and, when given,
+     * one status, served by idx_orders_user_deleted_date_time.
+     */
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId " +
+           "AND (:status IS NULL OR o.orderStatus = :status) " +
+           "AND o.orderDateTime >= :afterDateTime AND o.orderDateTime < :before " +
+           "AND (o.orderDateTime > :afterDateTime OR o.orderId > :afterId) " +
+           "ORDER BY o.orderDateTime, o.orderId")
+    List<Order> findPageByUserIdAfter(@Param("userId") Long userId,
+                                      @Param("status") OrderEnum status,
+                                      @Param("afterDateTime") LocalDateTime afterDateTime,
+                                      @Param("afterId") long afterId,
+                                      @Param("before") LocalDateTime before,
+                                      Pageable pageable);
+
+    /**
+     * Loads the active orders among the given IDs and locks those rows, so
+     * their statuses cannot change before the caller commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId IN :orderIds")
+    List<Order> findAllByIdForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Reads the status of each active order among the given IDs and locks
+     * those rows, so the statuses cannot change before the caller's
+     * {@link #updateStatus} commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.book.management.order.repository.OrderStatusView(o.orderId, o.orderStatus, o.orderDateTime) " +
+           "FROM Order o WHERE o.orderId IN :orderIds")
+    List<OrderStatusView> findStatusesForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Moves orders that are still in one status to another in a single statement.
+     *
+     * @return number of orders updated
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :to WHERE o.orderId IN :orderIds AND o.orderStatus = :from")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("from") OrderEnum from,
+                     @Param("to") OrderEnum to);
+
+    /**
+     * Soft-deletes every active order of a user in a single statement.
+     * Native SQL so the @SQLRestriction filter does not apply to the counts below.
+     *
+     * @return number of orders newly marked as deleted
+     */
+    @Modifying
+    @Query(value = "UPDATE orders SET is_deleted = true WHERE user_id = :userId AND is_deleted = false",
+           nativeQuery = true)
+    int softDeleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts the orders of a user that are already soft-deleted.
+     */
+    @Query(value = "SELECT COUNT(*) FROM orders WHERE user_id = :userId AND is_deleted = true",
+           nativeQuery = true)
+    long countDeletedByUserId(@Param("userId") Long userId);
+
+    /**
+     * Soft-deletes the active orders among the given IDs in a single statement.
+     *
+     * @return number of orders newly marked as deleted
+     */
+    @Modifying
+    @Query(value = "UPDATE orders SET is_deleted = true WHERE order_id IN (:orderIds) AND is_deleted = false",
+           nativeQuery = true)
+    int softDeleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Counts the orders among the given IDs that are already soft-deleted.
+     */
+    @Query(value = "SELECT COUNT(*) FROM orders WHERE order_id IN (:orderIds) AND is_deleted = true",
+           nativeQuery = true)
+    long countDeletedByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Locks the oldest orders in one of the given statuses and placed before
+     * the cutoff, live orders first, then deleted ones. Rows locked by
+     * another transaction are skipped.
+     *
+     * The is_deleted predicate and the ordering follow
+     * idx_orders_deleted_date_time, so the query reads that index in order
+     * from the oldest order and stops after {@code limit} matches instead
+     * of sorting every aged order.
+     *
+     * @param statuses names of the statuses to archive
+     * @param cutoff   exclusive upper bound on the order date
+     * @param limit    maximum number of IDs returned
+     */
+    @Query(value = "SELECT order_id FROM orders WHERE is_deleted IN (false, true) "
+            + "AND order_date_time < :cutoff AND order_status IN (:statuses) "
+            + "ORDER BY is_deleted, order_date_time, order_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> findArchivableIds(@Param("statuses") Collection<String> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 @Param("limit") int limit);
+
+    /**
+     * Highest order ID ever assigned, deleted and archived orders included; 0 when empty.
+     */
+    @Query(value = "SELECT GREATEST((SELECT COALESCE(MAX(order_id), 0) FROM orders), "
+            + "(SELECT COALESCE(MAX(order_id), 0) FROM orders_archive))",
+            nativeQuery = true)
+    long findMaxOrderId();
+
+    /**
+     * Sums the orders in an order ID range per order date and status,
+     * deleted and archived orders included, reading the range from the
+     * primary keys.
+     *
+     * @param afterId exclusive lower bound on the order ID
+     * @param toId    inclusive upper bound on the order ID
+     */
+    @Query(value = "SELECT CAST(order_date_time AS DATE) AS rollupDate, order_status AS orderStatus, "
+            + "COUNT(*) AS orderCount, SUM(order_total_amount) AS revenue "
+            + "FROM (SELECT order_date_time, order_status, order_total_amount FROM orders "
+            + "WHERE order_id > :afterId AND order_id <= :toId "
+            + "UNION ALL SELECT order_date_time, order_status, order_total_amount FROM orders_archive "
+            + "WHERE order_id > :afterId AND order_id <= :toId) o "
+            + "GROUP BY CAST(order_date_time AS DATE), order_status",
+            nativeQuery = true)
+    List<DailyOrderTotals> sumByDateAndStatus(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    /**
+     * Sums the units per order date and book of the orders in an order ID
+     * range that are in one of the given statuses, deleted and archived
+     * orders included.
+     *
+     * @param afterId  exclusive lower bound on the order ID
+     * @param toId     inclusive upper bound on the order ID
+     * @param statuses names of the statuses to count
+     */
+    @Query(value = "SELECT CAST(u.order_date_time AS DATE) AS rollupDate, u.book_id AS bookId, "
+            + "SUM(u.quantity) AS units "
+            + "FROM (SELECT o.order_date_time, i.book_id, i.quantity "
+            + "FROM orders o JOIN order_items i ON i.order_id = o.order_id "
+            + "WHERE o.order_id > :afterId AND o.order_id <= :toId AND o.order_status IN (:statuses) "
+            + "UNION ALL SELECT o.order_date_time, i.book_id, i.quantity "
+            + "FROM orders_archive o JOIN order_items_archive i ON i.order_id = o.order_id "
+            + "WHERE o.order_id > :afterId AND o.order_id <= :toId AND o.order_status IN (:statuses)) u "
+            + "GROUP BY CAST(u.order_date_time AS DATE), u.book_id",
+            nativeQuery = true)
+    List<DailyBookUnitsTotals> sumUnitsByDateAndBook(@Param("afterId") long afterId,
+                                                     @Param("toId") long toId,
+                                                     @Param("statuses") Collection<String> statuses);
 }
\ No newline at end of file
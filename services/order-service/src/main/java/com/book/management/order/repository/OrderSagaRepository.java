@@ -0,0 +1,96 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.enums.SagaStatus;
+import com.book.management.order.model.OrderSaga;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for OrderSaga entity.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface OrderSagaRepository extends JpaRepository<OrderSaga, Long> {
+
+    /**
+     * Finds the saga that created an order.
+     */
+    Optional<OrderSaga> findFirstByOrderIdOrderBySagaIdDesc(Long orderId);
+
+    /**
+     * Moves a saga from one status to another.
+     *
+     * @return 1 if the saga was in the expected status, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE OrderSaga s SET s.status = :to, s.lastError = :error, s.nextAttemptAt = :now, s.updatedAt = :now "
+            + "WHERE s.sagaId = :sagaId AND s.status = :from")
+    int transition(@Param("sagaId") Long sagaId,
+                   @Param("from") SagaStatus from,
+                   @Param("to") SagaStatus to,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * Moves several sagas from one status to another in a single statement.
+     *
+     * @return number of sagas that were in the expected status
+     */
+    @Modifying
+    @Query("UPDATE OrderSaga s SET s.status = :to, s.lastError = :error, s.nextAttemptAt = :now, s.updatedAt = :now "
+            + "WHERE s.sagaId IN :sagaIds AND s.status = :from")
+    int transitionAll(@Param("sagaIds") Collection<Long> sagaIds,
+                      @Param("from") SagaStatus from,
+                      @Param("to") SagaStatus to,
+                      @Param("error") String error,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * Marks a reserved saga as completed by the given order.
+     *
+     * @return 1 if the saga was still reserved, 0 if the worker already claimed it
+     */
+    @Modifying
+    @Query("UPDATE OrderSaga s SET s.status = :completed, s.orderId = :orderId, s.updatedAt = :now "
+            + "WHERE s.sagaId = :sagaId AND s.status = :reserved")
+    int complete(@Param("sagaId") Long sagaId,
+                 @Param("orderId") Long orderId,
+                 @Param("reserved") SagaStatus reserved,
+                 @Param("completed") SagaStatus completed,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * Locks sagas the compensation worker should process: pending sagas that
+     * are due, and reserved, claimed or keyed started sagas whose owner
+     * stopped progressing them. Rows locked by another worker are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM OrderSaga s "
+            + "WHERE (s.status = :pending AND s.nextAttemptAt <= :now) "
+            + "OR (s.status IN :stale AND s.updatedAt < :staleBefore) "
+            + "OR (s.status = :started AND s.stockKeyed = true AND s.updatedAt < :staleBefore) "
+            + "ORDER BY s.sagaId")
+    List<OrderSaga> findCompensable(@Param("pending") SagaStatus pending,
+                                    @Param("now") LocalDateTime now,
+                                    @Param("stale") List<SagaStatus> stale,
+                                    @Param("started") SagaStatus started,
+                                    @Param("staleBefore") LocalDateTime staleBefore,
+                                    Pageable pageable);
+}
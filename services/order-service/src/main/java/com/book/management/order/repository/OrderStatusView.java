@@ -0,0 +1,15 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.enums.OrderEnum;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status and date of one order, read without loading the entity or its items.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record OrderStatusView(Long orderId, OrderEnum orderStatus, LocalDateTime orderDateTime) {
+}
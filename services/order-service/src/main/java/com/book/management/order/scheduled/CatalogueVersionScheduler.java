@@ -0,0 +1,37 @@
+package com.book.management.order.scheduled;
+
+import com.book.management.order.client.BookServiceClient;
+import com.book.management.order.service.cache.BookPriceCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled check of the Book Service catalogue version, which revalidates
+ * the local price cache off the order placement path.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogueVersionScheduler {
+
+    private final BookServiceClient bookServiceClient;
+    private final BookPriceCache bookPriceCache;
+
+    /**
+     * Fetches the catalogue version and hands it to the price cache.
+     */
+    @Scheduled(fixedDelayString = "${order.price-cache.version-check-interval-millis:5000}")
+    public void checkVersion() {
+        try {
+            bookPriceCache.onCatalogueVersion(bookServiceClient.getCatalogueVersion().getVersion());
+        } catch (Exception e) {
+            log.warn("Catalogue version check failed, cached prices age out instead: {}", e.getMessage());
+        }
+    }
+}
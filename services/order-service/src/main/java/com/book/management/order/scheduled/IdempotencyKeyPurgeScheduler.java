@@ -0,0 +1,34 @@
+package com.book.management.order.scheduled;
+
+import com.book.management.order.service.idempotency.OrderIdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled purge of expired Idempotency-Keys.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyPurgeScheduler {
+
+    private final OrderIdempotencyService idempotencyService;
+
+    /**
+     * Deletes keys past their retention period.
+     */
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-millis:3600000}")
+    public void purge() {
+        try {
+            idempotencyService.purgeExpired();
+        } catch (Exception e) {
+            log.error("Error purging idempotency keys: {}", e.getMessage(), e);
+        }
+    }
+}
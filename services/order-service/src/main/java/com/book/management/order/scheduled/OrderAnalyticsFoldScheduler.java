@@ -0,0 +1,34 @@
+package com.book.management.order.scheduled;
+
+import com.book.management.order.service.analytics.OrderAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled fold of recorded analytics deltas into the rollups.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderAnalyticsFoldScheduler {
+
+    private final OrderAnalyticsService analyticsService;
+
+    /**
+     * Applies pending deltas to the rollups in batches.
+     */
+    @Scheduled(fixedDelayString = "${order.analytics.fold-interval-millis:2000}")
+    public void fold() {
+        try {
+            analyticsService.foldDeltas();
+        } catch (Exception e) {
+            log.error("Error folding order analytics: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.book.management.order.scheduled;
+
+import com.book.management.order.service.archive.OrderArchiveService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scheduled archival of aged completed orders.
+ *
+ * A run pauses between chunks and can last minutes, so it is handed to a
+ * dedicated thread instead of holding one of the shared scheduler threads
+ * the intake and compensation jobs need. A tick that finds the previous
+ * run still going is skipped.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService archiveService;
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("order-archive-", 0).factory());
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Starts moving aged final-state orders into the archive tables.
+     */
+    @Scheduled(fixedDelayString = "${order.archive.interval-millis:3600000}")
+    public void archive() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Previous order archive run still in progress; skipping");
+            return;
+        }
+        try {
+            executor.execute(this::runArchive);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    private void runArchive() {
+        try {
+            archiveService.archiveAged();
+        } catch (Exception e) {
+            log.error("Error archiving orders: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Interrupts a running archive, which stops at its next pause.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
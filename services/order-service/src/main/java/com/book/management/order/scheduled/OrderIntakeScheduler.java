@@ -0,0 +1,41 @@
+package com.book.management.order.scheduled;
+
+import com.book.management.order.service.intake.OrderIntakeWorker;
+import com.book.management.order.service.intake.OrderStatusNotifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled runs of the order intake workers.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIntakeScheduler {
+
+    private final OrderIntakeWorker intakeWorker;
+    private final OrderStatusNotifier statusNotifier;
+
+    /**
+     * Places queued orders in batches, then notifies status subscribers.
+     */
+    @Scheduled(fixedDelayString = "${order.intake.poll-interval-millis:500}")
+    public void drain() {
+        try {
+            intakeWorker.drainQueue();
+        } catch (Exception e) {
+            log.error("Error during order intake: {}", e.getMessage(), e);
+        }
+        try {
+            statusNotifier.publishSettled();
+        } catch (Exception e) {
+            log.error("Error notifying order status subscribers: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.book.management.order.scheduled;
+
+import com.book.management.order.service.saga.SagaCompensationWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled runs of the saga compensation worker.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaCompensationScheduler {
+
+    private final SagaCompensationWorker compensationWorker;
+
+    /**
+     * Restocks due sagas in batches.
+     */
+    @Scheduled(fixedDelayString = "${order.saga.compensation-interval-millis:5000}")
+    public void compensate() {
+        try {
+            compensationWorker.compensatePending();
+        } catch (Exception e) {
+            log.error("Error during saga compensation: {}", e.getMessage(), e);
+        }
+    }
+}
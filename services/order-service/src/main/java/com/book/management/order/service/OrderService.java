@@ -1,11 +1,19 @@
 package com.book.management.order.service;
 
+import com.book.management.order.dto.requestdto.BulkSoftDeleteRequestDTO;
+import com.book.management.order.dto.requestdto.BulkStatusUpdateRequestDTO;
+import com.book.management.order.dto.requestdto.OrderListingRequestDTO;
 import com.book.management.order.dto.requestdto.PlaceOrderRequestDTO;
 import com.book.management.order.dto.requestdto.UpdateOrderStatusRequestDTO;
+import com.book.management.order.dto.responsedto.BulkStatusUpdateResponseDTO;
+import com.book.management.order.dto.responsedto.OrderPageResponseDTO;
 import com.book.management.order.dto.responsedto.OrderResponseDTO;
+import com.book.management.order.dto.responsedto.OrderSoftDeleteResultDTO;
 import com.book.management.order.enums.OrderEnum;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface defining order management capabilities.
@@ -16,6 +24,14 @@ public interface OrderService {
 
     OrderResponseDTO placeOrder(PlaceOrderRequestDTO request);
 
+    OrderResponseDTO placeOrder(PlaceOrderRequestDTO request, String idempotencyKey);
+
+    OrderResponseDTO acceptOrder(PlaceOrderRequestDTO request);
+
+    OrderResponseDTO acceptOrder(PlaceOrderRequestDTO request, String idempotencyKey);
+
+    SseEmitter subscribeOrderStatus(long orderId);
+
     List<OrderResponseDTO> getOrderAll();
 
     Optional<OrderResponseDTO> getOrderById(long orderId);
@@ -24,11 +40,19 @@ public interface OrderService {
 
     List<OrderResponseDTO> getOrdersByStatus(OrderEnum status);
 
+    OrderPageResponseDTO getOrderPage(OrderListingRequestDTO filter, String cursor, Integer size);
+
+    void exportOrders(OrderListingRequestDTO filter, Consumer<OrderResponseDTO> consumer);
+
     OrderResponseDTO updateOrderStatus(long orderId, UpdateOrderStatusRequestDTO request);
 
+    BulkStatusUpdateResponseDTO updateOrderStatuses(BulkStatusUpdateRequestDTO request);
+
     OrderResponseDTO cancelOrder(long orderId);
 
     void softDeleteOrder(long orderId);
 
-    void softDeleteUserOrder(long userId);
+    OrderSoftDeleteResultDTO softDeleteUserOrder(long userId);
+
+    OrderSoftDeleteResultDTO softDeleteOrders(BulkSoftDeleteRequestDTO request);
 }
\ No newline at end of file
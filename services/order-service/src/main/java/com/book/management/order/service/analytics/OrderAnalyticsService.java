@@ -0,0 +1,481 @@
+package com.book.management.order.service.analytics;
+
+import com.book.management.order.config.OrderAnalyticsProperties;
+import com.book.management.order.dto.responsedto.AnalyticsRebuildResponseDTO;
+import com.book.management.order.dto.responsedto.DailyBookUnitsDTO;
+import com.book.management.order.dto.responsedto.DailyRevenueDTO;
+import com.book.management.order.dto.responsedto.OrderAnalyticsResponseDTO;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.exception.AnalyticsRebuildConflictException;
+import com.book.management.order.exception.AnalyticsRebuildInProgressException;
+import com.book.management.order.exception.InvalidOrderQueryException;
+import com.book.management.order.model.AnalyticsFoldLock;
+import com.book.management.order.model.DailyBookUnitsRollup;
+import com.book.management.order.model.DailyRevenueRollup;
+import com.book.management.order.model.DailyStatusRollup;
+import com.book.management.order.model.Order;
+import com.book.management.order.model.OrderAnalyticsDelta;
+import com.book.management.order.repository.AnalyticsFoldLockRepository;
+import com.book.management.order.repository.DailyBookUnitsRollupRepository;
+import com.book.management.order.repository.DailyBookUnitsTotals;
+import com.book.management.order.repository.DailyOrderTotals;
+import com.book.management.order.repository.DailyRevenueRollupRepository;
+import com.book.management.order.repository.DailyStatusRollupRepository;
+import com.book.management.order.repository.OrderAnalyticsDeltaRepository;
+import com.book.management.order.repository.OrderRepository;
+import com.book.management.order.repository.OrderStatusView;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains and serves the order analytics rollups: revenue and placed
+ * orders per day, orders per day and status, and units per book per day.
+ *
+ * The transaction that creates an order or changes its status only
+ * inserts {@link OrderAnalyticsDelta} rows, so order writes never contend
+ * on a day's rollup row. {@link #foldDeltas()} applies them in batches,
+ * with one upsert per affected row and batch, so reports lag order writes
+ * by up to one fold interval but never scan {@code orders}. Folded deltas
+ * are kept for {@code folded-retention-millis}. Soft-deleting an order
+ * leaves the rollups unchanged; they record what was ordered.
+ *
+ * {@link #rebuild()} recomputes them from {@code orders},
+ * {@code order_items} and their archive tables up to a watermark: the
+ * highest order ID and a time shortly before it started. Deltas of later
+ * orders are folded again on top of the rebuilt rollups. A rebuild whose
+ * scanned orders recorded a change after the watermark is refused, since
+ * the scan may or may not have seen that change.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderAnalyticsService {
+
+    /** Statuses whose orders count towards revenue and units sold. */
+    static final Set<OrderEnum> PLACED_STATUSES = EnumSet.of(OrderEnum.PENDING, OrderEnum.SHIPPED, OrderEnum.DELIVERED);
+
+    private static final List<String> PLACED_STATUS_NAMES = PLACED_STATUSES.stream().map(Enum::name).toList();
+
+    private final OrderRepository orderRepository;
+    private final DailyRevenueRollupRepository revenueRollupRepository;
+    private final DailyStatusRollupRepository statusRollupRepository;
+    private final DailyBookUnitsRollupRepository bookUnitsRollupRepository;
+    private final OrderAnalyticsDeltaRepository deltaRepository;
+    private final AnalyticsFoldLockRepository foldLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final OrderAnalyticsProperties properties;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile boolean foldLockCreated;
+
+    /**
+     * Records an order that was just created or whose status just changed.
+     * Must run in the transaction that saved the order.
+     *
+     * @param order          the saved order, in its new status
+     * @param previousStatus status before the change, or null for a new order
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Order order, OrderEnum previousStatus) {
+        LocalDate date = order.getOrderDateTime().toLocalDate();
+        OrderEnum status = order.getOrderStatus();
+        if (previousStatus == status) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderAnalyticsDelta> deltas = new ArrayList<>();
+        if (previousStatus != null) {
+            deltas.add(statusDelta(order.getOrderId(), date, previousStatus, -1, now));
+        }
+        deltas.add(statusDelta(order.getOrderId(), date, status, 1, now));
+
+        int sign = placedSign(previousStatus, status);
+        if (sign != 0) {
+            deltas.add(OrderAnalyticsDelta.builder()
+                    .orderId(order.getOrderId())
+                    .kind(OrderAnalyticsDelta.Kind.REVENUE)
+                    .rollupDate(date)
+                    .revenue(sign * order.getOrderTotalAmount())
+                    .amount(sign)
+                    .recordedAt(now)
+                    .build());
+            order.getItems().forEach((bookId, quantity) -> deltas.add(OrderAnalyticsDelta.builder()
+                    .orderId(order.getOrderId())
+                    .kind(OrderAnalyticsDelta.Kind.BOOK_UNITS)
+                    .rollupDate(date)
+                    .bookId(bookId)
+                    .amount((long) sign * quantity)
+                    .recordedAt(now)
+                    .build()));
+        }
+        deltaRepository.saveAll(deltas);
+    }
+
+    /**
+     * Records orders moved together from their previous statuses to one
+     * status. Must run in the transaction that moved them.
+     *
+     * @param previous the orders as they were before the change
+     * @param status   their new status
+     * @throws IllegalArgumentException if a change adds or removes revenue,
+     *                                  which needs the order's total and items
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(Collection<OrderStatusView> previous, OrderEnum status) {
+        for (OrderStatusView view : previous) {
+            if (placedSign(view.orderStatus(), status) != 0) {
+                throw new IllegalArgumentException("Order " + view.orderId() + " moving from "
+                        + view.orderStatus() + " to " + status + " must be recorded with its items");
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderAnalyticsDelta> deltas = new ArrayList<>();
+        for (OrderStatusView view : previous) {
+            if (view.orderStatus() != status) {
+                LocalDate date = view.orderDateTime().toLocalDate();
+                deltas.add(statusDelta(view.orderId(), date, view.orderStatus(), -1, now));
+                deltas.add(statusDelta(view.orderId(), date, status, 1, now));
+            }
+        }
+        deltaRepository.saveAll(deltas);
+    }
+
+    /**
+     * Applies recorded deltas to the rollups, oldest first, in transactions
+     * of {@code fold-batch-size} deltas. Each transaction sums its deltas
+     * per rollup row, upserts each row once and marks the deltas folded.
+     * Then deletes folded deltas past their retention.
+     *
+     * @return number of deltas applied
+     */
+    public int foldDeltas() {
+        ensureFoldLock();
+        int batchSize = properties.getFoldBatchSize();
+        int folded = 0;
+        for (int batch = 0; batch < properties.getFoldMaxBatchesPerRun(); batch++) {
+            int applied = transactionTemplate.execute(status -> foldBatch(batchSize));
+            folded += applied;
+            if (applied < batchSize) {
+                break;
+            }
+        }
+        LocalDateTime purgeBefore = LocalDateTime.now().minus(Duration.ofMillis(properties.getFoldedRetentionMillis()));
+        int purged = transactionTemplate.execute(status -> deltaRepository.deleteFoldedBefore(purgeBefore));
+        if (folded > 0 || purged > 0) {
+            log.debug("Folded {} and purged {} order analytics deltas", folded, purged);
+        }
+        return folded;
+    }
+
+    /**
+     * Applies one batch of deltas and marks them folded.
+     *
+     * @return number of deltas applied
+     */
+    private int foldBatch(int batchSize) {
+        lockFolding();
+        List<OrderAnalyticsDelta> deltas = deltaRepository.findOldestUnfolded(PageRequest.of(0, batchSize));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        RollupTotals totals = new RollupTotals();
+        for (OrderAnalyticsDelta delta : deltas) {
+            switch (delta.getKind()) {
+                case REVENUE -> totals.addRevenue(delta.getRollupDate(), delta.getRevenue(), delta.getAmount());
+                case STATUS -> totals.addStatus(delta.getRollupDate(), delta.getOrderStatus(), delta.getAmount());
+                case BOOK_UNITS -> totals.addUnits(delta.getRollupDate(), delta.getBookId(), delta.getAmount());
+            }
+        }
+        for (DailyRevenueRollup row : totals.revenue.values()) {
+            if (row.getRevenue() != 0 || row.getOrderCount() != 0) {
+                revenueRollupRepository.add(row.getRollupDate(), row.getRevenue(), row.getOrderCount());
+            }
+        }
+        for (DailyStatusRollup row : totals.statuses.values()) {
+            if (row.getOrderCount() != 0) {
+                statusRollupRepository.add(row.getRollupDate(), row.getOrderStatus().name(), row.getOrderCount());
+            }
+        }
+        for (DailyBookUnitsRollup row : totals.units.values()) {
+            if (row.getUnits() != 0) {
+                bookUnitsRollupRepository.add(row.getRollupDate(), row.getBookId(), row.getUnits());
+            }
+        }
+        deltaRepository.markFolded(deltas.stream().map(OrderAnalyticsDelta::getDeltaId).toList());
+        return deltas.size();
+    }
+
+    /**
+     * Returns the analytics of an inclusive range of order dates, read from the rollups only.
+     *
+     * @throws InvalidOrderQueryException if the range is missing, reversed or too long
+     */
+    @Transactional(readOnly = true)
+    public OrderAnalyticsResponseDTO getAnalytics(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new InvalidOrderQueryException("'from' and 'to' are required and 'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.getMaxRangeDays()) {
+            throw new InvalidOrderQueryException("Date range must not exceed " + properties.getMaxRangeDays() + " days");
+        }
+
+        List<DailyRevenueDTO> revenue = revenueRollupRepository.findByRollupDateBetweenOrderByRollupDate(from, to).stream()
+                .filter(day -> day.getOrderCount() != 0)
+                .map(day -> new DailyRevenueDTO(day.getRollupDate(), day.getRevenue(), day.getOrderCount()))
+                .toList();
+
+        Map<OrderEnum, Long> byStatus = new EnumMap<>(OrderEnum.class);
+        for (DailyStatusRollup row : statusRollupRepository.findByRollupDateBetween(from, to)) {
+            byStatus.merge(row.getOrderStatus(), row.getOrderCount(), Long::sum);
+        }
+        byStatus.values().removeIf(count -> count == 0);
+
+        List<DailyBookUnitsDTO> units = bookUnitsRollupRepository
+                .findByRollupDateBetweenOrderByRollupDateAscBookIdAsc(from, to).stream()
+                .filter(row -> row.getUnits() != 0)
+                .map(row -> new DailyBookUnitsDTO(row.getRollupDate(), row.getBookId(), row.getUnits()))
+                .toList();
+
+        return OrderAnalyticsResponseDTO.builder()
+                .from(from)
+                .to(to)
+                .revenueByDate(revenue)
+                .ordersByStatus(byStatus)
+                .unitsByBookAndDate(units)
+                .build();
+    }
+
+    /**
+     * Recomputes every rollup from the hot and archived orders and items.
+     * Order ID ranges up to the watermark are summed concurrently, each
+     * reading its range from the primary key; the merged totals then
+     * replace the rollups in one transaction, which also deletes the
+     * deltas the scan covered and queues the rest to be folded again.
+     *
+     * @throws AnalyticsRebuildInProgressException if a rebuild is already running
+     * @throws AnalyticsRebuildConflictException   if orders up to the watermark
+     *                                             changed after it
+     */
+    public AnalyticsRebuildResponseDTO rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new AnalyticsRebuildInProgressException("An analytics rebuild is already running");
+        }
+        try {
+            long started = System.nanoTime();
+            // taken before reading the max order ID: a change the scan may miss to an order up to it is recorded after this
+            LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(properties.getRebuildWriteGraceMillis()));
+            long maxOrderId = orderRepository.findMaxOrderId();
+            checkNoChangesSince(since, maxOrderId);
+            int chunkSize = properties.getRebuildChunkSize();
+            log.info("Rebuilding order analytics. maxOrderId: {}, chunkSize: {}", maxOrderId, chunkSize);
+
+            RollupTotals totals = new RollupTotals();
+            int chunks = 0;
+            try (ExecutorService executor = Executors.newFixedThreadPool(properties.getRebuildParallelism(),
+                    Thread.ofPlatform().name("order-analytics-rebuild-", 0).factory())) {
+                List<Future<RollupTotals>> futures = new ArrayList<>();
+                for (long afterId = 0; afterId < maxOrderId; afterId += chunkSize) {
+                    long chunkAfterId = afterId;
+                    long chunkToId = Math.min(afterId + chunkSize, maxOrderId);
+                    futures.add(executor.submit(() -> scanChunk(chunkAfterId, chunkToId)));
+                }
+                for (Future<RollupTotals> future : futures) {
+                    totals.merge(await(future));
+                    chunks++;
+                }
+            }
+
+            ensureFoldLock();
+            long rowsWritten = transactionTemplate.execute(status -> replaceRollups(totals, since, maxOrderId));
+            long durationMillis = (System.nanoTime() - started) / 1_000_000;
+            log.info("Order analytics rebuilt. chunks: {}, rowsWritten: {}, durationMillis: {}",
+                    chunks, rowsWritten, durationMillis);
+            return AnalyticsRebuildResponseDTO.builder()
+                    .chunks(chunks)
+                    .rowsWritten(rowsWritten)
+                    .durationMillis(durationMillis)
+                    .build();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Sums one order ID range into rollup totals.
+     */
+    private RollupTotals scanChunk(long afterId, long toId) {
+        RollupTotals totals = new RollupTotals();
+        for (DailyOrderTotals row : orderRepository.sumByDateAndStatus(afterId, toId)) {
+            totals.addStatus(row.getRollupDate(), row.getOrderStatus(), row.getOrderCount());
+            if (PLACED_STATUSES.contains(row.getOrderStatus())) {
+                totals.addRevenue(row.getRollupDate(), row.getRevenue(), row.getOrderCount());
+            }
+        }
+        for (DailyBookUnitsTotals row : orderRepository.sumUnitsByDateAndBook(afterId, toId, PLACED_STATUS_NAMES)) {
+            totals.addUnits(row.getRollupDate(), row.getBookId(), row.getUnits());
+        }
+        return totals;
+    }
+
+    /**
+     * Deletes the rollups and the deltas the scan covered, inserts the
+     * totals, flushing in batches so the persistence context stays small,
+     * and marks the remaining deltas, all of orders after the watermark,
+     * unfolded. Holds the fold lock, so no fold runs in between.
+     */
+    private long replaceRollups(RollupTotals totals, LocalDateTime since, long maxOrderId) {
+        lockFolding();
+        checkNoChangesSince(since, maxOrderId);
+        deltaRepository.deleteRecordedBefore(since, maxOrderId);
+        deltaRepository.markAllUnfolded();
+        revenueRollupRepository.deleteAllInBatch();
+        statusRollupRepository.deleteAllInBatch();
+        bookUnitsRollupRepository.deleteAllInBatch();
+
+        List<Object> rows = new ArrayList<>(totals.revenue.values());
+        rows.addAll(totals.statuses.values());
+        rows.addAll(totals.units.values());
+        int batchSize = properties.getRebuildWriteBatchSize();
+        for (int i = 0; i < rows.size(); i++) {
+            // persist rather than save: save would first select each row by its assigned ID
+            entityManager.persist(rows.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return rows.size();
+    }
+
+    /**
+     * Refuses the rebuild if an order up to the watermark recorded a change
+     * at or after it.
+     */
+    private void checkNoChangesSince(LocalDateTime since, long maxOrderId) {
+        if (deltaRepository.existsByRecordedAtGreaterThanEqualAndOrderIdLessThanEqual(since, maxOrderId)) {
+            throw new AnalyticsRebuildConflictException("Orders up to " + maxOrderId + " changed after " + since
+                    + "; rebuild while order writes are paused");
+        }
+    }
+
+    /**
+     * Creates the fold lock row on first use; another instance may create it concurrently.
+     */
+    private void ensureFoldLock() {
+        if (foldLockCreated) {
+            return;
+        }
+        if (!foldLockRepository.existsById(AnalyticsFoldLock.SINGLETON_ID)) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        foldLockRepository.saveAndFlush(new AnalyticsFoldLock(AnalyticsFoldLock.SINGLETON_ID)));
+            } catch (DataIntegrityViolationException ex) {
+                log.debug("Analytics fold lock created concurrently");
+            }
+        }
+        foldLockCreated = true;
+    }
+
+    private void lockFolding() {
+        foldLockRepository.findForUpdate(AnalyticsFoldLock.SINGLETON_ID)
+                .orElseThrow(() -> new IllegalStateException("Analytics fold lock row is missing"));
+    }
+
+    private static OrderAnalyticsDelta statusDelta(Long orderId, LocalDate date, OrderEnum status,
+                                                   long count, LocalDateTime now) {
+        return OrderAnalyticsDelta.builder()
+                .orderId(orderId)
+                .kind(OrderAnalyticsDelta.Kind.STATUS)
+                .rollupDate(date)
+                .orderStatus(status)
+                .amount(count)
+                .recordedAt(now)
+                .build();
+    }
+
+    private static RollupTotals await(Future<RollupTotals> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding order analytics", ex);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * +1 when a change makes an order count towards revenue, -1 when it
+     * stops counting, 0 otherwise.
+     */
+    private static int placedSign(OrderEnum from, OrderEnum to) {
+        boolean wasPlaced = from != null && PLACED_STATUSES.contains(from);
+        boolean isPlaced = PLACED_STATUSES.contains(to);
+        return wasPlaced == isPlaced ? 0 : (isPlaced ? 1 : -1);
+    }
+
+    /**
+     * Rollup rows accumulated in memory during a rebuild or a fold.
+     */
+    private static final class RollupTotals {
+
+        private final Map<LocalDate, DailyRevenueRollup> revenue = new HashMap<>();
+        private final Map<DailyStatusRollup.Key, DailyStatusRollup> statuses = new HashMap<>();
+        private final Map<DailyBookUnitsRollup.Key, DailyBookUnitsRollup> units = new HashMap<>();
+
+        void addRevenue(LocalDate date, double amount, long orderCount) {
+            DailyRevenueRollup row = revenue.computeIfAbsent(date, key -> new DailyRevenueRollup(key, 0.0, 0));
+            row.setRevenue(row.getRevenue() + amount);
+            row.setOrderCount(row.getOrderCount() + orderCount);
+        }
+
+        void addStatus(LocalDate date, OrderEnum status, long orderCount) {
+            DailyStatusRollup row = statuses.computeIfAbsent(new DailyStatusRollup.Key(date, status),
+                    key -> new DailyStatusRollup(date, status, 0));
+            row.setOrderCount(row.getOrderCount() + orderCount);
+        }
+
+        void addUnits(LocalDate date, Long bookId, long count) {
+            DailyBookUnitsRollup row = units.computeIfAbsent(new DailyBookUnitsRollup.Key(date, bookId),
+                    key -> new DailyBookUnitsRollup(date, bookId, 0));
+            row.setUnits(row.getUnits() + count);
+        }
+
+        void merge(RollupTotals other) {
+            other.revenue.values().forEach(row -> addRevenue(row.getRollupDate(), row.getRevenue(), row.getOrderCount()));
+            other.statuses.values().forEach(row -> addStatus(row.getRollupDate(), row.getOrderStatus(), row.getOrderCount()));
+            other.units.values().forEach(row -> addUnits(row.getRollupDate(), row.getBookId(), row.getUnits()));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.book.management.order.service.archive;
+
+import com.book.management.order.config.OrderArchiveProperties;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.repository.OrderArchiveRepository;
+import com.book.management.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves aged final-state orders out of {@code orders} and
+ * {@code order_items} into their archive tables, so the hot tables and
+ * their indexes only grow with the orders still in progress.
+ *
+ * Orders are moved in chunks, oldest first. Each chunk locks its orders,
+ * copies them and their items with {@code INSERT ... SELECT} and deletes
+ * them from the hot tables in one transaction, so an order is always in
+ * exactly one of the two. Runs pause between chunks and stop after a
+ * configured number of chunks, bounding the load one run puts on the
+ * database.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    /** Statuses no order leaves once it has reached them. */
+    static final Set<OrderEnum> ARCHIVABLE_STATUSES = EnumSet.of(OrderEnum.DELIVERED, OrderEnum.CANCELLED, OrderEnum.REJECTED);
+
+    private static final List<String> ARCHIVABLE_STATUS_NAMES = ARCHIVABLE_STATUSES.stream().map(Enum::name).toList();
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchiveProperties properties;
+
+    /**
+     * Archives final-state orders placed more than the retention period ago.
+     *
+     * @return number of orders archived
+     */
+    public int archiveAged() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getRetentionDays());
+        int chunkSize = properties.getChunkSize();
+        int archived = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            if (chunk > 0 && !pause()) {
+                break;
+            }
+            int moved = transactionTemplate.execute(status -> archiveChunk(cutoff, chunkSize));
+            archived += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} orders placed before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    /**
+     * Moves one chunk of orders into the archive.
+     *
+     * @return number of orders moved
+     */
+    private int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> orderIds = orderRepository.findArchivableIds(ARCHIVABLE_STATUS_NAMES, cutoff, chunkSize);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        int copied = orderArchiveRepository.copyOrders(orderIds, LocalDateTime.now());
+        orderArchiveRepository.copyItems(orderIds);
+        orderArchiveRepository.deleteHotItems(orderIds);
+        int deleted = orderArchiveRepository.deleteHotOrders(orderIds);
+        if (copied != orderIds.size() || deleted != orderIds.size()) {
+            // The rows are locked, so this only happens if the lock did not hold
+            throw new IllegalStateException("Archived " + copied + " and deleted " + deleted
+                    + " of " + orderIds.size() + " locked orders");
+        }
+        return orderIds.size();
+    }
+
+    /**
+     * Sleeps between chunks.
+     *
+     * @return false if the thread was interrupted and the run should stop
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
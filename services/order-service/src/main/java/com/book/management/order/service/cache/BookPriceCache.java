@@ -0,0 +1,166 @@
+package com.book.management.order.service.cache;
+
+import com.book.management.order.config.PriceCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of book unit prices by book ID.
+ *
+ * Each entry is stamped with the Book Service catalogue version known when
+ * it was loaded. The version is polled in the background, so an order whose
+ * books are all cached needs no call to Book Service at all. An entry is
+ * served only while its stamp matches the latest known version and it is
+ * younger than the configured maximum age; the age bound caps staleness if
+ * version checks stop succeeding. Until the first version check succeeds
+ * nothing is cached. When the cache is full the least recently used entry
+ * is evicted, so frequently ordered books stay cached.
+ *
+ * <p>Metrics: {@code order.price.cache.requests} tagged
+ * {@code result=hit|miss} per book, {@code order.price.cache.hit.ratio},
+ * {@code order.price.cache.invalidations} and {@code order.price.cache.size}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+public class BookPriceCache {
+
+    /** Catalogue version before the first successful check. */
+    static final long UNKNOWN_VERSION = -1L;
+
+    private final PriceCacheProperties properties;
+    /** Access-ordered, so the eldest entry is the least recently used; guarded by itself. */
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > properties.getMaxEntries();
+        }
+    };
+    private volatile long catalogueVersion = UNKNOWN_VERSION;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    private record Entry(double price, long version, long loadedAtNanos) {
+    }
+
+    public BookPriceCache(PriceCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = Counter.builder("order.price.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("order.price.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.invalidations = Counter.builder("order.price.cache.invalidations").register(meterRegistry);
+        Gauge.builder("order.price.cache.hit.ratio", this, BookPriceCache::hitRatio).register(meterRegistry);
+        Gauge.builder("order.price.cache.size", this, BookPriceCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the prices of the given books, loading every book without a
+     * valid entry in a single call. Exceptions thrown by the loader are
+     * propagated and nothing is cached.
+     *
+     * @param bookIds the book IDs
+     * @param loader  loads the prices of the books it is given from Book Service
+     * @return map of book ID to unit price; books the loader did not price are absent
+     */
+    public Map<Long, Double> getPrices(Collection<Long> bookIds, Function<List<Long>, Map<Long, Double>> loader) {
+        long version = catalogueVersion;
+        if (!properties.isEnabled() || version == UNKNOWN_VERSION) {
+            misses.increment(bookIds.size());
+            return loader.apply(new ArrayList<>(bookIds));
+        }
+
+        long now = System.nanoTime();
+        Map<Long, Double> prices = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        synchronized (entries) {
+            for (Long bookId : bookIds) {
+                Entry entry = entries.get(bookId);
+                if (entry != null && isValid(entry, version, now)) {
+                    prices.put(bookId, entry.price());
+                } else {
+                    missing.add(bookId);
+                }
+            }
+        }
+        hits.increment(prices.size());
+        misses.increment(missing.size());
+        if (missing.isEmpty()) {
+            return prices;
+        }
+
+        Map<Long, Double> loaded = loader.apply(missing);
+        if (loaded != null) {
+            prices.putAll(loaded);
+            // Stamp with the version read before the load: if the catalogue
+            // changed meanwhile, these entries are already invalid.
+            synchronized (entries) {
+                loaded.forEach((bookId, price) -> {
+                    if (price != null) {
+                        entries.put(bookId, new Entry(price, version, now));
+                    }
+                });
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Records the latest catalogue version. A changed version drops every
+     * cached price.
+     *
+     * @param version the version reported by Book Service
+     */
+    public void onCatalogueVersion(long version) {
+        long previous = catalogueVersion;
+        if (version == previous) {
+            return;
+        }
+        catalogueVersion = version;
+        if (previous != UNKNOWN_VERSION) {
+            log.info("Catalogue version changed from {} to {}, dropping {} cached prices",
+                    previous, version, size());
+            invalidations.increment();
+        }
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return number of cached prices
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return fraction of book price lookups served from the cache
+     */
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private boolean isValid(Entry entry, long version, long now) {
+        return entry.version() == version
+                && now - entry.loadedAtNanos() < TimeUnit.MILLISECONDS.toNanos(properties.getMaxAgeMillis());
+    }
+}
@@ -0,0 +1,245 @@
+package com.book.management.order.service.idempotency;
+
+import com.book.management.order.config.IdempotencyProperties;
+import com.book.management.order.dto.requestdto.PlaceOrderRequestDTO;
+import com.book.management.order.dto.responsedto.OrderResponseDTO;
+import com.book.management.order.exception.IdempotencyKeyConflictException;
+import com.book.management.order.exception.OrderNotPlacedException;
+import com.book.management.order.model.OrderIdempotencyKey;
+import com.book.management.order.repository.OrderIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs an order placement at most once per client-supplied Idempotency-Key.
+ *
+ * Keys live in the order_idempotency_keys table, whose primary key lets only
+ * one request claim a key across all instances. In front of it sit an LRU
+ * cache of completed keys, which answers replays without a query, and a map
+ * of placements running on this instance, which concurrent duplicates wait
+ * on instead of polling the table. Duplicates arriving at another instance
+ * poll the table until the claim is resolved.
+ *
+ * A replay returns the order as it is now. Reusing a key with a different
+ * request is rejected. A claim whose placement failed is released so the
+ * key can be retried; one whose outcome could not be recorded stays held
+ * until the retention period ends.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+public class OrderIdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderIdempotencyKeyRepository keyRepository;
+    private final IdempotencyProperties properties;
+
+    private final Map<String, CompletableFuture<Completed>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Completed> completed;
+
+    public OrderIdempotencyService(OrderIdempotencyKeyRepository keyRepository, IdempotencyProperties properties) {
+        this.keyRepository = keyRepository;
+        this.properties = properties;
+        int cacheSize = properties.getCacheSize();
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Completed> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Places an order once per key.
+     *
+     * @param key       the client's Idempotency-Key
+     * @param request   the placement request
+     * @param placement places the order
+     * @param replay    loads the order an earlier request created
+     * @return the order placed under the key
+     * @throws IdempotencyKeyConflictException if the key was used for a different
+     *                                         request, or is still held after the wait timeout
+     */
+    public OrderResponseDTO placeOnce(String key, PlaceOrderRequestDTO request,
+                                      Supplier<OrderResponseDTO> placement,
+                                      LongFunction<OrderResponseDTO> replay) {
+        validate(key);
+        String requestHash = fingerprint(request);
+
+        Completed done = completed.get(key);
+        if (done != null) {
+            return replay(key, done, requestHash, replay);
+        }
+
+        CompletableFuture<Completed> mine = new CompletableFuture<>();
+        CompletableFuture<Completed> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.info("Waiting on in-flight placement for Idempotency-Key: {}", key);
+            return replay(key, awaitLocal(key, running), requestHash, replay);
+        }
+
+        try {
+            Optional<Completed> earlier = claimOrWait(key, requestHash);
+            if (earlier.isPresent()) {
+                completed.put(key, earlier.get());
+                mine.complete(earlier.get());
+                return replay(key, earlier.get(), requestHash, replay);
+            }
+
+            OrderResponseDTO placed;
+            try {
+                placed = placement.get();
+            } catch (RuntimeException ex) {
+                keyRepository.release(key);
+                throw ex;
+            }
+            Completed result = new Completed(requestHash, placed.getOrderId());
+            try {
+                keyRepository.assignOrder(key, placed.getOrderId());
+            } catch (RuntimeException ex) {
+                // The order exists; duplicates elsewhere get a conflict rather than a second order
+                log.error("Could not record orderId: {} for Idempotency-Key: {}: {}",
+                        placed.getOrderId(), key, ex.getMessage());
+            }
+            completed.put(key, result);
+            mine.complete(result);
+            return placed;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Purges keys older than the retention period.
+     *
+     * @return number of keys deleted
+     */
+    public int purgeExpired() {
+        int deleted = keyRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(properties.getRetentionHours()));
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * Claims the key, or waits for the request holding it on another instance.
+     *
+     * @return empty if this request now holds the key, otherwise the earlier outcome
+     */
+    private Optional<Completed> claimOrWait(String key, String requestHash) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWaitTimeoutMillis());
+        while (true) {
+            try {
+                keyRepository.claim(key, requestHash, LocalDateTime.now());
+                return Optional.empty();
+            } catch (DataIntegrityViolationException ex) {
+                // Held by another request; fall through to inspect it
+            }
+
+            Optional<OrderIdempotencyKey> held = keyRepository.findById(key);
+            if (held.isEmpty()) {
+                continue; // released meanwhile, claim again
+            }
+            if (!held.get().getRequestHash().equals(requestHash)) {
+                throw mismatch(key);
+            }
+            if (held.get().getOrderId() != null) {
+                return Optional.of(new Completed(requestHash, held.get().getOrderId()));
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IdempotencyKeyConflictException(
+                        "A request with Idempotency-Key '" + key + "' is still being processed");
+            }
+            sleep(properties.getPollIntervalMillis());
+        }
+    }
+
+    private Completed awaitLocal(String key, CompletableFuture<Completed> running) {
+        try {
+            return running.orTimeout(properties.getWaitTimeoutMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof TimeoutException) {
+                throw new IdempotencyKeyConflictException(
+                        "A request with Idempotency-Key '" + key + "' is still being processed");
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static OrderResponseDTO replay(String key, Completed done, String requestHash,
+                                           LongFunction<OrderResponseDTO> replay) {
+        if (!done.requestHash().equals(requestHash)) {
+            throw mismatch(key);
+        }
+        log.info("Replaying orderId: {} for Idempotency-Key: {}", done.orderId(), key);
+        return replay.apply(done.orderId());
+    }
+
+    private static IdempotencyKeyConflictException mismatch(String key) {
+        return new IdempotencyKeyConflictException(
+                "Idempotency-Key '" + key + "' was already used for a different order request");
+    }
+
+    private static void validate(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new OrderNotPlacedException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * Hashes the user and the book quantities in book ID order, so the same
+     * order always has the same fingerprint.
+     */
+    static String fingerprint(PlaceOrderRequestDTO request) {
+        String canonical = request.getUserId() + "|" + new TreeMap<>(request.getBookOrder());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting on Idempotency-Key", ex);
+        }
+    }
+
+    private record Completed(String requestHash, long orderId) {
+    }
+}
@@ -3,27 +3,60 @@ package com.book.management.order.service.impl;
 
 import com.book.management.order.client.BookServiceClient;
 import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.dto.requestdto.CheckInventoryAvailabilityRequestDTO;
+import com.book.management.order.config.BulkStatusUpdateProperties;
+import com.book.management.order.config.OrderListingProperties;
+import com.book.management.order.dto.requestdto.BulkSoftDeleteRequestDTO;
+import com.book.management.order.dto.requestdto.BulkStatusUpdateRequestDTO;
 import com.book.management.order.dto.requestdto.GetBookPriceRequestDTO;
+import com.book.management.order.dto.requestdto.OrderListingRequestDTO;
 import com.book.management.order.dto.requestdto.PlaceOrderRequestDTO;
 import com.book.management.order.dto.requestdto.ReduceInventoryStockRequestDTO;
 import com.book.management.order.dto.requestdto.UpdateOrderStatusRequestDTO;
-import com.book.management.order.dto.responsedto.GetBookPriceResponseDTO;
+import com.book.management.order.dto.responsedto.BulkStatusUpdateResponseDTO;
+import com.book.management.order.dto.responsedto.CheckInventoryAvailabilityResponseDTO;
+import com.book.management.order.dto.responsedto.OrderPageResponseDTO;
 import com.book.management.order.dto.responsedto.OrderResponseDTO;
+import com.book.management.order.dto.responsedto.OrderSoftDeleteResultDTO;
+import com.book.management.order.dto.responsedto.OrderStatusOutcomeDTO;
 import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.enums.StatusUpdateOutcome;
 import com.book.management.order.exception.*;
+import com.book.management.order.model.ArchivedOrder;
 import com.book.management.order.model.Order;
+import com.book.management.order.repository.OrderArchiveRepository;
 import com.book.management.order.repository.OrderRepository;
+import com.book.management.order.repository.OrderStatusView;
 import com.book.management.order.service.OrderService;
+import com.book.management.order.service.analytics.OrderAnalyticsService;
+import com.book.management.order.service.cache.BookPriceCache;
+import com.book.management.order.service.idempotency.OrderIdempotencyService;
+import com.book.management.order.service.intake.OrderIntakeService;
+import com.book.management.order.service.intake.OrderStatusNotifier;
+import com.book.management.order.service.listing.OrderCursor;
+import com.book.management.order.service.saga.OrderSagaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 /**
  * Implementation of OrderService.
@@ -41,29 +74,82 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final BookServiceClient bookServiceClient;
     private final InventoryServiceClient inventoryServiceClient;
+    private final ExecutorService orderPlacementExecutor;
+    private final OrderSagaService orderSagaService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderStatusNotifier orderStatusNotifier;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final BookPriceCache bookPriceCache;
+    private final OrderListingProperties listingProperties;
+    private final BulkStatusUpdateProperties bulkStatusUpdateProperties;
+    private final OrderAnalyticsService orderAnalyticsService;
+    private final OrderArchiveRepository orderArchiveRepository;
 
     private static final String NOT_FOUND_MSG = "Order not found with ID: ";
 
+    /** Date bounds used when a listing is not bounded by the client. */
+    private static final LocalDateTime MIN_ORDER_DATE_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_ORDER_DATE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     /**
      * Orchestrates order placement.
      * Exception handling is driven by the FeignErrorDecoder for inter-service errors.
+     * Prices come from the local price cache, which only calls Book Service
+     * for books it does not hold a current price for.
+     * The price lookup and the stock pre-check run concurrently on virtual
+     * threads; stock is reduced only after both succeed. No transaction spans
+     * the downstream calls, so a database connection is only taken for the
+     * final insert.
+     * Each step is recorded in an order saga. If the order cannot be saved
+     * after stock was reduced, or the reduction call fails without inventory
+     * refusing it, the saga is queued and the compensation worker restocks
+     * whatever inventory reduced under it.
      * @param request The order placement request details.
      * @return OrderResponseDTO for the created order.
      * @throws OrderNotPlacedException only when error occurs in downstream
      * services.
      */
     @Override
-    @Transactional
     public OrderResponseDTO placeOrder(PlaceOrderRequestDTO request) {
         log.info("Initiating order placement for userId: {}", request.getUserId());
         try {
-            // 1) Fetch prices and validate existence (Book-service)
+            // 1) Fetch prices (Book-service) and pre-check stock (Inventory-service) concurrently
             List<Long> bookIdList = new ArrayList<>(request.getBookOrder().keySet());
-            GetBookPriceResponseDTO priceDTO = bookServiceClient.getBookPrices(new GetBookPriceRequestDTO(bookIdList));
-            Map<Long, Double> priceMap = priceDTO.getBookPrice();
+            CompletableFuture<Map<Long, Double>> priceFuture = CompletableFuture.supplyAsync(
+                    () -> bookPriceCache.getPrices(bookIdList, this::loadPrices),
+                    orderPlacementExecutor);
+            CompletableFuture<CheckInventoryAvailabilityResponseDTO> availabilityFuture = CompletableFuture.supplyAsync(
+                    () -> inventoryServiceClient.checkAvailability(
+                            new CheckInventoryAvailabilityRequestDTO(request.getBookOrder())),
+                    orderPlacementExecutor);
+
+            Map<Long, Double> priceMap = await(priceFuture);
+            CheckInventoryAvailabilityResponseDTO availability = await(availabilityFuture);
+            if (!availability.isAllAvailable()) {
+                List<Long> unavailable = availability.getAvailabilityMap().entrySet().stream()
+                        .filter(e -> !Boolean.TRUE.equals(e.getValue()))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                log.warn("Stock pre-check failed for userId: {}, unavailable bookIds: {}",
+                        request.getUserId(), unavailable);
+                throw new OrderNotPlacedException("Insufficient stock for books: " + unavailable);
+            }
 
-            // 2) Reduce stock (Inventory-service)
-            inventoryServiceClient.reduceStock(new ReduceInventoryStockRequestDTO(request.getBookOrder()));
+            // 2) Reduce stock (Inventory-service), recording the step in the saga
+            long sagaId = orderSagaService.begin(request.getUserId(), request.getBookOrder());
+            try {
+                inventoryServiceClient.reduceStock(new ReduceInventoryStockRequestDTO(request.getBookOrder(),
+                        Map.of(sagaId, request.getBookOrder())));
+            } catch (InsufficientStockException ex) {
+                orderSagaService.abort(sagaId, ex.getMessage());
+                throw ex;
+            } catch (RuntimeException ex) {
+                // The reduction may still have been applied, so inventory reconciles it under the saga's key
+                orderSagaService.reductionUnconfirmed(sagaId, ex.getMessage());
+                throw ex;
+            }
+            orderSagaService.stockReserved(sagaId);
 
             // 3) Compute total amount (missing price -> 0.0, warn)
             double totalAmount = request.getBookOrder().entrySet().stream()
@@ -89,7 +175,7 @@ public class OrderServiceImpl implements OrderService {
                     .isDeleted(false)
                     .build();
 
-            Order savedOrder = orderRepository.save(order);
+            Order savedOrder = saveWithSaga(sagaId, order);
             log.info("Order placed successfully. orderId: {}, userId: {}, totalAmount: {}",
                     savedOrder.getOrderId(), savedOrder.getUserId(), savedOrder.getOrderTotalAmount());
 
@@ -105,6 +191,80 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
+    /**
+     * Places an order at most once per Idempotency-Key.
+     * A repeated key returns the order created by the first request; a
+     * duplicate arriving while that request is still running waits for it
+     * instead of reducing stock a second time.
+     * @param request        The order placement request details.
+     * @param idempotencyKey The client's Idempotency-Key.
+     * @return OrderResponseDTO for the order placed under the key.
+     */
+    @Override
+    public OrderResponseDTO placeOrder(PlaceOrderRequestDTO request, String idempotencyKey) {
+        return orderIdempotencyService.placeOnce(idempotencyKey, request,
+                () -> placeOrder(request), this::getExistingOrder);
+    }
+
+    /**
+     * Accepts an order for asynchronous placement.
+     * The order is saved as ACCEPTED and queued in one transaction, without
+     * calling any downstream service; intake workers later place it in a batch
+     * and move it to PENDING, or to REJECTED if it cannot be placed.
+     * @param request The order placement request details.
+     * @return OrderResponseDTO of the ACCEPTED order.
+     */
+    @Override
+    @Transactional
+    public OrderResponseDTO acceptOrder(PlaceOrderRequestDTO request) {
+        log.info("Accepting order for asynchronous placement. userId: {}", request.getUserId());
+
+        Order order = orderRepository.save(Order.builder()
+                .userId(request.getUserId())
+                .items(new LinkedHashMap<>(request.getBookOrder()))
+                .orderTotalAmount(0.0)
+                .orderDateTime(LocalDateTime.now())
+                .orderStatus(OrderEnum.ACCEPTED)
+                .isDeleted(false)
+                .build());
+        orderIntakeService.enqueue(order);
+        orderAnalyticsService.recordStatusChange(order, null);
+
+        log.info("Order accepted and queued. orderId: {}, userId: {}", order.getOrderId(), order.getUserId());
+        return toResponseDTO(order);
+    }
+
+    /**
+     * Accepts an order for asynchronous placement at most once per Idempotency-Key.
+     * @param request        The order placement request details.
+     * @param idempotencyKey The client's Idempotency-Key.
+     * @return OrderResponseDTO of the order accepted under the key.
+     */
+    @Override
+    public OrderResponseDTO acceptOrder(PlaceOrderRequestDTO request, String idempotencyKey) {
+        // Self-invocation bypasses the @Transactional proxy, so open the transaction here
+        return orderIdempotencyService.placeOnce(idempotencyKey, request,
+                () -> transactionTemplate.execute(status -> acceptOrder(request)), this::getExistingOrder);
+    }
+
+    /**
+     * Subscribes to the outcome of an asynchronously placed order.
+     * @param orderId ID of the order.
+     * @return emitter receiving one event once the order is no longer ACCEPTED.
+     * @throws OrderNotFoundException if the ID does not exist.
+     */
+    @Override
+    public SseEmitter subscribeOrderStatus(long orderId) {
+        OrderEnum status = orderRepository.findById(orderId)
+                .map(Order::getOrderStatus)
+                .or(() -> orderArchiveRepository.findById(orderId).map(ArchivedOrder::getOrderStatus))
+                .orElseThrow(() -> {
+                    log.warn("Order not found for status subscription. orderId: {}", orderId);
+                    return new OrderNotFoundException(NOT_FOUND_MSG + orderId);
+                });
+        return orderStatusNotifier.subscribe(orderId, status);
+    }
+
     /**
      * Updates an order's status after validating the transition logic.
      * * @param orderId ID of the order to update.
@@ -167,14 +327,96 @@ public class OrderServiceImpl implements OrderService {
 
         order.setOrderStatus(target);
         Order saved = orderRepository.save(order);
+        orderAnalyticsService.recordStatusChange(saved, current);
         log.info("Order status updated successfully. orderId: {}, from: {} to: {}", orderId, current, target);
         return toResponseDTO(saved);
     }
 
+    /**
+     * Moves many orders to one status, chunk by chunk. Each chunk runs in its
+     * own transaction: one query reads and locks the current statuses, each
+     * order is checked with {@link #isValidTransition}, and the allowed ones
+     * are updated with one statement per source status. A chunk that fails
+     * rolls back without undoing the chunks before it.
+     * @param request IDs of the orders and their target status.
+     * @return one outcome per distinct order ID, in request order.
+     * @throws OrderInvalidStatusTransitionException if the target is CANCELLED.
+     */
+    @Override
+    public BulkStatusUpdateResponseDTO updateOrderStatuses(BulkStatusUpdateRequestDTO request) {
+        OrderEnum target = request.getOrderStatus();
+        if (target == OrderEnum.CANCELLED) {
+            log.warn("Cancellation not allowed on bulk status update. orderCount: {}", request.getOrderIds().size());
+            throw new OrderInvalidStatusTransitionException(
+                    "Invalid operation: cancellation is not allowed on this endpoint. Use /cancelOrder instead."
+            );
+        }
+
+        List<Long> orderIds = List.copyOf(new LinkedHashSet<>(request.getOrderIds()));
+        log.info("Initializing bulk status update to {}. orderCount: {}", target, orderIds.size());
+
+        int chunkSize = bulkStatusUpdateProperties.getChunkSize();
+        List<OrderStatusOutcomeDTO> outcomes = new ArrayList<>(orderIds.size());
+        for (int start = 0; start < orderIds.size(); start += chunkSize) {
+            List<Long> chunk = orderIds.subList(start, Math.min(start + chunkSize, orderIds.size()));
+            outcomes.addAll(transactionTemplate.execute(status -> updateStatusChunk(chunk, target)));
+        }
+
+        long updated = outcomes.stream()
+                .filter(outcome -> outcome.getOutcome() == StatusUpdateOutcome.UPDATED)
+                .count();
+        log.info("Bulk status update to {} completed. updated: {}, rejected: {}",
+                target, updated, outcomes.size() - updated);
+        return BulkStatusUpdateResponseDTO.builder()
+                .orderStatus(target)
+                .updated(updated)
+                .rejected(outcomes.size() - updated)
+                .outcomes(outcomes)
+                .build();
+    }
+
+    private List<OrderStatusOutcomeDTO> updateStatusChunk(List<Long> orderIds, OrderEnum target) {
+        Map<Long, OrderStatusView> current = new HashMap<>();
+        for (OrderStatusView view : orderRepository.findStatusesForUpdate(orderIds)) {
+            current.put(view.orderId(), view);
+        }
+
+        Map<OrderEnum, List<OrderStatusView>> allowedBySource = new EnumMap<>(OrderEnum.class);
+        List<OrderStatusOutcomeDTO> outcomes = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            OrderStatusView view = current.get(orderId);
+            OrderEnum from = view != null ? view.orderStatus() : null;
+            StatusUpdateOutcome outcome;
+            if (from == null) {
+                outcome = StatusUpdateOutcome.NOT_FOUND;
+            } else if (isValidTransition(from, target)) {
+                outcome = StatusUpdateOutcome.UPDATED;
+                allowedBySource.computeIfAbsent(from, status -> new ArrayList<>()).add(view);
+            } else {
+                outcome = StatusUpdateOutcome.INVALID_TRANSITION;
+            }
+            outcomes.add(new OrderStatusOutcomeDTO(orderId, from, outcome));
+        }
+
+        // The rows are locked, so every allowed order must still be in its source status
+        allowedBySource.forEach((from, views) -> {
+            List<Long> ids = views.stream().map(OrderStatusView::orderId).toList();
+            int updated = orderRepository.updateStatus(ids, from, target);
+            if (updated != ids.size()) {
+                throw new IllegalStateException((ids.size() - updated) + " of " + ids.size()
+                        + " orders are no longer " + from);
+            }
+            orderAnalyticsService.recordStatusChanges(views, target);
+        });
+        return outcomes;
+    }
+
     /**
      * Business logic for cancelling an order.
      * Rule: Can only cancel if PENDING or SHIPPED.
-     * Cannot cancel if DELIVERED or already CANCELLED.
+     * ACCEPTED orders cannot be cancelled until the intake workers have placed them.
+     * The order's stock is queued for restocking by the saga compensation worker.
+     * Cannot cancel if DELIVERED, REJECTED or already CANCELLED.
      * @param orderId ID of the order to cancel.
      * @throws OrderNotFoundException               if order does not exist.
      * @throws OrderCancellationNotAllowedException if status is final.
@@ -190,16 +432,27 @@ public class OrderServiceImpl implements OrderService {
                     return new OrderNotFoundException(NOT_FOUND_MSG + orderId);
                 });
 
-        // Logic check: Deny if Delivered or already Cancelled
-        if (order.getOrderStatus() == OrderEnum.DELIVERED || order.getOrderStatus() == OrderEnum.CANCELLED) {
+        // Logic check: Deny while a queued order is still being placed
+        if (order.getOrderStatus() == OrderEnum.ACCEPTED) {
+            log.warn("Cancellation rejected: order still queued. orderId: {}", orderId);
+            throw new OrderCancellationNotAllowedException(
+                    "Cannot cancel an order that is still being processed");
+        }
+
+        // Logic check: Deny if Delivered, already Cancelled or never placed
+        if (order.getOrderStatus() == OrderEnum.DELIVERED || order.getOrderStatus() == OrderEnum.CANCELLED
+                || order.getOrderStatus() == OrderEnum.REJECTED) {
             log.warn("Cancellation rejected. orderId: {}, current status: {}", orderId, order.getOrderStatus());
             throw new OrderCancellationNotAllowedException(
                     "Cannot cancel an order that is already " + order.getOrderStatus());
         }
 
         // Logic check: Allow only if Pending or Shipped
+        OrderEnum previous = order.getOrderStatus();
         order.setOrderStatus(OrderEnum.CANCELLED);
         Order saved=orderRepository.save(order);
+        orderAnalyticsService.recordStatusChange(saved, previous);
+        orderSagaService.requestCompensation(saved);
         log.info("Order cancelled successfully. orderId: {}", orderId);
         return toResponseDTO(saved);
     }
@@ -207,6 +460,7 @@ public class OrderServiceImpl implements OrderService {
 
     /**
      * Administrative soft delete. Marks the isDeleted flag as true in MySQL.
+     * Archived orders are soft-deleted in the archive.
      * @param orderId ID of the order to delete.
      * @throws OrderNotFoundException if the ID does not exist.
      */
@@ -215,11 +469,16 @@ public class OrderServiceImpl implements OrderService {
     public void softDeleteOrder(long orderId) {
         log.info("Initializing order soft delete for orderId: {}", orderId);
 
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> {
-                    log.warn("Order not found for soft delete. orderId: {}", orderId);
-                    return new OrderNotFoundException(NOT_FOUND_MSG + orderId);
-                });
+        Optional<Order> found = orderRepository.findById(orderId);
+        if (found.isEmpty()) {
+            if (orderArchiveRepository.softDeleteByOrderIdIn(List.of(orderId)) == 0) {
+                log.warn("Order not found for soft delete. orderId: {}", orderId);
+                throw new OrderNotFoundException(NOT_FOUND_MSG + orderId);
+            }
+            log.info("Archived order soft-deleted successfully. orderId: {}", orderId);
+            return;
+        }
+        Order order = found.get();
 
         if (order.isDeleted()) {
             log.warn("Soft delete skipped: order already marked as deleted. orderId: {}", orderId);
@@ -233,41 +492,62 @@ public class OrderServiceImpl implements OrderService {
 
 
     /**
-     * user soft delete. Marks the isDeleted flag as true in MySQL.
-     * @param userId ID of the order to delete.
-     * @throws OrderNotFoundException if the ID does not exist.
+     * Soft-deletes every order of a user with one set-based UPDATE per
+     * table, hot and archive, so the cost does not grow with entity loads
+     * and dirty checks per order.
+     * @param userId ID of the user whose orders are deleted.
+     * @return counts of deleted and already-deleted orders.
+     * @throws OrderNotFoundException if the user has no orders at all.
      */
     @Override
     @Transactional
-    public void softDeleteUserOrder(long userId) {
+    public OrderSoftDeleteResultDTO softDeleteUserOrder(long userId) {
         log.info("Initializing soft delete for all orders of userId: {}", userId);
 
-        List<Order> orders = orderRepository.findByUserId(userId);
+        long alreadyDeleted = orderRepository.countDeletedByUserId(userId)
+                + orderArchiveRepository.countDeletedByUserId(userId);
+        int deleted = orderRepository.softDeleteByUserId(userId)
+                + orderArchiveRepository.softDeleteByUserId(userId);
 
-        if (orders == null || orders.isEmpty()) {
+        if (deleted == 0 && alreadyDeleted == 0) {
             log.warn("No orders found to soft delete for userId: {}", userId);
             throw new OrderNotFoundException(NOT_FOUND_MSG + userId);
         }
 
-        int skipped = 0;
-        int updated = 0;
-
-        for (Order order : orders) {
-            if (order.isDeleted()) {
-                skipped++;
-                log.warn("Skipping already soft-deleted order. orderId: {}", order.getOrderId());
-                continue;
-            }
-            order.setDeleted(true);
-            updated++;
-        }
+        log.info("Soft delete completed for userId: {}. deleted: {}, alreadyDeleted: {}",
+                userId, deleted, alreadyDeleted);
+        return OrderSoftDeleteResultDTO.builder()
+                .deleted(deleted)
+                .alreadyDeleted(alreadyDeleted)
+                .build();
+    }
 
-        // Persist only if there is anything to update
-        if (updated > 0) {
-            orderRepository.saveAll(orders);
-        }
 
-        log.info("Soft delete completed for userId: {}. updated: {}, skipped: {}", userId, updated, skipped);
+    /**
+     * Administrative bulk soft delete by order ID with one set-based UPDATE
+     * per table, hot and archive. Duplicate IDs are counted once.
+     * @param request IDs of the orders to delete.
+     * @return counts of deleted, already-deleted and unknown orders.
+     */
+    @Override
+    @Transactional
+    public OrderSoftDeleteResultDTO softDeleteOrders(BulkSoftDeleteRequestDTO request) {
+        Set<Long> orderIds = new LinkedHashSet<>(request.getOrderIds());
+        log.info("Initializing bulk soft delete. orderCount: {}", orderIds.size());
+
+        long alreadyDeleted = orderRepository.countDeletedByOrderIdIn(orderIds)
+                + orderArchiveRepository.countDeletedByOrderIdIn(orderIds);
+        int deleted = orderRepository.softDeleteByOrderIdIn(orderIds)
+                + orderArchiveRepository.softDeleteByOrderIdIn(orderIds);
+        long notFound = orderIds.size() - deleted - alreadyDeleted;
+
+        log.info("Bulk soft delete completed. deleted: {}, alreadyDeleted: {}, notFound: {}",
+                deleted, alreadyDeleted, notFound);
+        return OrderSoftDeleteResultDTO.builder()
+                .deleted(deleted)
+                .alreadyDeleted(alreadyDeleted)
+                .notFound(notFound)
+                .build();
     }
 
 
@@ -277,6 +557,7 @@ public class OrderServiceImpl implements OrderService {
      *  @throws OrderNotFoundException if no orders exist in the system.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> getOrderAll() {
         log.info("Initializing all orders fetch");
         List<Order> orders = orderRepository.findAll();
@@ -295,7 +576,8 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Retrieves a specific order by its ID.
+     * Retrieves a specific order by its ID, falling back to the archive
+     * when the order is no longer in the hot table.
      * * @param orderId The ID of the order to find.
      * * @return Optional containing OrderResponseDTO.
      * @throws OrderNotFoundException if the ID does not exist.
@@ -304,18 +586,19 @@ public class OrderServiceImpl implements OrderService {
     public Optional<OrderResponseDTO> getOrderById(long orderId) {
         log.info("Fetching order by ID: {}", orderId);
 
-        Order order = orderRepository.findById(orderId)
+        OrderResponseDTO order = findOrderOrArchived(orderId)
                 .orElseThrow(() -> {
                     log.warn("Order not found. orderId: {}", orderId);
                     return new OrderNotFoundException(NOT_FOUND_MSG + orderId);
                 });
 
         log.info("Order fetched successfully. orderId: {}", orderId);
-        return Optional.of(toResponseDTO(order));
+        return Optional.of(order);
     }
 
     /**
-     * Retrieves all orders associated with a specific user.
+     * Retrieves all orders associated with a specific user, active ones
+     * first, followed by those moved to the archive.
      * Filters out soft-deleted orders automatically via @SQLRestriction.
      *
      * @param userId The unique identifier of the user.
@@ -323,21 +606,23 @@ public class OrderServiceImpl implements OrderService {
      * @throws OrderNotFoundException if no orders exist for the given user.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> getOrdersByUserId(long userId) {
         log.info("Fetching orders for userId: {}", userId);
 
-        List<Order> orders = orderRepository.findByUserId(userId);
+        List<OrderResponseDTO> responseList = new ArrayList<>();
+        for (Order order : orderRepository.findByUserId(userId)) {
+            responseList.add(toResponseDTO(order));
+        }
+        for (ArchivedOrder order : orderArchiveRepository.findByUserId(userId)) {
+            responseList.add(toResponseDTO(order));
+        }
 
-        if (orders.isEmpty()) {
+        if (responseList.isEmpty()) {
             log.warn("No orders found for userId: {}", userId);
             throw new OrderNotFoundException("No orders found for user with ID: " + userId);
         }
 
-        List<OrderResponseDTO> responseList = new ArrayList<>();
-        for (Order order : orders) {
-            responseList.add(toResponseDTO(order));
-        }
-
         log.info("Orders fetched successfully for userId: {}. count: {}", userId, responseList.size());
         return responseList;
     }
@@ -349,6 +634,7 @@ public class OrderServiceImpl implements OrderService {
      * @throws OrderNotFoundException if no orders match the given status.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> getOrdersByStatus(OrderEnum status) {
         log.info("Fetching orders by status: {}", status);
         List<Order> orders = orderRepository.findByOrderStatus(status);
@@ -366,6 +652,173 @@ public class OrderServiceImpl implements OrderService {
         return responseList;
     }
 
+    /**
+     * Retrieves one page of orders after a cursor, ordered by order date and
+     * then order ID. Each page is a bounded index range scan, so deep pages
+     * cost the same as the first.
+     * @param filter optional status, user and date range filters.
+     * @param cursor cursor returned with the previous page, or null for the first page.
+     * @param size   page size, or null for the configured default.
+     * @return the page and the cursor of the next one.
+     * @throws InvalidOrderQueryException if the page size, cursor or date range is invalid.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPageResponseDTO getOrderPage(OrderListingRequestDTO filter, String cursor, Integer size) {
+        int pageSize = size != null ? size : listingProperties.getDefaultPageSize();
+        if (pageSize < 1 || pageSize > listingProperties.getMaxPageSize()) {
+            throw new InvalidOrderQueryException(
+                    "Page size must be between 1 and " + listingProperties.getMaxPageSize());
+        }
+        validateDateRange(filter);
+
+        // One extra row tells whether another page follows without a count query
+        List<Order> rows = findPage(filter, startOf(filter, cursor), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Order> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return OrderPageResponseDTO.builder()
+                .items(page.stream().map(this::toResponseDTO).toList())
+                .nextCursor(hasMore ? OrderCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Streams every matching order to a consumer in listing order. Orders
+     * are read in keyset batches, each in its own short transaction, so an
+     * export holds neither a connection nor more than one batch in memory
+     * while the client reads.
+     * @param filter   optional status, user and date range filters.
+     * @param consumer receives each order.
+     * @throws InvalidOrderQueryException if the date range is invalid.
+     */
+    @Override
+    public void exportOrders(OrderListingRequestDTO filter, Consumer<OrderResponseDTO> consumer) {
+        validateDateRange(filter);
+        int batchSize = listingProperties.getExportBatchSize();
+        OrderCursor after = startOf(filter, null);
+        long exported = 0;
+        while (after != null) {
+            OrderCursor batchStart = after;
+            List<OrderResponseDTO> batch = transactionTemplate.execute(status ->
+                    findPage(filter, batchStart, batchSize).stream().map(this::toResponseDTO).toList());
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(consumer);
+            exported += batch.size();
+            OrderResponseDTO last = batch.get(batch.size() - 1);
+            after = batch.size() < batchSize ? null : new OrderCursor(last.getOrderDateTime(), last.getOrderId());
+        }
+        log.info("Order export completed. count: {}", exported);
+    }
+
+    private static void validateDateRange(OrderListingRequestDTO filter) {
+        if (!filter.isDateRangeValid()) {
+            throw new InvalidOrderQueryException("'from' must be before 'to'");
+        }
+    }
+
+    /**
+     * Returns the position a listing starts after: the client's cursor, or
+     * the start of the date range when there is none or it lies before it.
+     */
+    private static OrderCursor startOf(OrderListingRequestDTO filter, String cursor) {
+        OrderCursor rangeStart = new OrderCursor(
+                filter.getFrom() != null ? filter.getFrom() : MIN_ORDER_DATE_TIME, 0L);
+        if (cursor == null || cursor.isBlank()) {
+            return rangeStart;
+        }
+        OrderCursor position = OrderCursor.decode(cursor);
+        return position.orderDateTime().isBefore(rangeStart.orderDateTime()) ? rangeStart : position;
+    }
+
+    /**
+     * Picks the keyset query whose index matches the filters.
+     */
+    private List<Order> findPage(OrderListingRequestDTO filter, OrderCursor after, int limit) {
+        LocalDateTime before = filter.getTo() != null ? filter.getTo() : MAX_ORDER_DATE_TIME;
+        PageRequest page = PageRequest.ofSize(limit);
+        if (filter.getUserId() != null) {
+            return orderRepository.findPageByUserIdAfter(filter.getUserId(), filter.getStatus(),
+                    after.orderDateTime(), after.orderId(), before, page);
+        }
+        if (filter.getStatus() != null) {
+            return orderRepository.findPageByStatusAfter(filter.getStatus(),
+                    after.orderDateTime(), after.orderId(), before, page);
+        }
+        return orderRepository.findPageAfter(after.orderDateTime(), after.orderId(), before, page);
+    }
+
+    /**
+     * Loads an order created by an earlier request with the same Idempotency-Key.
+     */
+    private OrderResponseDTO getExistingOrder(long orderId) {
+        return findOrderOrArchived(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(NOT_FOUND_MSG + orderId));
+    }
+
+    /**
+     * Looks an order up in the hot table, then in the archive, in a
+     * read-only transaction so its lazily loaded items can be mapped. Runs
+     * programmatically because the idempotent replay reaches it through a
+     * self-invocation that bypasses the @Transactional proxy.
+     */
+    private Optional<OrderResponseDTO> findOrderOrArchived(long orderId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> orderRepository.findById(orderId)
+                .map(this::toResponseDTO)
+                .or(() -> orderArchiveRepository.findById(orderId).map(this::toResponseDTO)));
+    }
+
+    /**
+     * Saves the order and completes its saga in one transaction. On failure
+     * the saga is queued for compensation; if even that fails, the worker
+     * still picks the reserved saga up once it is stale.
+     */
+    private Order saveWithSaga(long sagaId, Order order) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Order saved = orderRepository.save(order);
+                orderSagaService.complete(sagaId, saved.getOrderId());
+                orderAnalyticsService.recordStatusChange(saved, null);
+                return saved;
+            });
+        } catch (RuntimeException ex) {
+            log.error("Order save failed after stock was reduced. sagaId: {}, queuing compensation", sagaId);
+            try {
+                orderSagaService.requestCompensation(sagaId, ex.getMessage());
+            } catch (RuntimeException compensationEx) {
+                log.error("Could not queue compensation for sagaId: {}: {}", sagaId, compensationEx.getMessage());
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Loads prices the cache does not hold from Book Service.
+     */
+    private Map<Long, Double> loadPrices(List<Long> bookIds) {
+        return bookServiceClient.getBookPrices(new GetBookPriceRequestDTO(bookIds)).getBookPrice();
+    }
+
+    /**
+     * Waits for a downstream call and rethrows its failure unwrapped, so the
+     * placement error handling sees the same exceptions as a direct call.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
     /**
      * Helper method to map Order Entity to OrderResponseDTO.
      *  @param order The source entity.
@@ -376,6 +829,22 @@ public class OrderServiceImpl implements OrderService {
                 .orderId(order.getOrderId())
                 .userId(order.getUserId())
                 .bookIds(new ArrayList<>(order.getItems().keySet()))
+                .items(new LinkedHashMap<>(order.getItems()))
+                .orderDateTime(order.getOrderDateTime())
+                .orderTotalAmount(order.getOrderTotalAmount())
+                .orderStatus(order.getOrderStatus())
+                .build();
+    }
+
+    /**
+     * Maps an archived order to OrderResponseDTO.
+     */
+    private OrderResponseDTO toResponseDTO(ArchivedOrder order) {
+        return OrderResponseDTO.builder()
+                .orderId(order.getOrderId())
+                .userId(order.getUserId())
+                .bookIds(new ArrayList<>(order.getItems().keySet()))
+                .items(new LinkedHashMap<>(order.getItems()))
                 .orderDateTime(order.getOrderDateTime())
                 .orderTotalAmount(order.getOrderTotalAmount())
                 .orderStatus(order.getOrderStatus())
@@ -0,0 +1,186 @@
+package com.book.management.order.service.intake;
+
+import com.book.management.order.config.OrderIntakeProperties;
+import com.book.management.order.enums.IntakeStatus;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.model.Order;
+import com.book.management.order.model.OrderIntake;
+import com.book.management.order.repository.OrderIntakeRepository;
+import com.book.management.order.repository.OrderRepository;
+import com.book.management.order.repository.OrderStatusView;
+import com.book.management.order.service.analytics.OrderAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the queue of accepted orders awaiting asynchronous placement.
+ *
+ * Each method is a short transaction of its own (or joins the caller's),
+ * so intake workers hold no database connection while calling the Book and
+ * Inventory services.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OrderIntakeRepository intakeRepository;
+    private final OrderRepository orderRepository;
+    private final OrderIntakeProperties properties;
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    /**
+     * Queues an order that has just been saved as ACCEPTED. Must run in the
+     * transaction that saved it, so the order is never accepted without
+     * being queued.
+     *
+     * @param order the saved ACCEPTED order
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Order order) {
+        LocalDateTime now = LocalDateTime.now();
+        intakeRepository.save(OrderIntake.builder()
+                .orderId(order.getOrderId())
+                .userId(order.getUserId())
+                .items(new LinkedHashMap<>(order.getItems()))
+                .status(IntakeStatus.QUEUED)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    /**
+     * Claims the next batch of queued orders, oldest first. Claimed entries
+     * move to PROCESSING; a worker that dies leaves them to be claimed again
+     * once stale.
+     *
+     * @return the claimed entries, empty when nothing is due
+     */
+    @Transactional
+    public List<OrderIntake> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderIntake> batch = intakeRepository.findClaimable(
+                IntakeStatus.QUEUED, now,
+                IntakeStatus.PROCESSING, now.minusNanos(properties.getStaleAfterMillis() * 1_000_000),
+                PageRequest.ofSize(properties.getBatchSize()));
+        for (OrderIntake intake : batch) {
+            intake.setStatus(IntakeStatus.PROCESSING);
+            intake.setAttempts(intake.getAttempts() + 1);
+            intake.setUpdatedAt(now);
+        }
+        return batch;
+    }
+
+    /**
+     * Moves placed orders that are still ACCEPTED to PENDING with their
+     * totals and removes every entry from the queue. Orders cancelled or
+     * deleted while queued are left as they are and returned, so that the
+     * caller can compensate their stock. Must run in the transaction that
+     * completes their sagas.
+     *
+     * @param placed      the claimed entries whose stock was reduced
+     * @param totalAmount order ID to order total
+     * @return the entries whose order was no longer ACCEPTED
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OrderIntake> markPlaced(List<OrderIntake> placed, Map<Long, Double> totalAmount) {
+        Set<Long> accepted = new HashSet<>();
+        for (Order order : orderRepository.findAllByIdForUpdate(orderIds(placed))) {
+            if (order.getOrderStatus() == OrderEnum.ACCEPTED) {
+                order.setOrderStatus(OrderEnum.PENDING);
+                order.setOrderTotalAmount(totalAmount.getOrDefault(order.getOrderId(), 0.0));
+                orderAnalyticsService.recordStatusChange(order, OrderEnum.ACCEPTED);
+                accepted.add(order.getOrderId());
+            }
+        }
+        List<OrderIntake> notPlaced = placed.stream()
+                .filter(intake -> !accepted.contains(intake.getOrderId()))
+                .toList();
+        if (!notPlaced.isEmpty()) {
+            log.warn("Queued orders {} are no longer ACCEPTED; their stock will be restocked", orderIds(notPlaced));
+        }
+        intakeRepository.deleteAllByIdInBatch(intakeIds(placed));
+        return notPlaced;
+    }
+
+    /**
+     * Rejects queued orders that cannot be placed and removes them from the queue.
+     *
+     * @param rejected the claimed entries
+     * @param reason   why they were rejected
+     */
+    @Transactional
+    public void reject(List<OrderIntake> rejected, String reason) {
+        if (rejected.isEmpty()) {
+            return;
+        }
+        log.warn("Rejecting queued orders {}: {}", orderIds(rejected), reason);
+        List<OrderStatusView> accepted = orderRepository.findStatusesForUpdate(orderIds(rejected)).stream()
+                .filter(view -> view.orderStatus() == OrderEnum.ACCEPTED)
+                .toList();
+        if (!accepted.isEmpty()) {
+            orderRepository.updateStatus(accepted.stream().map(OrderStatusView::orderId).toList(),
+                    OrderEnum.ACCEPTED, OrderEnum.REJECTED);
+            orderAnalyticsService.recordStatusChanges(accepted, OrderEnum.REJECTED);
+        }
+        intakeRepository.deleteAllByIdInBatch(intakeIds(rejected));
+    }
+
+    /**
+     * Returns claimed entries to the queue after a downstream call failed,
+     * rejecting those that have run out of attempts.
+     *
+     * @param batch  the claimed entries
+     * @param reason why placement failed
+     */
+    @Transactional
+    public void recordRetry(List<OrderIntake> batch, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderIntake> retried = new ArrayList<>();
+        List<OrderIntake> exhausted = new ArrayList<>();
+        for (OrderIntake intake : batch) {
+            if (intake.getAttempts() >= properties.getMaxAttempts()) {
+                exhausted.add(intake);
+                continue;
+            }
+            intake.setStatus(IntakeStatus.QUEUED);
+            intake.setNextAttemptAt(now.plusNanos(properties.getRetryBackoffMillis() * 1_000_000));
+            intake.setLastError(truncate(reason));
+            intake.setUpdatedAt(now);
+            retried.add(intake);
+        }
+        intakeRepository.saveAll(retried);
+        reject(exhausted, reason);
+    }
+
+    private static List<Long> orderIds(List<OrderIntake> intakes) {
+        return intakes.stream().map(OrderIntake::getOrderId).toList();
+    }
+
+    private static List<Long> intakeIds(List<OrderIntake> intakes) {
+        return intakes.stream().map(OrderIntake::getIntakeId).toList();
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,265 @@
+package com.book.management.order.service.intake;
+
+import com.book.management.order.client.BookServiceClient;
+import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.config.OrderIntakeProperties;
+import com.book.management.order.dto.requestdto.CheckInventoryAvailabilityRequestDTO;
+import com.book.management.order.dto.requestdto.GetBookPriceRequestDTO;
+import com.book.management.order.dto.requestdto.ReduceInventoryStockRequestDTO;
+import com.book.management.order.dto.responsedto.CheckInventoryAvailabilityResponseDTO;
+import com.book.management.order.exception.InsufficientStockException;
+import com.book.management.order.model.OrderIntake;
+import com.book.management.order.service.cache.BookPriceCache;
+import com.book.management.order.service.saga.OrderSagaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Places queued orders in batches.
+ *
+ * A batch costs one price lookup, served from the local price cache where
+ * possible, and one availability check for all of its books, and one stock
+ * reduction for every order whose books the batch can fully cover. Orders containing a book that is short for the whole batch
+ * are reduced one at a time, oldest first, and rejected when inventory
+ * refuses their own reduction for lack of stock; any other failure is
+ * retried. Placed orders are then moved to PENDING in a single transaction
+ * together with their sagas, and the stock of orders cancelled while
+ * queued is restocked.
+ *
+ * When the price lookup, the availability check or the batch reduction
+ * fails, the whole batch is retried later rather than rejected, since the
+ * failure usually means a downstream service is unavailable. A reduction
+ * that failed without a definite answer leaves its sagas STARTED, so the
+ * compensation worker restocks whatever inventory recorded for them.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderIntakeWorker {
+
+    private final OrderIntakeService intakeService;
+    private final OrderSagaService sagaService;
+    private final BookServiceClient bookServiceClient;
+    private final InventoryServiceClient inventoryServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService orderPlacementExecutor;
+    private final OrderIntakeProperties properties;
+    private final BookPriceCache bookPriceCache;
+
+    /**
+     * Runs the configured number of workers concurrently until the queue is
+     * drained or each has placed its per-run batch limit. Workers claim
+     * disjoint batches, so they also run safely across instances.
+     *
+     * @return number of queued orders processed
+     */
+    public int drainQueue() {
+        List<CompletableFuture<Integer>> workers = new ArrayList<>();
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.add(CompletableFuture.supplyAsync(this::drainBatches, orderPlacementExecutor));
+        }
+        int processed = workers.stream().mapToInt(CompletableFuture::join).sum();
+        if (processed > 0) {
+            log.info("Order intake processed {} queued orders", processed);
+        }
+        return processed;
+    }
+
+    private int drainBatches() {
+        int processed = 0;
+        for (int run = 0; run < properties.getMaxBatchesPerRun(); run++) {
+            int batchSize = processBatch();
+            processed += batchSize;
+            if (batchSize < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Claims and places one batch of queued orders.
+     *
+     * @return number of queued orders in the batch
+     */
+    public int processBatch() {
+        List<OrderIntake> batch = intakeService.claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 1) One price lookup and one availability check for the whole batch
+        Map<Long, Integer> demand = totalQuantities(batch);
+        Map<Long, Double> priceMap;
+        CheckInventoryAvailabilityResponseDTO availability;
+        try {
+            CompletableFuture<Map<Long, Double>> priceFuture = CompletableFuture.supplyAsync(
+                    () -> bookPriceCache.getPrices(demand.keySet(),
+                            missing -> bookServiceClient.getBookPrices(new GetBookPriceRequestDTO(missing)).getBookPrice()),
+                    orderPlacementExecutor);
+            CompletableFuture<CheckInventoryAvailabilityResponseDTO> availabilityFuture = CompletableFuture.supplyAsync(
+                    () -> inventoryServiceClient.checkAvailability(new CheckInventoryAvailabilityRequestDTO(demand)),
+                    orderPlacementExecutor);
+            priceMap = await(priceFuture);
+            availability = await(availabilityFuture);
+        } catch (RuntimeException ex) {
+            log.warn("Order intake lookup for {} orders failed, will retry: {}", batch.size(), ex.getMessage());
+            intakeService.recordRetry(batch, ex.getMessage());
+            return batch.size();
+        }
+
+        // 2) Orders touching a book the batch cannot fully cover are reduced on their own
+        Set<Long> shortBooks = new HashSet<>();
+        if (!availability.isAllAvailable()) {
+            demand.keySet().stream()
+                    .filter(bookId -> !Boolean.TRUE.equals(availability.getAvailabilityMap().get(bookId)))
+                    .forEach(shortBooks::add);
+        }
+        List<OrderIntake> covered = new ArrayList<>();
+        List<OrderIntake> contended = new ArrayList<>();
+        for (OrderIntake intake : batch) {
+            boolean touchesShortBook = intake.getItems().keySet().stream().anyMatch(shortBooks::contains);
+            (touchesShortBook ? contended : covered).add(intake);
+        }
+
+        List<OrderIntake> placed = new ArrayList<>();
+        List<Long> sagaIds = new ArrayList<>();
+
+        // 3) One stock reduction for every covered order
+        if (!covered.isEmpty()) {
+            List<Long> coveredSagaIds = sagaService.beginAll(covered);
+            try {
+                inventoryServiceClient.reduceStock(new ReduceInventoryStockRequestDTO(totalQuantities(covered),
+                        sagaQuantities(coveredSagaIds, covered)));
+                sagaService.stockReservedAll(coveredSagaIds);
+                placed.addAll(covered);
+                sagaIds.addAll(coveredSagaIds);
+            } catch (InsufficientStockException ex) {
+                log.warn("Batch stock reduction for {} orders refused, will retry: {}", covered.size(), ex.getMessage());
+                sagaService.abortAll(coveredSagaIds, ex.getMessage());
+                intakeService.recordRetry(covered, ex.getMessage());
+            } catch (RuntimeException ex) {
+                // The reduction may still have been applied, so the sagas stay STARTED for keyed reconciliation
+                log.warn("Batch stock reduction for {} orders failed, will retry: {}", covered.size(), ex.getMessage());
+                intakeService.recordRetry(covered, ex.getMessage());
+            }
+        }
+
+        // 4) Contended orders, oldest first
+        for (OrderIntake intake : contended) {
+            List<Long> sagaId = sagaService.beginAll(List.of(intake));
+            try {
+                inventoryServiceClient.reduceStock(new ReduceInventoryStockRequestDTO(intake.getItems(),
+                        sagaQuantities(sagaId, List.of(intake))));
+                sagaService.stockReservedAll(sagaId);
+                placed.add(intake);
+                sagaIds.addAll(sagaId);
+            } catch (InsufficientStockException ex) {
+                sagaService.abortAll(sagaId, ex.getMessage());
+                intakeService.reject(List.of(intake), ex.getMessage());
+            } catch (RuntimeException ex) {
+                // As above, the saga stays STARTED in case the reduction was applied
+                log.warn("Stock reduction for queued order {} failed, will retry: {}",
+                        intake.getOrderId(), ex.getMessage());
+                intakeService.recordRetry(List.of(intake), ex.getMessage());
+            }
+        }
+
+        // 5) Move every placed order to PENDING together with its saga
+        if (!placed.isEmpty()) {
+            markPlaced(placed, sagaIds, priceMap);
+        }
+        return batch.size();
+    }
+
+    private void markPlaced(List<OrderIntake> placed, List<Long> sagaIds, Map<Long, Double> priceMap) {
+        Map<Long, Double> totalAmount = new HashMap<>();
+        for (OrderIntake intake : placed) {
+            totalAmount.put(intake.getOrderId(), totalAmount(intake.getItems(), priceMap));
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<OrderIntake> notPlaced = intakeService.markPlaced(placed, totalAmount);
+                List<Long> completed = new ArrayList<>();
+                List<Long> cancelled = new ArrayList<>();
+                for (int i = 0; i < placed.size(); i++) {
+                    (notPlaced.contains(placed.get(i)) ? cancelled : completed).add(sagaIds.get(i));
+                }
+                if (!completed.isEmpty()) {
+                    sagaService.completeAll(completed);
+                }
+                if (!cancelled.isEmpty()) {
+                    sagaService.requestCompensationAll(cancelled, "Order no longer ACCEPTED");
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.error("Placing {} queued orders failed after stock was reduced, queuing compensation: {}",
+                    placed.size(), ex.getMessage());
+            try {
+                sagaService.requestCompensationAll(sagaIds, ex.getMessage());
+            } catch (RuntimeException compensationEx) {
+                log.error("Could not queue compensation for sagas {}: {}", sagaIds, compensationEx.getMessage());
+            }
+            intakeService.recordRetry(placed, ex.getMessage());
+        }
+    }
+
+    private static Map<Long, Integer> totalQuantities(List<OrderIntake> intakes) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderIntake intake : intakes) {
+            intake.getItems().forEach((bookId, quantity) -> quantities.merge(bookId, quantity, Integer::sum));
+        }
+        return quantities;
+    }
+
+    private static Map<Long, Map<Long, Integer>> sagaQuantities(List<Long> sagaIds, List<OrderIntake> intakes) {
+        Map<Long, Map<Long, Integer>> quantities = new HashMap<>();
+        for (int i = 0; i < sagaIds.size(); i++) {
+            quantities.put(sagaIds.get(i), intakes.get(i).getItems());
+        }
+        return quantities;
+    }
+
+    private static double totalAmount(Map<Long, Integer> items, Map<Long, Double> priceMap) {
+        double total = 0.0;
+        for (Map.Entry<Long, Integer> item : items.entrySet()) {
+            Double unitPrice = priceMap.get(item.getKey());
+            if (unitPrice == null) {
+                log.warn("Price not found for bookId={}, defaulting contribution to 0.0", item.getKey());
+                continue;
+            }
+            total += unitPrice * item.getValue();
+        }
+        return total;
+    }
+
+    /**
+     * Waits for a downstream call and rethrows its failure unwrapped.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.book.management.order.service.intake;
+
+import com.book.management.order.config.OrderIntakeProperties;
+import com.book.management.order.dto.responsedto.OrderStatusEventDTO;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.model.Order;
+import com.book.management.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes the outcome of asynchronously placed orders to subscribed clients
+ * as server-sent events.
+ *
+ * Subscriptions are held in memory. Outcomes are found by polling the
+ * orders table for the subscribed IDs after each intake run, so a client
+ * is notified whichever instance placed its order.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderStatusNotifier {
+
+    static final String EVENT_NAME = "order-status";
+
+    private final OrderRepository orderRepository;
+    private final OrderIntakeProperties properties;
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Opens a subscription to an order's outcome. An order that is no
+     * longer ACCEPTED gets its status immediately.
+     *
+     * @param orderId       the order ID
+     * @param currentStatus the order's status when subscribing
+     * @return the emitter that receives one event and then completes
+     */
+    public SseEmitter subscribe(long orderId, OrderEnum currentStatus) {
+        SseEmitter emitter = new SseEmitter(properties.getSubscribeTimeoutMillis());
+        if (currentStatus != OrderEnum.ACCEPTED) {
+            send(emitter, OrderStatusEventDTO.of(orderId, currentStatus));
+            return emitter;
+        }
+
+        subscribers.computeIfAbsent(orderId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        Runnable unsubscribe = () -> subscribers.computeIfPresent(orderId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(ex -> unsubscribe.run());
+        return emitter;
+    }
+
+    /**
+     * Notifies subscribers of every subscribed order that has left ACCEPTED.
+     *
+     * @return number of orders whose subscribers were notified
+     */
+    public int publishSettled() {
+        if (subscribers.isEmpty()) {
+            return 0;
+        }
+        int published = 0;
+        for (Order order : orderRepository.findAllById(new ArrayList<>(subscribers.keySet()))) {
+            if (order.getOrderStatus() != OrderEnum.ACCEPTED) {
+                List<SseEmitter> emitters = subscribers.remove(order.getOrderId());
+                if (emitters != null) {
+                    OrderStatusEventDTO event = OrderStatusEventDTO.of(order.getOrderId(), order.getOrderStatus());
+                    emitters.forEach(emitter -> send(emitter, event));
+                    published++;
+                }
+            }
+        }
+        return published;
+    }
+
+    int subscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static void send(SseEmitter emitter, OrderStatusEventDTO event) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Order status subscriber for orderId: {} went away: {}", event.getOrderId(), ex.getMessage());
+            emitter.completeWithError(ex);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.book.management.order.service.listing;
+
+import com.book.management.order.exception.InvalidOrderQueryException;
+import com.book.management.order.model.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in an order listing: the order date and ID of the last order
+ * returned. Listings resume strictly after it.
+ *
+ * Clients receive the cursor as an opaque URL-safe string.
+ *
+ * @param orderDateTime order date of the last order returned
+ * @param orderId       ID of the last order returned
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record OrderCursor(LocalDateTime orderDateTime, long orderId) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @param order the last order returned
+     * @return the cursor following the order
+     */
+    public static OrderCursor after(Order order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getOrderId());
+    }
+
+    /**
+     * @return the cursor as an opaque URL-safe string
+     */
+    public String encode() {
+        String raw = orderDateTime.toString() + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a cursor produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws InvalidOrderQueryException if the cursor is malformed
+     */
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidOrderQueryException("Invalid cursor: " + cursor);
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidOrderQueryException("Invalid cursor: " + cursor);
+        }
+    }
+}
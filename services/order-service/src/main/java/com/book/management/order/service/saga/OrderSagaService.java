@@ -0,0 +1,317 @@
+package com.book.management.order.service.saga;
+
+import com.book.management.order.config.SagaProperties;
+import com.book.management.order.dto.responsedto.RestockInventoryStockResultDTO;
+import com.book.management.order.enums.SagaStatus;
+import com.book.management.order.model.Order;
+import com.book.management.order.model.OrderIntake;
+import com.book.management.order.model.OrderSaga;
+import com.book.management.order.repository.OrderSagaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the steps of order placement sagas and hands out batches of
+ * sagas whose reduced stock has to be restocked.
+ *
+ * Every method is a short transaction of its own (or joins the caller's),
+ * so no database connection is held while inventory is being called.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSagaService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OrderSagaRepository sagaRepository;
+    private final SagaProperties properties;
+
+    /**
+     * Records a saga before any stock is reduced.
+     *
+     * @param userId the ordering user
+     * @param items  bookId to quantity about to be reduced
+     * @return the saga ID
+     */
+    @Transactional
+    public long begin(Long userId, Map<Long, Integer> items) {
+        LocalDateTime now = LocalDateTime.now();
+        OrderSaga saga = sagaRepository.save(OrderSaga.builder()
+                .userId(userId)
+                .items(new LinkedHashMap<>(items))
+                .stockKeyed(true)
+                .status(SagaStatus.STARTED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        return saga.getSagaId();
+    }
+
+    /**
+     * Records one saga per queued order before the batch's stock is reduced.
+     * The orders already exist as ACCEPTED, so each saga knows its order.
+     *
+     * @param intakes the queued orders about to be placed together
+     * @return the saga IDs, in the order of {@code intakes}
+     */
+    @Transactional
+    public List<Long> beginAll(List<OrderIntake> intakes) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderSaga> sagas = new ArrayList<>(intakes.size());
+        for (OrderIntake intake : intakes) {
+            sagas.add(OrderSaga.builder()
+                    .orderId(intake.getOrderId())
+                    .userId(intake.getUserId())
+                    .items(new LinkedHashMap<>(intake.getItems()))
+                    .stockKeyed(true)
+                    .status(SagaStatus.STARTED)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return sagaRepository.saveAll(sagas).stream().map(OrderSaga::getSagaId).toList();
+    }
+
+    /**
+     * Records that inventory confirmed the stock reduction.
+     *
+     * @param sagaId the saga ID
+     */
+    @Transactional
+    public void stockReserved(long sagaId) {
+        sagaRepository.transition(sagaId, SagaStatus.STARTED, SagaStatus.STOCK_RESERVED, null, LocalDateTime.now());
+    }
+
+    /**
+     * Records that the stock reduction failed, leaving nothing to compensate.
+     *
+     * @param sagaId the saga ID
+     * @param reason why the reduction failed
+     */
+    @Transactional
+    public void abort(long sagaId, String reason) {
+        sagaRepository.transition(sagaId, SagaStatus.STARTED, SagaStatus.ABORTED, truncate(reason), LocalDateTime.now());
+    }
+
+    /**
+     * Queues a started saga for keyed compensation after the stock reduction
+     * call failed without a definite answer, such as a timeout. Inventory
+     * may have applied the reduction, so the worker restocks what inventory
+     * recorded under the saga, or voids it so a late reduction is refused.
+     *
+     * @param sagaId the saga ID
+     * @param reason why the reduction's outcome is unknown
+     */
+    @Transactional
+    public void reductionUnconfirmed(long sagaId, String reason) {
+        sagaRepository.transition(sagaId, SagaStatus.STARTED, SagaStatus.COMPENSATION_PENDING, truncate(reason),
+                LocalDateTime.now());
+    }
+
+    /**
+     * Records that inventory confirmed one stock reduction covering several sagas.
+     *
+     * @param sagaIds the saga IDs
+     */
+    @Transactional
+    public void stockReservedAll(List<Long> sagaIds) {
+        sagaRepository.transitionAll(sagaIds, SagaStatus.STARTED, SagaStatus.STOCK_RESERVED, null,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Records that a stock reduction covering several sagas failed.
+     *
+     * @param sagaIds the saga IDs
+     * @param reason  why the reduction failed
+     */
+    @Transactional
+    public void abortAll(List<Long> sagaIds, String reason) {
+        sagaRepository.transitionAll(sagaIds, SagaStatus.STARTED, SagaStatus.ABORTED, truncate(reason),
+                LocalDateTime.now());
+    }
+
+    /**
+     * Marks a reserved saga as completed by its order. Must run in the
+     * transaction that saves the order, so both commit or neither does.
+     *
+     * @param sagaId  the saga ID
+     * @param orderId the saved order's ID
+     * @throws IllegalStateException if the compensation worker has already
+     *                               claimed the saga, rolling the order back
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(long sagaId, long orderId) {
+        int updated = sagaRepository.complete(sagaId, orderId, SagaStatus.STOCK_RESERVED, SagaStatus.COMPLETED,
+                LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalStateException("Saga " + sagaId + " is no longer reserved; its stock is being restocked");
+        }
+    }
+
+    /**
+     * Marks reserved sagas whose orders already exist as completed. Must run
+     * in the transaction that places the orders.
+     *
+     * @param sagaIds the saga IDs
+     * @throws IllegalStateException if the compensation worker has already
+     *                               claimed any of them, rolling the orders back
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void completeAll(List<Long> sagaIds) {
+        int updated = sagaRepository.transitionAll(sagaIds, SagaStatus.STOCK_RESERVED, SagaStatus.COMPLETED, null,
+                LocalDateTime.now());
+        if (updated != sagaIds.size()) {
+            throw new IllegalStateException((sagaIds.size() - updated) + " of " + sagaIds.size()
+                    + " sagas are no longer reserved; their stock is being restocked");
+        }
+    }
+
+    /**
+     * Queues the stock of a reserved saga for restocking after the order
+     * could not be saved.
+     *
+     * @param sagaId the saga ID
+     * @param reason why the order was not saved
+     */
+    @Transactional
+    public void requestCompensation(long sagaId, String reason) {
+        sagaRepository.transition(sagaId, SagaStatus.STOCK_RESERVED, SagaStatus.COMPENSATION_PENDING,
+                truncate(reason), LocalDateTime.now());
+    }
+
+    /**
+     * Queues the stock of several reserved sagas for restocking after their
+     * orders could not be placed.
+     *
+     * @param sagaIds the saga IDs
+     * @param reason  why the orders were not placed
+     */
+    @Transactional
+    public void requestCompensationAll(List<Long> sagaIds, String reason) {
+        sagaRepository.transitionAll(sagaIds, SagaStatus.STOCK_RESERVED, SagaStatus.COMPENSATION_PENDING,
+                truncate(reason), LocalDateTime.now());
+    }
+
+    /**
+     * Queues the stock of a cancelled order for restocking. Orders placed
+     * before sagas were recorded get a saga built from their items.
+     *
+     * @param order the cancelled order
+     */
+    @Transactional
+    public void requestCompensation(Order order) {
+        LocalDateTime now = LocalDateTime.now();
+        OrderSaga saga = sagaRepository.findFirstByOrderIdOrderBySagaIdDesc(order.getOrderId())
+                .filter(existing -> existing.getStatus() == SagaStatus.COMPLETED)
+                .orElseGet(() -> OrderSaga.builder()
+                        .orderId(order.getOrderId())
+                        .userId(order.getUserId())
+                        .items(new LinkedHashMap<>(order.getItems()))
+                        .createdAt(now)
+                        .build());
+        saga.setStatus(SagaStatus.COMPENSATION_PENDING);
+        saga.setLastError("Order cancelled");
+        saga.setNextAttemptAt(now);
+        saga.setUpdatedAt(now);
+        sagaRepository.save(saga);
+    }
+
+    /**
+     * Claims the next batch of sagas to restock. Claimed sagas move to
+     * COMPENSATING; a worker that dies leaves them to be reclaimed once stale.
+     * Keyed sagas left STARTED by a crash between reducing stock and
+     * recording it are claimed once stale too, since inventory restocks
+     * only what it recorded under their ID.
+     *
+     * @return the claimed sagas, empty when nothing is due
+     */
+    @Transactional
+    public List<OrderSaga> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderSaga> batch = sagaRepository.findCompensable(
+                SagaStatus.COMPENSATION_PENDING, now,
+                List.of(SagaStatus.STOCK_RESERVED, SagaStatus.COMPENSATING),
+                SagaStatus.STARTED,
+                now.minusNanos(properties.getStaleAfterMillis() * 1_000_000),
+                PageRequest.ofSize(properties.getCompensationBatchSize()));
+        for (OrderSaga saga : batch) {
+            saga.setStatus(SagaStatus.COMPENSATING);
+            saga.setAttempts(saga.getAttempts() + 1);
+            saga.setUpdatedAt(now);
+        }
+        return batch;
+    }
+
+    /**
+     * Records the per-book outcome of restocking a claimed batch. A saga is
+     * compensated when every one of its books was restocked or no longer
+     * exists; otherwise its books may have been partly restocked, so it is
+     * marked FAILED rather than retried.
+     *
+     * @param batch   the claimed sagas
+     * @param results inventory's outcome per bookId
+     */
+    @Transactional
+    public void recordRestocked(List<OrderSaga> batch, Map<Long, RestockInventoryStockResultDTO> results) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OrderSaga saga : batch) {
+            List<Long> failedBooks = new ArrayList<>();
+            for (Long bookId : saga.getItems().keySet()) {
+                RestockInventoryStockResultDTO result = results.get(bookId);
+                if (result == null || RestockInventoryStockResultDTO.FAILED.equals(result.getStatus())) {
+                    failedBooks.add(bookId);
+                }
+            }
+            if (failedBooks.isEmpty()) {
+                saga.setStatus(SagaStatus.COMPENSATED);
+                saga.setLastError(null);
+            } else {
+                log.error("Saga compensation failed for sagaId: {}, bookIds: {}", saga.getSagaId(), failedBooks);
+                saga.setStatus(SagaStatus.FAILED);
+                saga.setLastError(truncate("Restock failed for bookIds: " + failedBooks));
+            }
+            saga.setUpdatedAt(now);
+        }
+        sagaRepository.saveAll(batch);
+    }
+
+    /**
+     * Returns a claimed batch to the queue after the restock call failed,
+     * or marks sagas FAILED once they run out of attempts.
+     *
+     * @param batch  the claimed sagas
+     * @param reason why the restock call failed
+     */
+    @Transactional
+    public void recordRetry(List<OrderSaga> batch, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OrderSaga saga : batch) {
+            boolean exhausted = saga.getAttempts() >= properties.getMaxAttempts();
+            saga.setStatus(exhausted ? SagaStatus.FAILED : SagaStatus.COMPENSATION_PENDING);
+            saga.setNextAttemptAt(now.plusNanos(properties.getRetryBackoffMillis() * 1_000_000));
+            saga.setLastError(truncate(reason));
+            saga.setUpdatedAt(now);
+        }
+        sagaRepository.saveAll(batch);
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,91 @@
+package com.book.management.order.service.saga;
+
+import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.config.SagaProperties;
+import com.book.management.order.dto.requestdto.RestockInventoryStockRequestDTO;
+import com.book.management.order.dto.responsedto.RestockInventoryStockResultDTO;
+import com.book.management.order.model.OrderSaga;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Background worker that restocks the stock of failed and cancelled orders.
+ *
+ * Each batch of claimed sagas is merged into one bulk restock call, so a
+ * backlog costs one inventory request per batch. The worker runs on the
+ * scheduler thread, never on a request thread, so order placement does not
+ * wait for compensation however large the backlog grows.
+ *
+ * Every saga's quantities are sent under its saga ID, and inventory
+ * restocks each saga and book at most once, so a restock whose response
+ * was lost, or a saga reclaimed after its worker died, is retried safely.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SagaCompensationWorker {
+
+    private final OrderSagaService sagaService;
+    private final InventoryServiceClient inventoryServiceClient;
+    private final SagaProperties properties;
+
+    /**
+     * Processes due sagas batch by batch until none are left or the
+     * per-run batch limit is reached.
+     *
+     * @return number of sagas processed
+     */
+    public int compensatePending() {
+        int processed = 0;
+        for (int run = 0; run < properties.getMaxBatchesPerRun(); run++) {
+            List<OrderSaga> batch = sagaService.claimBatch();
+            if (batch.isEmpty()) {
+                break;
+            }
+            compensate(batch);
+            processed += batch.size();
+            if (batch.size() < properties.getCompensationBatchSize()) {
+                break;
+            }
+        }
+        if (processed > 0) {
+            log.info("Saga compensation processed {} sagas", processed);
+        }
+        return processed;
+    }
+
+    private void compensate(List<OrderSaga> batch) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        Map<Long, Map<Long, Integer>> sagaQuantities = new HashMap<>();
+        Set<Long> keyedSagaIds = new HashSet<>();
+        for (OrderSaga saga : batch) {
+            saga.getItems().forEach((bookId, quantity) -> quantities.merge(bookId, quantity, Integer::sum));
+            sagaQuantities.put(saga.getSagaId(), saga.getItems());
+            if (saga.isStockKeyed()) {
+                keyedSagaIds.add(saga.getSagaId());
+            }
+        }
+
+        Map<Long, RestockInventoryStockResultDTO> results;
+        try {
+            results = inventoryServiceClient.restockStock(
+                    new RestockInventoryStockRequestDTO(quantities, sagaQuantities, keyedSagaIds));
+        } catch (Exception ex) {
+            log.warn("Restock of {} sagas failed, will retry: {}", batch.size(), ex.getMessage());
+            sagaService.recordRetry(batch, ex.getMessage());
+            return;
+        }
+        sagaService.recordRestocked(batch, results != null ? results : Map.of());
+    }
+}
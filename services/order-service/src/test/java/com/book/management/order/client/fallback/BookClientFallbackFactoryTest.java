@@ -203,5 +203,25 @@ class BookClientFallbackFactoryTest {
 
         assertTrue(exception.getMessage().contains(originalError));
     }
-}
 
+    /**
+     * Test: Verify the catalogue version fallback fails instead of inventing a version.
+     *
+     * Scenario: Book Service is unavailable during a catalogue version check.
+     * Expected: IllegalStateException, so cached prices are not revalidated.
+     */
+    @Test
+    void testCreate_GetCatalogueVersion_ShouldThrowIllegalStateException() {
+        // Arrange
+        Throwable cause = new RuntimeException("Connection refused");
+        BookServiceClient fallbackClient = fallbackFactory.create(cause);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            fallbackClient::getCatalogueVersion
+        );
+
+        assertTrue(exception.getMessage().contains("Connection refused"));
+    }
+}
@@ -1,7 +1,9 @@
 package com.book.management.order.client.fallback;
 
 import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.dto.requestdto.CheckInventoryAvailabilityRequestDTO;
 import com.book.management.order.dto.requestdto.ReduceInventoryStockRequestDTO;
+import com.book.management.order.dto.requestdto.RestockInventoryStockRequestDTO;
 import com.book.management.order.exception.OrderNotPlacedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,6 +78,53 @@ class InventoryClientFallbackFactoryTest {
         assertTrue(exception.getMessage().contains("Connection refused"));
     }
 
+    /**
+     * Test: Verify the availability pre-check fails the same way as the reduction.
+     *
+     * Scenario: Inventory Service is unavailable during the stock pre-check.
+     * Expected: OrderNotPlacedException with appropriate error message.
+     */
+    @Test
+    void testCreate_CheckAvailability_ShouldThrowOrderNotPlacedException() {
+        // Arrange
+        Throwable cause = new RuntimeException("Connection refused");
+        InventoryServiceClient fallbackClient = fallbackFactory.create(cause);
+        CheckInventoryAvailabilityRequestDTO request =
+                new CheckInventoryAvailabilityRequestDTO(testRequest.getBookQuantities());
+
+        // Act & Assert
+        OrderNotPlacedException exception = assertThrows(
+            OrderNotPlacedException.class,
+            () -> fallbackClient.checkAvailability(request)
+        );
+
+        assertTrue(exception.getMessage().contains("Inventory Service unavailable"));
+        assertTrue(exception.getMessage().contains("Connection refused"));
+    }
+
+    /**
+     * Test: Verify a failed restock is not reported as an order placement failure.
+     *
+     * Scenario: Inventory Service is unavailable while the saga worker restocks.
+     * Expected: IllegalStateException so the worker schedules a retry.
+     */
+    @Test
+    void testCreate_RestockStock_ShouldThrowIllegalStateException() {
+        // Arrange
+        Throwable cause = new RuntimeException("Connection refused");
+        InventoryServiceClient fallbackClient = fallbackFactory.create(cause);
+        RestockInventoryStockRequestDTO request =
+                new RestockInventoryStockRequestDTO(testRequest.getBookQuantities());
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> fallbackClient.restockStock(request)
+        );
+
+        assertTrue(exception.getMessage().contains("Connection refused"));
+    }
+
     /**
      * Test: Verify fallback handles timeout exceptions.
      *
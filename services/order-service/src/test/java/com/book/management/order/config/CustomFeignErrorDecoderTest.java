@@ -1,5 +1,6 @@
 package com.book.management.order.config;
 
+import com.book.management.order.exception.InsufficientStockException;
 import com.book.management.order.exception.OrderNotPlacedException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Request;
@@ -65,11 +66,30 @@ class CustomFeignErrorDecoderTest {
         Exception result = errorDecoder.decode("InventoryServiceClient#reduceStock()", response);
 
         // Assert
-        assertInstanceOf(OrderNotPlacedException.class, result);
+        assertInstanceOf(InsufficientStockException.class, result);
         assertTrue(result.getMessage().contains("Inventory Issue"));
         assertTrue(result.getMessage().contains(errorMessage));
     }
 
+    /**
+     * Test: Verify a 400 that is not about stock is not an insufficient-stock failure.
+     *
+     * Scenario: Inventory service rejects the request body.
+     * Expected: OrderNotPlacedException, so the intake worker retries instead of rejecting.
+     */
+    @Test
+    void testDecode_With400ValidationError_ShouldNotThrowInsufficientStockException() {
+        // Arrange
+        Response response = createMockResponse(400, "bookQuantities must not be empty");
+
+        // Act
+        Exception result = errorDecoder.decode("InventoryServiceClient#reduceStock()", response);
+
+        // Assert
+        assertInstanceOf(OrderNotPlacedException.class, result);
+        assertFalse(result instanceof InsufficientStockException);
+    }
+
     /**
      * Test: Verify 404 Not Found is decoded to OrderNotPlacedException.
      *
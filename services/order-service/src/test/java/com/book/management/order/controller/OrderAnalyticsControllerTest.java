@@ -0,0 +1,101 @@
+package com.book.management.order.controller;
+
+import com.book.management.order.dto.responsedto.AnalyticsRebuildResponseDTO;
+import com.book.management.order.dto.responsedto.DailyBookUnitsDTO;
+import com.book.management.order.dto.responsedto.DailyRevenueDTO;
+import com.book.management.order.dto.responsedto.OrderAnalyticsResponseDTO;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.exception.AnalyticsRebuildInProgressException;
+import com.book.management.order.exception.GlobalOrderExceptionHandler;
+import com.book.management.order.filter.GatewayAuthenticationFilter;
+import com.book.management.order.service.analytics.OrderAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for {@link OrderAnalyticsController}.
+ * Uses MockMvc with a mocked analytics service.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@WebMvcTest(value = OrderAnalyticsController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                classes = GatewayAuthenticationFilter.class))
+@Import({GlobalOrderExceptionHandler.class})
+class OrderAnalyticsControllerTest {
+
+        private static final LocalDate FROM = LocalDate.of(2026, 10, 1);
+        private static final LocalDate TO = LocalDate.of(2026, 10, 31);
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockitoBean
+        private OrderAnalyticsService orderAnalyticsService;
+
+        /**
+         * Tests fetching analytics for a date range.
+         * Verifies HTTP 200 response with the rollup figures.
+         */
+        @Test
+        void getAnalytics_Success_Returns200() throws Exception {
+                when(orderAnalyticsService.getAnalytics(FROM, TO)).thenReturn(OrderAnalyticsResponseDTO.builder()
+                                .from(FROM)
+                                .to(TO)
+                                .revenueByDate(List.of(new DailyRevenueDTO(FROM, 120.5, 3)))
+                                .ordersByStatus(Map.of(OrderEnum.PENDING, 3L))
+                                .unitsByBookAndDate(List.of(new DailyBookUnitsDTO(FROM, 101L, 4)))
+                                .build());
+
+                mockMvc.perform(get("/api/v1/order/analytics")
+                                .param("from", "2026-10-01")
+                                .param("to", "2026-10-31"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.revenueByDate[0].revenue").value(120.5))
+                                .andExpect(jsonPath("$.ordersByStatus.PENDING").value(3))
+                                .andExpect(jsonPath("$.unitsByBookAndDate[0].units").value(4));
+        }
+
+        /**
+         * Tests that a rebuild already in progress is reported as a conflict.
+         * Verifies HTTP 409 Conflict response.
+         */
+        @Test
+        void rebuild_AlreadyRunning_Returns409() throws Exception {
+                when(orderAnalyticsService.rebuild())
+                                .thenThrow(new AnalyticsRebuildInProgressException("An analytics rebuild is already running"));
+
+                mockMvc.perform(post("/api/v1/order/analytics/rebuild"))
+                                .andExpect(status().isConflict());
+        }
+
+        /**
+         * Tests a successful rebuild.
+         * Verifies HTTP 200 response with the rebuild summary.
+         */
+        @Test
+        void rebuild_Success_Returns200() throws Exception {
+                when(orderAnalyticsService.rebuild()).thenReturn(AnalyticsRebuildResponseDTO.builder()
+                                .chunks(2).rowsWritten(10).durationMillis(5).build());
+
+                mockMvc.perform(post("/api/v1/order/analytics/rebuild"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.rowsWritten").value(10));
+        }
+}
@@ -1,9 +1,15 @@
 package com.book.management.order.controller;
 
+import com.book.management.order.dto.requestdto.OrderListingRequestDTO;
 import com.book.management.order.dto.requestdto.PlaceOrderRequestDTO;
 import com.book.management.order.dto.requestdto.UpdateOrderStatusRequestDTO;
+import com.book.management.order.dto.responsedto.BulkStatusUpdateResponseDTO;
+import com.book.management.order.dto.responsedto.OrderPageResponseDTO;
 import com.book.management.order.dto.responsedto.OrderResponseDTO;
+import com.book.management.order.dto.responsedto.OrderSoftDeleteResultDTO;
+import com.book.management.order.dto.responsedto.OrderStatusOutcomeDTO;
 import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.enums.StatusUpdateOutcome;
 import com.book.management.order.exception.GlobalOrderExceptionHandler;
 import com.book.management.order.exception.OrderCancellationNotAllowedException;
 import com.book.management.order.exception.OrderInvalidStatusTransitionException;
@@ -22,6 +28,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -29,8 +36,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -107,6 +119,26 @@ class OrderControllerTest {
                 verify(orderService, times(1)).placeOrder(any(PlaceOrderRequestDTO.class));
         }
 
+        /**
+         * Tests order placement with an Idempotency-Key header.
+         * Verifies the key is passed to the idempotent placement.
+         */
+        @Test
+        void placeOrder_WithIdempotencyKey_UsesKeyedPlacement() throws Exception {
+                when(orderService.placeOrder(any(PlaceOrderRequestDTO.class), eq("req-42")))
+                                .thenReturn(successfulOrderResponse);
+
+                mockMvc.perform(post("/api/v1/order/place")
+                                .header("Idempotency-Key", "req-42")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(validPlaceOrderRequest)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.orderId").value(1L));
+
+                verify(orderService, times(1)).placeOrder(any(PlaceOrderRequestDTO.class), eq("req-42"));
+                verify(orderService, never()).placeOrder(any(PlaceOrderRequestDTO.class));
+        }
+
         /**
          * Tests order placement failure due to service error.
          * Verifies HTTP 400 Bad Request with ORDER_PLACEMENT_FAILED error code.
@@ -125,6 +157,29 @@ class OrderControllerTest {
                 verify(orderService, times(1)).placeOrder(any(PlaceOrderRequestDTO.class));
         }
 
+        // ==================== POST /api/v1/order/place/async ====================
+
+        /**
+         * Tests asynchronous order acceptance.
+         * Verifies HTTP 202 Accepted with the queued order and its location.
+         */
+        @Test
+        void placeOrderAsync_Success_Returns202Accepted() throws Exception {
+                successfulOrderResponse.setOrderStatus(OrderEnum.ACCEPTED);
+                when(orderService.acceptOrder(any(PlaceOrderRequestDTO.class))).thenReturn(successfulOrderResponse);
+
+                mockMvc.perform(post("/api/v1/order/place/async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(validPlaceOrderRequest)))
+                                .andExpect(status().isAccepted())
+                                .andExpect(header().string("Location", "/api/v1/order/getById/1"))
+                                .andExpect(jsonPath("$.orderId").value(1L))
+                                .andExpect(jsonPath("$.orderStatus").value("ACCEPTED"));
+
+                verify(orderService, times(1)).acceptOrder(any(PlaceOrderRequestDTO.class));
+                verify(orderService, never()).placeOrder(any(PlaceOrderRequestDTO.class));
+        }
+
         // ==================== GET /api/v1/order/getAll ====================
 
         /**
@@ -205,6 +260,74 @@ class OrderControllerTest {
                 verify(orderService, times(1)).getOrdersByStatus(OrderEnum.PENDING);
         }
 
+        // ==================== GET /api/v1/order/page ====================
+
+        /**
+         * Tests keyset page retrieval with filters bound from query parameters.
+         * Verifies HTTP 200 OK with the page and next cursor.
+         */
+        @Test
+        void getOrderPage_Success_Returns200Ok() throws Exception {
+                OrderPageResponseDTO page = OrderPageResponseDTO.builder()
+                                .items(List.of(successfulOrderResponse))
+                                .nextCursor("abc")
+                                .hasMore(true)
+                                .build();
+                when(orderService.getOrderPage(argThat(filter -> filter.getStatus() == OrderEnum.PENDING
+                                && LocalDateTime.of(2026, 10, 1, 0, 0).equals(filter.getFrom())),
+                                isNull(), eq(50))).thenReturn(page);
+
+                mockMvc.perform(get("/api/v1/order/page")
+                                .param("status", "PENDING")
+                                .param("from", "2026-10-01T00:00:00")
+                                .param("size", "50"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].orderId").value(1L))
+                                .andExpect(jsonPath("$.nextCursor").value("abc"))
+                                .andExpect(jsonPath("$.hasMore").value(true));
+        }
+
+        /**
+         * Tests that an empty date range is rejected before reaching the service.
+         * Verifies HTTP 400 Bad Request.
+         */
+        @Test
+        void getOrderPage_FromNotBeforeTo_Returns400BadRequest() throws Exception {
+                mockMvc.perform(get("/api/v1/order/page")
+                                .param("from", "2026-10-02T00:00:00")
+                                .param("to", "2026-10-01T00:00:00"))
+                                .andExpect(status().isBadRequest());
+
+                verifyNoInteractions(orderService);
+        }
+
+        // ==================== GET /api/v1/order/export ====================
+
+        /**
+         * Tests NDJSON export streaming one order per line.
+         * Verifies HTTP 200 OK with application/x-ndjson content.
+         */
+        @Test
+        void exportOrders_Success_StreamsNdjson() throws Exception {
+                doAnswer(invocation -> {
+                        Consumer<OrderResponseDTO> consumer = invocation.getArgument(1);
+                        consumer.accept(successfulOrderResponse);
+                        consumer.accept(successfulOrderResponse);
+                        return null;
+                }).when(orderService).exportOrders(any(OrderListingRequestDTO.class), any());
+
+                MvcResult result = mockMvc.perform(get("/api/v1/order/export").param("userId", "99"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+                String[] lines = result.getResponse().getContentAsString().split("\n");
+                assertEquals(2, lines.length);
+                assertEquals(1L, objectMapper.readTree(lines[0]).get("orderId").asLong());
+        }
+
         // ==================== PATCH /api/v1/order/update/{orderId}
         // ====================
 
@@ -255,6 +378,50 @@ class OrderControllerTest {
                                 .andExpect(jsonPath("$.error").value("INVALID_ORDER_STATUS_TRANSITION"));
         }
 
+        // ==================== PATCH /api/v1/order/update/bulk
+        // ====================
+
+        /**
+         * Tests bulk status update with per-order outcomes.
+         * Verifies HTTP 200 response and that the literal path wins over /update/{orderId}.
+         */
+        @Test
+        void changeOrderStatuses_Success_Returns200WithOutcomes() throws Exception {
+                BulkStatusUpdateResponseDTO response = BulkStatusUpdateResponseDTO.builder()
+                                .orderStatus(OrderEnum.SHIPPED)
+                                .updated(1)
+                                .rejected(1)
+                                .outcomes(List.of(
+                                                new OrderStatusOutcomeDTO(1L, OrderEnum.PENDING, StatusUpdateOutcome.UPDATED),
+                                                new OrderStatusOutcomeDTO(2L, null, StatusUpdateOutcome.NOT_FOUND)))
+                                .build();
+                when(orderService.updateOrderStatuses(any())).thenReturn(response);
+
+                mockMvc.perform(patch("/api/v1/order/update/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"orderIds\":[1,2],\"orderStatus\":\"SHIPPED\"}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.updated").value(1))
+                                .andExpect(jsonPath("$.outcomes[0].outcome").value("UPDATED"))
+                                .andExpect(jsonPath("$.outcomes[1].outcome").value("NOT_FOUND"));
+
+                verify(orderService, never()).updateOrderStatus(anyLong(), any());
+        }
+
+        /**
+         * Tests that a bulk update without a target status is rejected.
+         * Verifies HTTP 400 Bad Request response.
+         */
+        @Test
+        void changeOrderStatuses_MissingStatus_Returns400() throws Exception {
+                mockMvc.perform(patch("/api/v1/order/update/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"orderIds\":[1,2]}"))
+                                .andExpect(status().isBadRequest());
+
+                verify(orderService, never()).updateOrderStatuses(any());
+        }
+
         // ==================== DELETE /api/v1/order/cancel/{orderId}
         // ====================
 
@@ -327,15 +494,55 @@ class OrderControllerTest {
 
         /**
          * Tests successful soft deletion of all orders for a user.
-         * Verifies HTTP 204 No Content response.
+         * Verifies HTTP 200 response with the deletion counts.
          */
         @Test
-        void deleteUserOrder_Success_Returns204NoContent() throws Exception {
-                doNothing().when(orderService).softDeleteUserOrder(100L);
+        void deleteUserOrder_Success_Returns200WithCounts() throws Exception {
+                when(orderService.softDeleteUserOrder(100L))
+                                .thenReturn(OrderSoftDeleteResultDTO.builder().deleted(3).alreadyDeleted(1).build());
 
                 mockMvc.perform(delete("/api/v1/order/deleteByUser/{userId}", 100L))
-                                .andExpect(status().isNoContent());
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.deleted").value(3))
+                                .andExpect(jsonPath("$.alreadyDeleted").value(1));
 
                 verify(orderService, times(1)).softDeleteUserOrder(100L);
         }
+
+        // ==================== POST /api/v1/order/delete/bulk
+        // ====================
+
+        /**
+         * Tests bulk soft deletion by order ID.
+         * Verifies HTTP 200 response with the deletion counts.
+         */
+        @Test
+        void deleteOrders_Success_Returns200WithCounts() throws Exception {
+                when(orderService.softDeleteOrders(any()))
+                                .thenReturn(OrderSoftDeleteResultDTO.builder().deleted(2).notFound(1).build());
+
+                mockMvc.perform(post("/api/v1/order/delete/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"orderIds\":[1,2,3]}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.deleted").value(2))
+                                .andExpect(jsonPath("$.notFound").value(1));
+
+                verify(orderService, times(1)).softDeleteOrders(
+                                argThat(request -> request.getOrderIds().equals(List.of(1L, 2L, 3L))));
+        }
+
+        /**
+         * Tests that an empty ID list is rejected before reaching the service.
+         * Verifies HTTP 400 Bad Request response.
+         */
+        @Test
+        void deleteOrders_EmptyIds_Returns400() throws Exception {
+                mockMvc.perform(post("/api/v1/order/delete/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"orderIds\":[]}"))
+                                .andExpect(status().isBadRequest());
+
+                verify(orderService, never()).softDeleteOrders(any());
+        }
 }
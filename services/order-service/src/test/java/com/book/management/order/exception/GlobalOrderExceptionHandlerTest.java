@@ -26,6 +26,8 @@ import static org.mockito.Mockito.*;
  * - OrderInvalidStatusTransitionException handling (422 Unprocessable Content)
  * - OrderCancellationNotAllowedException handling (409 Conflict)
  * - OrderNotFoundException handling (404 Not Found)
+ * - IdempotencyKeyConflictException handling (409 Conflict)
+ * - InvalidOrderQueryException handling (400 Bad Request)
  * - Error response DTO structure validation
  * - Request path inclusion in error responses
  *
@@ -52,6 +54,87 @@ class GlobalOrderExceptionHandlerTest {
         when(request.getRequestURI()).thenReturn(TEST_REQUEST_URI);
     }
 
+    /**
+     * Test: Verify IdempotencyKeyConflictException is handled with 409 Conflict.
+     *
+     * Scenario: An Idempotency-Key is reused with a different order request.
+     * Expected: 409 status code with IDEMPOTENCY_KEY_CONFLICT error code.
+     */
+    @Test
+    void testHandleIdempotencyConflict_ShouldReturn409Conflict() {
+        // Arrange
+        IdempotencyKeyConflictException exception =
+                new IdempotencyKeyConflictException("Idempotency-Key 'abc' was already used for a different order request");
+
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleIdempotencyConflict(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("IDEMPOTENCY_KEY_CONFLICT", response.getBody().getError());
+        assertEquals(TEST_REQUEST_URI, response.getBody().getPath());
+    }
+
+    /**
+     * Test: Verify AnalyticsRebuildInProgressException is handled with 409 Conflict.
+     *
+     * Scenario: A rollup rebuild is requested while another one is running.
+     * Expected: 409 status code with ANALYTICS_REBUILD_IN_PROGRESS error code.
+     */
+    @Test
+    void testHandleRebuildInProgress_ShouldReturn409Conflict() {
+        // Arrange
+        AnalyticsRebuildInProgressException exception =
+                new AnalyticsRebuildInProgressException("An analytics rebuild is already running");
+
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleRebuildInProgress(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("ANALYTICS_REBUILD_IN_PROGRESS", response.getBody().getError());
+    }
+
+    /**
+     * Test: Verify AnalyticsRebuildConflictException is handled with 409 Conflict.
+     *
+     * Scenario: Orders counted by a rollup rebuild changed while it scanned them.
+     * Expected: 409 status code with ANALYTICS_REBUILD_CONFLICT error code.
+     */
+    @Test
+    void testHandleRebuildConflict_ShouldReturn409Conflict() {
+        // Arrange
+        AnalyticsRebuildConflictException exception =
+                new AnalyticsRebuildConflictException("Orders changed while the rebuild scanned them");
+
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleRebuildConflict(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("ANALYTICS_REBUILD_CONFLICT", response.getBody().getError());
+    }
+
+    /**
+     * Test: Verify InvalidOrderQueryException is handled with 400 Bad Request.
+     *
+     * Scenario: An order listing is requested with a malformed cursor.
+     * Expected: 400 status code with INVALID_ORDER_QUERY error code.
+     */
+    @Test
+    void testHandleInvalidQuery_ShouldReturn400BadRequest() {
+        // Arrange
+        InvalidOrderQueryException exception = new InvalidOrderQueryException("Invalid cursor: abc");
+
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleInvalidQuery(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("INVALID_ORDER_QUERY", response.getBody().getError());
+        assertEquals("Invalid cursor: abc", response.getBody().getMessage());
+    }
+
     /**
      * Test: Verify OrderNotPlacedException is handled with 400 Bad Request.
      *
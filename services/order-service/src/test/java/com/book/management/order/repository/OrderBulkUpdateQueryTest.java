@@ -0,0 +1,160 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.model.Order;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the set-based soft delete and status queries, running against
+ * H2 in MySQL compatibility mode.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:orderbulkupdatedb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class OrderBulkUpdateQueryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // deleteAllInBatch() would skip soft-deleted rows, so clear the tables directly
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    private List<Long> saveOrders(long userId, int count) {
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orderIds.add(orderRepository.save(Order.builder()
+                    .userId(userId)
+                    .items(Map.of(1L, 1, 2L, 2))
+                    .orderDateTime(START.plusMinutes(i))
+                    .orderTotalAmount(10.0)
+                    .orderStatus(OrderEnum.PENDING)
+                    .build()).getOrderId());
+        }
+        return orderIds;
+    }
+
+    @Test
+    void softDeleteByUserId_UpdatesOnlyActiveOrdersOfUserInOneStatement() {
+        // Arrange
+        List<Long> orderIds = saveOrders(100L, 50);
+        saveOrders(200L, 3);
+        orderRepository.deleteById(orderIds.get(0));
+        statistics.clear();
+
+        // Act
+        long alreadyDeleted = orderRepository.countDeletedByUserId(100L);
+        int deleted = transactionTemplate.execute(status -> orderRepository.softDeleteByUserId(100L));
+
+        // Assert
+        assertEquals(1, alreadyDeleted);
+        assertEquals(49, deleted);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(orderRepository.findByUserId(100L).isEmpty());
+        assertEquals(3, orderRepository.findByUserId(200L).size());
+        assertEquals(50, orderRepository.countDeletedByUserId(100L));
+    }
+
+    @Test
+    void softDeleteByOrderIdIn_IgnoresDeletedAndUnknownIds() {
+        // Arrange
+        List<Long> orderIds = saveOrders(100L, 4);
+        orderRepository.deleteById(orderIds.get(0));
+        List<Long> requested = List.of(orderIds.get(0), orderIds.get(1), orderIds.get(2), 999_999L);
+
+        // Act
+        long alreadyDeleted = orderRepository.countDeletedByOrderIdIn(requested);
+        int deleted = transactionTemplate.execute(status -> orderRepository.softDeleteByOrderIdIn(requested));
+
+        // Assert
+        assertEquals(1, alreadyDeleted);
+        assertEquals(2, deleted);
+        assertEquals(List.of(orderIds.get(3)),
+                orderRepository.findByUserId(100L).stream().map(Order::getOrderId).toList());
+    }
+
+    @Test
+    void findStatusesForUpdate_ReadsActiveOrdersWithoutItemsAndLocksThem() {
+        // Arrange
+        List<Long> orderIds = saveOrders(100L, 3);
+        orderRepository.deleteById(orderIds.get(2));
+        statistics.clear();
+
+        // Act
+        List<OrderStatusView> views = transactionTemplate.execute(status ->
+                orderRepository.findStatusesForUpdate(List.of(orderIds.get(0), orderIds.get(1), orderIds.get(2))));
+
+        // Assert
+        assertEquals(2, views.size());
+        assertTrue(views.contains(new OrderStatusView(orderIds.get(0), OrderEnum.PENDING, START)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void updateStatus_MovesOnlyOrdersInSourceStatus() {
+        // Arrange
+        List<Long> orderIds = saveOrders(100L, 3);
+        transactionTemplate.execute(status ->
+                orderRepository.updateStatus(List.of(orderIds.get(0)), OrderEnum.PENDING, OrderEnum.SHIPPED));
+
+        // Act
+        int updated = transactionTemplate.execute(status ->
+                orderRepository.updateStatus(orderIds, OrderEnum.PENDING, OrderEnum.SHIPPED));
+
+        // Assert
+        assertEquals(2, updated);
+        assertTrue(orderRepository.findByOrderStatus(OrderEnum.PENDING).isEmpty());
+        assertEquals(3, orderRepository.findByOrderStatus(OrderEnum.SHIPPED).size());
+    }
+}
@@ -0,0 +1,156 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.model.Order;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the keyset listing queries and the loading of order
+ * items, running against H2 in MySQL compatibility mode.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:orderlistingdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class OrderListingQueryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime END = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        orderRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Saves orders two to a timestamp, so pages must break ties on order ID.
+     * Every third order is SHIPPED and every order has three items.
+     */
+    private void saveOrders(int count) {
+        for (int i = 0; i < count; i++) {
+            orderRepository.save(Order.builder()
+                    .userId(i % 2 == 0 ? 100L : 200L)
+                    .items(Map.of(1L, 1, 2L, 2, 3L, 3))
+                    .orderDateTime(START.plusMinutes(i / 2))
+                    .orderTotalAmount(10.0)
+                    .orderStatus(i % 3 == 0 ? OrderEnum.SHIPPED : OrderEnum.PENDING)
+                    .build());
+        }
+    }
+
+    private static List<Long> orderIds(List<Order> orders) {
+        return orders.stream().map(Order::getOrderId).toList();
+    }
+
+    /**
+     * Loads a page and touches every order's items, counting statements.
+     */
+    private long statementsToLoadPageWithItems(int size) {
+        statistics.clear();
+        transactionTemplate.execute(status -> {
+            List<Order> page = orderRepository.findPageAfter(START, 0L, END, PageRequest.ofSize(size));
+            assertEquals(size, page.size());
+            page.forEach(order -> assertEquals(3, order.getItems().size()));
+            return null;
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void findPageAfter_WalksTiesInOrderIdOrder() {
+        // Arrange
+        saveOrders(10);
+        List<Long> all = orderIds(orderRepository.findPageAfter(START, 0L, END, PageRequest.ofSize(10)));
+
+        // Act
+        List<Order> first = orderRepository.findPageAfter(START, 0L, END, PageRequest.ofSize(3));
+        Order last = first.get(2);
+        List<Order> second = orderRepository.findPageAfter(
+                last.getOrderDateTime(), last.getOrderId(), END, PageRequest.ofSize(3));
+
+        // Assert
+        assertEquals(all.subList(0, 3), orderIds(first));
+        assertEquals(all.subList(3, 6), orderIds(second));
+        assertEquals(START.plusMinutes(1), last.getOrderDateTime());
+    }
+
+    @Test
+    void findPageByStatusAndUser_ApplyFiltersAndDateBound() {
+        // Arrange
+        saveOrders(12);
+        LocalDateTime before = START.plusMinutes(3);
+
+        // Act
+        List<Order> shipped = orderRepository.findPageByStatusAfter(
+                OrderEnum.SHIPPED, START, 0L, END, PageRequest.ofSize(20));
+        List<Order> userPending = orderRepository.findPageByUserIdAfter(
+                100L, OrderEnum.PENDING, START, 0L, before, PageRequest.ofSize(20));
+        List<Order> userAll = orderRepository.findPageByUserIdAfter(
+                200L, null, START, 0L, END, PageRequest.ofSize(20));
+
+        // Assert
+        assertEquals(4, shipped.size());
+        assertTrue(shipped.stream().allMatch(order -> order.getOrderStatus() == OrderEnum.SHIPPED));
+        assertEquals(2, userPending.size());
+        assertTrue(userPending.stream().allMatch(order ->
+                order.getUserId() == 100L && order.getOrderDateTime().isBefore(before)));
+        assertEquals(6, userAll.size());
+    }
+
+    @Test
+    void listingItems_CostsConstantStatementsRegardlessOfPageSize() {
+        // Arrange
+        saveOrders(Order.ITEMS_BATCH_SIZE);
+
+        // Act
+        long small = statementsToLoadPageWithItems(10);
+        long large = statementsToLoadPageWithItems(Order.ITEMS_BATCH_SIZE);
+
+        // Assert - one query for the orders and one for all of their items
+        assertEquals(2, small);
+        assertEquals(2, large);
+    }
+}
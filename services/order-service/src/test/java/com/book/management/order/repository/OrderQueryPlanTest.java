@@ -0,0 +1,194 @@
+package com.book.management.order.repository;
+
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.model.Order;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan regression tests for the order listing queries, running against
+ * H2 in MySQL compatibility mode.
+ *
+ * Each test runs a repository query, captures the SQL Hibernate generated
+ * for it and fails if {@code EXPLAIN} of that SQL reads a table without an
+ * index.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:orderplandb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.book.management.order.repository.OrderQueryPlanTest$SqlCapture",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class OrderQueryPlanTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime END = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Records every SQL statement Hibernate prepares.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        for (int i = 0; i < 20; i++) {
+            orderRepository.save(Order.builder()
+                    .userId(100L + i % 4)
+                    .items(Map.of(1L, 1, 2L, 2))
+                    .orderDateTime(START.plusMinutes(i))
+                    .orderTotalAmount(10.0)
+                    .orderStatus(i % 2 == 0 ? OrderEnum.PENDING : OrderEnum.SHIPPED)
+                    .build());
+        }
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    /**
+     * Returns the plan of the single SELECT the action issued against a table.
+     */
+    private String planOf(String table, Runnable action) {
+        SqlCapture.STATEMENTS.clear();
+        action.run();
+        List<String> selects = SqlCapture.STATEMENTS.stream()
+                .map(sql -> sql.toLowerCase())
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from " + table + " "))
+                .toList();
+        assertEquals(1, selects.size(), "Expected one select on " + table + " but saw " + SqlCapture.STATEMENTS);
+        return jdbcTemplate.queryForObject("EXPLAIN " + selects.get(0), String.class);
+    }
+
+    /**
+     * Fails unless the plan reads its table through the given index.
+     */
+    private static void assertUsesIndex(String indexName, String plan) {
+        assertFalse(plan.contains(".tableScan"), "Full scan in plan:\n" + plan);
+        assertTrue(plan.contains(indexName.toUpperCase()), "Expected " + indexName + " in plan:\n" + plan);
+    }
+
+    @Test
+    void explain_DetectsFullScan() {
+        // Act
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT order_id FROM orders WHERE order_total_amount > 5", String.class);
+
+        // Assert
+        assertTrue(plan.contains(".tableScan"), plan);
+    }
+
+    @Test
+    void findByUserId_UsesUserIndex() {
+        // Act
+        String plan = planOf("orders", () -> orderRepository.findByUserId(100L));
+
+        // Assert
+        assertUsesIndex("idx_orders_user_deleted_date_time", plan);
+    }
+
+    @Test
+    void findByOrderStatus_UsesStatusIndex() {
+        // Act
+        String plan = planOf("orders", () -> orderRepository.findByOrderStatus(OrderEnum.PENDING));
+
+        // Assert
+        assertUsesIndex("idx_orders_status_deleted_date_time", plan);
+    }
+
+    @Test
+    void findPageAfter_UsesDateTimeIndex() {
+        // Act
+        String plan = planOf("orders",
+                () -> orderRepository.findPageAfter(START, 0L, END, PageRequest.ofSize(5)));
+
+        // Assert
+        assertUsesIndex("idx_orders_deleted_date_time", plan);
+    }
+
+    @Test
+    void findPageByStatusAfter_UsesStatusIndex() {
+        // Act
+        String plan = planOf("orders", () -> orderRepository.findPageByStatusAfter(
+                OrderEnum.SHIPPED, START, 0L, END, PageRequest.ofSize(5)));
+
+        // Assert
+        assertUsesIndex("idx_orders_status_deleted_date_time", plan);
+    }
+
+    @Test
+    void findPageByUserIdAfter_UsesUserIndex() {
+        // Act
+        String plan = planOf("orders", () -> orderRepository.findPageByUserIdAfter(
+                101L, OrderEnum.SHIPPED, START, 0L, END, PageRequest.ofSize(5)));
+
+        // Assert
+        assertUsesIndex("idx_orders_user_deleted_date_time", plan);
+    }
+
+    @Test
+    void findArchivableIds_ReadsDateTimeIndexInOrder() {
+        // Act
+        String plan = planOf("orders", () -> new TransactionTemplate(transactionManager).execute(status ->
+                orderRepository.findArchivableIds(List.of("SHIPPED"), END, 5)));
+
+        // Assert
+        assertUsesIndex("idx_orders_deleted_date_time", plan);
+    }
+
+    @Test
+    void itemsBatchLoad_UsesOrderItemsIndex() {
+        // Act
+        String plan = planOf("order_items", () -> new TransactionTemplate(transactionManager).execute(status -> {
+            orderRepository.findPageAfter(START, 0L, END, PageRequest.ofSize(5))
+                    .forEach(order -> order.getItems().size());
+            return null;
+        }));
+
+        // Assert
+        assertUsesIndex("idx_order_items_order_id", plan);
+    }
+}
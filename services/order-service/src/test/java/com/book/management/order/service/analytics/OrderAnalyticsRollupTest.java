@@ -0,0 +1,303 @@
+package com.book.management.order.service.analytics;
+
+import com.book.management.order.config.OrderAnalyticsProperties;
+import com.book.management.order.dto.responsedto.AnalyticsRebuildResponseDTO;
+import com.book.management.order.dto.responsedto.OrderAnalyticsResponseDTO;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.exception.AnalyticsRebuildConflictException;
+import com.book.management.order.model.Order;
+import com.book.management.order.repository.OrderArchiveRepository;
+import com.book.management.order.repository.OrderRepository;
+import com.book.management.order.repository.OrderStatusView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the analytics rollups, running the recorded
+ * deltas, their fold and the rebuild scan against H2 in MySQL
+ * compatibility mode.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import({OrderAnalyticsService.class, OrderAnalyticsProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:orderanalyticsdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class OrderAnalyticsRollupTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+    @Autowired
+    private OrderAnalyticsService analyticsService;
+
+    @Autowired
+    private OrderAnalyticsProperties properties;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        properties.setRebuildChunkSize(3);
+        properties.setRebuildWriteGraceMillis(0);
+        properties.setFoldBatchSize(1_000);
+        properties.setFoldedRetentionMillis(86_400_000);
+        jdbcTemplate.update("DELETE FROM order_analytics_delta");
+        jdbcTemplate.update("DELETE FROM order_rollup_daily_revenue");
+        jdbcTemplate.update("DELETE FROM order_rollup_daily_status");
+        jdbcTemplate.update("DELETE FROM order_rollup_daily_book_units");
+        jdbcTemplate.update("DELETE FROM order_items_archive");
+        jdbcTemplate.update("DELETE FROM orders_archive");
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    /**
+     * Saves an order and records it, as order placement does.
+     */
+    private Order place(LocalDate date, OrderEnum status, double total, Map<Long, Integer> items) {
+        return transactionTemplate.execute(tx -> {
+            Order order = orderRepository.save(Order.builder()
+                    .userId(1L)
+                    .items(items)
+                    .orderDateTime(date.atTime(10, 0))
+                    .orderTotalAmount(total)
+                    .orderStatus(status)
+                    .build());
+            analyticsService.recordStatusChange(order, null);
+            return order;
+        });
+    }
+
+    /**
+     * Changes an order's status and records it, as the status endpoints do.
+     */
+    private void transition(Order order, OrderEnum status) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            OrderEnum previous = order.getOrderStatus();
+            order.setOrderStatus(status);
+            analyticsService.recordStatusChange(orderRepository.save(order), previous);
+        });
+    }
+
+    /**
+     * Places, ships and cancels a handful of orders over two days.
+     */
+    private void placeOrders() {
+        Order first = place(DAY, OrderEnum.PENDING, 30.0, Map.of(1L, 1, 2L, 2));
+        place(DAY, OrderEnum.PENDING, 20.0, Map.of(1L, 2));
+        Order cancelled = place(DAY, OrderEnum.PENDING, 50.0, Map.of(3L, 5));
+        place(DAY, OrderEnum.ACCEPTED, 0.0, Map.of(3L, 1));
+        Order nextDay = place(DAY.plusDays(1), OrderEnum.PENDING, 15.0, Map.of(2L, 1));
+        Order deleted = place(DAY.plusDays(1), OrderEnum.PENDING, 5.0, Map.of(2L, 1));
+
+        transition(first, OrderEnum.SHIPPED);
+        transition(cancelled, OrderEnum.CANCELLED);
+        transition(nextDay, OrderEnum.SHIPPED);
+        transition(nextDay, OrderEnum.DELIVERED);
+        transactionTemplate.executeWithoutResult(tx ->
+                orderRepository.softDeleteByOrderIdIn(List.of(deleted.getOrderId())));
+    }
+
+    private void assertExpectedAnalytics(OrderAnalyticsResponseDTO analytics) {
+        assertEquals(2, analytics.getRevenueByDate().size());
+        assertEquals(50.0, analytics.getRevenueByDate().get(0).getRevenue(), 1e-9);
+        assertEquals(2, analytics.getRevenueByDate().get(0).getOrderCount());
+        assertEquals(20.0, analytics.getRevenueByDate().get(1).getRevenue(), 1e-9);
+        assertEquals(Map.of(OrderEnum.PENDING, 2L, OrderEnum.SHIPPED, 1L, OrderEnum.DELIVERED, 1L,
+                OrderEnum.CANCELLED, 1L, OrderEnum.ACCEPTED, 1L), analytics.getOrdersByStatus());
+        assertEquals(List.of("2026-10-01/1=3", "2026-10-01/2=2", "2026-10-02/2=2"),
+                analytics.getUnitsByBookAndDate().stream()
+                        .map(row -> row.getDate() + "/" + row.getBookId() + "=" + row.getUnits())
+                        .toList());
+    }
+
+    private long pendingDeltas() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_analytics_delta WHERE folded = false", Long.class);
+    }
+
+    @Test
+    void foldDeltas_TrackPlacementsTransitionsAndCancellations() {
+        // Arrange
+        placeOrders();
+        assertTrue(analyticsService.getAnalytics(DAY, DAY.plusDays(1)).getOrdersByStatus().isEmpty());
+
+        // Act
+        int folded = analyticsService.foldDeltas();
+
+        // Assert
+        assertTrue(folded > 0);
+        assertEquals(0, pendingDeltas());
+        assertExpectedAnalytics(analyticsService.getAnalytics(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void foldDeltas_SmallBatches_ApplyEveryDeltaOnce() {
+        // Arrange
+        placeOrders();
+        long recorded = pendingDeltas();
+        properties.setFoldBatchSize(4);
+
+        // Act
+        int folded = analyticsService.foldDeltas();
+
+        // Assert
+        assertEquals(recorded, folded);
+        assertEquals(0, analyticsService.foldDeltas());
+        assertExpectedAnalytics(analyticsService.getAnalytics(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void recordStatusChanges_MovesCountsPerDateAndStatus() {
+        // Arrange
+        place(DAY, OrderEnum.ACCEPTED, 0.0, Map.of(1L, 1));
+        place(DAY, OrderEnum.ACCEPTED, 0.0, Map.of(1L, 1));
+        LocalDateTime time = DAY.atTime(10, 0);
+
+        // Act
+        transactionTemplate.executeWithoutResult(tx -> analyticsService.recordStatusChanges(List.of(
+                new OrderStatusView(1L, OrderEnum.ACCEPTED, time),
+                new OrderStatusView(2L, OrderEnum.ACCEPTED, time)), OrderEnum.REJECTED));
+        analyticsService.foldDeltas();
+
+        // Assert
+        OrderAnalyticsResponseDTO analytics = analyticsService.getAnalytics(DAY, DAY);
+        assertEquals(Map.of(OrderEnum.REJECTED, 2L), analytics.getOrdersByStatus());
+        assertTrue(analytics.getRevenueByDate().isEmpty());
+    }
+
+    @Test
+    void rebuild_ReproducesIncrementalRollupsFromChunkedScan() {
+        // Arrange
+        placeOrders();
+        analyticsService.foldDeltas();
+        jdbcTemplate.update("UPDATE order_rollup_daily_revenue SET revenue = 999");
+        jdbcTemplate.update("DELETE FROM order_rollup_daily_book_units");
+
+        // Act
+        AnalyticsRebuildResponseDTO result = analyticsService.rebuild();
+
+        // Assert - order IDs in chunks of three
+        assertEquals(Math.ceilDiv(orderRepository.findMaxOrderId(), 3), result.getChunks());
+        assertExpectedAnalytics(analyticsService.getAnalytics(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void rebuild_CountsArchivedOrders() {
+        // Arrange - move every order except the newest into the archive
+        placeOrders();
+        transactionTemplate.executeWithoutResult(tx -> {
+            List<Long> orderIds = jdbcTemplate.queryForList(
+                    "SELECT order_id FROM orders WHERE order_id < ?", Long.class, orderRepository.findMaxOrderId());
+            orderArchiveRepository.copyOrders(orderIds, LocalDateTime.now());
+            orderArchiveRepository.copyItems(orderIds);
+            orderArchiveRepository.deleteHotItems(orderIds);
+            orderArchiveRepository.deleteHotOrders(orderIds);
+        });
+        jdbcTemplate.update("DELETE FROM order_rollup_daily_book_units");
+
+        // Act
+        analyticsService.rebuild();
+
+        // Assert
+        assertExpectedAnalytics(analyticsService.getAnalytics(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void rebuild_DropsUnfoldedDeltasTheScanCovered() {
+        // Arrange
+        placeOrders();
+
+        // Act
+        analyticsService.rebuild();
+        analyticsService.foldDeltas();
+
+        // Assert - the placements are counted once, by the scan
+        assertEquals(0, pendingDeltas());
+        assertExpectedAnalytics(analyticsService.getAnalytics(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void rebuild_KeepsDeltasOfOrdersAfterWatermark() {
+        // Arrange - a delta of an order the scan cannot have seen
+        placeOrders();
+        analyticsService.foldDeltas();
+        jdbcTemplate.update("INSERT INTO order_analytics_delta (order_id, kind, rollup_date, revenue, amount, recorded_at, folded) "
+                + "VALUES (?, 'REVENUE', ?, 7.0, 1, ?, false)", orderRepository.findMaxOrderId() + 100, DAY, LocalDateTime.now().minusHours(1));
+        analyticsService.foldDeltas();
+
+        // Act
+        analyticsService.rebuild();
+        analyticsService.foldDeltas();
+
+        // Assert
+        OrderAnalyticsResponseDTO analytics = analyticsService.getAnalytics(DAY, DAY);
+        assertEquals(57.0, analytics.getRevenueByDate().get(0).getRevenue(), 1e-9);
+        assertEquals(3, analytics.getRevenueByDate().get(0).getOrderCount());
+    }
+
+    @Test
+    void foldDeltas_PurgesFoldedDeltasPastRetention() {
+        // Arrange
+        placeOrders();
+        analyticsService.foldDeltas();
+        properties.setFoldedRetentionMillis(0);
+
+        // Act
+        analyticsService.foldDeltas();
+
+        // Assert
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_analytics_delta", Long.class));
+        assertExpectedAnalytics(analyticsService.getAnalytics(DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void rebuild_OrdersChangedAfterWatermark_IsRefused() {
+        // Arrange - every order changed within the grace period, and those changes are already folded
+        properties.setRebuildWriteGraceMillis(60_000);
+        placeOrders();
+        analyticsService.foldDeltas();
+        jdbcTemplate.update("UPDATE order_rollup_daily_revenue SET revenue = 999");
+
+        // Act & Assert
+        assertThrows(AnalyticsRebuildConflictException.class, () -> analyticsService.rebuild());
+        assertEquals(999.0, analyticsService.getAnalytics(DAY, DAY).getRevenueByDate().get(0).getRevenue(), 1e-9);
+    }
+}
@@ -0,0 +1,189 @@
+package com.book.management.order.service.analytics;
+
+import com.book.management.order.config.OrderAnalyticsProperties;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.exception.InvalidOrderQueryException;
+import com.book.management.order.model.Order;
+import com.book.management.order.model.OrderAnalyticsDelta;
+import com.book.management.order.repository.AnalyticsFoldLockRepository;
+import com.book.management.order.repository.DailyBookUnitsRollupRepository;
+import com.book.management.order.repository.DailyRevenueRollupRepository;
+import com.book.management.order.repository.DailyStatusRollupRepository;
+import com.book.management.order.repository.OrderAnalyticsDeltaRepository;
+import com.book.management.order.repository.OrderRepository;
+import com.book.management.order.repository.OrderStatusView;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OrderAnalyticsService}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderAnalyticsServiceTest {
+
+    private static final LocalDateTime ORDER_TIME = LocalDateTime.of(2026, 10, 19, 9, 30);
+    private static final LocalDate ORDER_DATE = ORDER_TIME.toLocalDate();
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private DailyRevenueRollupRepository revenueRollupRepository;
+
+    @Mock
+    private DailyStatusRollupRepository statusRollupRepository;
+
+    @Mock
+    private DailyBookUnitsRollupRepository bookUnitsRollupRepository;
+
+    @Mock
+    private OrderAnalyticsDeltaRepository deltaRepository;
+
+    @Mock
+    private AnalyticsFoldLockRepository foldLockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new OrderAnalyticsService(orderRepository, revenueRollupRepository,
+                statusRollupRepository, bookUnitsRollupRepository, deltaRepository, foldLockRepository,
+                new TransactionTemplate(transactionManager),
+                entityManager, new OrderAnalyticsProperties());
+    }
+
+    private static Order order(OrderEnum status) {
+        return Order.builder().orderId(1L).orderDateTime(ORDER_TIME).orderTotalAmount(40.0)
+                .items(Map.of(101L, 2, 102L, 1)).orderStatus(status).build();
+    }
+
+    /**
+     * Captures the deltas recorded by one call, as "kind date status-or-book revenue/amount".
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> recordedDeltas() {
+        ArgumentCaptor<List<OrderAnalyticsDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deltaRepository).saveAll(captor.capture());
+        return captor.getValue().stream()
+                .map(delta -> delta.getKind() + " " + delta.getRollupDate() + " "
+                        + (delta.getKind() == OrderAnalyticsDelta.Kind.BOOK_UNITS ? delta.getBookId() : delta.getOrderStatus())
+                        + " " + delta.getRevenue() + "/" + delta.getAmount())
+                .toList();
+    }
+
+    @Test
+    void recordStatusChange_NewPendingOrder_RecordsRevenueUnitsAndStatus() {
+        // Act
+        analyticsService.recordStatusChange(order(OrderEnum.PENDING), null);
+
+        // Assert
+        assertEquals(Set.of(
+                "STATUS 2026-10-19 PENDING 0.0/1",
+                "REVENUE 2026-10-19 null 40.0/1",
+                "BOOK_UNITS 2026-10-19 101 0.0/2",
+                "BOOK_UNITS 2026-10-19 102 0.0/1"), Set.copyOf(recordedDeltas()));
+        verifyNoInteractions(statusRollupRepository, revenueRollupRepository, bookUnitsRollupRepository);
+    }
+
+    @Test
+    void recordStatusChange_Cancellation_RecordsSubtractedRevenueAndUnits() {
+        // Act
+        analyticsService.recordStatusChange(order(OrderEnum.CANCELLED), OrderEnum.SHIPPED);
+
+        // Assert
+        assertEquals(Set.of(
+                "STATUS 2026-10-19 SHIPPED 0.0/-1",
+                "STATUS 2026-10-19 CANCELLED 0.0/1",
+                "REVENUE 2026-10-19 null -40.0/-1",
+                "BOOK_UNITS 2026-10-19 101 0.0/-2",
+                "BOOK_UNITS 2026-10-19 102 0.0/-1"), Set.copyOf(recordedDeltas()));
+    }
+
+    @Test
+    void recordStatusChange_Shipping_RecordsStatusMoveOnly() {
+        // Act
+        analyticsService.recordStatusChange(order(OrderEnum.SHIPPED), OrderEnum.PENDING);
+
+        // Assert
+        assertEquals(List.of("STATUS 2026-10-19 PENDING 0.0/-1", "STATUS 2026-10-19 SHIPPED 0.0/1"), recordedDeltas());
+    }
+
+    @Test
+    void recordStatusChange_SameStatus_RecordsNothing() {
+        // Act
+        analyticsService.recordStatusChange(order(OrderEnum.PENDING), OrderEnum.PENDING);
+
+        // Assert
+        verifyNoInteractions(deltaRepository);
+    }
+
+    @Test
+    void recordStatusChanges_RecordsMovePerOrder() {
+        // Arrange
+        List<OrderStatusView> previous = List.of(
+                new OrderStatusView(1L, OrderEnum.PENDING, ORDER_TIME),
+                new OrderStatusView(2L, OrderEnum.PENDING, ORDER_TIME.plusDays(1)),
+                new OrderStatusView(3L, OrderEnum.SHIPPED, ORDER_TIME));
+
+        // Act
+        analyticsService.recordStatusChanges(previous, OrderEnum.SHIPPED);
+
+        // Assert
+        assertEquals(List.of(
+                "STATUS 2026-10-19 PENDING 0.0/-1",
+                "STATUS 2026-10-19 SHIPPED 0.0/1",
+                "STATUS 2026-10-20 PENDING 0.0/-1",
+                "STATUS 2026-10-20 SHIPPED 0.0/1"), recordedDeltas());
+    }
+
+    @Test
+    void recordStatusChanges_RevenueChangingMove_Throws() {
+        // Arrange
+        List<OrderStatusView> previous = List.of(
+                new OrderStatusView(1L, OrderEnum.PENDING, ORDER_TIME),
+                new OrderStatusView(2L, OrderEnum.ACCEPTED, ORDER_TIME));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> analyticsService.recordStatusChanges(previous, OrderEnum.PENDING));
+        verifyNoInteractions(deltaRepository);
+    }
+
+    @Test
+    void getAnalytics_InvalidRange_ThrowsException() {
+        // Act & Assert
+        assertThrows(InvalidOrderQueryException.class,
+                () -> analyticsService.getAnalytics(ORDER_DATE, ORDER_DATE.minusDays(1)));
+        assertThrows(InvalidOrderQueryException.class,
+                () -> analyticsService.getAnalytics(null, ORDER_DATE));
+        assertThrows(InvalidOrderQueryException.class,
+                () -> analyticsService.getAnalytics(ORDER_DATE, ORDER_DATE.plusDays(366)));
+        verifyNoInteractions(revenueRollupRepository);
+    }
+}
@@ -0,0 +1,157 @@
+package com.book.management.order.service.archive;
+
+import com.book.management.order.config.OrderArchiveProperties;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.model.ArchivedOrder;
+import com.book.management.order.model.Order;
+import com.book.management.order.repository.OrderArchiveRepository;
+import com.book.management.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the archival of completed orders, running the
+ * {@code INSERT ... SELECT} and {@code DELETE} chunks against H2 in MySQL
+ * compatibility mode.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@DataJpaTest
+@Import({OrderArchiveService.class, OrderArchiveProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:orderarchivedb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+class OrderArchiveServiceTest {
+
+    private static final LocalDateTime AGED = LocalDateTime.now().minusYears(1);
+    private static final LocalDateTime RECENT = LocalDateTime.now().minusDays(1);
+
+    @Autowired
+    private OrderArchiveService archiveService;
+
+    @Autowired
+    private OrderArchiveProperties properties;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+        properties.setPauseMillis(0);
+        properties.setMaxChunksPerRun(200);
+        jdbcTemplate.update("DELETE FROM order_items_archive");
+        jdbcTemplate.update("DELETE FROM orders_archive");
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    private Order save(OrderEnum status, LocalDateTime orderDateTime) {
+        return orderRepository.save(Order.builder()
+                .userId(100L)
+                .items(Map.of(1L, 1, 2L, 2))
+                .orderDateTime(orderDateTime)
+                .orderTotalAmount(30.0)
+                .orderStatus(status)
+                .build());
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @Test
+    void archiveAged_MovesOnlyAgedFinalOrdersWithTheirItems() {
+        // Arrange
+        Order delivered = save(OrderEnum.DELIVERED, AGED);
+        save(OrderEnum.CANCELLED, AGED);
+        save(OrderEnum.REJECTED, AGED);
+        Order agedPending = save(OrderEnum.PENDING, AGED);
+        Order recentDelivered = save(OrderEnum.DELIVERED, RECENT);
+
+        // Act
+        int archived = archiveService.archiveAged();
+
+        // Assert
+        assertEquals(3, archived);
+        assertEquals(List.of(agedPending.getOrderId(), recentDelivered.getOrderId()),
+                orderRepository.findAll().stream().map(Order::getOrderId).sorted().toList());
+        assertEquals(4, count("order_items"));
+        assertEquals(3, count("orders_archive"));
+        assertEquals(6, count("order_items_archive"));
+        ArchivedOrder moved = new TransactionTemplate(transactionManager).execute(status -> {
+            ArchivedOrder found = orderArchiveRepository.findById(delivered.getOrderId()).orElseThrow();
+            assertEquals(Map.of(1L, 1, 2L, 2), found.getItems());
+            return found;
+        });
+        assertEquals(OrderEnum.DELIVERED, moved.getOrderStatus());
+        assertEquals(AGED.withNano(0), moved.getOrderDateTime().withNano(0));
+        assertNotNull(moved.getArchivedAt());
+    }
+
+    @Test
+    void archiveAged_KeepsDeletedFlagAndStopsAfterMaxChunks() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            save(OrderEnum.DELIVERED, AGED);
+        }
+        Order deleted = save(OrderEnum.CANCELLED, AGED);
+        orderRepository.deleteById(deleted.getOrderId());
+        properties.setMaxChunksPerRun(2);
+
+        // Act
+        int firstRun = archiveService.archiveAged();
+        int secondRun = archiveService.archiveAged();
+
+        // Assert
+        assertEquals(4, firstRun);
+        assertEquals(2, secondRun);
+        assertEquals(0, count("orders"));
+        assertEquals(6, count("orders_archive"));
+        assertEquals(1, orderArchiveRepository.countDeletedByUserId(100L));
+        assertEquals(5, orderArchiveRepository.findByUserId(100L).size());
+        assertTrue(orderArchiveRepository.findById(deleted.getOrderId()).isEmpty());
+    }
+
+    @Test
+    void archiveAged_NothingToArchive_ReturnsZero() {
+        // Arrange
+        save(OrderEnum.SHIPPED, AGED);
+
+        // Act & Assert
+        assertEquals(0, archiveService.archiveAged());
+        assertEquals(1, count("orders"));
+    }
+}
@@ -0,0 +1,174 @@
+package com.book.management.order.service.cache;
+
+import com.book.management.order.config.PriceCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BookPriceCache}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class BookPriceCacheTest {
+
+    private PriceCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BookPriceCache cache;
+
+    private final Map<Long, Double> catalogue = new HashMap<>(Map.of(1L, 10.0, 2L, 20.0, 3L, 30.0));
+    private final List<List<Long>> loads = new ArrayList<>();
+    private final Function<List<Long>, Map<Long, Double>> loader = bookIds -> {
+        loads.add(bookIds);
+        Map<Long, Double> prices = new HashMap<>();
+        bookIds.forEach(bookId -> prices.put(bookId, catalogue.get(bookId)));
+        return prices;
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties = new PriceCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BookPriceCache(properties, meterRegistry);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("order.price.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void getPrices_UnknownVersion_AlwaysLoads() {
+        // Act
+        cache.getPrices(List.of(1L, 2L), loader);
+        cache.getPrices(List.of(1L, 2L), loader);
+
+        // Assert
+        assertEquals(2, loads.size());
+        assertEquals(0, meterRegistry.get("order.price.cache.size").gauge().value());
+    }
+
+    @Test
+    void getPrices_LoadsOnlyMissingBooksThenServesHits() {
+        // Arrange
+        cache.onCatalogueVersion(1L);
+        cache.getPrices(List.of(1L), loader);
+
+        // Act
+        Map<Long, Double> prices = cache.getPrices(List.of(1L, 2L), loader);
+        Map<Long, Double> cached = cache.getPrices(List.of(1L, 2L), loader);
+
+        // Assert
+        assertEquals(Map.of(1L, 10.0, 2L, 20.0), prices);
+        assertEquals(prices, cached);
+        assertEquals(List.of(List.of(1L), List.of(2L)), loads);
+        assertEquals(3, requests("hit"));
+        assertEquals(2, requests("miss"));
+        assertEquals(0.6, cache.hitRatio(), 1e-9);
+    }
+
+    @Test
+    void onCatalogueVersion_Changed_DropsCachedPrices() {
+        // Arrange
+        cache.onCatalogueVersion(1L);
+        cache.getPrices(List.of(1L), loader);
+        catalogue.put(1L, 12.5);
+
+        // Act
+        cache.onCatalogueVersion(1L);
+        Map<Long, Double> unchanged = cache.getPrices(List.of(1L), loader);
+        cache.onCatalogueVersion(2L);
+        Map<Long, Double> refreshed = cache.getPrices(List.of(1L), loader);
+
+        // Assert
+        assertEquals(10.0, unchanged.get(1L));
+        assertEquals(12.5, refreshed.get(1L));
+        assertEquals(2, loads.size());
+        assertEquals(1, meterRegistry.get("order.price.cache.invalidations").counter().count());
+    }
+
+    @Test
+    void getPrices_EntryOlderThanMaxAge_IsReloaded() {
+        // Arrange
+        properties.setMaxAgeMillis(0);
+        cache.onCatalogueVersion(1L);
+        cache.getPrices(List.of(1L), loader);
+
+        // Act
+        cache.getPrices(List.of(1L), loader);
+
+        // Assert
+        assertEquals(2, loads.size());
+        assertEquals(0, requests("hit"));
+    }
+
+    @Test
+    void getPrices_VersionChangedDuringLoad_DoesNotServeLoadedEntries() {
+        // Arrange - the catalogue changes while the load is in flight
+        cache.onCatalogueVersion(1L);
+        Function<List<Long>, Map<Long, Double>> racingLoader = bookIds -> {
+            cache.onCatalogueVersion(2L);
+            return loader.apply(bookIds);
+        };
+        cache.getPrices(List.of(1L), racingLoader);
+
+        // Act
+        cache.getPrices(List.of(1L), loader);
+
+        // Assert
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void getPrices_FullCache_KeepsMaxEntries() {
+        // Arrange
+        properties.setMaxEntries(2);
+        cache.onCatalogueVersion(1L);
+
+        // Act
+        Map<Long, Double> prices = cache.getPrices(List.of(1L, 2L, 3L), loader);
+
+        // Assert
+        assertEquals(3, prices.size());
+        assertEquals(2, meterRegistry.get("order.price.cache.size").gauge().value());
+    }
+
+    @Test
+    void getPrices_FullCache_EvictsLeastRecentlyUsed() {
+        // Arrange - book 1 is read again after book 2, so book 2 is the eldest
+        properties.setMaxEntries(2);
+        cache.onCatalogueVersion(1L);
+        cache.getPrices(List.of(1L, 2L), loader);
+        cache.getPrices(List.of(1L), loader);
+
+        // Act
+        cache.getPrices(List.of(3L), loader);
+        cache.getPrices(List.of(1L, 3L), loader);
+        cache.getPrices(List.of(2L), loader);
+
+        // Assert
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L), List.of(2L)), loads);
+    }
+
+    @Test
+    void getPrices_LoaderFails_PropagatesAndCachesNothing() {
+        // Arrange
+        cache.onCatalogueVersion(1L);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> cache.getPrices(List.of(1L), bookIds -> {
+            throw new IllegalStateException("Book Service unavailable");
+        }));
+        cache.getPrices(List.of(1L), loader);
+        assertEquals(1, loads.size());
+    }
+}
@@ -0,0 +1,188 @@
+package com.book.management.order.service.idempotency;
+
+import com.book.management.order.config.IdempotencyProperties;
+import com.book.management.order.dto.requestdto.PlaceOrderRequestDTO;
+import com.book.management.order.dto.responsedto.OrderResponseDTO;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.exception.IdempotencyKeyConflictException;
+import com.book.management.order.exception.OrderNotPlacedException;
+import com.book.management.order.model.OrderIdempotencyKey;
+import com.book.management.order.repository.OrderIdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OrderIdempotencyService}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyServiceTest {
+
+    @Mock
+    private OrderIdempotencyKeyRepository keyRepository;
+
+    private IdempotencyProperties properties;
+    private OrderIdempotencyService idempotencyService;
+    private PlaceOrderRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setPollIntervalMillis(1);
+        properties.setWaitTimeoutMillis(2_000);
+        idempotencyService = new OrderIdempotencyService(keyRepository, properties);
+
+        request = new PlaceOrderRequestDTO();
+        request.setUserId(100L);
+        request.setBookOrder(Map.of(101L, 2, 102L, 1));
+    }
+
+    private static OrderResponseDTO order(long orderId, OrderEnum status) {
+        return OrderResponseDTO.builder().orderId(orderId).userId(100L).orderStatus(status).build();
+    }
+
+    @Test
+    void placeOnce_FirstRequest_ClaimsPlacesAndRecordsOrder() {
+        // Act
+        OrderResponseDTO result = idempotencyService.placeOnce("key-1", request,
+                () -> order(7L, OrderEnum.PENDING), id -> fail("first request must not replay"));
+
+        // Assert
+        assertEquals(7L, result.getOrderId());
+        verify(keyRepository).claim(eq("key-1"), eq(OrderIdempotencyService.fingerprint(request)), any());
+        verify(keyRepository).assignOrder("key-1", 7L);
+    }
+
+    @Test
+    void placeOnce_RepeatedKey_ReplaysFromCacheWithoutPlacing() {
+        // Arrange
+        idempotencyService.placeOnce("key-1", request, () -> order(7L, OrderEnum.PENDING), id -> null);
+
+        // Act
+        OrderResponseDTO replayed = idempotencyService.placeOnce("key-1", request,
+                () -> fail("replay must not place again"), id -> order(id, OrderEnum.SHIPPED));
+
+        // Assert
+        assertEquals(7L, replayed.getOrderId());
+        assertEquals(OrderEnum.SHIPPED, replayed.getOrderStatus());
+        verify(keyRepository, times(1)).claim(anyString(), anyString(), any());
+    }
+
+    @Test
+    void placeOnce_ConcurrentDuplicate_WaitsForFirstExecution() throws Exception {
+        // Arrange
+        CountDownLatch placing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger placements = new AtomicInteger();
+
+        CompletableFuture<OrderResponseDTO> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.placeOnce("key-1", request, () -> {
+                    placements.incrementAndGet();
+                    placing.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return order(7L, OrderEnum.PENDING);
+                }, id -> null));
+        assertTrue(placing.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<OrderResponseDTO> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.placeOnce("key-1", request, () -> {
+                    placements.incrementAndGet();
+                    return order(8L, OrderEnum.PENDING);
+                }, id -> order(id, OrderEnum.PENDING)));
+        release.countDown();
+
+        // Assert
+        assertEquals(7L, first.get(5, TimeUnit.SECONDS).getOrderId());
+        assertEquals(7L, duplicate.get(5, TimeUnit.SECONDS).getOrderId());
+        assertEquals(1, placements.get());
+        verify(keyRepository, times(1)).claim(anyString(), anyString(), any());
+    }
+
+    @Test
+    void placeOnce_KeyHeldByOtherInstance_PollsUntilOrderRecorded() {
+        // Arrange
+        String hash = OrderIdempotencyService.fingerprint(request);
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(keyRepository).claim(anyString(), anyString(), any());
+        when(keyRepository.findById("key-1")).thenReturn(
+                Optional.of(new OrderIdempotencyKey("key-1", hash, null, null)),
+                Optional.of(new OrderIdempotencyKey("key-1", hash, 7L, null)));
+
+        // Act
+        OrderResponseDTO result = idempotencyService.placeOnce("key-1", request,
+                () -> fail("a held key must not be placed again"), id -> order(id, OrderEnum.PENDING));
+
+        // Assert
+        assertEquals(7L, result.getOrderId());
+        verify(keyRepository, times(2)).findById("key-1");
+    }
+
+    @Test
+    void placeOnce_KeyReusedForDifferentRequest_Conflicts() {
+        // Arrange
+        idempotencyService.placeOnce("key-1", request, () -> order(7L, OrderEnum.PENDING), id -> null);
+        PlaceOrderRequestDTO other = new PlaceOrderRequestDTO();
+        other.setUserId(100L);
+        other.setBookOrder(Map.of(101L, 5));
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyConflictException.class, () -> idempotencyService.placeOnce("key-1", other,
+                () -> order(8L, OrderEnum.PENDING), id -> order(id, OrderEnum.PENDING)));
+    }
+
+    @Test
+    void placeOnce_PlacementFails_ReleasesKeyForRetry() {
+        // Act & Assert
+        assertThrows(OrderNotPlacedException.class, () -> idempotencyService.placeOnce("key-1", request,
+                () -> {
+                    throw new OrderNotPlacedException("Inventory Issue: insufficient stock");
+                }, id -> null));
+        verify(keyRepository).release("key-1");
+        verify(keyRepository, never()).assignOrder(anyString(), anyLong());
+
+        OrderResponseDTO retried = idempotencyService.placeOnce("key-1", request,
+                () -> order(9L, OrderEnum.PENDING), id -> null);
+        assertEquals(9L, retried.getOrderId());
+    }
+
+    @Test
+    void fingerprint_IgnoresMapOrder() {
+        // Arrange
+        PlaceOrderRequestDTO reordered = new PlaceOrderRequestDTO();
+        reordered.setUserId(100L);
+        Map<Long, Integer> books = new LinkedHashMap<>();
+        books.put(102L, 1);
+        books.put(101L, 2);
+        reordered.setBookOrder(books);
+
+        // Act & Assert
+        assertEquals(OrderIdempotencyService.fingerprint(request), OrderIdempotencyService.fingerprint(reordered));
+    }
+}
@@ -2,31 +2,66 @@ package com.book.management.order.service.impl;
 
 import com.book.management.order.client.BookServiceClient;
 import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.config.BulkStatusUpdateProperties;
+import com.book.management.order.config.OrderListingProperties;
+import com.book.management.order.config.PriceCacheProperties;
+import com.book.management.order.dto.requestdto.BulkSoftDeleteRequestDTO;
+import com.book.management.order.dto.requestdto.BulkStatusUpdateRequestDTO;
+import com.book.management.order.dto.requestdto.CheckInventoryAvailabilityRequestDTO;
 import com.book.management.order.dto.requestdto.GetBookPriceRequestDTO;
+import com.book.management.order.dto.requestdto.OrderListingRequestDTO;
 import com.book.management.order.dto.requestdto.PlaceOrderRequestDTO;
 import com.book.management.order.dto.requestdto.ReduceInventoryStockRequestDTO;
 import com.book.management.order.dto.requestdto.UpdateOrderStatusRequestDTO;
+import com.book.management.order.dto.responsedto.BulkStatusUpdateResponseDTO;
+import com.book.management.order.dto.responsedto.CheckInventoryAvailabilityResponseDTO;
 import com.book.management.order.dto.responsedto.GetBookPriceResponseDTO;
+import com.book.management.order.dto.responsedto.OrderPageResponseDTO;
 import com.book.management.order.dto.responsedto.OrderResponseDTO;
+import com.book.management.order.dto.responsedto.OrderSoftDeleteResultDTO;
+import com.book.management.order.model.ArchivedOrder;
 import com.book.management.order.model.Order;
 import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.enums.StatusUpdateOutcome;
+import com.book.management.order.exception.InsufficientStockException;
+import com.book.management.order.exception.InvalidOrderQueryException;
 import com.book.management.order.exception.OrderCancellationNotAllowedException;
 import com.book.management.order.exception.OrderInvalidStatusTransitionException;
 import com.book.management.order.exception.OrderNotFoundException;
 import com.book.management.order.exception.OrderNotPlacedException;
+import com.book.management.order.repository.OrderArchiveRepository;
 import com.book.management.order.repository.OrderRepository;
+import com.book.management.order.repository.OrderStatusView;
+import com.book.management.order.service.analytics.OrderAnalyticsService;
+import com.book.management.order.service.cache.BookPriceCache;
+import com.book.management.order.service.idempotency.OrderIdempotencyService;
+import com.book.management.order.service.intake.OrderIntakeService;
+import com.book.management.order.service.intake.OrderStatusNotifier;
+import com.book.management.order.service.listing.OrderCursor;
+import com.book.management.order.service.saga.OrderSagaService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,8 +76,32 @@ class OrderServiceImplTest {
     @Mock
     private InventoryServiceClient inventoryServiceClient;
 
-    @InjectMocks
+    @Mock
+    private OrderSagaService orderSagaService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrderIntakeService orderIntakeService;
+
+    @Mock
+    private OrderStatusNotifier orderStatusNotifier;
+
+    @Mock
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Mock
+    private OrderAnalyticsService orderAnalyticsService;
+
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
+    private ExecutorService orderPlacementExecutor;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 9, 0);
+
     private OrderServiceImpl orderService;
+    private final BulkStatusUpdateProperties bulkStatusUpdateProperties = new BulkStatusUpdateProperties();
 
     private PlaceOrderRequestDTO placeOrderRequest;
     private Order order;
@@ -51,6 +110,14 @@ class OrderServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        orderPlacementExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        orderService = new OrderServiceImpl(orderRepository, bookServiceClient, inventoryServiceClient,
+                orderPlacementExecutor, orderSagaService, new TransactionTemplate(transactionManager),
+                orderIntakeService, orderStatusNotifier, orderIdempotencyService,
+                new BookPriceCache(new PriceCacheProperties(), new SimpleMeterRegistry()),
+                new OrderListingProperties(), bulkStatusUpdateProperties, orderAnalyticsService,
+                orderArchiveRepository);
+
         items = new HashMap<>();
         items.put(1L, 2);
         items.put(2L, 3);
@@ -73,8 +140,21 @@ class OrderServiceImplTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        orderPlacementExecutor.close();
+    }
+
+    private void stubAvailability(boolean allAvailable) {
+        Map<Long, Boolean> availabilityMap = new HashMap<>();
+        items.keySet().forEach(bookId -> availabilityMap.put(bookId, allAvailable || bookId != 2L));
+        lenient().when(inventoryServiceClient.checkAvailability(any(CheckInventoryAvailabilityRequestDTO.class)))
+                .thenReturn(new CheckInventoryAvailabilityResponseDTO(availabilityMap, allAvailable, null));
+    }
+
     @Test
     void placeOrder_Success() {
+        stubAvailability(true);
         GetBookPriceResponseDTO priceResponse = new GetBookPriceResponseDTO();
         priceResponse.setBookPrice(bookPrices);
 
@@ -93,6 +173,10 @@ class OrderServiceImplTest {
         verify(bookServiceClient, times(1)).getBookPrices(any(GetBookPriceRequestDTO.class));
         verify(inventoryServiceClient, times(1)).reduceStock(any(ReduceInventoryStockRequestDTO.class));
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderSagaService).begin(100L, items);
+        verify(orderSagaService).stockReserved(anyLong());
+        verify(orderSagaService).complete(anyLong(), eq(1L));
+        verify(orderSagaService, never()).requestCompensation(anyLong(), anyString());
     }
 
     /**
@@ -102,6 +186,7 @@ class OrderServiceImplTest {
      */
     @Test
     void placeOrder_BookServiceFails_ThrowsOrderNotPlacedException() {
+        stubAvailability(true);
         when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class)))
                 .thenThrow(new OrderNotPlacedException("Book service unavailable"));
 
@@ -119,11 +204,12 @@ class OrderServiceImplTest {
      */
     @Test
     void placeOrder_InventoryServiceFails_ThrowsOrderNotPlacedException() {
+        stubAvailability(true);
         GetBookPriceResponseDTO priceResponse = new GetBookPriceResponseDTO();
         priceResponse.setBookPrice(bookPrices);
 
         when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class))).thenReturn(priceResponse);
-        doThrow(new OrderNotPlacedException("Insufficient stock"))
+        doThrow(new InsufficientStockException("Insufficient stock"))
                 .when(inventoryServiceClient).reduceStock(any(ReduceInventoryStockRequestDTO.class));
 
         assertThrows(OrderNotPlacedException.class, () -> orderService.placeOrder(placeOrderRequest));
@@ -131,6 +217,34 @@ class OrderServiceImplTest {
         verify(bookServiceClient, times(1)).getBookPrices(any(GetBookPriceRequestDTO.class));
         verify(inventoryServiceClient, times(1)).reduceStock(any(ReduceInventoryStockRequestDTO.class));
         verify(orderRepository, never()).save(any());
+        verify(orderSagaService).abort(anyLong(), eq("Insufficient stock"));
+        verify(orderSagaService, never()).reductionUnconfirmed(anyLong(), anyString());
+        verify(orderSagaService, never()).stockReserved(anyLong());
+    }
+
+    /**
+     * Tests order placement when the stock reduction call times out after
+     * Inventory Service applied it.
+     * Verifies the saga is queued for keyed compensation instead of aborted,
+     * so the reduced stock is restocked.
+     */
+    @Test
+    void placeOrder_ReduceStockTimesOut_QueuesSagaForCompensation() {
+        // Arrange
+        stubAvailability(true);
+        GetBookPriceResponseDTO priceResponse = new GetBookPriceResponseDTO();
+        priceResponse.setBookPrice(bookPrices);
+        when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class))).thenReturn(priceResponse);
+        when(orderSagaService.begin(anyLong(), any())).thenReturn(42L);
+        doThrow(new OrderNotPlacedException("Inventory Service unavailable: Read timed out"))
+                .when(inventoryServiceClient).reduceStock(any(ReduceInventoryStockRequestDTO.class));
+
+        // Act & Assert
+        assertThrows(OrderNotPlacedException.class, () -> orderService.placeOrder(placeOrderRequest));
+        verify(orderSagaService).reductionUnconfirmed(42L, "Inventory Service unavailable: Read timed out");
+        verify(orderSagaService, never()).abort(anyLong(), anyString());
+        verify(orderSagaService, never()).stockReserved(anyLong());
+        verify(orderRepository, never()).save(any());
     }
 
     @Test
@@ -142,8 +256,10 @@ class OrderServiceImplTest {
         assertTrue(result.isPresent());
         assertEquals(order.getOrderId(), result.get().getOrderId());
         assertEquals(order.getUserId(), result.get().getUserId());
+        assertEquals(items, result.get().getItems());
 
         verify(orderRepository, times(1)).findById(1L);
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
     }
 
     @Test
@@ -153,6 +269,57 @@ class OrderServiceImplTest {
         assertThrows(OrderNotFoundException.class, () -> orderService.getOrderById(999L));
 
         verify(orderRepository, times(1)).findById(999L);
+        verify(orderArchiveRepository, times(1)).findById(999L);
+    }
+
+    @Test
+    void getOrderById_Archived_FallsBackToArchive() {
+        // Arrange
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderArchiveRepository.findById(1L)).thenReturn(Optional.of(archivedOrder(1L)));
+
+        // Act
+        Optional<OrderResponseDTO> result = orderService.getOrderById(1L);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(OrderEnum.DELIVERED, result.get().getOrderStatus());
+        assertEquals(items, result.get().getItems());
+    }
+
+    @Test
+    void getOrdersByUserId_IncludesArchivedOrders() {
+        // Arrange
+        when(orderRepository.findByUserId(100L)).thenReturn(List.of(order));
+        when(orderArchiveRepository.findByUserId(100L)).thenReturn(List.of(archivedOrder(7L)));
+
+        // Act
+        List<OrderResponseDTO> result = orderService.getOrdersByUserId(100L);
+
+        // Assert - active orders first, then archived ones
+        assertEquals(List.of(1L, 7L), result.stream().map(OrderResponseDTO::getOrderId).toList());
+    }
+
+    @Test
+    void getOrdersByUserId_NoActiveOrArchivedOrders_ThrowsException() {
+        // Arrange
+        when(orderRepository.findByUserId(999L)).thenReturn(List.of());
+        when(orderArchiveRepository.findByUserId(999L)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(OrderNotFoundException.class, () -> orderService.getOrdersByUserId(999L));
+    }
+
+    private ArchivedOrder archivedOrder(long orderId) {
+        return ArchivedOrder.builder()
+                .orderId(orderId)
+                .userId(100L)
+                .items(items)
+                .orderTotalAmount(80.0)
+                .orderDateTime(NOW.minusYears(1))
+                .orderStatus(OrderEnum.DELIVERED)
+                .archivedAt(NOW)
+                .build();
     }
 
 
@@ -312,6 +479,8 @@ class OrderServiceImplTest {
 
         verify(orderRepository, times(1)).findById(1L);
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderSagaService, times(1)).requestCompensation(cancelledOrder);
+        verify(orderAnalyticsService).recordStatusChange(cancelledOrder, OrderEnum.PENDING);
     }
 
     @Test
@@ -340,6 +509,19 @@ class OrderServiceImplTest {
         verify(orderRepository, never()).save(any());
     }
 
+    @Test
+    void cancelOrder_AcceptedOrder_ThrowsException() {
+        order.setOrderStatus(OrderEnum.ACCEPTED);
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        assertThrows(OrderCancellationNotAllowedException.class,
+                () -> orderService.cancelOrder(1L));
+
+        verify(orderRepository, never()).save(any());
+        verifyNoInteractions(orderSagaService);
+    }
+
     @Test
     void cancelOrder_OrderNotFound_ThrowsException() {
         when(orderRepository.findById(999L)).thenReturn(Optional.empty());
@@ -453,90 +635,184 @@ class OrderServiceImplTest {
         verify(orderRepository, never()).save(any());
     }
 
-    // ==================== softDeleteUserOrder Tests ====================
-
     @Test
-    void softDeleteUserOrder_Success() {
-        Order order2 = Order.builder()
-                .orderId(2L)
-                .userId(100L)
-                .items(items)
-                .orderTotalAmount(100.0)
-                .orderStatus(OrderEnum.SHIPPED)
-                .orderDateTime(LocalDateTime.now())
-                .isDeleted(false)
-                .build();
-        order.setDeleted(false);
+    void softDeleteOrder_Archived_SoftDeletesInArchive() {
+        // Arrange
+        when(orderRepository.findById(7L)).thenReturn(Optional.empty());
+        when(orderArchiveRepository.softDeleteByOrderIdIn(List.of(7L))).thenReturn(1);
 
-        when(orderRepository.findByUserId(100L)).thenReturn(java.util.List.of(order, order2));
-        when(orderRepository.saveAll(any())).thenReturn(java.util.List.of(order, order2));
+        // Act & Assert
+        assertDoesNotThrow(() -> orderService.softDeleteOrder(7L));
+        verify(orderRepository, never()).save(any());
+    }
 
-        assertDoesNotThrow(() -> orderService.softDeleteUserOrder(100L));
+    // ==================== softDeleteUserOrder Tests ====================
 
-        verify(orderRepository, times(1)).findByUserId(100L);
-        verify(orderRepository, times(1)).saveAll(any());
+    @Test
+    void softDeleteUserOrder_Success_ReturnsCounts() {
+        // Arrange
+        when(orderRepository.countDeletedByUserId(100L)).thenReturn(0L);
+        when(orderRepository.softDeleteByUserId(100L)).thenReturn(2);
+
+        // Act
+        OrderSoftDeleteResultDTO result = orderService.softDeleteUserOrder(100L);
+
+        // Assert
+        assertEquals(2, result.getDeleted());
+        assertEquals(0, result.getAlreadyDeleted());
+        verify(orderRepository, never()).findByUserId(anyLong());
+        verify(orderRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void softDeleteUserOrder_ArchivedOrders_CountedWithActiveOrders() {
+        // Arrange
+        when(orderRepository.countDeletedByUserId(100L)).thenReturn(0L);
+        when(orderRepository.softDeleteByUserId(100L)).thenReturn(1);
+        when(orderArchiveRepository.countDeletedByUserId(100L)).thenReturn(1L);
+        when(orderArchiveRepository.softDeleteByUserId(100L)).thenReturn(3);
+
+        // Act
+        OrderSoftDeleteResultDTO result = orderService.softDeleteUserOrder(100L);
+
+        // Assert
+        assertEquals(4, result.getDeleted());
+        assertEquals(1, result.getAlreadyDeleted());
     }
 
     @Test
     void softDeleteUserOrder_NoOrdersFound_ThrowsException() {
-        when(orderRepository.findByUserId(999L)).thenReturn(java.util.Collections.emptyList());
+        // Arrange
+        when(orderRepository.countDeletedByUserId(999L)).thenReturn(0L);
+        when(orderRepository.softDeleteByUserId(999L)).thenReturn(0);
 
+        // Act & Assert
         assertThrows(OrderNotFoundException.class, () -> orderService.softDeleteUserOrder(999L));
-
-        verify(orderRepository, times(1)).findByUserId(999L);
-        verify(orderRepository, never()).saveAll(any());
     }
 
     @Test
-    void softDeleteUserOrder_AllAlreadyDeleted_NoSave() {
-        order.setDeleted(true);
-        Order order2 = Order.builder()
-                .orderId(2L)
-                .userId(100L)
-                .items(items)
-                .orderTotalAmount(100.0)
-                .orderStatus(OrderEnum.SHIPPED)
-                .orderDateTime(LocalDateTime.now())
-                .isDeleted(true)
-                .build();
+    void softDeleteUserOrder_AllAlreadyDeleted_ReturnsAlreadyDeletedCount() {
+        // Arrange
+        when(orderRepository.countDeletedByUserId(100L)).thenReturn(2L);
+        when(orderRepository.softDeleteByUserId(100L)).thenReturn(0);
 
-        when(orderRepository.findByUserId(100L)).thenReturn(java.util.List.of(order, order2));
+        // Act
+        OrderSoftDeleteResultDTO result = orderService.softDeleteUserOrder(100L);
 
-        assertDoesNotThrow(() -> orderService.softDeleteUserOrder(100L));
+        // Assert
+        assertEquals(0, result.getDeleted());
+        assertEquals(2, result.getAlreadyDeleted());
+    }
 
-        verify(orderRepository, times(1)).findByUserId(100L);
-        verify(orderRepository, never()).saveAll(any());
+    @Test
+    void softDeleteUserOrder_PartiallyDeleted_CountsBoth() {
+        // Arrange
+        when(orderRepository.countDeletedByUserId(100L)).thenReturn(1L);
+        when(orderRepository.softDeleteByUserId(100L)).thenReturn(1);
+
+        // Act
+        OrderSoftDeleteResultDTO result = orderService.softDeleteUserOrder(100L);
+
+        // Assert
+        assertEquals(1, result.getDeleted());
+        assertEquals(1, result.getAlreadyDeleted());
+        assertEquals(0, result.getNotFound());
     }
 
+    // ==================== softDeleteOrders Tests ====================
+
     @Test
-    void softDeleteUserOrder_PartiallyDeleted_OnlyUpdatesNonDeleted() {
-        order.setDeleted(false);
-        Order order2 = Order.builder()
-                .orderId(2L)
-                .userId(100L)
-                .items(items)
-                .orderTotalAmount(100.0)
-                .orderStatus(OrderEnum.SHIPPED)
-                .orderDateTime(LocalDateTime.now())
-                .isDeleted(true)
-                .build();
+    void softDeleteOrders_DeduplicatesIdsAndCountsNotFound() {
+        // Arrange
+        BulkSoftDeleteRequestDTO request = new BulkSoftDeleteRequestDTO(List.of(1L, 2L, 2L, 3L, 4L));
+        Set<Long> expectedIds = new LinkedHashSet<>(List.of(1L, 2L, 3L, 4L));
+        when(orderRepository.countDeletedByOrderIdIn(expectedIds)).thenReturn(1L);
+        when(orderRepository.softDeleteByOrderIdIn(expectedIds)).thenReturn(2);
+
+        // Act
+        OrderSoftDeleteResultDTO result = orderService.softDeleteOrders(request);
+
+        // Assert
+        assertEquals(2, result.getDeleted());
+        assertEquals(1, result.getAlreadyDeleted());
+        assertEquals(1, result.getNotFound());
+        verify(orderRepository, never()).findAllById(any());
+    }
 
-        when(orderRepository.findByUserId(100L)).thenReturn(java.util.List.of(order, order2));
-        when(orderRepository.saveAll(any())).thenReturn(java.util.List.of(order, order2));
+    // ==================== updateOrderStatuses Tests ====================
 
-        assertDoesNotThrow(() -> orderService.softDeleteUserOrder(100L));
+    @Test
+    void updateOrderStatuses_ReportsOutcomePerOrderAndUpdatesAllowedOnes() {
+        // Arrange
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO(
+                List.of(1L, 2L, 3L, 2L, 4L), OrderEnum.SHIPPED);
+        when(orderRepository.findStatusesForUpdate(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                new OrderStatusView(1L, OrderEnum.PENDING, NOW),
+                new OrderStatusView(2L, OrderEnum.DELIVERED, NOW),
+                new OrderStatusView(4L, OrderEnum.PENDING, NOW)));
+        when(orderRepository.updateStatus(List.of(1L, 4L), OrderEnum.PENDING, OrderEnum.SHIPPED)).thenReturn(2);
+
+        // Act
+        BulkStatusUpdateResponseDTO response = orderService.updateOrderStatuses(request);
+
+        // Assert
+        assertEquals(2, response.getUpdated());
+        assertEquals(2, response.getRejected());
+        assertEquals(List.of(1L, 2L, 3L, 4L),
+                response.getOutcomes().stream().map(outcome -> outcome.getOrderId()).toList());
+        assertEquals(List.of(StatusUpdateOutcome.UPDATED, StatusUpdateOutcome.INVALID_TRANSITION,
+                        StatusUpdateOutcome.NOT_FOUND, StatusUpdateOutcome.UPDATED),
+                response.getOutcomes().stream().map(outcome -> outcome.getOutcome()).toList());
+        assertEquals(OrderEnum.DELIVERED, response.getOutcomes().get(1).getPreviousStatus());
+        verify(orderAnalyticsService).recordStatusChanges(List.of(
+                new OrderStatusView(1L, OrderEnum.PENDING, NOW), new OrderStatusView(4L, OrderEnum.PENDING, NOW)),
+                OrderEnum.SHIPPED);
+        verify(orderRepository, never()).findById(anyLong());
+        verify(orderRepository, never()).save(any());
+    }
 
-        verify(orderRepository, times(1)).findByUserId(100L);
-        verify(orderRepository, times(1)).saveAll(any());
+    @Test
+    void updateOrderStatuses_SplitsIntoChunks() {
+        // Arrange
+        bulkStatusUpdateProperties.setChunkSize(2);
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO(List.of(1L, 2L, 3L), OrderEnum.DELIVERED);
+        when(orderRepository.findStatusesForUpdate(List.of(1L, 2L))).thenReturn(List.of(
+                new OrderStatusView(1L, OrderEnum.SHIPPED, NOW), new OrderStatusView(2L, OrderEnum.SHIPPED, NOW)));
+        when(orderRepository.findStatusesForUpdate(List.of(3L))).thenReturn(List.of(
+                new OrderStatusView(3L, OrderEnum.SHIPPED, NOW)));
+        when(orderRepository.updateStatus(List.of(1L, 2L), OrderEnum.SHIPPED, OrderEnum.DELIVERED)).thenReturn(2);
+        when(orderRepository.updateStatus(List.of(3L), OrderEnum.SHIPPED, OrderEnum.DELIVERED)).thenReturn(1);
+
+        // Act
+        BulkStatusUpdateResponseDTO response = orderService.updateOrderStatuses(request);
+
+        // Assert
+        assertEquals(3, response.getUpdated());
+        assertEquals(0, response.getRejected());
+        verify(transactionManager, times(2)).commit(any());
     }
 
     @Test
-    void softDeleteUserOrder_NullList_ThrowsException() {
-        when(orderRepository.findByUserId(999L)).thenReturn(null);
+    void updateOrderStatuses_CountMismatch_RollsBackChunk() {
+        // Arrange
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO(List.of(1L), OrderEnum.SHIPPED);
+        when(orderRepository.findStatusesForUpdate(List.of(1L))).thenReturn(List.of(
+                new OrderStatusView(1L, OrderEnum.PENDING, NOW)));
+        when(orderRepository.updateStatus(List.of(1L), OrderEnum.PENDING, OrderEnum.SHIPPED)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderService.updateOrderStatuses(request));
+        verify(transactionManager, times(1)).rollback(any());
+    }
 
-        assertThrows(OrderNotFoundException.class, () -> orderService.softDeleteUserOrder(999L));
+    @Test
+    void updateOrderStatuses_Cancelled_ThrowsException() {
+        // Arrange
+        BulkStatusUpdateRequestDTO request = new BulkStatusUpdateRequestDTO(List.of(1L), OrderEnum.CANCELLED);
 
-        verify(orderRepository, times(1)).findByUserId(999L);
+        // Act & Assert
+        assertThrows(OrderInvalidStatusTransitionException.class, () -> orderService.updateOrderStatuses(request));
+        verify(orderRepository, never()).findStatusesForUpdate(any());
     }
 
     // ==================== updateOrderStatus Additional Tests ====================
@@ -615,6 +891,7 @@ class OrderServiceImplTest {
 
     @Test
     void placeOrder_MissingPriceForBook_DefaultsToZero() {
+        stubAvailability(true);
         Map<Long, Double> partialPriceMap = new HashMap<>();
         partialPriceMap.put(1L, 10.0);  // Only price for book 1, not book 2
 
@@ -646,6 +923,7 @@ class OrderServiceImplTest {
 
     @Test
     void placeOrder_UnexpectedException_ThrowsOrderNotPlacedException() {
+        stubAvailability(true);
         when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class)))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
@@ -658,4 +936,186 @@ class OrderServiceImplTest {
         verify(inventoryServiceClient, never()).reduceStock(any());
         verify(orderRepository, never()).save(any());
     }
+
+    @Test
+    void placeOrder_StockPreCheckFails_DoesNotReduceOrSave() {
+        GetBookPriceResponseDTO priceResponse = new GetBookPriceResponseDTO();
+        priceResponse.setBookPrice(bookPrices);
+        when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class))).thenReturn(priceResponse);
+        stubAvailability(false);
+
+        OrderNotPlacedException exception = assertThrows(OrderNotPlacedException.class,
+                () -> orderService.placeOrder(placeOrderRequest));
+
+        assertEquals("Insufficient stock for books: [2]", exception.getMessage());
+        verify(inventoryServiceClient, never()).reduceStock(any());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void placeOrder_FetchesPricesAndChecksStockConcurrently() {
+        // The price lookup only returns once the availability check has started
+        CountDownLatch availabilityStarted = new CountDownLatch(1);
+        GetBookPriceResponseDTO priceResponse = new GetBookPriceResponseDTO();
+        priceResponse.setBookPrice(bookPrices);
+        when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class))).thenAnswer(invocation -> {
+            assertTrue(Thread.currentThread().isVirtual());
+            assertTrue(availabilityStarted.await(5, TimeUnit.SECONDS), "calls were not concurrent");
+            return priceResponse;
+        });
+        when(inventoryServiceClient.checkAvailability(any(CheckInventoryAvailabilityRequestDTO.class)))
+                .thenAnswer(invocation -> {
+                    availabilityStarted.countDown();
+                    return new CheckInventoryAvailabilityResponseDTO(Map.of(1L, true, 2L, true), true, null);
+                });
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        OrderResponseDTO result = orderService.placeOrder(placeOrderRequest);
+
+        assertEquals(80.0, result.getOrderTotalAmount());
+        verify(inventoryServiceClient, times(1)).reduceStock(any(ReduceInventoryStockRequestDTO.class));
+    }
+
+    @Test
+    void placeOrder_SaveFailsAfterStockReduced_QueuesCompensation() {
+        stubAvailability(true);
+        GetBookPriceResponseDTO priceResponse = new GetBookPriceResponseDTO();
+        priceResponse.setBookPrice(bookPrices);
+        when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class))).thenReturn(priceResponse);
+        when(orderSagaService.begin(100L, items)).thenReturn(7L);
+        when(orderRepository.save(any(Order.class))).thenThrow(new IllegalStateException("Database unavailable"));
+
+        OrderNotPlacedException exception = assertThrows(OrderNotPlacedException.class,
+                () -> orderService.placeOrder(placeOrderRequest));
+
+        assertTrue(exception.getMessage().contains("Database unavailable"));
+        verify(inventoryServiceClient, times(1)).reduceStock(any(ReduceInventoryStockRequestDTO.class));
+        verify(orderSagaService).stockReserved(7L);
+        verify(orderSagaService).requestCompensation(7L, "Database unavailable");
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void acceptOrder_SavesAcceptedOrderAndQueuesIt() {
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order saved = invocation.getArgument(0);
+            saved.setOrderId(5L);
+            return saved;
+        });
+
+        OrderResponseDTO result = orderService.acceptOrder(placeOrderRequest);
+
+        assertEquals(5L, result.getOrderId());
+        assertEquals(OrderEnum.ACCEPTED, result.getOrderStatus());
+        verify(orderIntakeService).enqueue(argThat(queued ->
+                queued.getOrderId() == 5L && queued.getItems().equals(items)));
+        verifyNoInteractions(bookServiceClient, inventoryServiceClient, orderSagaService);
+    }
+
+    @Test
+    void subscribeOrderStatus_PassesCurrentStatusToNotifier() {
+        order.setOrderStatus(OrderEnum.ACCEPTED);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        orderService.subscribeOrderStatus(1L);
+
+        verify(orderStatusNotifier).subscribe(1L, OrderEnum.ACCEPTED);
+    }
+
+    @Test
+    void subscribeOrderStatus_NotFound_ThrowsException() {
+        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(OrderNotFoundException.class, () -> orderService.subscribeOrderStatus(999L));
+        verifyNoInteractions(orderStatusNotifier);
+    }
+
+    private Order orderAt(long orderId, LocalDateTime orderDateTime) {
+        return Order.builder()
+                .orderId(orderId)
+                .userId(100L)
+                .items(items)
+                .orderTotalAmount(80.0)
+                .orderStatus(OrderEnum.PENDING)
+                .orderDateTime(orderDateTime)
+                .build();
+    }
+
+    @Test
+    void getOrderPage_FirstPage_ReturnsCursorOfLastOrder() {
+        // Arrange
+        LocalDateTime time = LocalDateTime.of(2026, 10, 1, 9, 0);
+        when(orderRepository.findPageByStatusAfter(eq(OrderEnum.PENDING), any(LocalDateTime.class), eq(0L),
+                any(LocalDateTime.class), eq(Pageable.ofSize(3))))
+                .thenReturn(List.of(orderAt(1L, time), orderAt(2L, time), orderAt(3L, time.plusHours(1))));
+        OrderListingRequestDTO filter = OrderListingRequestDTO.builder().status(OrderEnum.PENDING).build();
+
+        // Act
+        OrderPageResponseDTO page = orderService.getOrderPage(filter, null, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertEquals(new OrderCursor(time, 2L), OrderCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getOrderPage_WithCursorAndUser_SeeksAfterCursor() {
+        // Arrange
+        LocalDateTime time = LocalDateTime.of(2026, 10, 1, 9, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 10, 2, 0, 0);
+        when(orderRepository.findPageByUserIdAfter(eq(100L), isNull(), eq(time), eq(2L), eq(to), any(Pageable.class)))
+                .thenReturn(List.of(orderAt(3L, time.plusHours(1))));
+        OrderListingRequestDTO filter = OrderListingRequestDTO.builder()
+                .userId(100L).from(time.minusDays(1)).to(to).build();
+
+        // Act
+        OrderPageResponseDTO page = orderService.getOrderPage(filter, new OrderCursor(time, 2L).encode(), null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getOrderPage_InvalidRequest_ThrowsInvalidOrderQueryException() {
+        // Arrange
+        OrderListingRequestDTO empty = new OrderListingRequestDTO();
+        LocalDateTime time = LocalDateTime.of(2026, 10, 1, 9, 0);
+        OrderListingRequestDTO reversed = OrderListingRequestDTO.builder().from(time).to(time).build();
+
+        // Act & Assert
+        assertThrows(InvalidOrderQueryException.class, () -> orderService.getOrderPage(empty, null, 0));
+        assertThrows(InvalidOrderQueryException.class, () -> orderService.getOrderPage(empty, null, 1001));
+        assertThrows(InvalidOrderQueryException.class, () -> orderService.getOrderPage(empty, "not-a-cursor", null));
+        assertThrows(InvalidOrderQueryException.class, () -> orderService.getOrderPage(reversed, null, null));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void exportOrders_ReadsInKeysetBatchesUntilShortBatch() {
+        // Arrange
+        LocalDateTime time = LocalDateTime.of(2026, 10, 1, 9, 0);
+        OrderListingProperties listingProperties = new OrderListingProperties();
+        listingProperties.setExportBatchSize(2);
+        orderService = new OrderServiceImpl(orderRepository, bookServiceClient, inventoryServiceClient,
+                orderPlacementExecutor, orderSagaService, new TransactionTemplate(transactionManager),
+                orderIntakeService, orderStatusNotifier, orderIdempotencyService,
+                new BookPriceCache(new PriceCacheProperties(), new SimpleMeterRegistry()), listingProperties,
+                bulkStatusUpdateProperties, orderAnalyticsService,
+                orderArchiveRepository);
+        when(orderRepository.findPageAfter(any(LocalDateTime.class), eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(orderAt(1L, time), orderAt(2L, time)));
+        when(orderRepository.findPageAfter(eq(time), eq(2L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(orderAt(3L, time.plusHours(1))));
+        List<Long> exported = new ArrayList<>();
+
+        // Act
+        orderService.exportOrders(new OrderListingRequestDTO(), dto -> exported.add(dto.getOrderId()));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), exported);
+        verify(orderRepository, times(2)).findPageAfter(any(), anyLong(), any(), any());
+    }
 }
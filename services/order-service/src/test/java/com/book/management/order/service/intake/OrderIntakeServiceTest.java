@@ -0,0 +1,136 @@
+package com.book.management.order.service.intake;
+
+import com.book.management.order.config.OrderIntakeProperties;
+import com.book.management.order.enums.IntakeStatus;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.model.Order;
+import com.book.management.order.model.OrderIntake;
+import com.book.management.order.repository.OrderIntakeRepository;
+import com.book.management.order.repository.OrderRepository;
+import com.book.management.order.repository.OrderStatusView;
+import com.book.management.order.service.analytics.OrderAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OrderIntakeService}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeServiceTest {
+
+    @Mock
+    private OrderIntakeRepository intakeRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderAnalyticsService orderAnalyticsService;
+
+    private OrderIntakeProperties properties;
+    private OrderIntakeService intakeService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderIntakeProperties();
+        properties.setMaxAttempts(3);
+        intakeService = new OrderIntakeService(intakeRepository, orderRepository, properties, orderAnalyticsService);
+    }
+
+    private OrderIntake intake(long orderId, int attempts) {
+        return OrderIntake.builder().intakeId(orderId + 100).orderId(orderId).userId(1L).items(Map.of(101L, 1))
+                .status(IntakeStatus.PROCESSING).attempts(attempts).build();
+    }
+
+    @Test
+    void claimBatch_MarksEntriesProcessingAndCountsAttempt() {
+        // Arrange
+        OrderIntake queued = intake(1L, 0);
+        queued.setStatus(IntakeStatus.QUEUED);
+        when(intakeRepository.findClaimable(eq(IntakeStatus.QUEUED), any(), eq(IntakeStatus.PROCESSING), any(), any()))
+                .thenReturn(List.of(queued));
+
+        // Act
+        List<OrderIntake> batch = intakeService.claimBatch();
+
+        // Assert
+        assertEquals(1, batch.size());
+        assertEquals(IntakeStatus.PROCESSING, queued.getStatus());
+        assertEquals(1, queued.getAttempts());
+    }
+
+    @Test
+    void markPlaced_MovesOrdersToPendingAndDequeues() {
+        // Arrange
+        Order order = Order.builder().orderId(1L).userId(1L).orderStatus(OrderEnum.ACCEPTED).build();
+        when(orderRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(order));
+
+        // Act
+        List<OrderIntake> notPlaced = intakeService.markPlaced(List.of(intake(1L, 1)), Map.of(1L, 25.0));
+
+        // Assert
+        assertTrue(notPlaced.isEmpty());
+        assertEquals(OrderEnum.PENDING, order.getOrderStatus());
+        assertEquals(25.0, order.getOrderTotalAmount());
+        verify(orderAnalyticsService).recordStatusChange(order, OrderEnum.ACCEPTED);
+        verify(intakeRepository).deleteAllByIdInBatch(List.of(101L));
+    }
+
+    @Test
+    void markPlaced_OrdersNoLongerAccepted_AreReturnedAndOthersPlaced() {
+        // Arrange - order 2 was soft-deleted and order 3 cancelled while queued
+        Order accepted = Order.builder().orderId(1L).userId(1L).orderStatus(OrderEnum.ACCEPTED).build();
+        Order cancelled = Order.builder().orderId(3L).userId(1L).orderStatus(OrderEnum.CANCELLED).build();
+        OrderIntake deletedIntake = intake(2L, 1);
+        OrderIntake cancelledIntake = intake(3L, 1);
+        when(orderRepository.findAllByIdForUpdate(List.of(1L, 2L, 3L))).thenReturn(List.of(accepted, cancelled));
+
+        // Act
+        List<OrderIntake> notPlaced = intakeService.markPlaced(
+                List.of(intake(1L, 1), deletedIntake, cancelledIntake), Map.of(1L, 25.0));
+
+        // Assert
+        assertEquals(List.of(deletedIntake, cancelledIntake), notPlaced);
+        assertEquals(OrderEnum.PENDING, accepted.getOrderStatus());
+        assertEquals(OrderEnum.CANCELLED, cancelled.getOrderStatus());
+        verify(orderAnalyticsService).recordStatusChange(accepted, OrderEnum.ACCEPTED);
+        verify(intakeRepository).deleteAllByIdInBatch(List.of(101L, 102L, 103L));
+    }
+
+    @Test
+    void recordRetry_RequeuesUntilAttemptsExhausted() {
+        // Arrange
+        OrderIntake retried = intake(1L, 2);
+        OrderIntake exhausted = intake(2L, 3);
+        OrderStatusView accepted = new OrderStatusView(2L, OrderEnum.ACCEPTED, LocalDateTime.of(2026, 10, 19, 9, 0));
+        when(orderRepository.findStatusesForUpdate(List.of(2L))).thenReturn(List.of(accepted));
+
+        // Act
+        intakeService.recordRetry(List.of(retried, exhausted), "Inventory Service unavailable");
+
+        // Assert
+        assertEquals(IntakeStatus.QUEUED, retried.getStatus());
+        assertEquals("Inventory Service unavailable", retried.getLastError());
+        assertNotNull(retried.getNextAttemptAt());
+        verify(intakeRepository).saveAll(List.of(retried));
+        verify(orderRepository).updateStatus(List.of(2L), OrderEnum.ACCEPTED, OrderEnum.REJECTED);
+        verify(orderAnalyticsService).recordStatusChanges(List.of(accepted), OrderEnum.REJECTED);
+        verify(intakeRepository).deleteAllByIdInBatch(List.of(102L));
+    }
+}
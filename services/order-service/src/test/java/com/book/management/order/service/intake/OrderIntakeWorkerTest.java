@@ -0,0 +1,257 @@
+package com.book.management.order.service.intake;
+
+import com.book.management.order.client.BookServiceClient;
+import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.config.OrderIntakeProperties;
+import com.book.management.order.config.PriceCacheProperties;
+import com.book.management.order.dto.requestdto.CheckInventoryAvailabilityRequestDTO;
+import com.book.management.order.dto.requestdto.GetBookPriceRequestDTO;
+import com.book.management.order.dto.requestdto.ReduceInventoryStockRequestDTO;
+import com.book.management.order.dto.responsedto.CheckInventoryAvailabilityResponseDTO;
+import com.book.management.order.dto.responsedto.GetBookPriceResponseDTO;
+import com.book.management.order.enums.IntakeStatus;
+import com.book.management.order.exception.InsufficientStockException;
+import com.book.management.order.exception.OrderNotPlacedException;
+import com.book.management.order.model.OrderIntake;
+import com.book.management.order.service.cache.BookPriceCache;
+import com.book.management.order.service.saga.OrderSagaService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OrderIntakeWorker}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeWorkerTest {
+
+    @Mock
+    private OrderIntakeService intakeService;
+
+    @Mock
+    private OrderSagaService sagaService;
+
+    @Mock
+    private BookServiceClient bookServiceClient;
+
+    @Mock
+    private InventoryServiceClient inventoryServiceClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private OrderIntakeProperties properties;
+    private OrderIntakeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        properties = new OrderIntakeProperties();
+        worker = new OrderIntakeWorker(intakeService, sagaService, bookServiceClient, inventoryServiceClient,
+                new TransactionTemplate(transactionManager), executor, properties,
+                new BookPriceCache(new PriceCacheProperties(), new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private OrderIntake intake(long orderId, Map<Long, Integer> items) {
+        return OrderIntake.builder().intakeId(orderId + 100).orderId(orderId).userId(1L).items(items)
+                .status(IntakeStatus.PROCESSING).attempts(1).build();
+    }
+
+    private void stubPrices() {
+        GetBookPriceResponseDTO prices = new GetBookPriceResponseDTO();
+        prices.setBookPrice(Map.of(101L, 10.0, 102L, 5.0));
+        when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class))).thenReturn(prices);
+    }
+
+    private void stubAvailability(Map<Long, Boolean> availability) {
+        when(inventoryServiceClient.checkAvailability(any(CheckInventoryAvailabilityRequestDTO.class)))
+                .thenReturn(new CheckInventoryAvailabilityResponseDTO(availability,
+                        !availability.containsValue(false), null));
+    }
+
+    @Test
+    void processBatch_CoveredBatch_OneLookupOneReductionOnePlacement() {
+        // Arrange
+        List<OrderIntake> batch = List.of(intake(1L, Map.of(101L, 2)), intake(2L, Map.of(101L, 1, 102L, 4)));
+        when(intakeService.claimBatch()).thenReturn(batch);
+        stubPrices();
+        stubAvailability(Map.of(101L, true, 102L, true));
+        when(sagaService.beginAll(batch)).thenReturn(List.of(11L, 12L));
+
+        // Act
+        int processed = worker.processBatch();
+
+        // Assert
+        assertEquals(2, processed);
+        ArgumentCaptor<CheckInventoryAvailabilityRequestDTO> check =
+                ArgumentCaptor.forClass(CheckInventoryAvailabilityRequestDTO.class);
+        verify(inventoryServiceClient).checkAvailability(check.capture());
+        assertEquals(Map.of(101L, 3, 102L, 4), check.getValue().getBookQuantities());
+        verify(bookServiceClient, times(1)).getBookPrices(any());
+        verify(inventoryServiceClient, times(1)).reduceStock(argThat(request ->
+                request.getBookQuantities().equals(Map.of(101L, 3, 102L, 4))
+                        && request.getSagaQuantities().keySet().equals(Set.of(11L, 12L))));
+        verify(sagaService).stockReservedAll(List.of(11L, 12L));
+        verify(intakeService).markPlaced(batch, Map.of(1L, 20.0, 2L, 30.0));
+        verify(sagaService).completeAll(List.of(11L, 12L));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void processBatch_ShortBook_ReducesContendedOrdersOneByOne() {
+        // Arrange
+        OrderIntake first = intake(1L, Map.of(101L, 2));
+        OrderIntake second = intake(2L, Map.of(101L, 2, 102L, 1));
+        OrderIntake unaffected = intake(3L, Map.of(102L, 1));
+        when(intakeService.claimBatch()).thenReturn(List.of(first, second, unaffected));
+        stubPrices();
+        stubAvailability(Map.of(101L, false, 102L, true));
+        when(sagaService.beginAll(List.of(unaffected))).thenReturn(List.of(13L));
+        when(sagaService.beginAll(List.of(first))).thenReturn(List.of(11L));
+        when(sagaService.beginAll(List.of(second))).thenReturn(List.of(12L));
+        lenient().doNothing().doThrow(new InsufficientStockException("Inventory Issue: insufficient stock"))
+                .when(inventoryServiceClient).reduceStock(argThat(request ->
+                        request.getBookQuantities().containsKey(101L)));
+
+        // Act
+        worker.processBatch();
+
+        // Assert
+        verify(inventoryServiceClient).reduceStock(argThat(request ->
+                request.getBookQuantities().equals(Map.of(102L, 1))));
+        verify(sagaService).abortAll(List.of(12L), "Inventory Issue: insufficient stock");
+        verify(intakeService).reject(List.of(second), "Inventory Issue: insufficient stock");
+        verify(intakeService).markPlaced(eq(List.of(unaffected, first)), any());
+        verify(sagaService).completeAll(List.of(13L, 11L));
+    }
+
+    @Test
+    void processBatch_ContendedReductionFailsWithoutAnswer_RetriesInsteadOfRejecting() {
+        // Arrange
+        OrderIntake contended = intake(1L, Map.of(101L, 2));
+        when(intakeService.claimBatch()).thenReturn(List.of(contended));
+        stubPrices();
+        stubAvailability(Map.of(101L, false));
+        when(sagaService.beginAll(List.of(contended))).thenReturn(List.of(11L));
+        doThrow(new OrderNotPlacedException("Order process failed due to: Service communication failure"))
+                .when(inventoryServiceClient).reduceStock(any(ReduceInventoryStockRequestDTO.class));
+
+        // Act
+        worker.processBatch();
+
+        // Assert
+        verify(intakeService).recordRetry(List.of(contended),
+                "Order process failed due to: Service communication failure");
+        verify(intakeService, never()).reject(any(), anyString());
+        // The reduction may have been applied, so the saga is left for keyed reconciliation
+        verify(sagaService, never()).abortAll(any(), anyString());
+        verify(intakeService, never()).markPlaced(anyList(), any());
+    }
+
+    @Test
+    void processBatch_OrderCancelledWhileQueued_CompensatesOnlyItsSaga() {
+        // Arrange
+        OrderIntake placed = intake(1L, Map.of(101L, 2));
+        OrderIntake cancelled = intake(2L, Map.of(102L, 1));
+        List<OrderIntake> batch = List.of(placed, cancelled);
+        when(intakeService.claimBatch()).thenReturn(batch);
+        stubPrices();
+        stubAvailability(Map.of(101L, true, 102L, true));
+        when(sagaService.beginAll(batch)).thenReturn(List.of(11L, 12L));
+        when(intakeService.markPlaced(eq(batch), any())).thenReturn(List.of(cancelled));
+
+        // Act
+        worker.processBatch();
+
+        // Assert
+        verify(sagaService).completeAll(List.of(11L));
+        verify(sagaService).requestCompensationAll(List.of(12L), "Order no longer ACCEPTED");
+        verify(transactionManager).commit(any());
+        verify(intakeService, never()).recordRetry(any(), anyString());
+    }
+
+    @Test
+    void processBatch_LookupFails_RetriesWholeBatch() {
+        // Arrange
+        List<OrderIntake> batch = List.of(intake(1L, Map.of(101L, 2)));
+        when(intakeService.claimBatch()).thenReturn(batch);
+        when(bookServiceClient.getBookPrices(any(GetBookPriceRequestDTO.class)))
+                .thenThrow(new OrderNotPlacedException("Book Service unavailable"));
+        lenient().when(inventoryServiceClient.checkAvailability(any()))
+                .thenReturn(new CheckInventoryAvailabilityResponseDTO(Map.of(101L, true), true, null));
+
+        // Act
+        worker.processBatch();
+
+        // Assert
+        verify(intakeService).recordRetry(batch, "Book Service unavailable");
+        verify(inventoryServiceClient, never()).reduceStock(any());
+        verifyNoInteractions(sagaService);
+    }
+
+    @Test
+    void processBatch_PlacementFailsAfterReduction_QueuesCompensationAndRetries() {
+        // Arrange
+        List<OrderIntake> batch = List.of(intake(1L, Map.of(101L, 2)));
+        when(intakeService.claimBatch()).thenReturn(batch);
+        stubPrices();
+        stubAvailability(Map.of(101L, true));
+        when(sagaService.beginAll(batch)).thenReturn(List.of(11L));
+        doThrow(new IllegalStateException("Database unavailable")).when(intakeService).markPlaced(anyList(), any());
+
+        // Act
+        worker.processBatch();
+
+        // Assert
+        verify(inventoryServiceClient).reduceStock(any(ReduceInventoryStockRequestDTO.class));
+        verify(transactionManager).rollback(any());
+        verify(sagaService).requestCompensationAll(List.of(11L), "Database unavailable");
+        verify(intakeService).recordRetry(batch, "Database unavailable");
+    }
+
+    @Test
+    void drainQueue_StopsEachWorkerOnShortBatch() {
+        // Arrange
+        properties.setWorkers(2);
+        when(intakeService.claimBatch()).thenReturn(List.of());
+
+        // Act
+        int processed = worker.drainQueue();
+
+        // Assert
+        assertEquals(0, processed);
+        verify(intakeService, times(2)).claimBatch();
+        verify(intakeService, never()).recordRetry(anyList(), anyString());
+    }
+}
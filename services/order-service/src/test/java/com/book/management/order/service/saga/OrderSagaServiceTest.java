@@ -0,0 +1,182 @@
+package com.book.management.order.service.saga;
+
+import com.book.management.order.config.SagaProperties;
+import com.book.management.order.dto.responsedto.RestockInventoryStockResultDTO;
+import com.book.management.order.enums.OrderEnum;
+import com.book.management.order.enums.SagaStatus;
+import com.book.management.order.model.Order;
+import com.book.management.order.model.OrderSaga;
+import com.book.management.order.repository.OrderSagaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OrderSagaService}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderSagaServiceTest {
+
+    @Mock
+    private OrderSagaRepository sagaRepository;
+
+    private SagaProperties properties;
+    private OrderSagaService sagaService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SagaProperties();
+        properties.setMaxAttempts(2);
+        sagaService = new OrderSagaService(sagaRepository, properties);
+    }
+
+    private OrderSaga saga(long sagaId, Map<Long, Integer> items, int attempts) {
+        return OrderSaga.builder().sagaId(sagaId).userId(1L).items(items).attempts(attempts)
+                .status(SagaStatus.COMPENSATING).build();
+    }
+
+    @Test
+    void begin_RecordsStartedSaga() {
+        // Arrange
+        when(sagaRepository.save(any(OrderSaga.class))).thenAnswer(invocation -> {
+            OrderSaga saga = invocation.getArgument(0);
+            saga.setSagaId(9L);
+            return saga;
+        });
+
+        // Act
+        long sagaId = sagaService.begin(100L, Map.of(101L, 2));
+
+        // Assert
+        assertEquals(9L, sagaId);
+        ArgumentCaptor<OrderSaga> saved = ArgumentCaptor.forClass(OrderSaga.class);
+        verify(sagaRepository).save(saved.capture());
+        assertEquals(SagaStatus.STARTED, saved.getValue().getStatus());
+        assertEquals(Map.of(101L, 2), saved.getValue().getItems());
+        assertTrue(saved.getValue().isStockKeyed());
+    }
+
+    @Test
+    void reductionUnconfirmed_QueuesStartedSagaForCompensation() {
+        // Act
+        sagaService.reductionUnconfirmed(9L, "Read timed out");
+
+        // Assert
+        verify(sagaRepository).transition(eq(9L), eq(SagaStatus.STARTED), eq(SagaStatus.COMPENSATION_PENDING),
+                eq("Read timed out"), any());
+    }
+
+    @Test
+    void complete_SagaAlreadyClaimed_Throws() {
+        // Arrange
+        when(sagaRepository.complete(eq(9L), eq(1L), eq(SagaStatus.STOCK_RESERVED), eq(SagaStatus.COMPLETED), any()))
+                .thenReturn(0);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> sagaService.complete(9L, 1L));
+    }
+
+    @Test
+    void requestCompensation_CancelledOrderWithoutSaga_CreatesPendingSaga() {
+        // Arrange
+        Order order = Order.builder().orderId(5L).userId(100L).items(Map.of(101L, 2))
+                .orderStatus(OrderEnum.CANCELLED).build();
+        when(sagaRepository.findFirstByOrderIdOrderBySagaIdDesc(5L)).thenReturn(Optional.empty());
+
+        // Act
+        sagaService.requestCompensation(order);
+
+        // Assert
+        ArgumentCaptor<OrderSaga> saved = ArgumentCaptor.forClass(OrderSaga.class);
+        verify(sagaRepository).save(saved.capture());
+        assertEquals(SagaStatus.COMPENSATION_PENDING, saved.getValue().getStatus());
+        assertEquals(5L, saved.getValue().getOrderId());
+        assertEquals(Map.of(101L, 2), saved.getValue().getItems());
+        assertNotNull(saved.getValue().getNextAttemptAt());
+    }
+
+    @Test
+    void requestCompensation_CancelledOrderWithCompletedSaga_ReusesSaga() {
+        // Arrange
+        Order order = Order.builder().orderId(5L).userId(100L).items(Map.of(101L, 2)).build();
+        OrderSaga existing = saga(3L, Map.of(101L, 2), 0);
+        existing.setStatus(SagaStatus.COMPLETED);
+        when(sagaRepository.findFirstByOrderIdOrderBySagaIdDesc(5L)).thenReturn(Optional.of(existing));
+
+        // Act
+        sagaService.requestCompensation(order);
+
+        // Assert
+        verify(sagaRepository).save(existing);
+        assertEquals(SagaStatus.COMPENSATION_PENDING, existing.getStatus());
+    }
+
+    @Test
+    void claimBatch_MarksSagasCompensatingAndCountsAttempt() {
+        // Arrange
+        OrderSaga pending = saga(1L, Map.of(101L, 1), 0);
+        pending.setStatus(SagaStatus.COMPENSATION_PENDING);
+        when(sagaRepository.findCompensable(eq(SagaStatus.COMPENSATION_PENDING), any(), any(),
+                eq(SagaStatus.STARTED), any(), any()))
+                .thenReturn(List.of(pending));
+
+        // Act
+        List<OrderSaga> batch = sagaService.claimBatch();
+
+        // Assert
+        assertEquals(1, batch.size());
+        assertEquals(SagaStatus.COMPENSATING, pending.getStatus());
+        assertEquals(1, pending.getAttempts());
+    }
+
+    @Test
+    void recordRestocked_FailedBookMarksOnlyItsSagaFailed() {
+        // Arrange
+        OrderSaga restocked = saga(1L, Map.of(101L, 1, 102L, 1), 1);
+        OrderSaga failed = saga(2L, Map.of(101L, 1, 103L, 1), 1);
+        Map<Long, RestockInventoryStockResultDTO> results = Map.of(
+                101L, new RestockInventoryStockResultDTO(RestockInventoryStockResultDTO.RESTOCKED, 10, null),
+                102L, new RestockInventoryStockResultDTO(RestockInventoryStockResultDTO.NOT_FOUND, null, null),
+                103L, new RestockInventoryStockResultDTO(RestockInventoryStockResultDTO.FAILED, null, "boom"));
+
+        // Act
+        sagaService.recordRestocked(List.of(restocked, failed), results);
+
+        // Assert
+        assertEquals(SagaStatus.COMPENSATED, restocked.getStatus());
+        assertEquals(SagaStatus.FAILED, failed.getStatus());
+        assertTrue(failed.getLastError().contains("103"));
+    }
+
+    @Test
+    void recordRetry_RequeuesUntilAttemptsExhausted() {
+        // Arrange
+        OrderSaga retry = saga(1L, Map.of(101L, 1), 1);
+        OrderSaga exhausted = saga(2L, Map.of(101L, 1), 2);
+
+        // Act
+        sagaService.recordRetry(List.of(retry, exhausted), "Inventory Service unavailable");
+
+        // Assert
+        assertEquals(SagaStatus.COMPENSATION_PENDING, retry.getStatus());
+        assertNotNull(retry.getNextAttemptAt());
+        assertEquals(SagaStatus.FAILED, exhausted.getStatus());
+        assertEquals("Inventory Service unavailable", exhausted.getLastError());
+    }
+}
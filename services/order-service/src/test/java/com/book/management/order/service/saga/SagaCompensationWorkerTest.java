@@ -0,0 +1,132 @@
+package com.book.management.order.service.saga;
+
+import com.book.management.order.client.InventoryServiceClient;
+import com.book.management.order.config.SagaProperties;
+import com.book.management.order.dto.requestdto.RestockInventoryStockRequestDTO;
+import com.book.management.order.dto.responsedto.RestockInventoryStockResultDTO;
+import com.book.management.order.enums.SagaStatus;
+import com.book.management.order.model.OrderSaga;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SagaCompensationWorker}.
+ *
+ * @author Rehan Ashraf
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+class SagaCompensationWorkerTest {
+
+    @Mock
+    private OrderSagaService sagaService;
+
+    @Mock
+    private InventoryServiceClient inventoryServiceClient;
+
+    private SagaProperties properties;
+    private SagaCompensationWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SagaProperties();
+        properties.setCompensationBatchSize(2);
+        properties.setMaxBatchesPerRun(5);
+        worker = new SagaCompensationWorker(sagaService, inventoryServiceClient, properties);
+    }
+
+    private OrderSaga saga(long sagaId, Map<Long, Integer> items) {
+        return OrderSaga.builder().sagaId(sagaId).userId(1L).items(items).status(SagaStatus.COMPENSATING).build();
+    }
+
+    @Test
+    void compensatePending_MergesEachBatchIntoOneRestockCall() {
+        // Arrange
+        OrderSaga keyed = saga(1L, Map.of(101L, 2, 102L, 1));
+        keyed.setStockKeyed(true);
+        List<OrderSaga> first = List.of(keyed, saga(2L, Map.of(101L, 3)));
+        List<OrderSaga> second = List.of(saga(3L, Map.of(103L, 1)));
+        when(sagaService.claimBatch()).thenReturn(first, second);
+        Map<Long, RestockInventoryStockResultDTO> results =
+                Map.of(101L, new RestockInventoryStockResultDTO(RestockInventoryStockResultDTO.RESTOCKED, 5, null));
+        when(inventoryServiceClient.restockStock(any())).thenReturn(results);
+
+        // Act
+        int processed = worker.compensatePending();
+
+        // Assert
+        assertEquals(3, processed);
+        ArgumentCaptor<RestockInventoryStockRequestDTO> request =
+                ArgumentCaptor.forClass(RestockInventoryStockRequestDTO.class);
+        verify(inventoryServiceClient, times(2)).restockStock(request.capture());
+        assertEquals(Map.of(101L, 5, 102L, 1), request.getAllValues().get(0).getBookQuantities());
+        assertEquals(Map.of(1L, Map.of(101L, 2, 102L, 1), 2L, Map.of(101L, 3)),
+                request.getAllValues().get(0).getSagaQuantities());
+        assertEquals(Set.of(1L), request.getAllValues().get(0).getKeyedSagaIds());
+        assertEquals(Map.of(103L, 1), request.getAllValues().get(1).getBookQuantities());
+        verify(sagaService).recordRestocked(first, results);
+        verify(sagaService).recordRestocked(second, results);
+        // A short batch means the queue is drained
+        verify(sagaService, times(2)).claimBatch();
+    }
+
+    @Test
+    void compensatePending_RestockCallFails_ReturnsBatchForRetry() {
+        // Arrange
+        List<OrderSaga> batch = List.of(saga(1L, Map.of(101L, 2)));
+        when(sagaService.claimBatch()).thenReturn(batch);
+        when(inventoryServiceClient.restockStock(any()))
+                .thenThrow(new IllegalStateException("Inventory Service unavailable"));
+
+        // Act
+        worker.compensatePending();
+
+        // Assert
+        verify(sagaService).recordRetry(batch, "Inventory Service unavailable");
+        verify(sagaService, never()).recordRestocked(any(), any());
+    }
+
+    @Test
+    void compensatePending_StopsAtBatchLimitPerRun() {
+        // Arrange
+        properties.setMaxBatchesPerRun(2);
+        when(sagaService.claimBatch()).thenAnswer(invocation ->
+                List.of(saga(1L, Map.of(101L, 1)), saga(2L, Map.of(102L, 1))));
+        when(inventoryServiceClient.restockStock(any())).thenReturn(Map.of());
+
+        // Act
+        int processed = worker.compensatePending();
+
+        // Assert
+        assertEquals(4, processed);
+        verify(sagaService, times(2)).claimBatch();
+        verify(sagaService, never()).recordRetry(any(), anyString());
+    }
+
+    @Test
+    void compensatePending_NothingDue_MakesNoCall() {
+        // Arrange
+        when(sagaService.claimBatch()).thenReturn(List.of());
+
+        // Act
+        int processed = worker.compensatePending();
+
+        // Assert
+        assertEquals(0, processed);
+        verifyNoInteractions(inventoryServiceClient);
+    }
+}
@@ -0,0 +1,97 @@
+package com.book.management.review_rating.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures the replication lag of the read replica and decides
+ * whether read-only transactions may use it. The replica is considered
+ * unusable until the first successful check, and whenever the lag query
+ * fails or reports a lag above the configured maximum.
+ *
+ * @author Aditya Srivastava
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final ReadReplicaProperties properties;
+
+    private volatile boolean replicaUsable;
+    private ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReadReplicaProperties properties) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+    }
+
+    /**
+     * Runs a first check and schedules the following ones.
+     */
+    public void start() {
+        check();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::check, properties.getLagCheckIntervalMillis(),
+                properties.getLagCheckIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the scheduled checks.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return true if read-only transactions may use the replica
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Measures the replication lag and updates the replica state.
+     */
+    public void check() {
+        boolean usable;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            if (resultSet.next()) {
+                long lagSeconds = resultSet.getLong(properties.getLagColumn());
+                usable = !resultSet.wasNull() && lagSeconds <= properties.getMaxLagSeconds();
+                log.debug("Read replica lag: {}s", resultSet.wasNull() ? "unknown" : lagSeconds);
+            } else {
+                usable = false;
+            }
+        } catch (SQLException ex) {
+            log.debug("Read replica lag check failed: {}", ex.getMessage());
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Read replica is within lag limit; routing read-only transactions to it");
+            } else {
+                log.warn("Read replica is lagging or unavailable; routing read-only transactions to the primary");
+            }
+        }
+        replicaUsable = usable;
+    }
+}
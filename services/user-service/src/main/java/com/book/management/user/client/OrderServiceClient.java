@@ -29,9 +29,11 @@ public interface OrderServiceClient {
 
     /**
      * Deletes all orders for a specific user.
+     * Order Service soft-deletes them in a single statement and returns the
+     * deleted counts, which are not needed here.
      * 
      * @param userId the user ID
-     * @return ResponseEntity with no content
+     * @return ResponseEntity without body
      */
     @DeleteMapping("/api/v1/order/deleteByUser/{userId}")
     ResponseEntity<Void> deleteOrdersByUserId(@PathVariable("userId") Long userId);
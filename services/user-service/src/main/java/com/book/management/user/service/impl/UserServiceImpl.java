@@ -73,6 +73,7 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional // Reads the primary; a lagging replica could still accept an old password or deactivated user
     public UserResponseDTO loginUser(UserLoginDTO loginDTO) {
         // Find user by email
         User user = userRepository.findByEmailIgnoreCase(loginDTO.getEmail())
@@ -95,6 +96,7 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional // Other services validate users through this lookup, so it reads the primary
     public UserResponseDTO getUserById(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
@@ -106,6 +108,7 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional // Reads the primary, like getUserById
     public UserResponseDTO getUserByEmail(String email) {
         User user = userRepository.findByEmailIgnoreCase(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));